@@ -99,4 +99,7 @@ public interface SupportMessages {
     @Message(id = 60026, value = "Directory %s is invalid.")
     BatchRuntimeException invalidDirectory(String dir);
 
+    @Message(id = 60027, value = "Invalid frame length %s at byte offset %s in resource %s")
+    BatchRuntimeException invalidFrameLength(long length, long position, String resource);
+
 }
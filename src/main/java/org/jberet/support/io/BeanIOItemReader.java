@@ -94,7 +94,7 @@ public class BeanIOItemReader extends BeanIOItemReaderWriterBase implements Item
 
         mappingFileKey = new StreamFactoryKey(jobContext, streamMapping);
         final StreamFactory streamFactory = getStreamFactory(streamFactoryLookup, mappingFileKey, mappingProperties);
-        final InputStream inputStream = getInputStream(resource, false);
+        final InputStream inputStream = getInputStream(resource, false, compression);
         final Reader inputReader = charset == null ? new InputStreamReader(inputStream) :
                 new InputStreamReader(inputStream, charset);
         beanReader = streamFactory.createReader(streamName, new BufferedReader(inputReader), LocaleUtil.parseLocale(locale));
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import org.jberet.support._private.SupportLogger;
+import org.jberet.support._private.SupportMessages;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.ItemReader;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.chunk.ItemReader} that reads items from a binary Json resource in
+ * Smile or CBOR format written by {@link BinaryJsonItemWriter}, and binds each of them to {@link #beanType}.
+ * <p>
+ * When reading from an uncompressed local file, the checkpoint contains the byte offset of the frame right after
+ * the last read item, so that a restarted job execution seeks directly to it. Otherwise, the checkpoint is the number
+ * of items read, and items before it are skipped frame by frame, without decoding them. A local file can also be
+ * read in parallel by a partitioned step, with {@link BinaryJsonPartitionMapper} splitting it into frame-aligned
+ * byte ranges.
+ *
+ * @see BinaryJsonItemWriter
+ * @see BinaryJsonItemReaderWriterBase
+ * @since 2.1.3
+ */
+@Named
+@Dependent
+public class BinaryJsonItemReader extends BinaryJsonItemReaderWriterBase implements ItemReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The bean type that represents individual data item in the source {@link #resource}. Required property, and
+     * valid values are any custom bean type, {@code java.util.Map}, or
+     * {@code com.fasterxml.jackson.databind.JsonNode}.
+     */
+    @Inject
+    @BatchProperty
+    protected Class beanType;
+
+    /**
+     * Specifies the start position (a positive integer starting from 1) to read the data. If reading from the
+     * beginning of the input resource, there is no need to specify this property.
+     */
+    @Inject
+    @BatchProperty
+    protected int start;
+
+    /**
+     * Specify the end position in the data set (inclusive). Optional property, and defaults to
+     * {@code Integer.MAX_VALUE}. If reading till the end of the input resource, there is no need to specify this
+     * property.
+     */
+    @Inject
+    @BatchProperty
+    protected int end;
+
+    /**
+     * The byte offset in the local file resource of the frame of the first item to read. Optional property, and if
+     * not specified, reading starts from the beginning of the file. It is typically set from partition properties
+     * generated by {@link BinaryJsonPartitionMapper}, so that each partition binds only the items of its own byte
+     * range of a single large file. When reading a byte range, {@link #start} and {@link #end} are relative to the
+     * range.
+     *
+     * @see BinaryJsonPartitionMapper
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionStart;
+
+    /**
+     * The byte offset in the local file resource right after the frame of the last item to read. Optional property,
+     * and if not specified, reading continues till the end of the file.
+     *
+     * @see #partitionStart
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionEnd;
+
+    /**
+     * Reader for {@link #beanType}, created from {@link #objectMapper} after it is fully configured.
+     */
+    private ObjectReader objectReader;
+
+    private InputStream inputStream;
+
+    /**
+     * The buffer the encoded item of a frame is read into.
+     */
+    private byte[] frame = new byte[1024];
+
+    protected int rowNumber;
+
+    /**
+     * The byte offset of the next frame in the resource.
+     */
+    private long position;
+
+    /**
+     * Whether {@link #position} is a byte offset in a local file, which can be saved in checkpoints.
+     */
+    private boolean offsetTracked;
+
+    /**
+     * The parsed value of {@link #partitionEnd}, or -1 if not specified.
+     */
+    private long partitionEndPosition = -1;
+
+    @Override
+    public void open(final Serializable checkpoint) throws Exception {
+        if (beanType == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "beanType");
+        }
+        if (end == 0) {
+            end = Integer.MAX_VALUE;
+        }
+        final OffsetCheckpoint offsetCheckpoint = checkpoint instanceof OffsetCheckpoint ?
+                (OffsetCheckpoint) checkpoint : null;
+        if (checkpoint != null) {
+            //the checkpoint holds the exact number of items read, so the last read item is not read again
+            final int read = offsetCheckpoint != null ? offsetCheckpoint.rowNumber : (Integer) checkpoint;
+            start = read + 1;
+            if (read > end) {
+                throw SupportMessages.MESSAGES.invalidStartPosition(read, start, end);
+            }
+        } else if (start > end) {
+            throw SupportMessages.MESSAGES.invalidStartPosition(start, start, end);
+        }
+        initJsonFactoryAndObjectMapper();
+        objectReader = objectMapper.readerFor(beanType);
+
+        final long partitionStartPosition = parsePosition(partitionStart, "partitionStart", true);
+        partitionEndPosition = parsePosition(partitionEnd, "partitionEnd", true);
+        final Path localFile = isCompressed(resource, compression) ? null : getLocalFile(resource);
+        if (localFile != null) {
+            final FileChannel channel = FileChannel.open(localFile);
+            try {
+                if (offsetCheckpoint != null) {
+                    if (offsetCheckpoint.position > channel.size()) {
+                        throw SupportMessages.MESSAGES.invalidCheckpoint(offsetCheckpoint);
+                    }
+                    position = offsetCheckpoint.position;
+                    rowNumber = offsetCheckpoint.rowNumber;
+                } else {
+                    position = Math.max(partitionStartPosition, 0);
+                }
+                channel.position(position);
+            } catch (final IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            offsetTracked = true;
+            inputStream = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+        } else {
+            if (partitionStartPosition >= 0 || partitionEndPosition >= 0) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+            }
+            inputStream = new BufferedInputStream(getInputStream(resource, false, compression), BUFFER_SIZE);
+        }
+        SupportLogger.LOGGER.openingResource(resource, this.getClass());
+    }
+
+    @Override
+    public Object readItem() throws Exception {
+        while (rowNumber < end) {
+            if (partitionEndPosition >= 0 && position >= partitionEndPosition) {
+                return null;
+            }
+            final long frameLength = readFrameLength(inputStream);
+            if (frameLength < 0) {
+                return null;
+            }
+            if (frameLength == 0 || frameLength > Integer.MAX_VALUE) {
+                throw SupportMessages.MESSAGES.invalidFrameLength(frameLength, position, resource);
+            }
+            final int length = (int) frameLength;
+            position += FRAME_HEADER_LENGTH + frameLength;
+            rowNumber++;
+            if (rowNumber < start) {
+                skipFully(inputStream, length);
+                continue;
+            }
+            if (frame.length < length) {
+                frame = new byte[Math.max(length, frame.length * 2)];
+            }
+            readFully(length);
+            final Object readValue = objectReader.readValue(frame, 0, length);
+            if (!skipBeanValidation) {
+                ItemReaderWriterBase.validate(readValue);
+            }
+            return readValue;
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns an {@link OffsetCheckpoint} when reading from an uncompressed local file, otherwise the number of items
+     * read as {@code Integer}.
+     */
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        if (offsetTracked) {
+            return new OffsetCheckpoint(rowNumber, position);
+        }
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (inputStream != null) {
+            SupportLogger.LOGGER.closingResource(resource, this.getClass());
+            inputStream.close();
+            inputStream = null;
+        }
+    }
+
+    /**
+     * Reads the encoded item of a frame into {@link #frame}.
+     */
+    private void readFully(final int length) throws IOException {
+        int n = 0;
+        while (n < length) {
+            final int count = inputStream.read(frame, n, length - n);
+            if (count < 0) {
+                throw new EOFException();
+            }
+            n += count;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.jberet.support._private.SupportMessages;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.inject.Inject;
+
+/**
+ * Base class for {@link BinaryJsonItemReader} and {@link BinaryJsonItemWriter}, which read and write items in a binary
+ * Json format, Smile or CBOR, e.g., to pass intermediate data between steps of a job without the cost of text
+ * encoding. The {@code ObjectMapper} is configured from the same Json properties as {@link JsonItemReader} and
+ * {@link JsonItemWriter}.
+ * <p>
+ * A binary Json resource is a sequence of frames, one per item: the length of the encoded item as a 4-byte big-endian
+ * integer, followed by the item encoded as a standalone value. Each frame can be decoded on its own, so that a reader
+ * can seek to the byte offset of any frame, e.g., to restart from a checkpoint, or to read a byte range found by
+ * {@link BinaryJsonPartitionMapper}, and can skip items without decoding them. Smile values are written without
+ * the Smile header, which would otherwise be repeated in every frame.
+ *
+ * @see BinaryJsonItemReader
+ * @see BinaryJsonItemWriter
+ * @see BinaryJsonPartitionMapper
+ * @since 2.1.3
+ */
+public abstract class BinaryJsonItemReaderWriterBase extends JsonItemReaderWriterBase {
+    static final String SMILE = "smile";
+    static final String CBOR = "cbor";
+
+    /**
+     * The number of bytes of the length that precedes each encoded item.
+     */
+    static final int FRAME_HEADER_LENGTH = 4;
+
+    /**
+     * The binary Json format of the resource, either {@code smile} or {@code cbor}. Optional property, and defaults to
+     * {@code smile}. A resource must be read with the same format it was written with. This property is ignored if
+     * {@link #jsonFactoryLookup} is specified, in which case the looked up factory should be a
+     * {@code SmileFactory} or {@code CBORFactory} with its {@code ObjectMapper}.
+     */
+    @Inject
+    @BatchProperty
+    protected String dataFormat;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation creates a {@code SmileFactory} or {@code CBORFactory} according to {@link #dataFormat},
+     * with its own {@code ObjectMapper}.
+     */
+    @Override
+    protected void initJsonFactory() throws Exception {
+        if (jsonFactoryLookup != null) {
+            super.initJsonFactory();
+            return;
+        }
+        final String format = getDataFormat();
+        final JsonFactory factory;
+        if (SMILE.equals(format)) {
+            factory = SmileFactory.builder()
+                    .disable(SmileGenerator.Feature.WRITE_HEADER)
+                    .disable(SmileParser.Feature.REQUIRE_HEADER)
+                    .build();
+        } else if (CBOR.equals(format)) {
+            factory = new CBORFactory();
+        } else {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, dataFormat, "dataFormat");
+        }
+        //sets the codec of the factory
+        new ObjectMapper(factory);
+        jsonFactory = factory;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation also includes {@link #dataFormat}.
+     */
+    @Override
+    protected List<String> jsonFactoryCacheKey() {
+        final List<String> key = new ArrayList<String>(super.jsonFactoryCacheKey());
+        key.add(getDataFormat());
+        return key;
+    }
+
+    private String getDataFormat() {
+        return dataFormat == null || dataFormat.trim().isEmpty() ? SMILE : dataFormat.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Reads the length of the next frame.
+     *
+     * @param in the input stream positioned at the beginning of a frame
+     * @return the length of the encoded item as an unsigned integer, or -1 if the end of the input is reached
+     * @throws IOException if failed to read, or the input ends within the length
+     */
+    static long readFrameLength(final InputStream in) throws IOException {
+        final int b0 = in.read();
+        if (b0 < 0) {
+            return -1;
+        }
+        final int b1 = in.read();
+        final int b2 = in.read();
+        final int b3 = in.read();
+        if ((b1 | b2 | b3) < 0) {
+            throw new EOFException();
+        }
+        return (long) b0 << 24 | b1 << 16 | b2 << 8 | b3;
+    }
+
+    /**
+     * Skips a number of bytes of the input.
+     *
+     * @param in the input stream
+     * @param n  the number of bytes to skip
+     * @throws IOException if failed to read, or the input ends before all bytes are skipped
+     */
+    static void skipFully(final InputStream in, long n) throws IOException {
+        while (n > 0) {
+            final long skipped = in.skip(n);
+            if (skipped > 0) {
+                n -= skipped;
+            } else if (in.read() >= 0) {
+                n--;
+            } else {
+                throw new EOFException();
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.List;
+
+import org.jberet.support._private.SupportLogger;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.ItemWriter;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.chunk.ItemWriter} that writes a list of same-typed objects to a binary
+ * Json resource in Smile or CBOR format, one frame per item, to be read by {@link BinaryJsonItemReader}.
+ * <p>
+ * When writing to an uncompressed local file, the checkpoint contains the size of the file after the last written
+ * chunk. When the job execution is restarted with the default {@code append} {@link #writeMode}, the file is
+ * truncated to that size, discarding any items written after the last checkpoint. Since each frame is encoded on its
+ * own, the items of a chunk can also be encoded in parallel with {@link #encodingParallelism}.
+ *
+ * @see BinaryJsonItemReader
+ * @see BinaryJsonItemReaderWriterBase
+ * @since 2.1.3
+ */
+@Named
+@Dependent
+public class BinaryJsonItemWriter extends BinaryJsonItemReaderWriterBase implements ItemWriter {
+    /**
+     * Instructs this class, when the target resource already exists, whether to append to, or overwrite
+     * the existing resource, or fail. Valid values are {@code append}, {@code overwrite}, and {@code failIfExists}.
+     * Optional property, and defaults to {@code append}.
+     */
+    @Inject
+    @BatchProperty
+    protected String writeMode;
+
+    /**
+     * Writer for items, created from {@link #objectMapper} after it is fully configured.
+     */
+    private ObjectWriter objectWriter;
+
+    /**
+     * The output stream frames are written to.
+     */
+    private OutputStream output;
+
+    /**
+     * The buffer each item is encoded into, before it is written to {@link #output} as a frame.
+     */
+    private final FrameBuffer frame = new FrameBuffer();
+
+    /**
+     * The number of items written, including those written by previous job executions when restarting from an
+     * {@link OffsetCheckpoint}.
+     */
+    private int rowNumber;
+
+    private final ParallelChunkEncoder.SliceEncoder sliceEncoder = new ParallelChunkEncoder.SliceEncoder() {
+        @Override
+        public void encode(final List<Object> items,
+                           final int from,
+                           final int to,
+                           final ParallelChunkEncoder.SliceBuffer buffer) throws Exception {
+            final FrameBuffer sliceFrame = new FrameBuffer();
+            for (int i = from; i < to; ++i) {
+                sliceFrame.encode(objectWriter, items.get(i));
+                sliceFrame.writeFrameTo(buffer);
+            }
+        }
+    };
+
+    @Override
+    public void open(final Serializable checkpoint) throws Exception {
+        SupportLogger.LOGGER.tracef("Open BinaryJsonItemWriter with checkpoint %s%n", checkpoint);
+        initJsonFactoryAndObjectMapper();
+        objectWriter = objectMapper.writer();
+
+        final OffsetCheckpoint offsetCheckpoint = checkpoint instanceof OffsetCheckpoint && isAppendMode(writeMode) ?
+                (OffsetCheckpoint) checkpoint : null;
+        if (offsetCheckpoint != null) {
+            output = bufferOutput(getOutputStreamForRestart(offsetCheckpoint.position));
+            rowNumber = offsetCheckpoint.rowNumber;
+        } else {
+            output = bufferOutput(getOutputStream(writeMode));
+        }
+        SupportLogger.LOGGER.openingResource(resource, this.getClass());
+        openChunkEncoder(sliceEncoder);
+    }
+
+    @Override
+    public void writeItems(final List<Object> items) throws Exception {
+        rowNumber += items.size();
+        if (chunkEncoder != null && items.size() > 1) {
+            chunkEncoder.encode(items, 0, output);
+        } else {
+            for (final Object o : items) {
+                frame.encode(objectWriter, o);
+                frame.writeFrameTo(output);
+            }
+        }
+        if (chunkOutput != null) {
+            chunkOutput.endChunk();
+        } else {
+            output.flush();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns an {@link OffsetCheckpoint} when writing to an uncompressed local file, otherwise null.
+     */
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        if (chunkOutput != null) {
+            return new OffsetCheckpoint(rowNumber, chunkOutput.checkpoint());
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns an empty array, so that appended frames directly follow the existing ones.
+     */
+    @Override
+    protected byte[] getAppendSeparator() {
+        return new byte[0];
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (output != null) {
+            SupportLogger.LOGGER.closingResource(resource, this.getClass());
+            output = null;
+        }
+        closeChunkOutput();
+    }
+
+    /**
+     * The buffer an item is encoded into, with room for its frame header at the beginning.
+     */
+    private static final class FrameBuffer extends ByteArrayOutputStream {
+        FrameBuffer() {
+            super(1024);
+        }
+
+        /**
+         * Encodes an item into this buffer, replacing any previously encoded item.
+         */
+        void encode(final ObjectWriter writer, final Object item) throws IOException {
+            count = FRAME_HEADER_LENGTH;
+            writer.writeValue(this, item);
+        }
+
+        /**
+         * Writes the frame header and the encoded item to an output stream.
+         */
+        void writeFrameTo(final OutputStream out) throws IOException {
+            final int length = count - FRAME_HEADER_LENGTH;
+            buf[0] = (byte) (length >>> 24);
+            buf[1] = (byte) (length >>> 16);
+            buf[2] = (byte) (length >>> 8);
+            buf[3] = (byte) length;
+            out.write(buf, 0, count);
+        }
+    }
+}
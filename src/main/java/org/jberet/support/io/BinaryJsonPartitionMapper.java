@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.jberet.support.io.BinaryJsonItemReaderWriterBase.FRAME_HEADER_LENGTH;
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jberet.support._private.SupportMessages;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.partition.PartitionMapper;
+import jakarta.batch.api.partition.PartitionPlan;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.partition.PartitionMapper} that splits a local binary Json file written
+ * by {@link BinaryJsonItemWriter} into byte ranges of about equal size, aligned on frame boundaries, so that each
+ * partition of a {@link BinaryJsonItemReader} step binds only the items of its own range of the file, and a single
+ * large file is read by multiple threads.
+ * <p>
+ * Boundaries are found by following the length of each frame from the beginning of the file, seeking over the encoded
+ * items without reading or decoding them.
+ * <p>
+ * Each partition plan contains the same partition properties as {@link CsvPartitionMapper}, to be referenced in the
+ * reader configuration in job xml:
+ * <ul>
+ * <li>partitionStart: the byte offset of the first frame of the range, or empty for the first partition
+ * <li>partitionEnd: the byte offset right after the last frame of the range, or empty for the last partition
+ * </ul>
+ * For example:
+ * <pre>
+ * &lt;chunk&gt;
+ *     &lt;reader ref="binaryJsonItemReader"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="resource" value="/data/movies.smile"/&gt;
+ *             &lt;property name="beanType" value="java.util.Map"/&gt;
+ *             &lt;property name="partitionStart" value="#{partitionPlan['partitionStart']}"/&gt;
+ *             &lt;property name="partitionEnd" value="#{partitionPlan['partitionEnd']}"/&gt;
+ *             ...
+ *         &lt;/properties&gt;
+ *     &lt;/reader&gt;
+ *     ...
+ * &lt;/chunk&gt;
+ * &lt;partition&gt;
+ *     &lt;mapper ref="binaryJsonPartitionMapper"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="resource" value="/data/movies.smile"/&gt;
+ *             &lt;property name="partitionCount" value="4"/&gt;
+ *         &lt;/properties&gt;
+ *     &lt;/mapper&gt;
+ * &lt;/partition&gt;
+ * </pre>
+ *
+ * @see BinaryJsonItemReader
+ * @see CsvPartitionMapper
+ * @since 2.1.3
+ */
+@Named
+@Dependent
+public class BinaryJsonPartitionMapper implements PartitionMapper {
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The local binary Json file to partition, as a file path or {@code file:} URL. It should be the same as the
+     * {@code resource} property of the reader. Required property. A compressed {@code .gz} file cannot be
+     * partitioned, since its frames cannot be located by byte offset.
+     */
+    @Inject
+    @BatchProperty
+    protected String resource;
+
+    /**
+     * Number of partitions. Optional property, and defaults to the number of available processors. Fewer
+     * partitions are created if the file does not contain enough items.
+     */
+    @Inject
+    @BatchProperty
+    protected int partitionCount;
+
+    /**
+     * Number of threads to run partitions. Optional property, and defaults to the number of partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        final Path localFile = ItemReaderWriterBase.getLocalFile(resource);
+        if (localFile == null || ItemReaderWriterBase.isCompressed(resource, null)) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+        }
+        if (partitionCount <= 0) {
+            partitionCount = Runtime.getRuntime().availableProcessors();
+        }
+
+        final List<Long> bounds;
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(localFile);
+            bounds = frameBoundaries(channel, partitionCount, resource);
+        } catch (final IOException e) {
+            throw SupportMessages.MESSAGES.failToOpenStream(e, resource);
+        } finally {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+        return CsvPartitionMapper.partitionPlan(bounds, threads);
+    }
+
+    /**
+     * Finds the frame boundaries between partitions of about equal byte size. Each boundary is the offset of the
+     * first frame at or after {@code size * i / partitionCount}.
+     *
+     * @param channel        the file channel to read
+     * @param partitionCount the number of partitions
+     * @param resource       the resource of the file, to report an invalid frame
+     * @return the boundaries in ascending order, excluding 0 and the file size
+     * @throws IOException if failed to read the file, or it ends within a frame
+     */
+    static List<Long> frameBoundaries(final FileChannel channel, final int partitionCount, final String resource)
+            throws IOException {
+        final List<Long> bounds = new ArrayList<Long>();
+        final long size = channel.size();
+        final InputStream in = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+        int next = 1;
+        long target = size / partitionCount;
+        long position = 0;
+        while (next < partitionCount) {
+            final long length = BinaryJsonItemReaderWriterBase.readFrameLength(in);
+            if (length < 0) {
+                break;
+            }
+            if (length == 0 || length > Integer.MAX_VALUE) {
+                throw SupportMessages.MESSAGES.invalidFrameLength(length, position, resource);
+            }
+            BinaryJsonItemReaderWriterBase.skipFully(in, length);
+            position += FRAME_HEADER_LENGTH + length;
+            if (position >= size) {
+                break;
+            }
+            if (position >= target) {
+                bounds.add(position);
+                while (next < partitionCount && target <= position) {
+                    target = size * ++next / partitionCount;
+                }
+            }
+        }
+        return bounds;
+    }
+}
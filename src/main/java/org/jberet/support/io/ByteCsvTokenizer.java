@@ -0,0 +1,492 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.supercsv.comment.CommentMatcher;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.io.ITokenizer;
+import org.supercsv.prefs.CsvPreference;
+
+/**
+ * A Super CSV {@code ITokenizer} that reads a local file into a heap byte window and tokenizes its bytes directly,
+ * without decoding the file into characters and lines first. The window is filled with positional reads of the
+ * file channel, and scanned with plain array access. Cell strings are decoded from the bytes of each cell only, and
+ * cells of skipped columns (see {@link #setSkippedColumns(boolean[])}) are not decoded at all. It is used by
+ * {@link CsvItemReader} when {@link CsvItemReader#engine} is {@value CsvItemReader#ENGINE_BYTES}, and produces the
+ * same columns as the Super CSV {@code Tokenizer}, so that cell processors and all bean types work the same.
+ * <p>
+ * Only charsets supported by {@link PositionTrackingReader#supports(Charset)} can be tokenized, since line
+ * terminators, the delimiter and the quote character are matched as single ASCII bytes. The {@code maxLinesPerRow}
+ * preference is not supported.
+ *
+ * @see CsvItemReader
+ * @since 2.1.3
+ */
+final class ByteCsvTokenizer implements ITokenizer {
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+    private static final byte SPACE = ' ';
+    private static final int WINDOW_SIZE = 1024 * 1024;
+    private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE - 8;
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final long size;
+    private final byte delimiter;
+    private final byte quote;
+    private final boolean surroundingSpacesNeedQuotes;
+    private final boolean ignoreEmptyLines;
+    private final CommentMatcher commentMatcher;
+
+    /**
+     * Bytes read from the file, starting at file offset {@link #base}, with {@link #limit} valid bytes.
+     */
+    private byte[] window = new byte[0];
+    private long base;
+    private int limit;
+
+    /**
+     * Index in {@link #window} of the next byte to tokenize.
+     */
+    private int pos;
+
+    private int lineNumber;
+
+    /**
+     * The line number of the line ending right before {@link #pos}.
+     */
+    private int posLineNumber;
+
+    private int rowStart;
+    private int rowEnd;
+
+    private boolean[] skippedColumns;
+
+    /**
+     * Bytes of the current cell, without surrounding and escaping quotes, if {@link #cellFrom} is -1.
+     */
+    private byte[] cell = new byte[256];
+    private int cellLength;
+
+    /**
+     * Index in {@link #window} of the current cell, if it is a single run of bytes in the window, or -1.
+     * Such a cell is decoded directly from the window, without copying its bytes into {@link #cell}.
+     */
+    private int cellFrom = -1;
+
+    /**
+     * Creates a tokenizer positioned at the beginning of the file, after the UTF-8 byte order mark if present.
+     *
+     * @param channel     the file channel to read
+     * @param charset     the charset of the file
+     * @param preferences the CSV preferences, whose delimiter and quote characters must be ASCII characters
+     * @throws IOException if failed to read the file
+     */
+    ByteCsvTokenizer(final FileChannel channel, final Charset charset, final CsvPreference preferences)
+            throws IOException {
+        this.channel = channel;
+        this.charset = charset;
+        this.size = channel.size();
+        this.delimiter = (byte) preferences.getDelimiterChar();
+        this.quote = (byte) preferences.getQuoteChar();
+        this.surroundingSpacesNeedQuotes = preferences.isSurroundingSpacesNeedQuotes();
+        this.ignoreEmptyLines = preferences.isIgnoreEmptyLines();
+        this.commentMatcher = preferences.getCommentMatcher();
+        seek(0);
+        if (limit >= 3 && (window[0] & 0xFF) == 0xEF && (window[1] & 0xFF) == 0xBB && (window[2] & 0xFF) == 0xBF) {
+            pos = 3;
+        }
+    }
+
+    /**
+     * Checks if a file can be tokenized by this class with the charset and CSV preferences.
+     *
+     * @param charset     the charset of the file
+     * @param preferences the CSV preferences
+     * @return true if the charset is supported, and the delimiter and quote characters are ASCII characters
+     */
+    static boolean supports(final Charset charset, final CsvPreference preferences) {
+        return PositionTrackingReader.supports(charset) &&
+                preferences.getDelimiterChar() < 0x80 && preferences.getQuoteChar() < 0x80;
+    }
+
+    /**
+     * Sets the columns whose cells are not needed by the reader, e.g., columns not mapped to any bean property.
+     * The tokenizer adds null for these cells instead of decoding them.
+     *
+     * @param skippedColumns flags indexed by column, or null to decode all cells
+     */
+    void setSkippedColumns(final boolean[] skippedColumns) {
+        this.skippedColumns = skippedColumns;
+    }
+
+    /**
+     * Gets the file offset right after the last read row.
+     *
+     * @return the file offset
+     */
+    long getPosition() {
+        return base + pos;
+    }
+
+    /**
+     * Repositions this tokenizer to a file offset.
+     *
+     * @param offset the file offset, which should be at a row boundary
+     * @throws IOException if failed to read the file
+     */
+    void seek(final long offset) throws IOException {
+        fill(offset, 0);
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public String getUntokenizedRow() {
+        //line terminators inside quoted cells are reported as \n, same as Super CSV Tokenizer
+        return decode(rowStart, rowEnd).replace("\r\n", "\n").replace('\r', '\n');
+    }
+
+    @Override
+    public boolean readColumns(final List<String> columns) throws IOException {
+        columns.clear();
+        while (true) {
+            final int result = tokenizeRow(columns);
+            if (result >= 0) {
+                return result > 0;
+            }
+            //the row continues beyond the window: load the window again from the row start, and tokenize it again
+            lineNumber = posLineNumber;
+            columns.clear();
+            fill(base + pos, limit - pos);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    /**
+     * Tokenizes the next row, skipping empty lines and comments as configured.
+     *
+     * @param columns the list to add cells to
+     * @return 1 if a row is read, 0 at the end of file, or -1 if the row is not complete in the window
+     */
+    private int tokenizeRow(final List<String> columns) {
+        final byte[] bytes = window;
+        int i = pos;
+        posLineNumber = lineNumber;
+        //skip empty lines and comments
+        while (true) {
+            if (i >= limit) {
+                return atEndOfFile(i) ? 0 : -1;
+            }
+            final byte b = bytes[i];
+            if (b == LF || b == CR) {
+                if (!ignoreEmptyLines) {
+                    break;
+                }
+                final int next = skipLineTerminator(i);
+                if (next < 0) {
+                    return -1;
+                }
+                lineNumber++;
+                i = pos = next;
+                posLineNumber = lineNumber;
+            } else if (commentMatcher != null) {
+                final int lineEnd = findLineEnd(i);
+                if (lineEnd < 0) {
+                    return -1;
+                }
+                if (!commentMatcher.isComment(decode(i, lineEnd))) {
+                    break;
+                }
+                lineNumber++;
+                final int next = skipLineTerminator(lineEnd);
+                if (next < 0) {
+                    return -1;
+                }
+                i = pos = next;
+                posLineNumber = lineNumber;
+            } else {
+                break;
+            }
+        }
+
+        lineNumber++;
+        rowStart = i;
+        cellLength = 0;
+        cellFrom = -1;
+        boolean quoted = false;
+        int quoteStartLineNumber = lineNumber;
+        int potentialSpaces = 0;
+        while (true) {
+            if (i >= limit) {
+                if (!atEndOfFile(i)) {
+                    return -1;
+                }
+                if (quoted) {
+                    throw new SuperCsvException(String.format(
+                            "unexpected end of file while reading quoted column beginning on line %d and ending on line %d",
+                            quoteStartLineNumber, lineNumber));
+                }
+                rowEnd = i;
+                if (!surroundingSpacesNeedQuotes) {
+                    appendSpaces(potentialSpaces);
+                }
+                addColumn(columns);
+                pos = i;
+                return 1;
+            }
+            final byte b = bytes[i];
+            if (quoted) {
+                if (b == quote) {
+                    if (i + 1 >= limit && !atEndOfFile(i + 1)) {
+                        return -1;
+                    }
+                    if (i + 1 < limit && bytes[i + 1] == quote) {
+                        append(b);
+                        i += 2;
+                    } else {
+                        quoted = false;
+                        i++;
+                    }
+                } else if (b == LF || b == CR) {
+                    final int next = skipLineTerminator(i);
+                    if (next < 0) {
+                        return -1;
+                    }
+                    if (next >= limit && atEndOfFile(next)) {
+                        throw new SuperCsvException(String.format(
+                                "unexpected end of file while reading quoted column beginning on line %d and ending on line %d",
+                                quoteStartLineNumber, lineNumber + 1));
+                    }
+                    append(LF);
+                    lineNumber++;
+                    i = next;
+                } else {
+                    //copy the run of bytes up to the next quote or line terminator at once
+                    int j = i + 1;
+                    while (j < limit) {
+                        final byte c = bytes[j];
+                        if (c == quote || c == LF || c == CR) {
+                            break;
+                        }
+                        j++;
+                    }
+                    append(bytes, i, j);
+                    i = j;
+                }
+            } else if (b == delimiter) {
+                if (!surroundingSpacesNeedQuotes) {
+                    appendSpaces(potentialSpaces);
+                }
+                addColumn(columns);
+                potentialSpaces = 0;
+                i++;
+            } else if (b == LF || b == CR) {
+                final int next = skipLineTerminator(i);
+                if (next < 0) {
+                    return -1;
+                }
+                rowEnd = i;
+                if (!surroundingSpacesNeedQuotes) {
+                    appendSpaces(potentialSpaces);
+                }
+                addColumn(columns);
+                pos = next;
+                return 1;
+            } else if (b == SPACE) {
+                potentialSpaces++;
+                i++;
+            } else {
+                if (!surroundingSpacesNeedQuotes || cellLength > 0) {
+                    appendSpaces(potentialSpaces);
+                }
+                potentialSpaces = 0;
+                if (b == quote) {
+                    quoted = true;
+                    quoteStartLineNumber = lineNumber;
+                    i++;
+                } else {
+                    //copy the run of bytes up to the next special byte at once
+                    int j = i + 1;
+                    while (j < limit) {
+                        final byte c = bytes[j];
+                        if (c == delimiter || c == quote || c == LF || c == CR || c == SPACE) {
+                            break;
+                        }
+                        j++;
+                    }
+                    append(bytes, i, j);
+                    i = j;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the current cell to the columns. An empty cell, quoted or not, is added as null, as Super CSV does.
+     *
+     * @param columns the list to add the cell to
+     */
+    private void addColumn(final List<String> columns) {
+        final int index = columns.size();
+        if (skippedColumns != null && index < skippedColumns.length && skippedColumns[index]) {
+            columns.add(null);
+        } else if (cellLength == 0) {
+            columns.add(null);
+        } else if (cellFrom >= 0) {
+            columns.add(new String(window, cellFrom, cellLength, charset));
+        } else {
+            columns.add(new String(cell, 0, cellLength, charset));
+        }
+        cellLength = 0;
+        cellFrom = -1;
+    }
+
+    private void append(final byte b) {
+        if (cellFrom >= 0) {
+            copyCell();
+        }
+        if (cellLength == cell.length) {
+            final byte[] bigger = new byte[cell.length * 2];
+            System.arraycopy(cell, 0, bigger, 0, cellLength);
+            cell = bigger;
+        }
+        cell[cellLength++] = b;
+    }
+
+    private void append(final byte[] bytes, final int from, final int to) {
+        if (cellLength == 0) {
+            cellFrom = from;
+            cellLength = to - from;
+            return;
+        }
+        if (cellFrom >= 0) {
+            if (cellFrom + cellLength == from) {
+                cellLength += to - from;
+                return;
+            }
+            copyCell();
+        }
+        final int length = to - from;
+        if (cellLength + length > cell.length) {
+            final byte[] bigger = new byte[Math.max(cell.length * 2, cellLength + length)];
+            System.arraycopy(cell, 0, bigger, 0, cellLength);
+            cell = bigger;
+        }
+        System.arraycopy(bytes, from, cell, cellLength, length);
+        cellLength += length;
+    }
+
+    /**
+     * Copies the bytes of the current cell from the window into {@link #cell}, before appending bytes that are not
+     * contiguous in the window.
+     */
+    private void copyCell() {
+        if (cellLength > cell.length) {
+            cell = new byte[Math.max(cell.length * 2, cellLength)];
+        }
+        System.arraycopy(window, cellFrom, cell, 0, cellLength);
+        cellFrom = -1;
+    }
+
+    private void appendSpaces(final int count) {
+        for (int i = 0; i < count; ++i) {
+            append(SPACE);
+        }
+    }
+
+    /**
+     * Skips the line terminator at the index.
+     *
+     * @param i the index of '\r' or '\n'
+     * @return the index after the line terminator, or -1 if it cannot be determined in the window
+     */
+    private int skipLineTerminator(final int i) {
+        if (window[i] == CR) {
+            if (i + 1 < limit) {
+                return window[i + 1] == LF ? i + 2 : i + 1;
+            }
+            return atEndOfFile(i + 1) ? i + 1 : -1;
+        }
+        return i + 1;
+    }
+
+    /**
+     * Finds the end of the line starting at the index, excluding its line terminator.
+     *
+     * @param i the index of the start of the line
+     * @return the index of the line terminator or the end of file, or -1 if not found in the window
+     */
+    private int findLineEnd(int i) {
+        while (i < limit) {
+            final byte b = window[i];
+            if (b == LF || b == CR) {
+                return i;
+            }
+            i++;
+        }
+        return atEndOfFile(i) ? i : -1;
+    }
+
+    private String decode(final int from, final int to) {
+        return new String(window, from, to - from, charset);
+    }
+
+    private boolean atEndOfFile(final int i) {
+        return base + i >= size;
+    }
+
+    /**
+     * Loads the window with the bytes of the file from an offset. The bytes of an incomplete row at the offset, which
+     * are already at {@link #pos} in the window, are moved to the beginning of the window instead of being read
+     * again, and the window is grown if needed to hold the row.
+     *
+     * @param offset    the file offset of the window
+     * @param rowLength the number of bytes of the incomplete row at the offset, or 0
+     * @throws IOException if failed to read the file
+     */
+    private void fill(final long offset, final int rowLength) throws IOException {
+        final int length = (int) Math.min(size - offset,
+                Math.max(WINDOW_SIZE, Math.min(rowLength * 2L, MAX_WINDOW_SIZE)));
+        if (rowLength > 0 && length <= rowLength) {
+            throw new SuperCsvException("row starting at byte offset " + offset + " is too long");
+        }
+        final byte[] bytes = window.length < length ? new byte[length] : window;
+        if (rowLength > 0) {
+            System.arraycopy(window, pos, bytes, 0, rowLength);
+        }
+        window = bytes;
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes, rowLength, length - rowLength);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        base = offset;
+        limit = length;
+        pos = 0;
+    }
+}
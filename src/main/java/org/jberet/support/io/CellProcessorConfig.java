@@ -15,8 +15,13 @@ import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
@@ -60,6 +65,8 @@ import org.supercsv.cellprocessor.ift.LongCellProcessor;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
 import org.supercsv.util.CsvContext;
 
+import jakarta.batch.runtime.context.JobContext;
+
 /**
  * This class is responsible for parsing the cellProcessors configuration property value into an array of
  * {@code org.supercsv.cellprocessor.ift.CellProcessor}, which can be consumed by
@@ -70,6 +77,41 @@ import org.supercsv.util.CsvContext;
 final class CellProcessorConfig {
     static final String[] EMPTY_STRING_ARRAY = new String[0];
 
+    /**
+     * Maximum number of job executions whose parsed cell processors are cached.
+     */
+    private static final int MAX_CACHED_JOB_EXECUTIONS = 16;
+
+    /**
+     * Parsed cell processors keyed by cellProcessors property value, for each job execution, so that they are shared
+     * by all readers and writers in the job execution, including those in the partitions of a partitioned step,
+     * configured with the same value. Job executions are keyed by id, since each partition has its own copy of the
+     * {@code JobContext}, and the least recently used one is discarded when the maximum is exceeded.
+     */
+    private static final Map<Long, Map<String, ParsedCellProcessors>> cachedCellProcessors =
+            new LinkedHashMap<Long, Map<String, ParsedCellProcessors>>(MAX_CACHED_JOB_EXECUTIONS, 0.75f, true) {
+                private static final long serialVersionUID = 8617350129024561342L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Long, Map<String, ParsedCellProcessors>> eldest) {
+                    return size() > MAX_CACHED_JOB_EXECUTIONS;
+                }
+            };
+
+    /**
+     * Lower-case names of the built-in cell processors that keep no state across cells, and so can be cached and
+     * shared by concurrent readers and writers. {@code Equals} is stateless only when given a constant value.
+     */
+    private static final Set<String> statelessCellProcessors = new HashSet<String>();
+
+    static {
+        Collections.addAll(statelessCellProcessors, "null", "notnull", "optional", "parsebool", "parsechar",
+                "parsedate", "parsedouble", "parseint", "parselong", "parsebigdecimal", "truncate", "trim", "token",
+                "strreplace", "convertnullto", "fmtnumber", "fmtdate", "fmtbool", "dminmax", "forbidsubstr",
+                "iselementof", "isincludedin", "lminmax", "requirehashcode", "requiresubstr", "strlen", "strminmax",
+                "strnotnullorempty", "strregex", "parseenum");
+    }
+
     /**
      * Parses the property value for cellProcessors into an array of {@code CellProcessor}. The number of the
      * returned {@code CellProcessor} must equal to the number of headers.
@@ -87,6 +129,71 @@ final class CellProcessorConfig {
      * @return an array of {@code CellProcessor}, one for each line in the raw property value
      */
     static CellProcessor[] parseCellProcessors(final String val) {
+        return parseCellProcessors(val, true);
+    }
+
+    /**
+     * Parses the property value for cellProcessors, reusing the cell processors already parsed from the same value
+     * in the same job execution if they are all stateless.
+     *
+     * @param jobContext the context of the job, or null if not running in a job, in which case nothing is cached
+     * @param val        the raw property value
+     * @return the parsed cell processors, whose array may be modified by the caller
+     */
+    static ParsedCellProcessors parseCellProcessors(final JobContext jobContext, final String val) {
+        if (jobContext == null) {
+            return parse(val, true);
+        }
+        final Long executionId = jobContext.getExecutionId();
+        synchronized (cachedCellProcessors) {
+            final Map<String, ParsedCellProcessors> jobCache = cachedCellProcessors.get(executionId);
+            final ParsedCellProcessors cached = jobCache == null ? null : jobCache.get(val);
+            if (cached != null) {
+                return new ParsedCellProcessors(cached.processors.clone(), true);
+            }
+        }
+        final ParsedCellProcessors parsed = parse(val, true);
+        if (parsed.stateless) {
+            synchronized (cachedCellProcessors) {
+                Map<String, ParsedCellProcessors> jobCache = cachedCellProcessors.get(executionId);
+                if (jobCache == null) {
+                    jobCache = new HashMap<String, ParsedCellProcessors>();
+                    cachedCellProcessors.put(executionId, jobCache);
+                }
+                if (!jobCache.containsKey(val)) {
+                    jobCache.put(val, new ParsedCellProcessors(parsed.processors.clone(), true));
+                }
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses the property value for cellProcessors into an array of {@code CellProcessor}.
+     * <p>
+     * If {@code compile} is true, {@code ParseLong}, {@code ParseInt}, {@code ParseDouble} and {@code ParseDate}
+     * are replaced with the equivalent processors in {@link FusedCellProcessors}, fused with an immediately
+     * preceding {@code Optional} or {@code NotNull}.
+     *
+     * @param val     the raw property value
+     * @param compile whether to fuse the parse processors
+     * @return an array of {@code CellProcessor}, one for each line in the raw property value
+     */
+    static CellProcessor[] parseCellProcessors(final String val, final boolean compile) {
+        return parse(val, compile).processors;
+    }
+
+    /**
+     * Parses the property value for cellProcessors, and determines whether all processors in all lines are stateless
+     * built-in processors.
+     *
+     * @param val     the raw property value
+     * @param compile whether to fuse the parse processors
+     * @return the parsed cell processors
+     * @see #parseCellProcessors(String, boolean)
+     */
+    private static ParsedCellProcessors parse(final String val, final boolean compile) {
+        boolean stateless = true;
         //final String[] parts = val.split("\\r?\\n");  //new line
         final String[] parts = val.split(";");
         final CellProcessor[] result = new CellProcessor[parts.length];
@@ -172,10 +279,21 @@ final class CellProcessorConfig {
             if (!oneProcessorValue.isEmpty() && !processorValuesInThisLine.contains(oneProcessorValue)) {
                 processorValuesInThisLine.add(oneProcessorValue);
             }
-            result[x] = createCellProcessorForOneLine(processorValuesInThisLine);
+            result[x] = createCellProcessorForOneLine(processorValuesInThisLine, compile);
+            stateless = stateless && isStateless(processorValuesInThisLine);
         } //end parsing all lines
 
-        return result;
+        return new ParsedCellProcessors(result, stateless);
+    }
+
+    private static boolean isStateless(final List<List<String>> processorValuesInThisLine) {
+        for (final List<String> oneProcessorValue : processorValuesInThisLine) {
+            final String name = oneProcessorValue.get(0).toLowerCase(Locale.ROOT);
+            if (!statelessCellProcessors.contains(name) && !(name.equals("equals") && oneProcessorValue.size() == 2)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private static void endCurrentProcessor(final String line,
@@ -215,7 +333,8 @@ final class CellProcessorConfig {
         }
     }
 
-    static CellProcessor createCellProcessorForOneLine(final List<List<String>> processorValuesInThisLine) {
+    static CellProcessor createCellProcessorForOneLine(final List<List<String>> processorValuesInThisLine,
+                                                       final boolean compile) {
         CellProcessor previous;
         CellProcessor current = null;
         for (int x = processorValuesInThisLine.size() - 1; x >= 0; x--) {
@@ -243,12 +362,22 @@ final class CellProcessorConfig {
                 if (params.length > 0) {
                     throw SupportMessages.MESSAGES.invalidParamsForCellProcessor(name, params);
                 }
-                current = previous == null ? new NotNull() : new NotNull(previous);
+                if (compile && previous instanceof FusedCellProcessors.FusedParser &&
+                        ((FusedCellProcessors.FusedParser) previous).nullHandling == FusedCellProcessors.NullHandling.REJECT) {
+                    current = ((FusedCellProcessors.FusedParser) previous).withNullHandling(FusedCellProcessors.NullHandling.NOT_NULL);
+                } else {
+                    current = previous == null ? new NotNull() : new NotNull(previous);
+                }
             } else if (name.equalsIgnoreCase("Optional")) {
                 if (params.length > 0) {
                     throw SupportMessages.MESSAGES.invalidParamsForCellProcessor(name, params);
                 }
-                current = previous == null ? new Optional() : new Optional(previous);
+                if (compile && previous instanceof FusedCellProcessors.FusedParser &&
+                        ((FusedCellProcessors.FusedParser) previous).nullHandling == FusedCellProcessors.NullHandling.REJECT) {
+                    current = ((FusedCellProcessors.FusedParser) previous).withNullHandling(FusedCellProcessors.NullHandling.OPTIONAL);
+                } else {
+                    current = previous == null ? new Optional() : new Optional(previous);
+                }
             } else if (name.equalsIgnoreCase("ParseBool")) {
                 if (params.length == 0) {
                     //use the default true and false string values in org.supercsv.cellprocessor.ParseBool
@@ -269,10 +398,17 @@ final class CellProcessorConfig {
                 current = previous == null ? new ParseChar() : new ParseChar((DoubleCellProcessor) previous);
             } else if (name.equalsIgnoreCase("ParseDate")) {
                 if (params.length == 1) {  //dateFormat
-                    current = previous == null ? new ParseDate(params[0]) : new ParseDate(params[0], (DateCellProcessor) previous);
+                    current = compile ? FusedCellProcessors.ParseDate.of(params[0], previous) : null;
+                    if (current == null) {
+                        current = previous == null ? new ParseDate(params[0]) : new ParseDate(params[0], (DateCellProcessor) previous);
+                    }
                 } else if (params.length == 2) { //dateFormat, lenient
-                    current = previous == null ? new ParseDate(params[0], Boolean.parseBoolean(params[1])) :
-                            new ParseDate(params[0], Boolean.parseBoolean(params[1]), (DateCellProcessor) previous);
+                    final boolean lenient = Boolean.parseBoolean(params[1]);
+                    current = compile && !lenient ? FusedCellProcessors.ParseDate.of(params[0], previous) : null;
+                    if (current == null) {
+                        current = previous == null ? new ParseDate(params[0], lenient) :
+                                new ParseDate(params[0], lenient, (DateCellProcessor) previous);
+                    }
                 } else if (params.length == 3) { //dateFormat, lenient, locale
                     current = previous == null ? new ParseDate(params[0], Boolean.parseBoolean(params[1]), new Locale(params[2])) :
                             new ParseDate(params[0], Boolean.parseBoolean(params[1]), new Locale(params[2]), (DateCellProcessor) previous);
@@ -281,19 +417,22 @@ final class CellProcessorConfig {
                 }
             } else if (name.equalsIgnoreCase("ParseDouble")) {
                 if (params.length == 0) {
-                    current = previous == null ? new ParseDouble() : new ParseDouble((DoubleCellProcessor) previous);
+                    current = compile ? new FusedCellProcessors.ParseDouble(FusedCellProcessors.NullHandling.REJECT, previous) :
+                            previous == null ? new ParseDouble() : new ParseDouble((DoubleCellProcessor) previous);
                 } else {
                     throw SupportMessages.MESSAGES.invalidParamsForCellProcessor(name, params);
                 }
             } else if (name.equalsIgnoreCase("ParseInt")) {
                 if (params.length == 0) {
-                    current = previous == null ? new ParseInt() : new ParseInt((LongCellProcessor) previous);
+                    current = compile ? new FusedCellProcessors.ParseInt(FusedCellProcessors.NullHandling.REJECT, previous) :
+                            previous == null ? new ParseInt() : new ParseInt((LongCellProcessor) previous);
                 } else {
                     throw SupportMessages.MESSAGES.invalidParamsForCellProcessor(name, params);
                 }
             } else if (name.equalsIgnoreCase("ParseLong")) {
                 if (params.length == 0) {
-                    current = previous == null ? new ParseLong() : new ParseLong((LongCellProcessor) previous);
+                    current = compile ? new FusedCellProcessors.ParseLong(FusedCellProcessors.NullHandling.REJECT, previous) :
+                            previous == null ? new ParseLong() : new ParseLong((LongCellProcessor) previous);
                 } else {
                     throw SupportMessages.MESSAGES.invalidParamsForCellProcessor(name, params);
                 }
@@ -518,6 +657,26 @@ final class CellProcessorConfig {
         return result;
     }
 
+    /**
+     * Cell processors parsed from a cellProcessors property value.
+     */
+    static final class ParsedCellProcessors {
+        /**
+         * The cell processors, one for each line in the property value.
+         */
+        final CellProcessor[] processors;
+
+        /**
+         * Whether all cell processors keep no state across cells, and so can be used by concurrent threads.
+         */
+        final boolean stateless;
+
+        ParsedCellProcessors(final CellProcessor[] processors, final boolean stateless) {
+            this.processors = processors;
+            this.stateless = stateless;
+        }
+    }
+
     /**
      * A custom cell processor that parses the cell data to enum.
      */
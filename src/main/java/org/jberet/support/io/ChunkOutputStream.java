@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * An {@code OutputStream} for file writers, which buffers the output in a direct {@code ByteBuffer}, and writes it
+ * to the file according to the output policy of the writer, instead of whenever the writer flushes its output:
+ * <ul>
+ * <li>the buffered output is written to the file every {@code flushInterval} chunks, and whenever the buffer is
+ * full;</li>
+ * <li>if {@code forceOnCheckpoint} is true, the buffered output is written and the file content is forced to the
+ * storage device with {@code FileChannel.force} at every checkpoint.</li>
+ * </ul>
+ * {@link #flush()} does nothing, so that a writer can flush its encoder or generator into this stream after every
+ * chunk, and know the exact file position with {@link #getPosition()}, without a system call. Buffers of the
+ * default size are pooled and reused by subsequent writers after this stream is closed.
+ * <p>
+ * Output can be temporarily discarded with {@link #setDiscarding(boolean)}, so that a restarted writer can replay the
+ * beginning of its output, which is already in the file, to restore the state of its generator.
+ *
+ * @see ItemReaderWriterBase#flushInterval
+ * @see ItemReaderWriterBase#outputBufferSize
+ * @see ItemReaderWriterBase#forceOnCheckpoint
+ * @since 2.1.3
+ */
+final class ChunkOutputStream extends OutputStream {
+    static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 16;
+    private static final Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<ByteBuffer>();
+
+    private final FileOutputStream out;
+    private final FileChannel channel;
+    private final int flushInterval;
+    private final boolean forceOnCheckpoint;
+    private ByteBuffer buffer;
+
+    /**
+     * The file position after all bytes written to this stream, including those not written to the file yet.
+     */
+    private long position;
+
+    /**
+     * The number of chunks ended since the buffered output was last written to the file.
+     */
+    private int pendingChunks;
+
+    /**
+     * Whether bytes written to this stream are discarded.
+     */
+    private boolean discarding;
+
+    /**
+     * Creates a {@code ChunkOutputStream} writing to the end of the file of a {@code FileOutputStream}.
+     *
+     * @param out               the file output stream
+     * @param bufferSize        the buffer size in bytes, or 0 or negative for {@link #DEFAULT_BUFFER_SIZE}
+     * @param flushInterval     the number of chunks after which the buffered output is written to the file,
+     *                          or 0 or negative to write it after every chunk
+     * @param forceOnCheckpoint whether to write the buffered output and force it to the storage device at every
+     *                          checkpoint
+     * @throws IOException if failed to get the file position
+     */
+    ChunkOutputStream(final FileOutputStream out,
+                      final int bufferSize,
+                      final int flushInterval,
+                      final boolean forceOnCheckpoint) throws IOException {
+        this.out = out;
+        this.channel = out.getChannel();
+        this.flushInterval = flushInterval > 0 ? flushInterval : 1;
+        this.forceOnCheckpoint = forceOnCheckpoint;
+        this.position = channel.position();
+        if (bufferSize > 0 && bufferSize != DEFAULT_BUFFER_SIZE) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        } else {
+            buffer = bufferPool.poll();
+            if (buffer == null) {
+                buffer = ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE);
+            }
+        }
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (discarding) {
+            return;
+        }
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+        buffer.put((byte) b);
+        position++;
+    }
+
+    @Override
+    public void write(final byte[] b, int off, int len) throws IOException {
+        if (discarding) {
+            return;
+        }
+        position += len;
+        if (len >= buffer.capacity()) {
+            drain();
+            final ByteBuffer src = ByteBuffer.wrap(b, off, len);
+            while (src.hasRemaining()) {
+                channel.write(src);
+            }
+            return;
+        }
+        while (len > 0) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Sets whether bytes subsequently written to this stream are discarded, instead of being written to the file.
+     * Discarded bytes do not count towards the file position.
+     *
+     * @param discarding true to discard written bytes, false to write them to the file
+     */
+    void setDiscarding(final boolean discarding) {
+        this.discarding = discarding;
+    }
+
+    /**
+     * Does nothing. The buffered output is written to the file by {@link #endChunk()}, {@link #checkpoint()} or
+     * {@link #close()}.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Marks the end of a chunk, and writes the buffered output to the file if {@code flushInterval} chunks have
+     * ended since it was last written.
+     *
+     * @throws IOException if failed to write to the file
+     */
+    void endChunk() throws IOException {
+        if (++pendingChunks >= flushInterval) {
+            drain();
+        }
+    }
+
+    /**
+     * Writes the buffered output to the file and forces it to the storage device if {@code forceOnCheckpoint}
+     * is true.
+     *
+     * @return the file position after all bytes written to this stream
+     * @throws IOException if failed to write to or force the file
+     */
+    long checkpoint() throws IOException {
+        if (forceOnCheckpoint) {
+            drain();
+            channel.force(false);
+        }
+        return position;
+    }
+
+    /**
+     * Gets the file position after all bytes written to this stream, including those not written to the file yet.
+     *
+     * @return the file position
+     */
+    long getPosition() {
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            final ByteBuffer b = buffer;
+            buffer = null;
+            if (b.capacity() == DEFAULT_BUFFER_SIZE && bufferPool.size() < MAX_POOLED_BUFFERS) {
+                b.clear();
+                bufferPool.offer(b);
+            }
+            out.close();
+        }
+    }
+
+    private void drain() throws IOException {
+        pendingChunks = 0;
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jberet.support._private.SupportLogger;
+import org.supercsv.exception.SuperCsvReflectionException;
+import org.supercsv.util.BeanInterfaceProxy;
+import org.supercsv.util.MethodCache;
+
+/**
+ * Instantiates a bean class and sets its properties from the column values of a CSV row, with method handles
+ * resolved once per bean class and name mapping, instead of looking up and reflectively invoking a setter method
+ * for every cell. It is used by {@link FastForwardCsvBeanReader}.
+ * <p>
+ * A setter is resolved up front only if the bean class has exactly one public single-argument method with the
+ * setter name. Otherwise, e.g., for overloaded setters, the setter is looked up by the type of each column value,
+ * the same way as Super CSV {@code MethodCache} does. If the bean type is an interface, a proxy implementing it is
+ * created for each row, and all setters are looked up by value type.
+ *
+ * @see FastForwardCsvBeanReader
+ * @since 2.1.3
+ */
+final class CsvBeanPopulator {
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> beanType;
+    private final String[] nameMapping;
+    /**
+     * The no-arg constructor, or null if the bean type is an interface, or the constructor is not accessible with
+     * method handles.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * Setters of columns with a mapped name, or null for columns whose setter is looked up by value type.
+     */
+    private final MethodHandle[] setters;
+
+    private final MethodCache cache = new MethodCache();
+
+    private CsvBeanPopulator(final Class<?> beanType,
+                             final String[] nameMapping,
+                             final MethodHandle constructor,
+                             final MethodHandle[] setters) {
+        this.beanType = beanType;
+        this.nameMapping = nameMapping;
+        this.constructor = constructor;
+        this.setters = setters;
+    }
+
+    /**
+     * Compiles a populator for the bean class and name mapping.
+     *
+     * @param beanType    the bean class
+     * @param nameMapping the name mapping, containing null for columns not mapped to any property
+     * @return the populator
+     */
+    static CsvBeanPopulator compile(final Class<?> beanType, final String[] nameMapping) {
+        final MethodHandle[] setters = new MethodHandle[nameMapping.length];
+        if (beanType.isInterface()) {
+            return new CsvBeanPopulator(beanType, nameMapping, null, setters);
+        }
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle constructor = null;
+        try {
+            constructor = lookup.findConstructor(beanType, MethodType.methodType(void.class)).asType(CONSTRUCTOR_TYPE);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            SupportLogger.LOGGER.tracef(e, "No accessible no-arg constructor in %s%n", beanType);
+        }
+
+        final Method[] methods = beanType.getMethods();
+        for (int i = 0; i < nameMapping.length; ++i) {
+            if (nameMapping[i] == null || nameMapping[i].isEmpty()) {
+                continue;
+            }
+            final String setterName = "set" + Character.toUpperCase(nameMapping[i].charAt(0)) +
+                    nameMapping[i].substring(1);
+            Method setter = null;
+            int found = 0;
+            for (final Method m : methods) {
+                if (m.getName().equals(setterName) && m.getParameterCount() == 1) {
+                    setter = m;
+                    found++;
+                }
+            }
+            if (found == 1) {
+                try {
+                    setters[i] = lookup.unreflect(setter).asType(SETTER_TYPE);
+                } catch (final IllegalAccessException e) {
+                    SupportLogger.LOGGER.tracef(e, "Setter %s is not accessible%n", setter);
+                }
+            }
+        }
+        return new CsvBeanPopulator(beanType, nameMapping, constructor, setters);
+    }
+
+    /**
+     * Checks if this populator was compiled for the bean class and name mapping.
+     *
+     * @param type    the bean class
+     * @param mapping the name mapping
+     * @return true if this populator can populate beans of the type with the name mapping
+     */
+    boolean matches(final Class<?> type, final String[] mapping) {
+        return beanType == type && (nameMapping == mapping || Arrays.equals(nameMapping, mapping));
+    }
+
+    /**
+     * Instantiates the bean, and sets its properties from the column values. Null column values are skipped.
+     *
+     * @param values the column values, in the same order as the name mapping
+     * @return the populated bean
+     * @throws SuperCsvReflectionException if failed to instantiate the bean or invoke a setter
+     */
+    Object populate(final List<?> values) {
+        final Object bean = instantiateBean();
+        for (int i = 0; i < setters.length; ++i) {
+            final Object fieldValue = values.get(i);
+            if (nameMapping[i] == null || fieldValue == null) {
+                continue;
+            }
+            final MethodHandle setter = setters[i];
+            if (setter == null) {
+                final Method setMethod = cache.getSetMethod(bean, nameMapping[i], fieldValue.getClass());
+                try {
+                    setMethod.invoke(bean, fieldValue);
+                } catch (final Exception e) {
+                    throw new SuperCsvReflectionException(
+                            String.format("error invoking method %s()", setMethod.getName()), e);
+                }
+            } else {
+                try {
+                    setter.invokeExact(bean, (Object) fieldValue);
+                } catch (final Throwable e) {
+                    throw new SuperCsvReflectionException(
+                            String.format("error invoking setter of %s with value %s", nameMapping[i], fieldValue), e);
+                }
+            }
+        }
+        return bean;
+    }
+
+    private Object instantiateBean() {
+        if (constructor != null) {
+            try {
+                return (Object) constructor.invokeExact();
+            } catch (final Throwable e) {
+                throw new SuperCsvReflectionException("error instantiating bean", e);
+            }
+        }
+        if (beanType.isInterface()) {
+            return BeanInterfaceProxy.createProxy(beanType);
+        }
+        try {
+            return beanType.getDeclaredConstructor().newInstance();
+        } catch (final InstantiationException | NoSuchMethodException e) {
+            throw new SuperCsvReflectionException(String.format(
+                    "error instantiating bean, check that %s has a default no-args constructor", beanType.getName()), e);
+        } catch (final Exception e) {
+            throw new SuperCsvReflectionException("error instantiating bean", e);
+        }
+    }
+}
@@ -11,18 +11,27 @@
 package org.jberet.support.io;
 
 import static org.jberet.support.io.CsvProperties.BEAN_TYPE_KEY;
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.Serializable;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
+import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.io.ICsvBeanReader;
 import org.supercsv.io.ICsvListReader;
 import org.supercsv.io.ICsvMapReader;
 import org.supercsv.io.ICsvReader;
+import org.supercsv.io.ITokenizer;
+import org.supercsv.io.Tokenizer;
+import org.supercsv.prefs.CsvPreference;
 
 import jakarta.batch.api.BatchProperty;
 import jakarta.batch.api.chunk.ItemReader;
@@ -36,6 +45,16 @@ import jakarta.inject.Named;
  * other than comma (e.g., tab, |) are also supported by configuring {@code preference}, {@code delimiterChar},
  * or {@code quoteChar} properties in job xml.
  * This class is not designed to be thread-safe and its instance should not be shared between threads.
+ * <p>
+ * When reading from a local file in a supported charset (e.g., UTF-8, US-ASCII or ISO-8859-1), the checkpoint also
+ * contains the byte offset after the last read record, so that a restarted job execution seeks directly to it,
+ * instead of re-parsing all previously read records. A single large local file can also be parsed in parallel by a
+ * partitioned step, with {@link CsvPartitionMapper} splitting it into byte ranges.
+ * <p>
+ * Since 2.1.3, {@link #checkpointInfo()} is declared to return {@code java.io.Serializable} instead of
+ * {@code Integer}, which is a source and binary incompatible change for subclasses that override it, and for
+ * callers that use its result as {@code Integer}. Checkpoints saved by previous versions, which are the number of
+ * rows read as {@code Integer}, are still accepted by {@link #open(Serializable)}.
  *
  * @see     CsvItemReaderWriterBase
  * @see     CsvItemWriter
@@ -44,6 +63,21 @@ import jakarta.inject.Named;
 @Named
 @Dependent
 public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader {
+    /**
+     * Parses the resource with Super CSV {@code Tokenizer} over a {@code java.io.Reader}.
+     *
+     * @since 2.1.3
+     */
+    public static final String ENGINE_SUPERCSV = "supercsv";
+
+    /**
+     * Parses a local file resource with {@link ByteCsvTokenizer}, which reads the file into a byte buffer and
+     * tokenizes its bytes directly.
+     *
+     * @since 2.1.3
+     */
+    public static final String ENGINE_BYTES = "bytes";
+
     /**
      * Specifies the start position (a positive integer starting from 1) to read the data. If reading from the beginning
      * of the input CSV, there is no need to specify this property.
@@ -68,8 +102,72 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
     @BatchProperty
     protected boolean headerless;
 
+    /**
+     * The byte offset in the local file resource of the first record to read. Optional property, and if not
+     * specified, reading starts from the beginning of the file. It is typically set from partition properties
+     * generated by {@link CsvPartitionMapper}, so that each partition parses only its own byte range of a single
+     * large file. The header row, if any, is still read from the beginning of the file.
+     * <p>
+     * When reading a byte range, {@link #start} and {@link #end} are relative to the range, and
+     * {@code commentMatcher} should not be specified, since comment lines are not taken into account when the
+     * file is split into ranges.
+     *
+     * @see CsvPartitionMapper
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionStart;
+
+    /**
+     * The byte offset in the local file resource right after the last record to read. Optional property, and if
+     * not specified, reading continues till the end of the file.
+     *
+     * @see #partitionStart
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionEnd;
+
+    /**
+     * The CSV parsing engine. Optional property, and valid values are:
+     * <ul>
+     * <li>{@value #ENGINE_SUPERCSV} (default): decodes the resource into characters, and tokenizes lines with
+     * Super CSV {@code Tokenizer}.
+     * <li>{@value #ENGINE_BYTES}: reads the resource, which must be an uncompressed local file, into a byte
+     * buffer, and tokenizes its bytes directly, decoding only the cells that are needed. Cells of columns ignored by
+     * {@code nameMapping} are not decoded for bean or {@code java.util.Map} types.
+     * The charset must be UTF-8, US-ASCII, ISO-8859-* or windows-125*, and the delimiter and quote characters
+     * must be ASCII characters.
+     * </ul>
+     * Both engines produce the same cells, which are then processed by {@code cellProcessors} and mapped to
+     * {@link #beanType} in the same way.
+     *
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String engine;
+
     protected ICsvReader delegateReader;
 
+    /**
+     * The reader over the local file resource that tracks byte offsets, or null if the resource is not a local file,
+     * is compressed, or its charset is not supported by {@link PositionTrackingReader}.
+     */
+    private PositionTrackingReader positionReader;
+
+    /**
+     * The tokenizer over the local file resource when {@link #engine} is {@value #ENGINE_BYTES}, otherwise null.
+     */
+    private ByteCsvTokenizer byteTokenizer;
+
+    /**
+     * The parsed value of {@link #partitionEnd}, or -1 if not specified.
+     */
+    private long partitionEndPosition = -1;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         /**
@@ -79,27 +177,45 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
         if (this.end == 0) {
             this.end = Integer.MAX_VALUE;
         }
-        int startRowNumber = checkpoint == null ? this.start : (Integer) checkpoint;
+        final OffsetCheckpoint offsetCheckpoint = checkpoint instanceof OffsetCheckpoint ?
+                (OffsetCheckpoint) checkpoint : null;
+        int startRowNumber = checkpoint == null ? this.start :
+                offsetCheckpoint != null ? offsetCheckpoint.rowNumber : (Integer) checkpoint;
         if (startRowNumber < this.start || startRowNumber > this.end || startRowNumber < 0) {
             throw SupportMessages.MESSAGES.invalidStartPosition(startRowNumber, this.start, this.end);
         }
         if (headerless) {
-            startRowNumber--;
+            //the row number in OffsetCheckpoint is exact: the last read row is not read again
+            if (offsetCheckpoint == null) {
+                startRowNumber--;
+            }
             this.end--;
         }
 
         if (beanType == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, BEAN_TYPE_KEY);
         }
-        final InputStream inputStream = getInputStream(resource, true);
-        final InputStreamReader r = charset == null ? new InputStreamReader(inputStream) :
-                new InputStreamReader(inputStream, charset);
+        final CsvPreference csvPreference = getCsvPreference();
+        final ITokenizer tokenizer = openTokenizer(csvPreference);
+        final long partitionStartPosition = parsePosition(partitionStart, "partitionStart", true);
+        partitionEndPosition = parsePosition(partitionEnd, "partitionEnd", true);
+        //byte ranges require reading from a local file
+        if ((partitionStartPosition >= 0 || partitionEndPosition >= 0) && !tracksPosition()) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+        }
+        long seekPosition = Math.max(partitionStartPosition, 0);
+        int skippedRows = 0;
+        if (offsetCheckpoint != null && tracksPosition()) {
+            //rows before the checkpoint are skipped by seeking, except the header row which is read below
+            seekPosition = offsetCheckpoint.position;
+            skippedRows = headerless ? offsetCheckpoint.rowNumber : offsetCheckpoint.rowNumber - 1;
+        }
         if (java.util.List.class.isAssignableFrom(beanType)) {
-            delegateReader = new FastForwardCsvListReader(r, getCsvPreference(), startRowNumber);
+            delegateReader = new FastForwardCsvListReader(tokenizer, csvPreference, startRowNumber, skippedRows);
         } else if (java.util.Map.class.isAssignableFrom(beanType)) {
-            delegateReader = new FastForwardCsvMapReader(r, getCsvPreference(), startRowNumber);
+            delegateReader = new FastForwardCsvMapReader(tokenizer, csvPreference, startRowNumber, skippedRows);
         } else {
-            delegateReader = new FastForwardCsvBeanReader(r, getCsvPreference(), startRowNumber);
+            delegateReader = new FastForwardCsvBeanReader(tokenizer, csvPreference, startRowNumber, skippedRows);
         }
         SupportLogger.LOGGER.openingResource(resource, this.getClass());
 
@@ -114,7 +230,125 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
                 this.nameMapping = header;
             }
         }
+        if (tracksPosition() && seekPosition > getPosition()) {
+            //the header line has been fully consumed, and no characters after it are buffered by delegateReader
+            if (byteTokenizer != null) {
+                byteTokenizer.seek(seekPosition);
+            } else {
+                positionReader.seek(seekPosition);
+            }
+        }
         this.cellProcessorInstances = getCellProcessors();
+        if (!java.util.List.class.isAssignableFrom(beanType)) {
+            final boolean[] skippedColumns = getSkippedColumns();
+            if (skippedColumns != null) {
+                //cell processors of ignored columns are never invoked
+                final CellProcessor[] processors = cellProcessorInstances.clone();
+                for (int i = 0; i < skippedColumns.length && i < processors.length; ++i) {
+                    if (skippedColumns[i]) {
+                        processors[i] = null;
+                    }
+                }
+                cellProcessorInstances = processors;
+            }
+            if (byteTokenizer != null) {
+                byteTokenizer.setSkippedColumns(skippedColumns);
+            }
+        }
+    }
+
+    /**
+     * Gets the columns that are ignored when reading into bean or {@code java.util.Map} types, i.e., columns whose
+     * {@code nameMapping} entry is null or empty. Empty entries are replaced with null in {@link #nameMapping}.
+     *
+     * @return flags indexed by column, or null if all columns are mapped
+     */
+    private boolean[] getSkippedColumns() {
+        if (nameMapping != null) {
+            for (int i = 0; i < nameMapping.length; ++i) {
+                if (nameMapping[i] != null && nameMapping[i].trim().isEmpty()) {
+                    nameMapping[i] = null;
+                }
+            }
+        }
+        final String[] mapping = getNameMapping();
+        if (mapping == null) {
+            return null;
+        }
+        final boolean[] skipped = new boolean[mapping.length];
+        boolean any = false;
+        for (int i = 0; i < mapping.length; ++i) {
+            skipped[i] = mapping[i] == null;
+            any |= skipped[i];
+        }
+        return any ? skipped : null;
+    }
+
+    private boolean tracksPosition() {
+        return positionReader != null || byteTokenizer != null;
+    }
+
+    /**
+     * Gets the byte offset in the local file resource right after the last read row.
+     *
+     * @return the byte offset
+     */
+    private long getPosition() {
+        return byteTokenizer != null ? byteTokenizer.getPosition() : positionReader.getPosition();
+    }
+
+    /**
+     * Opens the tokenizer for {@link #resource} according to {@link #engine}.
+     *
+     * @param csvPreference the CSV preferences
+     * @return the tokenizer for the resource
+     * @throws Exception if failed to open the resource
+     */
+    private ITokenizer openTokenizer(final CsvPreference csvPreference) throws Exception {
+        if (engine == null || engine.trim().isEmpty() || ENGINE_SUPERCSV.equals(engine.trim())) {
+            return new Tokenizer(openReader(), csvPreference);
+        }
+        if (!ENGINE_BYTES.equals(engine.trim())) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, engine, "engine");
+        }
+        final Path localFile = getLocalFile(resource);
+        if (localFile == null || isCompressed(resource, compression)) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+        }
+        final Charset cs = charset == null ? Charset.defaultCharset() : Charset.forName(charset);
+        if (!ByteCsvTokenizer.supports(cs, csvPreference)) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, engine, "engine");
+        }
+        try {
+            byteTokenizer = new ByteCsvTokenizer(FileChannel.open(localFile), cs, csvPreference);
+            return byteTokenizer;
+        } catch (final IOException e) {
+            throw SupportMessages.MESSAGES.failToOpenStream(e, resource);
+        }
+    }
+
+    /**
+     * Opens the reader for {@link #resource}, which is a {@link PositionTrackingReader} if the resource is an
+     * uncompressed local file in a charset supported by it.
+     *
+     * @return the reader for the resource
+     * @throws Exception if failed to open the resource
+     */
+    private Reader openReader() throws Exception {
+        final Path localFile = isCompressed(resource, compression) ? null : getLocalFile(resource);
+        if (localFile != null) {
+            final Charset cs = charset == null ? Charset.defaultCharset() : Charset.forName(charset);
+            if (PositionTrackingReader.supports(cs)) {
+                try {
+                    positionReader = new PositionTrackingReader(FileChannel.open(localFile), cs);
+                    return positionReader;
+                } catch (final IOException e) {
+                    throw SupportMessages.MESSAGES.failToOpenStream(e, resource);
+                }
+            }
+        }
+        final InputStream inputStream = getInputStream(resource, true, compression);
+        return charset == null ? new InputStreamReader(inputStream) : new InputStreamReader(inputStream, charset);
     }
 
     @Override
@@ -123,12 +357,15 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
             SupportLogger.LOGGER.closingResource(resource, this.getClass());
             delegateReader.close();
             delegateReader = null;
+            positionReader = null;
+            byteTokenizer = null;
         }
     }
 
     @Override
     public Object readItem() throws Exception {
-        if (delegateReader.getRowNumber() > this.end) {
+        if (delegateReader.getRowNumber() > this.end ||
+                (partitionEndPosition >= 0 && getPosition() >= partitionEndPosition)) {
             return null;
         }
         final Object result;
@@ -157,8 +394,21 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns an {@link OffsetCheckpoint} when reading from a local file in a supported charset, otherwise the
+     * number of rows read as {@code Integer}.
+     * <p>
+     * Before 2.1.3, the declared return type was {@code Integer}. Subclasses overriding this method must change
+     * their return type to {@code java.io.Serializable}, and callers must not cast its result to {@code Integer}
+     * without checking its type.
+     */
     @Override
-    public Integer checkpointInfo() throws Exception {
+    public Serializable checkpointInfo() throws Exception {
+        if (tracksPosition()) {
+            return new OffsetCheckpoint(delegateReader.getRowNumber(), getPosition());
+        }
         return delegateReader.getRowNumber();
     }
 }
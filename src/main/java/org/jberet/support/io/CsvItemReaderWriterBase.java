@@ -41,6 +41,7 @@ import org.supercsv.quote.ColumnQuoteMode;
 import org.supercsv.quote.QuoteMode;
 
 import jakarta.batch.api.BatchProperty;
+import jakarta.batch.runtime.context.JobContext;
 import jakarta.inject.Inject;
 
 /**
@@ -58,6 +59,10 @@ public abstract class CsvItemReaderWriterBase extends ItemReaderWriterBase {
     /**
      * Specify the bean fields or map keys corresponding to CSV columns. If the CSV columns exactly
      * match bean fields or map keys, then no need to specify this property.
+     * <p>
+     * When reading into a bean or {@code java.util.Map} type with {@link CsvItemReader}, a column can be ignored
+     * by leaving its entry blank, e.g., {@code "number, , , givenName"}. Cell processors of ignored columns are not
+     * invoked, and with the {@value CsvItemReader#ENGINE_BYTES} engine, their cells are not even decoded.
      *
      * @see #getNameMapping()
      */
@@ -217,6 +222,13 @@ public abstract class CsvItemReaderWriterBase extends ItemReaderWriterBase {
      *      Optional, ParseDate('dd/MM/yyyy')
      * "
      * </pre>
+     * <p>
+     * Cell processors parsed from the same value are reused by all readers and writers in the same job execution,
+     * including those in the partitions of a partitioned step, unless any of them keeps state across cells
+     * ({@code Unique}, {@code UniqueHashCode}, {@code Equals} without a constant value, or a custom cell processor).
+     * {@code ParseLong}, {@code ParseInt}, {@code ParseDouble} and non-lenient {@code ParseDate} without locale,
+     * together with a preceding {@code Optional} or {@code NotNull}, are executed as a single processor, and simple
+     * numeric date patterns are parsed with {@code java.time}.
      *
      * @see <a href="http://supercsv.sourceforge.net/cell_processors.html">Super CSV docs</a>
      * @see #getCellProcessors()
@@ -233,8 +245,17 @@ public abstract class CsvItemReaderWriterBase extends ItemReaderWriterBase {
     @BatchProperty
     protected String charset;
 
+    @Inject
+    protected JobContext jobContext;
+
     protected CellProcessor[] cellProcessorInstances;
 
+    /**
+     * Whether the cell processors returned by {@link #getCellProcessors()} keep no state across cells, and so can be
+     * used by concurrent threads. It is only set by the default implementation of {@link #getCellProcessors()}.
+     */
+    boolean statelessCellProcessors;
+
     /**
      * Creates or obtains {@code org.supercsv.prefs.CsvPreference} according to the configuration in JSL document.
      *
@@ -293,9 +314,13 @@ public abstract class CsvItemReaderWriterBase extends ItemReaderWriterBase {
      */
     protected CellProcessor[] getCellProcessors() {
         if (this.cellProcessors == null) {
+            statelessCellProcessors = true;
             return CsvItemReaderWriterBase.noCellProcessors;
         }
-        return CellProcessorConfig.parseCellProcessors(this.cellProcessors.trim());
+        final CellProcessorConfig.ParsedCellProcessors parsed =
+                CellProcessorConfig.parseCellProcessors(jobContext, this.cellProcessors.trim());
+        statelessCellProcessors = parsed.stateless;
+        return parsed.processors;
     }
 
     /**
@@ -18,6 +18,7 @@ import java.io.OutputStreamWriter;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
@@ -38,6 +39,12 @@ import jakarta.inject.Named;
 /**
  * An implementation of {@code jakarta.batch.api.chunk.ItemWriter} that writes data to CSV file or resource.
  * This class is not designed to be thread-safe and its instance should not be shared between threads.
+ * <p>
+ * When writing to a local file, the checkpoint contains the size of the file after the last written chunk. When the
+ * job execution is restarted with the default {@code append} {@link #writeMode}, the file is truncated to that size,
+ * discarding any rows written after the last checkpoint, and writing continues from there. In {@code overwrite}
+ * mode, the restarted job execution rewrites the file from the beginning. See {@link #flushInterval},
+ * {@link #outputBufferSize} and {@link #forceOnCheckpoint} for when the output is written to the file.
  *
  * @see     CsvItemReaderWriterBase
  * @see     CsvItemReader
@@ -73,23 +80,53 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
 
     protected ICsvWriter delegateWriter;
 
+    /**
+     * The number of rows written by previous job executions, when restarting from an {@link OffsetCheckpoint}.
+     */
+    private int restartRowNumber;
+
+    /**
+     * The output stream {@link #delegateWriter} writes to, to which slices of items encoded in parallel are written.
+     */
+    private OutputStream output;
+
+    /**
+     * The number of rows written in slices encoded in parallel, which are not counted by {@link #delegateWriter}.
+     */
+    private final AtomicInteger encodedRowNumber = new AtomicInteger();
+
+    private final ParallelChunkEncoder.SliceEncoder sliceEncoder = new ParallelChunkEncoder.SliceEncoder() {
+        @Override
+        public void encode(final List<Object> items,
+                           final int from,
+                           final int to,
+                           final ParallelChunkEncoder.SliceBuffer buffer) throws Exception {
+            final ICsvWriter writer = newDelegateWriter(buffer);
+            write(writer, items.subList(from, to));
+            writer.flush();
+            encodedRowNumber.addAndGet(writer.getRowNumber());
+        }
+    };
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
-        SupportLogger.LOGGER.tracef("Open CsvItemWriter with checkpoint %s, which is ignored for CsvItemWriter.%n", checkpoint);
+        SupportLogger.LOGGER.tracef("Open CsvItemWriter with checkpoint %s%n", checkpoint);
         if (beanType == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, BEAN_TYPE_KEY);
         }
 
-        final OutputStream outputStream = getOutputStream(writeMode);
-        final OutputStreamWriter writer = charset == null ? new OutputStreamWriter(outputStream) :
-                new OutputStreamWriter(outputStream, charset);
-        if (java.util.List.class.isAssignableFrom(beanType)) {
-            delegateWriter = new CsvListWriter(writer, getCsvPreference());
-        } else if (java.util.Map.class.isAssignableFrom(beanType)) {
-            delegateWriter = new CsvMapWriter(writer, getCsvPreference());
+        //a row number checkpoint from earlier versions is ignored as before
+        final OffsetCheckpoint offsetCheckpoint = checkpoint instanceof OffsetCheckpoint && isAppendMode(writeMode) ?
+                (OffsetCheckpoint) checkpoint : null;
+        OutputStream outputStream;
+        if (offsetCheckpoint != null) {
+            outputStream = getOutputStreamForRestart(offsetCheckpoint.position);
+            restartRowNumber = offsetCheckpoint.rowNumber;
         } else {
-            delegateWriter = new CsvBeanWriter(writer, getCsvPreference());
+            outputStream = getOutputStream(writeMode);
         }
+        output = bufferOutput(outputStream);
+        delegateWriter = newDelegateWriter(output);
         if (header == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, HEADER_KEY);
         }
@@ -99,12 +136,16 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
         SupportLogger.LOGGER.openingResource(resource, this.getClass());
 
         this.cellProcessorInstances = getCellProcessors();
-        if (writeComments != null) {
+        if (writeComments != null && offsetCheckpoint == null) {
             delegateWriter.writeComment(writeComments);
         }
         if (!skipWritingHeader) {
             delegateWriter.writeHeader(header);
         }
+        //parallel encoding requires stateless cell processors, if any
+        if (statelessCellProcessors) {
+            openChunkEncoder(sliceEncoder);
+        }
     }
 
     @Override
@@ -114,6 +155,8 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
             delegateWriter.close();
             delegateWriter = null;
         }
+        output = null;
+        closeChunkOutput();
     }
 
     @Override
@@ -122,8 +165,52 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
             SupportLogger.LOGGER.tracef("About to write items, number of items %s, element type %s%n",
                     items.size(), items.get(0).getClass());
         }
-        if (delegateWriter instanceof ICsvBeanWriter) {
-            final ICsvBeanWriter writer = (ICsvBeanWriter) delegateWriter;
+        if (chunkEncoder != null && items.size() > 1) {
+            delegateWriter.flush();
+            chunkEncoder.encode(items, 0, output);
+        } else {
+            write(delegateWriter, items);
+        }
+        delegateWriter.flush();
+        if (chunkOutput != null) {
+            chunkOutput.endChunk();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns an {@link OffsetCheckpoint} when writing to a local file, otherwise the number of rows written as
+     * {@code Integer}.
+     */
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        if (chunkOutput != null) {
+            delegateWriter.flush();
+            return new OffsetCheckpoint(restartRowNumber + getRowNumber(), chunkOutput.checkpoint());
+        }
+        return getRowNumber();
+    }
+
+    private int getRowNumber() {
+        return delegateWriter.getRowNumber() + encodedRowNumber.get();
+    }
+
+    private ICsvWriter newDelegateWriter(final OutputStream outputStream) {
+        final OutputStreamWriter writer = charset == null ? new OutputStreamWriter(outputStream) :
+                new OutputStreamWriter(outputStream, charset);
+        if (java.util.List.class.isAssignableFrom(beanType)) {
+            return new CsvListWriter(writer, getCsvPreference());
+        } else if (java.util.Map.class.isAssignableFrom(beanType)) {
+            return new CsvMapWriter(writer, getCsvPreference());
+        } else {
+            return new CsvBeanWriter(writer, getCsvPreference());
+        }
+    }
+
+    private void write(final ICsvWriter csvWriter, final List<Object> items) throws Exception {
+        if (csvWriter instanceof ICsvBeanWriter) {
+            final ICsvBeanWriter writer = (ICsvBeanWriter) csvWriter;
             if (cellProcessorInstances.length == 0) {
                 for (final Object e : items) {
                     writer.write(e, nameMapping);
@@ -133,8 +220,8 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
                     writer.write(e, nameMapping, cellProcessorInstances);
                 }
             }
-        } else if (delegateWriter instanceof ICsvMapWriter) {
-            final ICsvMapWriter writer = (ICsvMapWriter) delegateWriter;
+        } else if (csvWriter instanceof ICsvMapWriter) {
+            final ICsvMapWriter writer = (ICsvMapWriter) csvWriter;
             if (cellProcessorInstances.length == 0) {
                 for (final Object e : items) {
                     writer.write((Map<String, ?>) e, nameMapping);
@@ -144,8 +231,8 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
                     writer.write((Map<String, ?>) e, nameMapping, cellProcessorInstances);
                 }
             }
-        } else if (delegateWriter instanceof ICsvListWriter) {
-            final ICsvListWriter writer = (ICsvListWriter) delegateWriter;
+        } else if (csvWriter instanceof ICsvListWriter) {
+            final ICsvListWriter writer = (ICsvListWriter) csvWriter;
             if (cellProcessorInstances.length == 0) {
                 for (final Object e : items) {
                     final List<?> asList = (List<?>) e;
@@ -162,11 +249,5 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
                 }
             }
         }
-        delegateWriter.flush();
-    }
-
-    @Override
-    public Serializable checkpointInfo() throws Exception {
-        return delegateWriter.getRowNumber();
     }
 }
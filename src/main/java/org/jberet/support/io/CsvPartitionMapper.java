@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.jberet.support.io.CsvProperties.QUOTE_CHAR_KEY;
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.jberet.support._private.SupportLogger;
+import org.jberet.support._private.SupportMessages;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.partition.PartitionMapper;
+import jakarta.batch.api.partition.PartitionPlan;
+import jakarta.batch.api.partition.PartitionPlanImpl;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.partition.PartitionMapper} that splits a local CSV file into byte
+ * ranges of about equal size, aligned on record boundaries, so that each partition of a {@link CsvItemReader} step
+ * parses only its own range of the file, and a single large file is parsed by multiple threads.
+ * <p>
+ * By default, record boundaries are found with a single sequential scan of the file bytes that tracks the quote
+ * state, so that line breaks inside quoted cells are never chosen as a boundary. The scan does not tokenize cells,
+ * and is much cheaper than parsing the file, but still reads the whole file. If {@link #quotedLineBreaks} is false,
+ * the scan instead seeks near each target offset and resyncs at the next line terminator, so that only a few
+ * kilobytes are read per partition, regardless of the file size. Only boundaries after a non-empty line are chosen,
+ * so that empty lines skipped by the reader are always read by the partition that follows them.
+ * <p>
+ * A quote inside a quoted cell is escaped by doubling it, as expected by {@link CsvItemReader}, which leaves the
+ * quote state unchanged. Files written with a different escape character, e.g., backslash, are supported with
+ * {@link #escapeChar}.
+ * <p>
+ * Each partition plan contains the following partition properties, to be referenced in the reader configuration
+ * in job xml:
+ * <ul>
+ * <li>partitionStart: the byte offset of the first record of the range, or empty for the first partition
+ * <li>partitionEnd: the byte offset right after the last record of the range, or empty for the last partition
+ * </ul>
+ * For example:
+ * <pre>
+ * &lt;chunk&gt;
+ *     &lt;reader ref="csvItemReader"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="resource" value="/data/IBM_unadjusted.txt"/&gt;
+ *             &lt;property name="partitionStart" value="#{partitionPlan['partitionStart']}"/&gt;
+ *             &lt;property name="partitionEnd" value="#{partitionPlan['partitionEnd']}"/&gt;
+ *             ...
+ *         &lt;/properties&gt;
+ *     &lt;/reader&gt;
+ *     ...
+ * &lt;/chunk&gt;
+ * &lt;partition&gt;
+ *     &lt;mapper ref="csvPartitionMapper"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="resource" value="/data/IBM_unadjusted.txt"/&gt;
+ *             &lt;property name="partitionCount" value="4"/&gt;
+ *         &lt;/properties&gt;
+ *     &lt;/mapper&gt;
+ * &lt;/partition&gt;
+ * </pre>
+ *
+ * @see CsvItemReader
+ * @since 2.1.3
+ */
+@Named
+@Dependent
+public class CsvPartitionMapper implements PartitionMapper {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The local CSV file to partition, as a file path or {@code file:} URL. It should be the same as the
+     * {@code resource} property of the reader. Required property. A compressed {@code .gz} file cannot be
+     * partitioned, since its records cannot be located by byte offset.
+     */
+    @Inject
+    @BatchProperty
+    protected String resource;
+
+    /**
+     * The quote character of the CSV file. Optional property, and defaults to double quote ("). It should be the
+     * same as the quote character used by the reader.
+     */
+    @Inject
+    @BatchProperty
+    protected String quoteChar;
+
+    /**
+     * The character that escapes a quote character inside a quoted cell, if it is not escaped by doubling it, e.g.,
+     * backslash. Optional property, and defaults to none. The character following it inside a quoted cell never
+     * changes the quote state.
+     */
+    @Inject
+    @BatchProperty
+    protected String escapeChar;
+
+    /**
+     * Whether quoted cells of the file may contain line breaks. Optional property, and defaults to true, in which
+     * case the whole file is scanned to track the quote state. If false, the mapper seeks near the target offset of
+     * each boundary and resyncs at the next line terminator, which is much faster for a large file, but splits a
+     * record whose quoted cell contains a line break near a target offset.
+     */
+    @Inject
+    @BatchProperty
+    protected Boolean quotedLineBreaks;
+
+    /**
+     * Number of partitions. Optional property, and defaults to the number of available processors. Fewer
+     * partitions are created if the file does not contain enough records.
+     */
+    @Inject
+    @BatchProperty
+    protected int partitionCount;
+
+    /**
+     * Number of threads to run partitions. Optional property, and defaults to the number of partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        final Path localFile = ItemReaderWriterBase.getLocalFile(resource);
+        if (localFile == null || ItemReaderWriterBase.isCompressed(resource, null)) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+        }
+        final char quote = quoteChar == null || quoteChar.isEmpty() ? '"' : quoteChar.charAt(0);
+        if (quote > 0x7F) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, quoteChar, QUOTE_CHAR_KEY);
+        }
+        final int escape = escapeChar == null || escapeChar.isEmpty() || escapeChar.charAt(0) == quote ?
+                -1 : escapeChar.charAt(0);
+        if (escape > 0x7F) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, escapeChar, "escapeChar");
+        }
+        if (partitionCount <= 0) {
+            partitionCount = Runtime.getRuntime().availableProcessors();
+        }
+
+        final List<Long> bounds;
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(localFile);
+            bounds = recordBoundaries(channel, partitionCount, (byte) quote, escape,
+                    quotedLineBreaks == null || quotedLineBreaks);
+        } catch (final IOException e) {
+            throw SupportMessages.MESSAGES.failToOpenStream(e, resource);
+        } finally {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+
+        return partitionPlan(bounds, threads);
+    }
+
+    /**
+     * Creates the partition plan for the byte ranges between boundaries, with {@code partitionStart} and
+     * {@code partitionEnd} partition properties.
+     *
+     * @param bounds  the boundaries in ascending order, excluding 0 and the file size
+     * @param threads the number of threads, or 0 to run all partitions concurrently
+     * @return the partition plan
+     */
+    static PartitionPlan partitionPlan(final List<Long> bounds, final int threads) {
+        final Properties[] partitionProperties = new Properties[bounds.size() + 1];
+        for (int i = 0; i < partitionProperties.length; ++i) {
+            final Properties p = new Properties();
+            p.setProperty("partitionStart", i == 0 ? "" : String.valueOf(bounds.get(i - 1)));
+            p.setProperty("partitionEnd", i == bounds.size() ? "" : String.valueOf(bounds.get(i)));
+            partitionProperties[i] = p;
+            SupportLogger.LOGGER.tracef("Partition %s of %s: %s", i, partitionProperties.length, p);
+        }
+
+        final PartitionPlanImpl plan = new PartitionPlanImpl();
+        plan.setPartitions(partitionProperties.length);
+        plan.setThreads(threads > 0 ? threads : partitionProperties.length);
+        plan.setPartitionProperties(partitionProperties);
+        return plan;
+    }
+
+    /**
+     * Finds the record boundaries between partitions of about equal byte size. Each boundary is the first offset
+     * at or after {@code size * i / partitionCount} that follows the line terminator of a non-empty line outside
+     * quotes.
+     *
+     * @param channel          the file channel to scan
+     * @param partitionCount   the number of partitions
+     * @param quote            the quote character as a single byte
+     * @param escape           the escape character as a single byte, or -1 if quotes are escaped by doubling them
+     * @param quotedLineBreaks whether to scan the whole file to track the quote state, instead of seeking near each
+     *                         target offset
+     * @return the boundaries in ascending order, excluding 0 and the file size
+     * @throws IOException if failed to read the file
+     */
+    static List<Long> recordBoundaries(final FileChannel channel, final int partitionCount, final byte quote,
+                                       final int escape, final boolean quotedLineBreaks) throws IOException {
+        final List<Long> bounds = new ArrayList<Long>();
+        final long size = channel.size();
+        final BoundaryScanner scanner = new BoundaryScanner(channel, size, quote, escape);
+        long bound = 0;
+        for (int next = 1; next < partitionCount; ++next) {
+            final long target = size * next / partitionCount;
+            if (target <= bound) {
+                continue;
+            }
+            if (!quotedLineBreaks) {
+                //resyncs from the byte before the target, in case the target is at the beginning of a line
+                scanner.seek(Math.max(target - 1, bound));
+            }
+            bound = scanner.next(target);
+            if (bound < 0) {
+                break;
+            }
+            bounds.add(bound);
+        }
+        return bounds;
+    }
+
+    /**
+     * Scans the bytes of a file for the ends of non-empty lines outside quotes, reading the file in a buffer with
+     * positional reads.
+     */
+    private static final class BoundaryScanner {
+        private final FileChannel channel;
+        private final long size;
+        private final byte quote;
+        private final int escape;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        /**
+         * The file offset of the first byte in {@link #buffer}.
+         */
+        private long offset;
+
+        private boolean quoted;
+        private boolean escaped;
+        private boolean content;
+        private boolean cr;
+
+        /**
+         * Whether the scan is within the line at which it started after {@link #seek(long)}, whose beginning and
+         * quote state are unknown.
+         */
+        private boolean resync;
+
+        BoundaryScanner(final FileChannel channel, final long size, final byte quote, final int escape) {
+            this.channel = channel;
+            this.size = size;
+            this.quote = quote;
+            this.escape = escape;
+            buffer.limit(0);
+        }
+
+        /**
+         * Continues the scan from a file offset, assuming that it is outside quotes.
+         *
+         * @param position the file offset
+         */
+        void seek(final long position) {
+            offset = position;
+            buffer.limit(0);
+            quoted = false;
+            escaped = false;
+            content = false;
+            cr = false;
+            resync = position > 0;
+        }
+
+        /**
+         * Scans for the first end of a non-empty line outside quotes at or after the target offset.
+         *
+         * @param target the target offset
+         * @return the offset right after the line terminator, or -1 if there is none before the end of the file
+         * @throws IOException if failed to read the file
+         */
+        long next(final long target) throws IOException {
+            while (true) {
+                if (!buffer.hasRemaining()) {
+                    offset += buffer.limit();
+                    buffer.clear();
+                    final int count = channel.read(buffer, offset);
+                    buffer.flip();
+                    if (count <= 0) {
+                        return -1;
+                    }
+                }
+                final long pos = offset + buffer.position();
+                final byte b = buffer.get();
+                boolean lineContent = content;
+                long lineEnd = -1;
+                if (cr) {
+                    cr = false;
+                    if (b != '\n') {
+                        //after a line terminated by a single '\r'
+                        lineEnd = pos;
+                        content = false;
+                    }
+                }
+                if (resync) {
+                    if (lineEnd < 0) {
+                        if (b == '\n') {
+                            resync = false;
+                        } else if (b == '\r') {
+                            cr = true;
+                        }
+                        continue;
+                    }
+                    resync = false;
+                    lineContent = false;
+                }
+
+                if (escaped) {
+                    escaped = false;
+                } else if (quoted && b == escape) {
+                    escaped = true;
+                } else if (b == quote) {
+                    quoted = !quoted;
+                    content = true;
+                } else if (!quoted) {
+                    if (b == '\n') {
+                        lineEnd = pos + 1;
+                        content = false;
+                    } else if (b == '\r') {
+                        cr = true;
+                    } else {
+                        content = true;
+                    }
+                }
+
+                if (lineEnd >= target && lineEnd < size && lineContent) {
+                    return lineEnd;
+                }
+            }
+        }
+    }
+}
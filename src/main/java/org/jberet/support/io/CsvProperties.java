@@ -104,6 +104,32 @@ public final class CsvProperties {
      */
     public static final String FAIL_IF_DIRS_NOT_EXIST = "failIfDirsNotExist";
 
+    /**
+     * The property key to specify the compression of the reader or writer resource. Valid values are:
+     * <ul>
+     *  <li>{@value org.jberet.support.io.CsvProperties#GZIP},
+     *  <li>{@value org.jberet.support.io.CsvProperties#NONE}
+     * </ul>
+     * If not specified, a resource whose name ends with {@code .gz} is compressed with gzip.
+     *
+     * @since 2.1.3
+     */
+    public static final String COMPRESSION_KEY = "compression";
+
+    /**
+     * The property value to specify gzip compression of the reader or writer resource.
+     *
+     * @since 2.1.3
+     */
+    public static final String GZIP = "gzip";
+
+    /**
+     * The property value to specify that the reader or writer resource is not compressed.
+     *
+     * @since 2.1.3
+     */
+    public static final String NONE = "none";
+
     /**
      * The quote character (used when a cell contains special characters, such as the delimiter char, a quote char,
      * or spans multiple lines). See <a href="http://supercsv.sourceforge.net/preferences.html">CSV Preferences</a>.
@@ -114,7 +114,7 @@ public class ExcelUserModelItemReader extends ExcelItemReaderWriterBase implemen
             throw SupportMessages.MESSAGES.invalidStartPosition(startRowNumber, this.start, this.end);
         }
 
-        inputStream = getInputStream(resource, false);
+        inputStream = getInputStream(resource, false, compression);
         initWorkbookAndSheet(startRowNumber);
 
         if (header != null) {
@@ -12,17 +12,15 @@ package org.jberet.support.io;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.exception.SuperCsvReflectionException;
 import org.supercsv.io.AbstractCsvReader;
+import org.supercsv.io.ITokenizer;
 import org.supercsv.io.ICsvBeanReader;
 import org.supercsv.prefs.CsvPreference;
-import org.supercsv.util.BeanInterfaceProxy;
-import org.supercsv.util.MethodCache;
 
 /**
  * Copied and modified from supercsv CsvBeanReader to support fast forward.
@@ -43,11 +41,16 @@ final class FastForwardCsvBeanReader extends AbstractCsvReader implements ICsvBe
     // temporary storage of processed columns to be mapped to the bean
     private final List<Object> processedColumns = new ArrayList<Object>();
 
-    // cache of methods for mapping from columns to fields
-    private final MethodCache cache = new MethodCache();
+    // setters for mapping from columns to fields, compiled for the bean class and name mapping of the first row
+    private CsvBeanPopulator populator;
 
     private final int startRowNumber;
 
+    /**
+     * The number of rows before the position of the underlying reader, which are not counted by super class.
+     */
+    private final int skippedRows;
+
     /**
      * Constructs a new <tt>CsvBeanReader</tt> with the supplied Reader and CSV preferences. Note that the
      * <tt>reader</tt> will be wrapped in a <tt>BufferedReader</tt> before accessed.
@@ -55,87 +58,50 @@ final class FastForwardCsvBeanReader extends AbstractCsvReader implements ICsvBe
      * @param reader      the reader
      * @param preferences the CSV preferences
      * @param startRowNumber the row number to start reading
+     * @param skippedRows the number of rows before the current position of {@code reader}, e.g., after
+     *                    seeking to a checkpoint
      * @throws NullPointerException if reader or preferences are null
      */
-    FastForwardCsvBeanReader(final Reader reader, final CsvPreference preferences, final int startRowNumber) {
+    FastForwardCsvBeanReader(final Reader reader, final CsvPreference preferences, final int startRowNumber,
+            final int skippedRows) {
         super(reader, preferences);
         this.startRowNumber = startRowNumber;
+        this.skippedRows = skippedRows;
     }
 
     /**
-     * Instantiates the bean (or creates a proxy if it's an interface).
-     *
-     * @param clazz the bean class to instantiate (a proxy will be created if an interface is supplied), using the default
-     *              (no argument) constructor
-     * @return the instantiated bean
-     * @throws org.supercsv.exception.SuperCsvReflectionException if there was a reflection exception when instantiating the bean
-     */
-    private static <T> T instantiateBean(final Class<T> clazz) {
-        final T bean;
-        if (clazz.isInterface()) {
-            bean = BeanInterfaceProxy.createProxy(clazz);
-        } else {
-            try {
-                bean = clazz.getDeclaredConstructor().newInstance();
-            } catch (InstantiationException e) {
-                throw new SuperCsvReflectionException(String.format(
-                        "error instantiating bean, check that %s has a default no-args constructor", clazz.getName()), e);
-            } catch (Exception e) {
-                throw new SuperCsvReflectionException("error instantiating bean", e);
-            }
-        }
-
-        return bean;
-    }
-
-    /**
-     * Invokes the setter on the bean with the supplied value.
+     * Constructs a new reader with the supplied tokenizer and CSV preferences.
      *
-     * @param bean       the bean
-     * @param setMethod  the setter method for the field
-     * @param fieldValue the field value to set
-     * @throws org.supercsv.exception.SuperCsvException if there was an exception invoking the setter
+     * @param tokenizer      the tokenizer, e.g., {@link ByteCsvTokenizer}
+     * @param preferences    the CSV preferences
+     * @param startRowNumber the row number to start reading
+     * @param skippedRows    the number of rows before the current position of {@code tokenizer}, e.g., after
+     *                       seeking to a checkpoint
+     * @throws NullPointerException if tokenizer or preferences are null
      */
-    private static void invokeSetter(final Object bean, final Method setMethod, final Object fieldValue) {
-        try {
-            setMethod.invoke(bean, fieldValue);
-        } catch (final Exception e) {
-            throw new SuperCsvReflectionException(String.format("error invoking method %s()", setMethod.getName()), e);
-        }
+    FastForwardCsvBeanReader(final ITokenizer tokenizer, final CsvPreference preferences, final int startRowNumber,
+            final int skippedRows) {
+        super(tokenizer, preferences);
+        this.startRowNumber = startRowNumber;
+        this.skippedRows = skippedRows;
     }
 
     /**
-     * Instantiates the bean (or creates a proxy if it's an interface), and maps the processed columns to the fields of
+     * Instantiates the bean (or creates a proxy if it's an interface), and maps the column values to the fields of
      * the bean.
      *
      * @param clazz       the bean class to instantiate (a proxy will be created if an interface is supplied), using the default
      *                    (no argument) constructor
      * @param nameMapping the name mappings
+     * @param values      the column values to map
      * @return the populated bean
      * @throws SuperCsvReflectionException if there was a reflection exception while populating the bean
      */
-    private <T> T populateBean(final Class<T> clazz, final String[] nameMapping) {
-
-        // instantiate the bean or proxy
-        final T resultBean = instantiateBean(clazz);
-
-        // map each column to its associated field on the bean
-        for (int i = 0; i < nameMapping.length; i++) {
-
-            final Object fieldValue = processedColumns.get(i);
-
-            // don't call a set-method in the bean if there is no name mapping for the column or no result to store
-            if (nameMapping[i] == null || fieldValue == null) {
-                continue;
-            }
-
-            // invoke the setter on the bean
-            Method setMethod = cache.getSetMethod(resultBean, nameMapping[i], fieldValue.getClass());
-            invokeSetter(resultBean, setMethod, fieldValue);
-
+    private <T> T populateBean(final Class<T> clazz, final String[] nameMapping, final List<?> values) {
+        if (populator == null || !populator.matches(clazz, nameMapping)) {
+            populator = CsvBeanPopulator.compile(clazz, nameMapping);
         }
-
-        return resultBean;
+        return clazz.cast(populator.populate(values));
     }
 
     /**
@@ -148,9 +114,7 @@ final class FastForwardCsvBeanReader extends AbstractCsvReader implements ICsvBe
                 throw new IllegalArgumentException(String.format("the nameMapping array and the number of columns read "
                         + "should be the same size (nameMapping length = %d, columns = %d)", nameMapping.length, length()));
             }
-            processedColumns.clear();
-            processedColumns.addAll(getColumns());
-            return populateBean(clazz, nameMapping);
+            return populateBean(clazz, nameMapping, getColumns());
         }
 
         return null; // EOF
@@ -165,7 +129,7 @@ final class FastForwardCsvBeanReader extends AbstractCsvReader implements ICsvBe
         if (readRow()) {
             // execute the processors then populate the bean
             executeProcessors(processedColumns, processors);
-            return populateBean(clazz, nameMapping);
+            return populateBean(clazz, nameMapping, processedColumns);
         }
 
         return null; // EOF
@@ -183,6 +147,16 @@ final class FastForwardCsvBeanReader extends AbstractCsvReader implements ICsvBe
     }
 
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned row number also counts rows skipped before the current position of the underlying reader.
+     */
+    @Override
+    public int getRowNumber() {
+        return super.getRowNumber() + skippedRows;
+    }
+
     private void fastForwardToStartRow() throws IOException {
         while (getRowNumber() < this.startRowNumber) {
             readRow();
@@ -7,6 +7,7 @@ import java.util.List;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.io.AbstractCsvReader;
+import org.supercsv.io.ITokenizer;
 import org.supercsv.io.ICsvListReader;
 import org.supercsv.prefs.CsvPreference;
 
@@ -24,6 +25,11 @@ import org.supercsv.prefs.CsvPreference;
 final class FastForwardCsvListReader extends AbstractCsvReader implements ICsvListReader {
     private final int startRowNumber;
 
+    /**
+     * The number of rows before the position of the underlying reader, which are not counted by super class.
+     */
+    private final int skippedRows;
+
     /**
 	 * Constructs a new <tt>CsvListReader</tt> with the supplied Reader and CSV preferences. Note that the
 	 * <tt>reader</tt> will be wrapped in a <tt>BufferedReader</tt> before accessed.
@@ -33,13 +39,34 @@ final class FastForwardCsvListReader extends AbstractCsvReader implements ICsvLi
 	 * @param preferences
 	 *            the CSV preferences
      * @param startRowNumber the row number to start reading
+     * @param skippedRows the number of rows before the current position of {@code reader}, e.g., after
+     *                    seeking to a checkpoint
 	 * @throws NullPointerException
 	 *             if reader or preferences are null
 	 */
-	public FastForwardCsvListReader(final Reader reader, final CsvPreference preferences, final int startRowNumber) {
+	public FastForwardCsvListReader(final Reader reader, final CsvPreference preferences, final int startRowNumber,
+            final int skippedRows) {
 		super(reader, preferences);
         this.startRowNumber = startRowNumber;
+        this.skippedRows = skippedRows;
 	}
+
+    /**
+     * Constructs a new reader with the supplied tokenizer and CSV preferences.
+     *
+     * @param tokenizer      the tokenizer, e.g., {@link ByteCsvTokenizer}
+     * @param preferences    the CSV preferences
+     * @param startRowNumber the row number to start reading
+     * @param skippedRows    the number of rows before the current position of {@code tokenizer}, e.g., after
+     *                       seeking to a checkpoint
+     * @throws NullPointerException if tokenizer or preferences are null
+     */
+    public FastForwardCsvListReader(final ITokenizer tokenizer, final CsvPreference preferences, final int startRowNumber,
+            final int skippedRows) {
+        super(tokenizer, preferences);
+        this.startRowNumber = startRowNumber;
+        this.skippedRows = skippedRows;
+    }
 	
 	/**
 	 * {@inheritDoc}
@@ -76,6 +103,16 @@ final class FastForwardCsvListReader extends AbstractCsvReader implements ICsvLi
 		return super.executeProcessors(new ArrayList<Object>(getColumns().size()), processors);
 	}
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned row number also counts rows skipped before the current position of the underlying reader.
+     */
+    @Override
+    public int getRowNumber() {
+        return super.getRowNumber() + skippedRows;
+    }
+
     private void fastForwardToStartRow() throws IOException {
         while (getRowNumber() < this.startRowNumber) {
             readRow();
@@ -9,6 +9,7 @@ import java.util.Map;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.io.AbstractCsvReader;
+import org.supercsv.io.ITokenizer;
 import org.supercsv.io.ICsvMapReader;
 import org.supercsv.prefs.CsvPreference;
 import org.supercsv.util.Util;
@@ -28,6 +29,26 @@ import org.supercsv.util.Util;
 final class FastForwardCsvMapReader extends AbstractCsvReader implements ICsvMapReader {
     private final int startRowNumber;
 
+    /**
+     * The number of rows before the position of the underlying reader, which are not counted by super class.
+     */
+    private final int skippedRows;
+
+    /**
+     * The list to hold processed column values of the current row, reused for every row.
+     */
+    private final List<Object> processedColumns = new ArrayList<Object>();
+
+    /**
+     * The name mapping for which {@link #mappedCount} was last counted.
+     */
+    private String[] countedMapping;
+
+    /**
+     * The number of non-null entries in {@link #countedMapping}, i.e., the number of entries in each read map.
+     */
+    private int mappedCount;
+
     /**
 	 * Constructs a new <tt>CsvMapReader</tt> with the supplied Reader and CSV preferences. Note that the
 	 * <tt>reader</tt> will be wrapped in a <tt>BufferedReader</tt> before accessed.
@@ -37,12 +58,33 @@ final class FastForwardCsvMapReader extends AbstractCsvReader implements ICsvMap
 	 * @param preferences
 	 *            the CSV preferences
      * @param startRowNumber the row number to start reading
+     * @param skippedRows the number of rows before the current position of {@code reader}, e.g., after
+     *                    seeking to a checkpoint
      * @throws NullPointerException
 	 *             if reader or preferences are null
 	 */
-	public FastForwardCsvMapReader(final Reader reader, final CsvPreference preferences, final int startRowNumber) {
+	public FastForwardCsvMapReader(final Reader reader, final CsvPreference preferences, final int startRowNumber,
+            final int skippedRows) {
 		super(reader, preferences);
         this.startRowNumber = startRowNumber;
+        this.skippedRows = skippedRows;
+    }
+
+    /**
+     * Constructs a new reader with the supplied tokenizer and CSV preferences.
+     *
+     * @param tokenizer      the tokenizer, e.g., {@link ByteCsvTokenizer}
+     * @param preferences    the CSV preferences
+     * @param startRowNumber the row number to start reading
+     * @param skippedRows    the number of rows before the current position of {@code tokenizer}, e.g., after
+     *                       seeking to a checkpoint
+     * @throws NullPointerException if tokenizer or preferences are null
+     */
+    public FastForwardCsvMapReader(final ITokenizer tokenizer, final CsvPreference preferences, final int startRowNumber,
+            final int skippedRows) {
+        super(tokenizer, preferences);
+        this.startRowNumber = startRowNumber;
+        this.skippedRows = skippedRows;
     }
 	
 	/**
@@ -55,7 +97,7 @@ final class FastForwardCsvMapReader extends AbstractCsvReader implements ICsvMap
         }
 
         if (readRow()) {
-            final Map<String, String> destination = new HashMap<String, String>();
+            final Map<String, String> destination = new HashMap<String, String>(capacityFor(nameMapping));
             Util.filterListToMap(destination, nameMapping, getColumns());
             return destination;
         }
@@ -76,11 +118,10 @@ final class FastForwardCsvMapReader extends AbstractCsvReader implements ICsvMap
 
         if (readRow()) {
             // process the columns
-            final List<Object> processedColumns = executeProcessors(new ArrayList<Object>(getColumns().size()),
-                    processors);
+            executeProcessors(processedColumns, processors);
 
-            // convert the List to a Map
-            final Map<String, Object> destination = new HashMap<String, Object>(processedColumns.size());
+            // convert the List to a Map, sized for the mapped columns only
+            final Map<String, Object> destination = new HashMap<String, Object>(capacityFor(nameMapping));
             Util.filterListToMap((Map<String, Object>) destination, nameMapping, (List<Object>) processedColumns);
             return destination;
         }
@@ -88,6 +129,37 @@ final class FastForwardCsvMapReader extends AbstractCsvReader implements ICsvMap
         return null; // EOF
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned row number also counts rows skipped before the current position of the underlying reader.
+     */
+    @Override
+    public int getRowNumber() {
+        return super.getRowNumber() + skippedRows;
+    }
+
+    /**
+     * Gets the initial capacity of a map to hold the values of all columns mapped to a non-null key, so that
+     * columns mapped to null do not add to the size of each map.
+     *
+     * @param nameMapping the name mapping
+     * @return the initial capacity of the map
+     */
+    private int capacityFor(final String[] nameMapping) {
+        if (nameMapping != countedMapping) {
+            int count = 0;
+            for (final String name : nameMapping) {
+                if (name != null) {
+                    count++;
+                }
+            }
+            mappedCount = count;
+            countedMapping = nameMapping;
+        }
+        return (int) (mappedCount / 0.75f) + 1;
+    }
+
     private void fastForwardToStartRow() throws IOException {
         while (getRowNumber() < this.startRowNumber) {
             readRow();
@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.supercsv.cellprocessor.CellProcessorAdaptor;
+import org.supercsv.cellprocessor.ift.BoolCellProcessor;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.DateCellProcessor;
+import org.supercsv.cellprocessor.ift.DoubleCellProcessor;
+import org.supercsv.cellprocessor.ift.LongCellProcessor;
+import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.exception.SuperCsvConstraintViolationException;
+import org.supercsv.util.CsvContext;
+
+/**
+ * Cell processors used by {@link CellProcessorConfig} in place of the Super CSV {@code ParseLong}, {@code ParseInt},
+ * {@code ParseDouble} and {@code ParseDate}, optionally fused with a preceding {@code Optional} or {@code NotNull},
+ * so that a chain like {@code Optional, ParseLong} executes as a single processor. They produce the same values and
+ * exceptions as the Super CSV processors they replace, and are immutable, so they can be shared by concurrent
+ * readers and writers.
+ * <p>
+ * {@link ParseDate} parses simple numeric date patterns, such as {@code MM/dd/yyyy} or {@code yyyyMMdd HH:mm:ss},
+ * with a {@code java.time.format.DateTimeFormatter} compiled once, instead of creating a
+ * {@code java.text.SimpleDateFormat} for every cell, and remembers recently parsed date strings. Any other pattern,
+ * and any value not parsed by the compiled formatter, is handled by the Super CSV {@code ParseDate}.
+ *
+ * @see CellProcessorConfig
+ * @since 2.1.3
+ */
+final class FusedCellProcessors {
+    private FusedCellProcessors() {
+    }
+
+    /**
+     * How a fused processor handles null input.
+     */
+    enum NullHandling {
+        /**
+         * Rejects null input, as the Super CSV parse processors do.
+         */
+        REJECT,
+
+        /**
+         * Rejects null input with a constraint violation, as {@code NotNull} does.
+         */
+        NOT_NULL,
+
+        /**
+         * Returns null for null input, as {@code Optional} does.
+         */
+        OPTIONAL
+    }
+
+    /**
+     * Base class of fused processors. It implements all the cell processor marker interfaces implemented by
+     * {@code Optional} and {@code NotNull}, so that it can be chained after any processor that accepts them.
+     */
+    abstract static class FusedParser extends CellProcessorAdaptor
+            implements BoolCellProcessor, DateCellProcessor, DoubleCellProcessor, LongCellProcessor, StringCellProcessor {
+        final NullHandling nullHandling;
+
+        /**
+         * The next processor in the chain, or null if this is the last processor. It is used instead of the
+         * inherited {@code next} field to save a call to a no-op processor at the end of a chain.
+         */
+        final CellProcessor nextProcessor;
+
+        FusedParser(final NullHandling nullHandling, final CellProcessor next) {
+            super();
+            this.nullHandling = nullHandling;
+            this.nextProcessor = next;
+        }
+
+        /**
+         * Creates a copy of this processor with a different null handling.
+         *
+         * @param handling the null handling of the new processor
+         * @return the new processor
+         */
+        abstract FusedParser withNullHandling(NullHandling handling);
+
+        /**
+         * Parses a non-null input value.
+         *
+         * @param value   the input value
+         * @param context the CSV context
+         * @return the parsed value
+         */
+        abstract Object parse(Object value, CsvContext context);
+
+        @Override
+        public Object execute(final Object value, final CsvContext context) {
+            if (value == null) {
+                if (nullHandling == NullHandling.OPTIONAL) {
+                    return null;
+                }
+                if (nullHandling == NullHandling.NOT_NULL) {
+                    throw new SuperCsvConstraintViolationException("null value encountered", context, this);
+                }
+                validateInputNotNull(value, context);
+            }
+            final Object result = parse(value, context);
+            return nextProcessor == null ? result : nextProcessor.execute(result, context);
+        }
+    }
+
+    static final class ParseLong extends FusedParser {
+        ParseLong(final NullHandling nullHandling, final CellProcessor next) {
+            super(nullHandling, next);
+        }
+
+        @Override
+        FusedParser withNullHandling(final NullHandling handling) {
+            return new ParseLong(handling, nextProcessor);
+        }
+
+        @Override
+        Object parse(final Object value, final CsvContext context) {
+            if (value instanceof Long) {
+                return value;
+            }
+            if (value instanceof String) {
+                try {
+                    return Long.valueOf((String) value);
+                } catch (final NumberFormatException e) {
+                    throw new SuperCsvCellProcessorException(
+                            String.format("'%s' could not be parsed as an Long", value), context, this, e);
+                }
+            }
+            throw new SuperCsvCellProcessorException(String.format(
+                    "the input value should be of type Long or String but is of type %s", value.getClass().getName()),
+                    context, this);
+        }
+    }
+
+    static final class ParseInt extends FusedParser {
+        ParseInt(final NullHandling nullHandling, final CellProcessor next) {
+            super(nullHandling, next);
+        }
+
+        @Override
+        FusedParser withNullHandling(final NullHandling handling) {
+            return new ParseInt(handling, nextProcessor);
+        }
+
+        @Override
+        Object parse(final Object value, final CsvContext context) {
+            if (value instanceof Integer) {
+                return value;
+            }
+            if (value instanceof String) {
+                try {
+                    return Integer.valueOf((String) value);
+                } catch (final NumberFormatException e) {
+                    throw new SuperCsvCellProcessorException(
+                            String.format("'%s' could not be parsed as an Integer", value), context, this, e);
+                }
+            }
+            throw new SuperCsvCellProcessorException(String.format(
+                    "the input value should be of type Integer or String but is of type %s", value.getClass().getName()),
+                    context, this);
+        }
+    }
+
+    static final class ParseDouble extends FusedParser {
+        ParseDouble(final NullHandling nullHandling, final CellProcessor next) {
+            super(nullHandling, next);
+        }
+
+        @Override
+        FusedParser withNullHandling(final NullHandling handling) {
+            return new ParseDouble(handling, nextProcessor);
+        }
+
+        @Override
+        Object parse(final Object value, final CsvContext context) {
+            if (value instanceof Double) {
+                return value;
+            }
+            if (value instanceof String) {
+                try {
+                    return Double.valueOf((String) value);
+                } catch (final NumberFormatException e) {
+                    throw new SuperCsvCellProcessorException(
+                            String.format("'%s' could not be parsed as a Double", value), context, this, e);
+                }
+            }
+            throw new SuperCsvCellProcessorException(String.format(
+                    "the input value should be of type Double or String but is of type %s", value.getClass().getName()),
+                    context, this);
+        }
+    }
+
+    /**
+     * Parses date strings with a {@code DateTimeFormatter} compiled from a non-lenient {@code SimpleDateFormat}
+     * pattern, resolving the parsed date and time in the default time zone. The most recently parsed date strings
+     * are kept in a small direct-mapped memo, since date columns typically repeat the same values over many rows.
+     * <p>
+     * The compiled formatter is only used for values it can parse into a valid date and time that
+     * {@code SimpleDateFormat} would produce the same way: any other value, including dates before the Gregorian
+     * cutover and local times in a time zone transition, is passed to the Super CSV {@code ParseDate}, which
+     * produces the result or the exception.
+     */
+    static final class ParseDate extends FusedParser {
+        private static final int MEMO_SIZE = 256;
+        private static final long NOT_PARSED = Long.MIN_VALUE;
+        private static final int MIN_GREGORIAN_YEAR = 1583;
+
+        private final DateTimeFormatter formatter;
+        private final org.supercsv.cellprocessor.ParseDate fallback;
+        private final DateEntry[] memo = new DateEntry[MEMO_SIZE];
+
+        private ParseDate(final NullHandling nullHandling,
+                          final CellProcessor next,
+                          final DateTimeFormatter formatter,
+                          final org.supercsv.cellprocessor.ParseDate fallback) {
+            super(nullHandling, next);
+            this.formatter = formatter;
+            this.fallback = fallback;
+        }
+
+        /**
+         * Creates a fused {@code ParseDate} processor, if the date format can be compiled.
+         *
+         * @param dateFormat the {@code SimpleDateFormat} pattern
+         * @param next       the next processor in the chain, or null
+         * @return the fused processor, or null if the date format is not supported
+         */
+        static ParseDate of(final String dateFormat, final CellProcessor next) {
+            final DateTimeFormatter formatter = compile(dateFormat);
+            return formatter == null ? null :
+                    new ParseDate(NullHandling.REJECT, next, formatter, new org.supercsv.cellprocessor.ParseDate(dateFormat));
+        }
+
+        @Override
+        FusedParser withNullHandling(final NullHandling handling) {
+            return new ParseDate(handling, nextProcessor, formatter, fallback);
+        }
+
+        @Override
+        Object parse(final Object value, final CsvContext context) {
+            if (value instanceof String) {
+                final String text = (String) value;
+                final int slot = text.hashCode() & (MEMO_SIZE - 1);
+                final DateEntry entry = memo[slot];
+                if (entry != null && entry.text.equals(text)) {
+                    return new Date(entry.time);
+                }
+                final long time = parseTime(text);
+                if (time != NOT_PARSED) {
+                    memo[slot] = new DateEntry(text, time);
+                    return new Date(time);
+                }
+            }
+            return fallback.execute(value, context);
+        }
+
+        private long parseTime(final String text) {
+            final ParsePosition position = new ParsePosition(0);
+            final TemporalAccessor parsed = formatter.parseUnresolved(text, position);
+            if (parsed == null || position.getErrorIndex() >= 0) {
+                return NOT_PARSED;
+            }
+            try {
+                final int year = get(parsed, ChronoField.YEAR, 1970);
+                if (year < MIN_GREGORIAN_YEAR) {
+                    return NOT_PARSED;
+                }
+                final LocalDateTime dateTime = LocalDateTime.of(year,
+                        get(parsed, ChronoField.MONTH_OF_YEAR, 1),
+                        get(parsed, ChronoField.DAY_OF_MONTH, 1),
+                        get(parsed, ChronoField.HOUR_OF_DAY, 0),
+                        get(parsed, ChronoField.MINUTE_OF_HOUR, 0),
+                        get(parsed, ChronoField.SECOND_OF_MINUTE, 0),
+                        get(parsed, ChronoField.MILLI_OF_SECOND, 0) * 1000000);
+                final List<ZoneOffset> offsets = ZoneId.systemDefault().getRules().getValidOffsets(dateTime);
+                if (offsets.size() != 1) {
+                    return NOT_PARSED;
+                }
+                return dateTime.toInstant(offsets.get(0)).toEpochMilli();
+            } catch (final DateTimeException | ArithmeticException e) {
+                return NOT_PARSED;
+            }
+        }
+
+        private static int get(final TemporalAccessor parsed, final ChronoField field, final int defaultValue) {
+            return parsed.isSupported(field) ? Math.toIntExact(parsed.getLong(field)) : defaultValue;
+        }
+
+        /**
+         * Compiles a {@code SimpleDateFormat} pattern into a {@code DateTimeFormatter} that parses the same way,
+         * if the pattern only consists of numeric year (at least 3 letters), month (at most 2 letters), day, hour
+         * (0-23), minute, second and millisecond fields, each appearing once, and unquoted non-letter literals.
+         * <p>
+         * A field adjacent to another field is parsed with the fixed width of its pattern letters, and any other
+         * field with a variable width, as {@code SimpleDateFormat} does.
+         *
+         * @param pattern the {@code SimpleDateFormat} pattern
+         * @return the compiled formatter, or null if the pattern is not supported
+         */
+        static DateTimeFormatter compile(final String pattern) {
+            final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+            final Set<ChronoField> fields = EnumSet.noneOf(ChronoField.class);
+            final int length = pattern.length();
+            int i = 0;
+            while (i < length) {
+                final char c = pattern.charAt(i);
+                int end = i + 1;
+                if (isPatternLetter(c)) {
+                    while (end < length && pattern.charAt(end) == c) {
+                        end++;
+                    }
+                    final ChronoField field = fieldOf(c, end - i);
+                    if (field == null || !fields.add(field)) {
+                        return null;
+                    }
+                    if ((i > 0 && isPatternLetter(pattern.charAt(i - 1))) ||
+                            (end < length && isPatternLetter(pattern.charAt(end)))) {
+                        builder.appendValue(field, end - i);
+                    } else {
+                        builder.appendValue(field, 1, 10, SignStyle.NOT_NEGATIVE);
+                    }
+                } else if (c == '\'') {
+                    return null;
+                } else {
+                    builder.appendLiteral(c);
+                }
+                i = end;
+            }
+            return fields.isEmpty() ? null : builder.toFormatter();
+        }
+
+        private static boolean isPatternLetter(final char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+
+        private static ChronoField fieldOf(final char letter, final int count) {
+            switch (letter) {
+                case 'y':
+                    // 'y' and 'yy' parse 2-digit years relative to the current century
+                    return count >= 3 ? ChronoField.YEAR : null;
+                case 'M':
+                    // 'MMM' and longer are month names
+                    return count <= 2 ? ChronoField.MONTH_OF_YEAR : null;
+                case 'd':
+                    return ChronoField.DAY_OF_MONTH;
+                case 'H':
+                    return ChronoField.HOUR_OF_DAY;
+                case 'm':
+                    return ChronoField.MINUTE_OF_HOUR;
+                case 's':
+                    return ChronoField.SECOND_OF_MINUTE;
+                case 'S':
+                    return ChronoField.MILLI_OF_SECOND;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * An immutable memo entry, safely published to other threads through its final fields.
+     */
+    private static final class DateEntry {
+        final String text;
+        final long time;
+
+        DateEntry(final String text, final long time) {
+            this.text = text;
+            this.time = time;
+        }
+    }
+}
@@ -11,8 +11,11 @@
 package org.jberet.support.io;
 
 import static org.jberet.support.io.CsvProperties.APPEND;
+import static org.jberet.support.io.CsvProperties.COMPRESSION_KEY;
 import static org.jberet.support.io.CsvProperties.FAIL_IF_DIRS_NOT_EXIST;
 import static org.jberet.support.io.CsvProperties.FAIL_IF_EXISTS;
+import static org.jberet.support.io.CsvProperties.GZIP;
+import static org.jberet.support.io.CsvProperties.NONE;
 import static org.jberet.support.io.CsvProperties.OVERWRITE;
 import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
 import static org.jberet.support.io.CsvProperties.WRITE_MODE_KEY;
@@ -25,7 +28,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Set;
 
 import javax.naming.InitialContext;
@@ -68,8 +74,107 @@ public abstract class ItemReaderWriterBase {
     @BatchProperty
     protected boolean skipBeanValidation;
 
+    /**
+     * For writers writing to a local file ({@code CsvItemWriter}, {@code JacksonCsvItemWriter},
+     * {@code JsonItemWriter} and {@code XmlItemWriter}), the number of chunks after which the output is written to
+     * the file. Optional property, and defaults to 1, i.e., the output is written to the file after every chunk.
+     * <p>
+     * A larger value saves write system calls with small chunks, at the cost of durability: if the JVM crashes,
+     * the output of up to {@code flushInterval - 1} committed chunks is lost, and a writer restarting from a byte
+     * offset checkpoint fails since the file is shorter than the checkpoint. Output is always written to the file
+     * when the writer is closed, including when the step fails.
+     *
+     * @see #outputBufferSize
+     * @see #forceOnCheckpoint
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected int flushInterval;
+
+    /**
+     * For writers writing to a local file, the size in bytes of the direct buffer holding the output before it is
+     * written to the file. The output is also written to the file whenever the buffer is full. Optional property,
+     * and defaults to 1 MiB.
+     *
+     * @see #flushInterval
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected int outputBufferSize;
+
+    /**
+     * For writers writing to a local file, whether to write the output to the file and force it to the storage
+     * device with {@code java.nio.channels.FileChannel#force(boolean)} at every checkpoint, so that committed
+     * chunks survive an operating system crash or power loss. Optional property, and defaults to false, i.e., the
+     * durability of the output depends on the operating system flushing its page cache. If true,
+     * {@link #flushInterval} has no effect.
+     *
+     * @see #flushInterval
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected boolean forceOnCheckpoint;
+
+    /**
+     * The compression of the {@link #resource}. Valid values are {@value CsvProperties#GZIP} and
+     * {@value CsvProperties#NONE}. Optional property, and if not specified, a resource whose name ends with
+     * {@code .gz} (case-insensitive) is compressed with gzip. Note that writers in earlier versions wrote such a
+     * resource uncompressed; specify {@value CsvProperties#NONE} to keep doing so.
+     * <p>
+     * Readers decompress the resource on a separate thread, while parsing the decompressed data. Writers compress
+     * the output in blocks on a shared pool of threads, one per available processor, which is shut down once no
+     * writer uses it, and write it as a single gzip member, or append a new gzip member to an existing file in
+     * {@code append} write mode. The compressed output is complete only after the writer is closed, so
+     * {@link #flushInterval} and {@link #forceOnCheckpoint} do not apply, and writers restarting after a failure do
+     * not discard the output written after the last checkpoint.
+     * Readers and writers that need a byte offset into the resource, such as {@code CsvItemReader} with
+     * {@code engine} {@value CsvItemReader#ENGINE_BYTES}, or {@code CsvPartitionMapper}, do not support
+     * compressed resources.
+     *
+     * @see CsvProperties#COMPRESSION_KEY
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String compression;
+
+    /**
+     * For writers writing text output ({@code CsvItemWriter}, {@code JacksonCsvItemWriter}, {@code JsonItemWriter}
+     * and {@code XmlItemWriter}), the number of slices the items of a chunk are split into, to be encoded in
+     * parallel on a shared pool of threads, one per available processor. The encoded slices are written to the
+     * output in the original order, and the output is identical to encoding the items one at a time. Optional
+     * property, and defaults to 0, i.e., items are encoded one at a time on the chunk thread.
+     * <p>
+     * It pays off when encoding wide or deeply nested items, rather than writing the output, is the bottleneck, and
+     * chunks have many more items than slices. Writers encode items one at a time when parallel encoding could
+     * change the output, e.g., with an output decorator, or with stateful cell processors such as {@code Unique}.
+     *
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected int encodingParallelism;
+
     boolean skipWritingHeader;
 
+    /**
+     * The buffered output of a writer writing to a local file, or null.
+     */
+    ChunkOutputStream chunkOutput;
+
+    /**
+     * The compressed output of a writer writing to a compressed file, or null.
+     */
+    private ParallelGzipOutputStream compressedOutput;
+
+    /**
+     * The encoder of the items of a chunk in parallel, or null if items are encoded one at a time.
+     */
+    ParallelChunkEncoder chunkEncoder;
+
     private static class Holder {
         private static final Validator validator = getValidator0();
     }
@@ -127,6 +232,24 @@ public abstract class ItemReaderWriterBase {
      * @return {@code java.io.InputStream} that represents the reader resource
      */
     protected static InputStream getInputStream(final String inputResource, final boolean detectBOM) {
+        return getInputStream(inputResource, detectBOM, NONE);
+    }
+
+    /**
+     * Gets an instance of {@code java.io.InputStream} that represents the reader resource, decompressing it if it
+     * is compressed.
+     *
+     * @param inputResource the location of the input resource
+     * @param detectBOM     if need to detect byte-order mark (BOM) in the decompressed data
+     * @param compression   the compression of the input resource, or null to detect it from the resource name
+     * @return {@code java.io.InputStream} that represents the reader resource
+     *
+     * @see #compression
+     * @since 2.1.3
+     */
+    protected static InputStream getInputStream(final String inputResource,
+                                                final boolean detectBOM,
+                                                final String compression) {
         if (inputResource == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, RESOURCE_KEY);
         }
@@ -154,6 +277,14 @@ public abstract class ItemReaderWriterBase {
                     }
                 }
             }
+            if (inputStream != null && isCompressed(inputResource, compression)) {
+                try {
+                    inputStream = new PipelinedGzipInputStream(inputStream, inputResource);
+                } catch (final IOException e) {
+                    inputStream.close();
+                    throw e;
+                }
+            }
             if (detectBOM) {
                 final UnicodeBOMInputStream bomin = new UnicodeBOMInputStream(inputStream);
                 bomin.skipBOM();
@@ -165,6 +296,81 @@ public abstract class ItemReaderWriterBase {
         return inputStream;
     }
 
+    /**
+     * Gets the local file path of the reader resource, if it is a {@code file:} URL or an existing file.
+     *
+     * @param inputResource the location of the input resource
+     * @return the local file path, or null if the resource is not a local file (e.g., a classpath resource or
+     * a non-file URL)
+     *
+     * @since 2.1.3
+     */
+    protected static Path getLocalFile(final String inputResource) {
+        if (inputResource == null) {
+            return null;
+        }
+        try {
+            final URL url = new URL(inputResource);
+            return "file".equals(url.getProtocol()) ? Paths.get(url.toURI()) : null;
+        } catch (final MalformedURLException e) {
+            final File file = new File(inputResource);
+            return file.isFile() ? file.toPath() : null;
+        } catch (final URISyntaxException | IllegalArgumentException e) {
+            SupportLogger.LOGGER.tracef(e, "The resource %s is not a local file%n", inputResource);
+            return null;
+        }
+    }
+
+    /**
+     * Checks if a resource is compressed.
+     *
+     * @param resource    the location of the resource
+     * @param compression the value of the {@value CsvProperties#COMPRESSION_KEY} property, or null to detect
+     *                    the compression from the resource name
+     * @return true if the resource is compressed with gzip
+     * @throws jakarta.batch.operations.BatchRuntimeException if {@code compression} is not valid
+     *
+     * @since 2.1.3
+     */
+    static boolean isCompressed(final String resource, final String compression) {
+        if (compression == null || compression.trim().isEmpty()) {
+            return resource != null && resource.regionMatches(true, resource.length() - 3, ".gz", 0, 3);
+        }
+        if (GZIP.equalsIgnoreCase(compression.trim())) {
+            return true;
+        }
+        if (NONE.equalsIgnoreCase(compression.trim())) {
+            return false;
+        }
+        throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, compression, COMPRESSION_KEY);
+    }
+
+    /**
+     * Parses a byte offset property of a reader, such as {@code partitionStart} or {@code partitionEnd}.
+     *
+     * @param val       the property value
+     * @param name      the property name
+     * @param supported whether the reader supports the property in its current configuration
+     * @return the byte offset, or -1 if not specified
+     * @throws jakarta.batch.operations.BatchRuntimeException if the value is not a number, or the property is
+     * specified but not supported
+     *
+     * @since 2.1.3
+     */
+    static long parsePosition(final String val, final String name, final boolean supported) {
+        if (val == null || val.trim().isEmpty()) {
+            return -1;
+        }
+        if (!supported) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, val, name);
+        }
+        try {
+            return Long.parseLong(val.trim());
+        } catch (final NumberFormatException e) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(e, val, name);
+        }
+    }
+
     protected OutputStream getOutputStream(final String writeMode) {
         if (resource == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, RESOURCE_KEY);
@@ -200,6 +406,121 @@ public abstract class ItemReaderWriterBase {
         }
     }
 
+    /**
+     * Wraps the output stream of a writer in a {@link ChunkOutputStream} configured with {@link #outputBufferSize},
+     * {@link #flushInterval} and {@link #forceOnCheckpoint}, if it is a {@code FileOutputStream}, and saves it to
+     * {@link #chunkOutput}.
+     *
+     * @param outputStream the output stream from {@link #getOutputStream(String)} or
+     *                     {@link #getOutputStreamForRestart(long)}
+     * @return the {@code ChunkOutputStream}, or {@code outputStream} if it is not a {@code FileOutputStream}
+     * @throws IOException if failed to get the file position
+     *
+     * @since 2.1.3
+     */
+    OutputStream bufferOutput(final OutputStream outputStream) throws IOException {
+        chunkOutput = outputStream instanceof FileOutputStream ?
+                new ChunkOutputStream((FileOutputStream) outputStream, outputBufferSize, flushInterval, forceOnCheckpoint) :
+                null;
+        return chunkOutput != null ? chunkOutput : outputStream;
+    }
+
+    /**
+     * Creates {@link #chunkEncoder} if {@link #encodingParallelism} is greater than 1, acquiring the shared
+     * {@link WorkerPool} until {@link #closeChunkOutput()} is called. It is called by writers at the end of
+     * {@code open}, unless parallel encoding could change their output.
+     *
+     * @param encoder the encoder of slices of the writer
+     *
+     * @since 2.1.3
+     */
+    void openChunkEncoder(final ParallelChunkEncoder.SliceEncoder encoder) {
+        if (encodingParallelism > 1) {
+            chunkEncoder = new ParallelChunkEncoder(encodingParallelism, encoder);
+        }
+    }
+
+    /**
+     * Closes {@link #chunkEncoder}, if any, and {@link #chunkOutput} or the compressed output, if any, writing any
+     * buffered output to the file, and completing the compressed output. It is called by writers after
+     * closing their generator or encoder, which may not close the underlying stream.
+     *
+     * @throws IOException if failed to write to or close the file
+     *
+     * @since 2.1.3
+     */
+    void closeChunkOutput() throws IOException {
+        if (chunkEncoder != null) {
+            chunkEncoder.close();
+            chunkEncoder = null;
+        }
+        if (compressedOutput != null) {
+            final ParallelGzipOutputStream out = compressedOutput;
+            compressedOutput = null;
+            out.close();
+        }
+        if (chunkOutput != null) {
+            final ChunkOutputStream out = chunkOutput;
+            chunkOutput = null;
+            out.close();
+        }
+    }
+
+    /**
+     * Checks if a writer continues the existing resource file when the job execution is restarted, by truncating it
+     * to the size saved in the checkpoint with {@link #getOutputStreamForRestart(long)}. This only applies to write
+     * modes that append to an existing file, including the default mode. In other write modes, the restarted job
+     * execution opens the file with {@link #getOutputStream(String)}, overwriting it or failing as configured.
+     *
+     * @param writeMode the {@code writeMode} property of the writer
+     * @return true if {@code writeMode} appends to an existing file
+     *
+     * @since 2.1.3
+     */
+    static boolean isAppendMode(final String writeMode) {
+        return writeMode == null || writeMode.equalsIgnoreCase(APPEND) ||
+                (writeMode.startsWith(FAIL_IF_DIRS_NOT_EXIST) && !writeMode.endsWith(OVERWRITE));
+    }
+
+    /**
+     * Opens the writer resource file to continue writing after a restart, discarding anything written after the
+     * last checkpoint by truncating the file to the size saved in the checkpoint. It is only used in write modes
+     * accepted by {@link #isAppendMode(String)}, and {@link #skipWritingHeader} is set to true, since the header, if
+     * any, has already been written.
+     *
+     * @param position the size of the file at the last checkpoint
+     * @return a {@code FileOutputStream} appending to the truncated file
+     * @throws jakarta.batch.operations.BatchRuntimeException if the file does not exist or is shorter than
+     * {@code position}
+     *
+     * @since 2.1.3
+     */
+    protected FileOutputStream getOutputStreamForRestart(final long position) {
+        if (resource == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, RESOURCE_KEY);
+        }
+        final File file = new File(resource);
+        if (!file.isFile() || file.length() < position) {
+            throw SupportMessages.MESSAGES.invalidCheckpoint(position);
+        }
+        FileOutputStream fos = null;
+        try {
+            fos = new FileOutputStream(file, true);
+            fos.getChannel().truncate(position);
+        } catch (final IOException e) {
+            if (fos != null) {
+                try {
+                    fos.close();
+                } catch (final IOException ioe) {
+                    SupportLogger.LOGGER.tracef(ioe, "Failed to close %s%n", resource);
+                }
+            }
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(e, resource, RESOURCE_KEY);
+        }
+        skipWritingHeader = true;
+        return fos;
+    }
+
     /**
      * Creates a new {@code FileOutputStream}, depending on the settings in parameters.
      * If the parent directories of the target {@code file} do not exist, they will be
@@ -209,10 +530,11 @@ public abstract class ItemReaderWriterBase {
      * @param exists whether the {@code file} exists
      * @param append append mode if true; overwrite mode if false
      * @param failIfDirsNotExist if true and if the parent dirs of {@code file} do not exist, throw exception
-     * @return the created {@code FileOutputStream}
+     * @return the created {@code FileOutputStream}, or a {@code ParallelGzipOutputStream} writing to it if the
+     * {@link #resource} is compressed
      * @throws IOException if exception from file operations
      */
-    private FileOutputStream newFileOutputStream(final File file,
+    private OutputStream newFileOutputStream(final File file,
                                                  final boolean exists,
                                                  final boolean append,
                                                  final boolean failIfDirsNotExist) throws IOException {
@@ -230,12 +552,38 @@ public abstract class ItemReaderWriterBase {
                 }
             }
         }
+        final boolean compressed = isCompressed(resource, compression);
+        final boolean appendToContent = append && file.length() > 0;
         final FileOutputStream fos = new FileOutputStream(file, append);
-        if (append && file.length() > 0) {
+        final OutputStream out;
+        if (compressed) {
+            try {
+                compressedOutput = new ParallelGzipOutputStream(fos);
+            } catch (final IOException e) {
+                fos.close();
+                throw e;
+            }
+            out = compressedOutput;
+        } else {
+            out = fos;
+        }
+        if (appendToContent) {
             skipWritingHeader = true;
-            fos.write(NEW_LINE.getBytes());
+            out.write(getAppendSeparator());
         }
-        return fos;
+        return out;
+    }
+
+    /**
+     * Gets the bytes written before any output appended to the existing content of the writer resource.
+     * Subclasses whose output is not line-oriented may override this method.
+     *
+     * @return the bytes to write; this implementation returns the line separator
+     *
+     * @since 2.1.3
+     */
+    protected byte[] getAppendSeparator() {
+        return NEW_LINE.getBytes();
     }
 
 }
@@ -11,13 +11,19 @@
 package org.jberet.support.io;
 
 import java.io.Serializable;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.csv.CsvParser;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 
@@ -143,7 +149,37 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
     @BatchProperty
     protected Class inputDecorator;
 
+    /**
+     * A comma-separated list of column names to include in each data item, when {@link #beanType} is not
+     * {@code java.util.List} or {@code java.lang.String[]}. Optional property and defaults to null (all columns
+     * are included). For example,
+     * <p/>
+     * <pre>
+     * number, givenName, surname
+     * </pre>
+     * Values of other columns are skipped before data binding: they are never converted to map entries,
+     * {@code JsonNode}s or bean property values, so the allocation of each data item scales with the included
+     * columns. The CSV parser still scans every column of each row.
+     *
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String includeColumns;
+
     private CsvParser csvParser;
+
+    /**
+     * The parser to read data items from, which is either {@link #csvParser}, or a filtering parser over it
+     * if {@link #includeColumns} is specified.
+     */
+    private JsonParser itemParser;
+
+    /**
+     * Reader for {@link #beanType}, created from {@link #objectMapper} after it is fully configured, so that the
+     * root deserializer is resolved only once.
+     */
+    private ObjectReader objectReader;
     private int rowNumber;
     private boolean rawAccess;
 
@@ -208,6 +244,28 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
             }
             csvParser.setSchema(schema);
         }
+
+        itemParser = csvParser;
+        if (!rawAccess && includeColumns != null && !includeColumns.trim().isEmpty()) {
+            final Set<String> included = new HashSet<String>();
+            for (final String e : includeColumns.split(",")) {
+                included.add(e.trim());
+            }
+            itemParser = new FilteringParserDelegate(csvParser, new ColumnFilter(included),
+                    TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true);
+        }
+        objectReader = objectMapper.readerFor(beanType);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns false if {@code inputDecorator} or {@code deserializationProblemHandlers} is
+     * specified, since they are set on the {@code JsonFactory} and {@code ObjectMapper} of this reader.
+     */
+    @Override
+    protected boolean isJsonFactoryShareable() {
+        return inputDecorator == null && deserializationProblemHandlers == null;
     }
 
     @Override
@@ -219,6 +277,8 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
             }
             csvParser.close();
             csvParser = null;
+            itemParser = null;
+            objectReader = null;
         }
     }
 
@@ -233,7 +293,7 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
 
         if (!rawAccess) {
             do {
-                token = csvParser.nextToken();
+                token = itemParser.nextToken();
                 if (token == null) {
                     return null;
                 }
@@ -244,7 +304,7 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
                 }
             } while (true);
 
-            readValue = objectMapper.readValue(csvParser, beanType);
+            readValue = objectReader.readValue(itemParser);
             if (!skipBeanValidation) {
                 ItemReaderWriterBase.validate(readValue);
             }
@@ -261,7 +321,7 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
                 }
             } while (true);
 
-            readValue = objectMapper.readValue(csvParser, beanType);
+            readValue = objectReader.readValue(csvParser);
         }
         return readValue;
     }
@@ -276,4 +336,26 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
     public Serializable checkpointInfo() throws Exception {
         return rowNumber;
     }
+
+    /**
+     * A {@code TokenFilter} that includes only the named columns of each row, and keeps rows without any included
+     * column as empty objects, so that every row is still read as a data item.
+     */
+    private static final class ColumnFilter extends TokenFilter {
+        private final Set<String> included;
+
+        private ColumnFilter(final Set<String> included) {
+            this.included = included;
+        }
+
+        @Override
+        public TokenFilter includeProperty(final String name) {
+            return included.contains(name) ? TokenFilter.INCLUDE_ALL : null;
+        }
+
+        @Override
+        public boolean includeEmptyObject(final boolean contentsFiltered) {
+            return true;
+        }
+    }
 }
@@ -10,6 +10,7 @@
 
 package org.jberet.support.io;
 
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,7 @@ import java.util.Map;
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 
@@ -107,18 +109,75 @@ public class JacksonCsvItemWriter extends JacksonCsvItemReaderWriterBase impleme
 
     protected CsvGenerator csvGenerator;
 
+    /**
+     * The output stream {@link #csvGenerator} writes to, to which slices of items encoded in parallel are written.
+     */
+    private OutputStream output;
+
+    /**
+     * The schema of {@link #csvGenerator}, if {@code columns} is specified.
+     */
+    private CsvSchema schema;
+
+    /**
+     * Writer for items, created from {@link #objectMapper} after it is fully configured.
+     */
+    private ObjectWriter objectWriter;
+
+    private final ParallelChunkEncoder.SliceEncoder sliceEncoder = new ParallelChunkEncoder.SliceEncoder() {
+        @Override
+        public void encode(final List<Object> items,
+                           final int from,
+                           final int to,
+                           final ParallelChunkEncoder.SliceBuffer buffer) throws Exception {
+            //the header, if any, has been written by csvGenerator with the first item of the first chunk
+            final CsvGenerator generator = createCsvGenerator(buffer, null,
+                    schema == null ? null : schema.withoutHeader());
+            for (int i = from; i < to; ++i) {
+                objectWriter.writeValue(generator, items.get(i));
+            }
+            generator.close();
+        }
+    };
+
     @Override
     public void writeItems(final List<Object> items) throws Exception {
-        for (final Object o : items) {
-            csvGenerator.writeObject(o);
+        if (chunkEncoder != null && items.size() > 1) {
+            objectWriter.writeValue(csvGenerator, items.get(0));
+            csvGenerator.flush();
+            chunkEncoder.encode(items, 1, output);
+        } else {
+            for (final Object o : items) {
+                objectWriter.writeValue(csvGenerator, o);
+            }
         }
         csvGenerator.flush();
+        if (chunkOutput != null) {
+            chunkOutput.endChunk();
+        }
     }
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         init();
-        csvGenerator = (CsvGenerator) JsonItemWriter.configureJsonGenerator(jsonFactory, getOutputStream(writeMode), outputDecorator, jsonGeneratorFeatures);
+        objectWriter = objectMapper.writer();
+        output = bufferOutput(getOutputStream(writeMode));
+        if (columns != null) {
+            schema = buildCsvSchema(null);
+            if (lineSeparator != null) {
+                schema = schema.withLineSeparator(lineSeparator);
+            }
+        }
+        csvGenerator = createCsvGenerator(output, outputDecorator, schema);
+        if (outputDecorator == null) {
+            openChunkEncoder(sliceEncoder);
+        }
+    }
+
+    private CsvGenerator createCsvGenerator(final OutputStream outputStream,
+                                            final Class<?> decorator,
+                                            final CsvSchema csvSchema) throws Exception {
+        final CsvGenerator generator = (CsvGenerator) JsonItemWriter.configureJsonGenerator(jsonFactory, outputStream, decorator, jsonGeneratorFeatures);
 
         if (csvGeneratorFeatures != null) {
             for (final Map.Entry<String, String> e : csvGeneratorFeatures.entrySet()) {
@@ -132,11 +191,11 @@ public class JacksonCsvItemWriter extends JacksonCsvItemReaderWriterBase impleme
                 }
                 if ("true".equals(value)) {
                     if (!feature.enabledByDefault()) {
-                        csvGenerator.configure(feature, true);
+                        generator.configure(feature, true);
                     }
                 } else if ("false".equals(value)) {
                     if (feature.enabledByDefault()) {
-                        csvGenerator.configure(feature, false);
+                        generator.configure(feature, false);
                     }
                 } else {
                     throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, value, key);
@@ -144,13 +203,21 @@ public class JacksonCsvItemWriter extends JacksonCsvItemReaderWriterBase impleme
             }
         }
 
-        if (columns != null) {
-            CsvSchema schema = buildCsvSchema(null);
-            if (lineSeparator != null) {
-                schema = schema.withLineSeparator(lineSeparator);
-            }
-            csvGenerator.setSchema(schema);
+        if (csvSchema != null) {
+            generator.setSchema(csvSchema);
         }
+        return generator;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns false if {@code outputDecorator} is specified, since it is set on the
+     * {@code JsonFactory} of this writer.
+     */
+    @Override
+    protected boolean isJsonFactoryShareable() {
+        return outputDecorator == null;
     }
 
     @Override
@@ -160,10 +227,15 @@ public class JacksonCsvItemWriter extends JacksonCsvItemReaderWriterBase impleme
             csvGenerator.close();
             csvGenerator = null;
         }
+        output = null;
+        closeChunkOutput();
     }
 
     @Override
     public Serializable checkpointInfo() throws Exception {
+        if (chunkOutput != null) {
+            chunkOutput.checkpoint();
+        }
         return null;
     }
 }
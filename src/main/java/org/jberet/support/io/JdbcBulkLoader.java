@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * A loader that writes rows of a chunk into a database table with a driver-specific bulk-load API, such as
+ * PostgreSQL {@code COPY}, instead of executing the insert statement of {@link JdbcItemWriter} for each row.
+ * Implementations must have a public no-arg constructor, and are configured with
+ * {@link JdbcItemWriter#bulkLoader}.
+ *
+ * @see JdbcItemWriter#bulkLoader
+ * @see PostgresCopyBulkLoader
+ * @since 2.1.3
+ */
+public interface JdbcBulkLoader {
+
+    /**
+     * Loads the rows of a chunk into the target table. The rows should be written in the transaction of
+     * {@code connection}, which is committed or rolled back by {@link JdbcItemWriter}.
+     *
+     * @param connection the JDBC connection of the writer
+     * @param table      the target table, as specified in the insert statement of the writer
+     * @param columns    the target columns, in the same order as values in each row. They are the columns of the
+     *                   insert statement whose values are sql parameters.
+     * @param rows       the rows to load. Each row contains the sql parameter values of a data item, before
+     *                   conversion by {@link JdbcItemWriter#parameterTypes}. {@code java.util.Date} properties of
+     *                   custom bean items are kept as is, instead of converted to epoch milliseconds.
+     * @throws Exception if failed to load the rows
+     */
+    void load(Connection connection, String table, String[] columns, List<Object[]> rows) throws Exception;
+}
@@ -0,0 +1,568 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import org.jberet.support._private.SupportMessages;
+
+/**
+ * Data types that can be specified in {@link JdbcItemWriter#parameterTypes} and
+ * {@link JdbcItemReader#partitionColumnType}, and {@link JdbcItemReader#columnTypes}. Each constant knows which
+ * {@code java.sql.PreparedStatement} setter method and {@code java.sql.ResultSet} getter method to call, so the
+ * configured type names are resolved only once when the reader or writer is opened, instead of for every column or
+ * parameter of every data item.
+ *
+ * @see JdbcItemWriter#parameterTypes
+ * @see JdbcItemReader#columnTypes
+ * @since 2.1.3
+ */
+enum JdbcDataType {
+    STRING("String") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setString(pos, val == null ? null : val.toString());
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getString(pos);
+        }
+    },
+    DATE("Date") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setDate(pos, null);
+            } else {
+                final java.sql.Date sqlDate;
+                if (val instanceof java.sql.Date) {
+                    sqlDate = (java.sql.Date) val;
+                } else if (val instanceof java.util.Date) {
+                    sqlDate = new java.sql.Date(((java.util.Date) val).getTime());
+                } else if (val instanceof Long) {
+                    sqlDate = new java.sql.Date((Long) val);
+                } else {
+                    sqlDate = new java.sql.Date(Long.parseLong(val.toString()));
+                }
+                ps.setDate(pos, sqlDate);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getDate(pos);
+        }
+    },
+    TIMESTAMP("Timestamp") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setTimestamp(pos, null);
+            } else {
+                final Timestamp sqlTimestamp;
+                if (val instanceof Timestamp) {
+                    sqlTimestamp = (Timestamp) val;
+                } else if (val instanceof java.util.Date) {
+                    sqlTimestamp = new Timestamp(((java.util.Date) val).getTime());
+                } else if (val instanceof Long) {
+                    sqlTimestamp = new Timestamp((Long) val);
+                } else {
+                    sqlTimestamp = new Timestamp(Long.parseLong(val.toString()));
+                }
+                ps.setTimestamp(pos, sqlTimestamp);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getTimestamp(pos);
+        }
+    },
+    TIME("Time") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setTime(pos, null);
+            } else {
+                final Time sqlTime;
+                if (val instanceof Time) {
+                    sqlTime = (Time) val;
+                } else if (val instanceof java.util.Date) {
+                    sqlTime = new Time(((java.util.Date) val).getTime());
+                } else if (val instanceof Long) {
+                    sqlTime = new Time((Long) val);
+                } else {
+                    sqlTime = new Time(Long.parseLong(val.toString()));
+                }
+                ps.setTime(pos, sqlTime);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getTime(pos);
+        }
+    },
+    OBJECT("Object") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setObject(pos, val);
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getObject(pos);
+        }
+    },
+    NSTRING("NString") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setNString(pos, val == null ? null : val.toString());
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getNString(pos);
+        }
+    },
+    BOOLEAN("Boolean") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setBoolean(pos, (val instanceof Boolean ? (Boolean) val :
+                    val != null && Boolean.parseBoolean(val.toString())));
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getBoolean(pos);
+        }
+    },
+    INT("Int") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setInt(pos, (val instanceof Integer ? (Integer) val :
+                    val == null ? 0 : Integer.parseInt(val.toString())));
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getInt(pos);
+        }
+    },
+    LONG("Long") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setLong(pos, (val instanceof Long ? (Long) val :
+                    val == null ? 0 : Long.parseLong(val.toString())));
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getLong(pos);
+        }
+    },
+    DOUBLE("Double") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setDouble(pos, (val instanceof Double ? (Double) val :
+                    val == null ? 0 : Double.parseDouble(val.toString())));
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getDouble(pos);
+        }
+    },
+    FLOAT("Float") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setFloat(pos, (val instanceof Float ? (Float) val :
+                    val == null ? 0 : Float.parseFloat(val.toString())));
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getFloat(pos);
+        }
+    },
+    SHORT("Short") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setShort(pos, (val instanceof Short ? (Short) val :
+                    val == null ? 0 : Short.parseShort(val.toString())));
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getShort(pos);
+        }
+    },
+    BYTE("Byte") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setByte(pos, (val instanceof Byte ? (Byte) val :
+                    val == null ? 0 : Byte.parseByte(val.toString())));
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getByte(pos);
+        }
+    },
+    BLOB("Blob") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setBlob(pos, (Blob) null);
+            } else if (val instanceof Blob) {
+                ps.setBlob(pos, (Blob) val);
+            } else if (val instanceof InputStream) {
+                ps.setBlob(pos, (InputStream) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("Blob | InputStream", val.getClass().getName(), val);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getBlob(pos);
+        }
+    },
+    CLOB("Clob") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setClob(pos, (Clob) null);
+            } else if (val instanceof Clob) {
+                ps.setClob(pos, (Clob) val);
+            } else if (val instanceof Reader) {
+                ps.setClob(pos, (Reader) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("Clob | Reader", val.getClass().getName(), val);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getClob(pos);
+        }
+    },
+    NCLOB("NClob") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setNClob(pos, (NClob) null);
+            } else if (val instanceof NClob) {
+                ps.setNClob(pos, (NClob) val);
+            } else if (val instanceof Reader) {
+                ps.setNClob(pos, (Reader) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("NClob | Reader", val.getClass().getName(), val);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getNClob(pos);
+        }
+    },
+    BIG_DECIMAL("BigDecimal") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setBigDecimal(pos, (val instanceof BigDecimal ? (BigDecimal) val :
+                    val == null ? null : new BigDecimal(val.toString())));
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getBigDecimal(pos);
+        }
+    },
+    URL_TYPE("URL") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setURL(pos, (val instanceof URL ? (URL) val :
+                    val == null ? null : (new URI(val.toString())).toURL()));
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getURL(pos);
+        }
+    },
+    BYTES("Bytes") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            ps.setBytes(pos, (val instanceof byte[] ? (byte[]) val :
+                    val == null ? null : val.toString().getBytes()));
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getBytes(pos);
+        }
+    },
+    BINARY_STREAM("BinaryStream") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setBinaryStream(pos, null);
+            } else if (val instanceof InputStream) {
+                ps.setBinaryStream(pos, (InputStream) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getBinaryStream(pos);
+        }
+    },
+    CHARACTER_STREAM("CharacterStream") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setCharacterStream(pos, null);
+            } else if (val instanceof Reader) {
+                ps.setCharacterStream(pos, (Reader) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getCharacterStream(pos);
+        }
+    },
+    NCHARACTER_STREAM("NCharacterStream") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setNCharacterStream(pos, null);
+            } else if (val instanceof Reader) {
+                ps.setNCharacterStream(pos, (Reader) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getNCharacterStream(pos);
+        }
+    },
+    ASCII_STREAM("AsciiStream") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setAsciiStream(pos, null);
+            } else if (val instanceof InputStream) {
+                ps.setAsciiStream(pos, (InputStream) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getAsciiStream(pos);
+        }
+    },
+    REF("Ref") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setRef(pos, null);
+            } else if (val instanceof Ref) {
+                ps.setRef(pos, (Ref) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Ref", val.getClass().getName(), val);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getRef(pos);
+        }
+    },
+    ROW_ID("RowId") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setRowId(pos, null);
+            } else if (val instanceof RowId) {
+                ps.setRowId(pos, (RowId) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.RowId", val.getClass().getName(), val);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getRowId(pos);
+        }
+    },
+    SQLXML_TYPE("SQLXML") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setSQLXML(pos, null);
+            } else if (val instanceof SQLXML) {
+                ps.setSQLXML(pos, (SQLXML) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.SQLXML", val.getClass().getName(), val);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getSQLXML(pos);
+        }
+    },
+    ARRAY("Array") {
+        @Override
+        void set(final PreparedStatement ps, final int pos, final Object val) throws Exception {
+            if (val == null) {
+                ps.setArray(pos, null);
+            } else if (val instanceof Array) {
+                ps.setArray(pos, (Array) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Array", val.getClass().getName(), val);
+            }
+        }
+
+        @Override
+        Object get(final ResultSet rs, final int pos) throws SQLException {
+            return rs.getArray(pos);
+        }
+    };
+
+    /**
+     * The case-sensitive type name as used in batch properties, e.g., "String", "Int", "BigDecimal".
+     */
+    private final String typeName;
+
+    JdbcDataType(final String typeName) {
+        this.typeName = typeName;
+    }
+
+    /**
+     * Gets the type name as used in batch properties.
+     *
+     * @return the type name
+     */
+    String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Sets the designated parameter of the {@code PreparedStatement} to {@code val}, converting it to this type
+     * if necessary.
+     *
+     * @param ps  the {@code PreparedStatement} to set parameter on
+     * @param pos the parameter position, starting from 1
+     * @param val the parameter value, may be null
+     * @throws Exception if failed to convert or set the parameter value
+     */
+    abstract void set(PreparedStatement ps, int pos, Object val) throws Exception;
+
+    /**
+     * Gets the value of the designated column in the current row of the {@code ResultSet} with the getter method
+     * of this type. As with calling the getter method directly, a SQL NULL value of a primitive type is returned
+     * as the default value of that type, e.g., 0 for {@code Int} and false for {@code Boolean}.
+     *
+     * @param rs  the {@code ResultSet} positioned on a row
+     * @param pos the column position, starting from 1
+     * @return the column value
+     * @throws SQLException if failed to get the column value
+     */
+    abstract Object get(ResultSet rs, int pos) throws SQLException;
+
+    /**
+     * Sets the designated parameter of the {@code PreparedStatement} to {@code val} with the given SQL type. This is
+     * used when no data type is configured for the parameter, but its SQL type is known.
+     *
+     * @param ps      the {@code PreparedStatement} to set parameter on
+     * @param pos     the parameter position, starting from 1
+     * @param val     the parameter value, may be null
+     * @param sqlType the SQL type as defined in {@code java.sql.Types}
+     * @throws SQLException if failed to set the parameter value
+     */
+    static void setObject(final PreparedStatement ps, final int pos, final Object val, final int sqlType)
+            throws SQLException {
+        if (val == null) {
+            ps.setNull(pos, sqlType);
+        } else {
+            ps.setObject(pos, val, sqlType);
+        }
+    }
+
+    /**
+     * Resolves the data type names configured in a batch property. "null" is treated the same as "Object".
+     *
+     * @param typeNames    the configured type names, may be null
+     * @param propertyName the name of the batch property, used in error message
+     * @return array of resolved {@code JdbcDataType}, or null if {@code typeNames} is null
+     * @throws jakarta.batch.operations.BatchRuntimeException if any type name is not recognized
+     */
+    static JdbcDataType[] resolve(final String[] typeNames, final String propertyName) {
+        if (typeNames == null) {
+            return null;
+        }
+        final JdbcDataType[] result = new JdbcDataType[typeNames.length];
+        for (int i = 0; i < typeNames.length; ++i) {
+            result[i] = of(typeNames[i]);
+            if (result[i] == null) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(
+                        null, Arrays.toString(typeNames), propertyName);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the {@code JdbcDataType} by its type name.
+     *
+     * @param typeName the case-sensitive type name, e.g., "String", "Int", "BigDecimal"
+     * @return the {@code JdbcDataType}, or null if {@code typeName} is not recognized
+     */
+    static JdbcDataType of(final String typeName) {
+        if ("null".equals(typeName)) {
+            return OBJECT;
+        }
+        for (final JdbcDataType t : values()) {
+            if (t.typeName.equals(typeName)) {
+                return t;
+            }
+        }
+        return null;
+    }
+}
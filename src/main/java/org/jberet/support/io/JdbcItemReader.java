@@ -12,6 +12,7 @@ package org.jberet.support.io;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -143,6 +144,91 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
     @BatchProperty
     protected Boolean autoCommit;
 
+    /**
+     * Column labels of a unique key that {@link #sql} orders its result by, in ascending order. Optional property,
+     * and defaults to null. If specified, the checkpoint info of this reader also includes the key values of the
+     * last read row, and upon restart, instead of re-running {@link #sql} and skipping already read rows with
+     * {@link java.sql.ResultSet#absolute(int)}, this reader seeks directly to the row after the checkpoint with the
+     * following query:
+     * <p>
+     * SELECT * FROM (&lt;sql&gt;) JBERET_SEEK WHERE K1 &gt; ? OR (K1 = ? AND K2 &gt; ?) ORDER BY K1, K2
+     * <p>
+     * so the cost of restart does not depend on how many rows were read before the checkpoint. The order of rows
+     * upon restart comes only from the ORDER BY clause of the outer query, since an ORDER BY clause in a derived
+     * table is either rejected or not guaranteed to be preserved by databases. So a trailing ORDER BY clause of
+     * {@link #sql} is removed from the derived table, unless it is followed by other clauses, such as LIMIT, OFFSET
+     * or FETCH, whose result depends on it.
+     * <p>
+     * The key columns must be included in the select list of {@link #sql}, and must not be null, e.g., primary key
+     * columns, since rows with null key values do not satisfy the seek predicate and would be skipped. A checkpoint
+     * fails if the last read row has a null key value. For example, if {@link #sql} is
+     * <p>
+     * SELECT * FROM STOCK_TRADE ORDER BY TRADEDATE, TRADETIME
+     * <p>
+     * then {@code keyColumns} should be specified as follows in job xml:
+     * <p>
+     * "TRADEDATE, TRADETIME"
+     * <p>
+     * This property is ignored if {@link #sql} is a stored procedure call.
+     *
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String[] keyColumns;
+
+    /**
+     * Column label in the select list of {@link #sql} to restrict the rows read by this reader to the range
+     * between {@link #partitionStart} and {@link #partitionEnd}. Optional property, and defaults to null. It is
+     * typically set from partition properties generated by {@link JdbcPartitionMapper}, so that each partition
+     * reads only its own slice of the table with the following query:
+     * <p>
+     * SELECT * FROM (&lt;sql&gt;) JBERET_RANGE WHERE &lt;partitionColumn&gt; &gt;= ? AND &lt;partitionColumn&gt; &lt; ?
+     * <p>
+     * A trailing ORDER BY clause of {@link #sql} is moved from the derived table to the outer query, so it should
+     * refer to columns by their labels in the select list.
+     * If {@link #partitionStart} is not specified, rows whose {@code partitionColumn} value is null are also read.
+     * This property is ignored if {@link #sql} is a stored procedure call.
+     *
+     * @see JdbcPartitionMapper
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionColumn;
+
+    /**
+     * Tells this class which {@code java.sql.PreparedStatement} setter method to call to set {@link #partitionStart}
+     * and {@link #partitionEnd}, with the same valid values as {@link JdbcItemWriter#parameterTypes}. For example,
+     * "Long", "BigDecimal", "Double", or "Timestamp" (bounds given as epoch milliseconds). Optional property, and
+     * if not set, {@link java.sql.PreparedStatement#setObject(int, Object)} is called with the bound string.
+     *
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionColumnType;
+
+    /**
+     * The inclusive lower bound of {@link #partitionColumn}. Optional property, and if not specified, there is no
+     * lower bound.
+     *
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionStart;
+
+    /**
+     * The exclusive upper bound of {@link #partitionColumn}. Optional property, and if not specified, there is no
+     * upper bound.
+     *
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionEnd;
+
     protected String[] columnLabels;
 
     protected Connection connection;
@@ -151,6 +237,33 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
 
     protected int currentRowNumber;
 
+    /**
+     * {@link #columnTypes} resolved when this reader is opened, or null to call
+     * {@link java.sql.ResultSet#getObject(int)} for all columns.
+     */
+    private JdbcDataType[] columnDataTypes;
+
+    /**
+     * Maps each row directly to {@link #beanType}, or null if {@link #beanType} is {@code java.util.List},
+     * {@code java.util.Map}, or not supported by {@link JdbcRowMapper}.
+     */
+    private JdbcRowMapper rowMapper;
+
+    /**
+     * Positions (starting from 1) of {@link #keyColumns} in the {@code ResultSet}.
+     */
+    private int[] keyColumnPositions;
+
+    /**
+     * Whether the {@code ResultSet} is positioned on a row, from which key values can be retrieved.
+     */
+    private boolean onRow;
+
+    /**
+     * The checkpoint info when the {@code ResultSet} was last positioned on a row.
+     */
+    private KeyCheckpoint lastKeyCheckpoint;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         init();
@@ -166,10 +279,47 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
             preparedStatement.setFetchSize(rsProps[4]);
             resultSet = executeStoredProcedure();
         } else {
-            preparedStatement = connection.prepareStatement(sql, rsProps[0], rsProps[1], rsProps[2]);
+            final KeyCheckpoint keyCheckpoint = keyColumns != null && checkpoint instanceof KeyCheckpoint ?
+                    (KeyCheckpoint) checkpoint : null;
+            final boolean hasPartitionStart = partitionStart != null && !partitionStart.trim().isEmpty();
+            final boolean hasPartitionEnd = partitionEnd != null && !partitionEnd.trim().isEmpty();
+            final boolean partitioned = partitionColumn != null && !partitionColumn.trim().isEmpty() &&
+                    (hasPartitionStart || hasPartitionEnd);
+
+            final int orderBy = partitioned || keyCheckpoint != null ? orderByIndex(sql) : -1;
+            String query = orderBy < 0 ? sql : sql.substring(0, orderBy).trim();
+            if (partitioned) {
+                query = rangeQuery(query, partitionColumn.trim(), hasPartitionStart, hasPartitionEnd);
+                if (orderBy >= 0 && keyCheckpoint == null) {
+                    //the rows of the range are ordered in the outer query
+                    query = query + ' ' + sql.substring(orderBy).trim();
+                }
+            }
+            if (keyCheckpoint != null) {
+                query = seekQuery(query, keyColumns);
+            }
+            preparedStatement = connection.prepareStatement(query, rsProps[0], rsProps[1], rsProps[2]);
             preparedStatement.setFetchDirection(rsProps[3]);
             preparedStatement.setFetchSize(rsProps[4]);
+            int pos = 1;
+            if (partitioned) {
+                final JdbcDataType type = partitionColumnType == null || partitionColumnType.trim().isEmpty() ?
+                        JdbcDataType.OBJECT :
+                        JdbcDataType.resolve(new String[]{partitionColumnType.trim()}, "partitionColumnType")[0];
+                if (hasPartitionStart) {
+                    type.set(preparedStatement, pos++, partitionStart.trim());
+                }
+                if (hasPartitionEnd) {
+                    type.set(preparedStatement, pos++, partitionEnd.trim());
+                }
+            }
+            if (keyCheckpoint != null) {
+                bindSeekParameters(preparedStatement, pos, keyCheckpoint.keys);
+            }
             resultSet = preparedStatement.executeQuery();
+            if (keyColumns != null) {
+                keyColumnPositions = findColumnPositions(resultSet.getMetaData(), keyColumns);
+            }
         }
 
         if (columnMapping == null) {
@@ -186,6 +336,10 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
             }
             columnMapping = columnLabels;
         }
+        columnDataTypes = JdbcDataType.resolve(columnTypes, "columnTypes");
+        if (beanType != List.class && beanType != Map.class) {
+            rowMapper = JdbcRowMapper.compile(objectMapper, beanType, columnMapping, columnDataTypes);
+        }
 
         if (start <= 0) {
             start = 1;
@@ -197,10 +351,18 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, String.valueOf(end), "end");
         }
 
+        if (checkpoint instanceof KeyCheckpoint && keyColumnPositions != null) {
+            //the result set has been positioned by the seek query to the row after the checkpoint
+            lastKeyCheckpoint = (KeyCheckpoint) checkpoint;
+            currentRowNumber = lastKeyCheckpoint.rowNumber;
+            return;
+        }
+
         //readyPosition is the position before the first item to be read
         int readyPosition = start - 1;
         if (checkpoint != null) {
-            final int checkpointPosition = (Integer) checkpoint;
+            final int checkpointPosition = checkpoint instanceof KeyCheckpoint ?
+                    ((KeyCheckpoint) checkpoint).rowNumber : (Integer) checkpoint;
             if (checkpointPosition > readyPosition) {
                 readyPosition = checkpointPosition;
             }
@@ -232,13 +394,19 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
             return null;
         }
         Object result = null;
-        if (resultSet.next()) {
+        onRow = resultSet.next();
+        if (onRow) {
             if (beanType == List.class) {
-                final List<Object> resultList = new ArrayList<Object>();
+                final List<Object> resultList = new ArrayList<Object>(columnMapping.length);
                 for (int i = 0; i < columnMapping.length; ++i) {
                     resultList.add(getColumnValue(i));
                 }
                 result = resultList;
+            } else if (rowMapper != null) {
+                result = rowMapper.map(resultSet);
+                if (!skipBeanValidation) {
+                    ItemReaderWriterBase.validate(result);
+                }
             } else {
                 final Map<String, Object> resultMap = new HashMap<String, Object>();
                 for (int i = 0; i < columnMapping.length; ++i) {
@@ -255,20 +423,193 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
                     result = readValue;
                 }
             }
-            currentRowNumber = resultSet.getRow();
+            if (keyColumnPositions == null) {
+                currentRowNumber = resultSet.getRow();
+            } else {
+                //row number in the seek query result set does not count rows read before restart
+                currentRowNumber++;
+            }
         }
         return result;
     }
 
     /**
-     * Gets the current row number in the {@code ResultSet} as the checkpoint info.
+     * Gets the current row number in the {@code ResultSet} as the checkpoint info. If {@link #keyColumns} is
+     * specified, the checkpoint info also includes the key values of the current row.
      *
-     * @return the current row number in the {@code ResultSet}
+     * @return the current row number in the {@code ResultSet}, or {@link KeyCheckpoint} if {@link #keyColumns}
+     * is specified
      * @throws Exception any exception raised
      */
     @Override
     public Serializable checkpointInfo() throws Exception {
-        return currentRowNumber;
+        if (keyColumnPositions == null) {
+            return currentRowNumber;
+        }
+        if (onRow) {
+            //key values are retrieved only at checkpoint, when the result set is still on the last read row
+            final Serializable[] keys = new Serializable[keyColumnPositions.length];
+            for (int i = 0; i < keys.length; ++i) {
+                final Object val = resultSet.getObject(keyColumnPositions[i]);
+                if (val == null) {
+                    //a row with null key cannot be located by the seek query upon restart
+                    throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null,
+                            Arrays.toString(keyColumns), "keyColumns");
+                }
+                if (!(val instanceof Serializable)) {
+                    throw SupportMessages.MESSAGES.invalidCheckpoint(val);
+                }
+                keys[i] = (Serializable) val;
+            }
+            lastKeyCheckpoint = new KeyCheckpoint(currentRowNumber, keys);
+        }
+        return lastKeyCheckpoint != null ? lastKeyCheckpoint : currentRowNumber;
+    }
+
+    /**
+     * Removes the trailing ORDER BY clause of a query, so that it can be wrapped as a derived table whose rows are
+     * ordered by the outer query only.
+     *
+     * @param sql the original query
+     * @return the query without its trailing ORDER BY clause, or the original query if it has none
+     */
+    static String stripOrderBy(final String sql) {
+        final int orderBy = orderByIndex(sql);
+        return orderBy < 0 ? sql : sql.substring(0, orderBy).trim();
+    }
+
+    /**
+     * Finds the trailing ORDER BY clause of a query, outside of any parentheses and quoted literals or identifiers.
+     *
+     * @param sql the query
+     * @return the index of the ORDER BY clause, or -1 if the query has none, or if it is followed by other
+     * clauses, such as LIMIT, OFFSET or FETCH, which depend on it
+     */
+    static int orderByIndex(final String sql) {
+        int depth = 0;
+        char quote = 0;
+        int orderBy = -1;
+        for (int i = 0; i < sql.length(); ++i) {
+            final char c = sql.charAt(i);
+            if (quote != 0) {
+                //an escaped quote ends and reopens the literal
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0) {
+                if (isKeyword(sql, i, "ORDER")) {
+                    int j = i + 5;
+                    while (j < sql.length() && Character.isWhitespace(sql.charAt(j))) {
+                        j++;
+                    }
+                    if (isKeyword(sql, j, "BY")) {
+                        orderBy = i;
+                    }
+                } else if (orderBy >= 0 && (isKeyword(sql, i, "LIMIT") || isKeyword(sql, i, "OFFSET") ||
+                        isKeyword(sql, i, "FETCH") || isKeyword(sql, i, "FOR"))) {
+                    //the ORDER BY clause selects the rows to limit, and is valid in a derived table
+                    return -1;
+                }
+            }
+        }
+        return orderBy;
+    }
+
+    private static boolean isKeyword(final String sql, final int pos, final String keyword) {
+        final int end = pos + keyword.length();
+        return sql.regionMatches(true, pos, keyword, 0, keyword.length()) &&
+                (pos == 0 || !Character.isJavaIdentifierPart(sql.charAt(pos - 1))) &&
+                (end == sql.length() || !Character.isJavaIdentifierPart(sql.charAt(end)));
+    }
+
+    /**
+     * Builds the query to seek to rows after a checkpoint, by wrapping {@code sql} as a derived table and filtering
+     * it with a predicate on {@code keyColumns}. The rows are ordered by {@code keyColumns} in the outer query.
+     *
+     * @param sql        the original query, without ORDER BY clause
+     * @param keyColumns column labels of the ordered unique key
+     * @return the seek query, with 2 * n - 1 parameters for n key columns
+     */
+    static String seekQuery(final String sql, final String[] keyColumns) {
+        final StringBuilder sb = new StringBuilder("SELECT * FROM (").append(sql).append(") JBERET_SEEK WHERE ");
+        for (int i = 0; i < keyColumns.length; ++i) {
+            if (i > 0) {
+                sb.append(" OR ");
+            }
+            sb.append('(');
+            for (int j = 0; j < i; ++j) {
+                sb.append(keyColumns[j].trim()).append(" = ? AND ");
+            }
+            sb.append(keyColumns[i].trim()).append(" > ?)");
+        }
+        sb.append(" ORDER BY ");
+        for (int i = 0; i < keyColumns.length; ++i) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(keyColumns[i].trim());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Builds the query to read rows in a range of {@code partitionColumn}, by wrapping {@code sql} as a derived table
+     * and filtering it with a range predicate. The lower bound is inclusive and the upper bound is exclusive, so that
+     * adjacent ranges neither overlap nor leave gaps, even for non-integral keys. If there is no lower bound, rows
+     * with null {@code partitionColumn} are also included.
+     *
+     * @param sql             the original query
+     * @param partitionColumn column label of the range key
+     * @param hasStart        whether the range has a lower bound
+     * @param hasEnd          whether the range has an upper bound
+     * @return the range query, with a parameter for each bound
+     */
+    static String rangeQuery(final String sql, final String partitionColumn,
+                             final boolean hasStart, final boolean hasEnd) {
+        final StringBuilder sb = new StringBuilder("SELECT * FROM (").append(sql).append(") JBERET_RANGE WHERE ");
+        if (hasStart) {
+            sb.append(partitionColumn).append(" >= ?");
+            if (hasEnd) {
+                sb.append(" AND ").append(partitionColumn).append(" < ?");
+            }
+        } else {
+            sb.append('(').append(partitionColumn).append(" < ? OR ").append(partitionColumn).append(" IS NULL)");
+        }
+        return sb.toString();
+    }
+
+    private static void bindSeekParameters(final PreparedStatement statement, int pos, final Object[] keys)
+            throws SQLException {
+        for (int i = 0; i < keys.length; ++i) {
+            for (int j = 0; j <= i; ++j) {
+                statement.setObject(pos++, keys[j]);
+            }
+        }
+    }
+
+    private static int[] findColumnPositions(final ResultSetMetaData metaData, final String[] labels)
+            throws SQLException {
+        final int columnCount = metaData.getColumnCount();
+        final int[] positions = new int[labels.length];
+        for (int i = 0; i < labels.length; ++i) {
+            final String label = labels[i].trim();
+            for (int col = 1; col <= columnCount; ++col) {
+                if (label.equalsIgnoreCase(metaData.getColumnLabel(col))) {
+                    positions[i] = col;
+                    break;
+                }
+            }
+            if (positions[i] == 0) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, Arrays.toString(labels), "keyColumns");
+            }
+        }
+        return positions;
     }
 
     protected boolean isStoredProcedure() {
@@ -358,71 +699,35 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
     }
 
     private Object getColumnValue(final int i) throws Exception {
-        Object val = null;
-        final int pos = i + 1;
-        if (columnTypes == null) {
-            val = resultSet.getObject(pos);
-        } else {
-            final String type = columnTypes[i];
-            if (type.equals("String")) {
-                val = resultSet.getString(pos);
-            } else if (type.equals("Date")) {
-                val = resultSet.getDate(pos);
-            } else if (type.equals("Timestamp")) {
-                val = resultSet.getTimestamp(pos);
-            } else if (type.equals("Time")) {
-                val = resultSet.getTime(pos);
-            } else if (type.equals("Object") || type.equals("null")) {
-                val = resultSet.getObject(pos);
-            } else if (type.equals("NString")) {
-                val = resultSet.getNString(pos);
-            } else if (type.equals("Boolean")) {
-                val = resultSet.getBoolean(pos);
-            } else if (type.equals("Int")) {
-                val = resultSet.getInt(pos);
-            } else if (type.equals("Long")) {
-                val = resultSet.getLong(pos);
-            } else if (type.equals("Double")) {
-                val = resultSet.getDouble(pos);
-            } else if (type.equals("Float")) {
-                val = resultSet.getFloat(pos);
-            } else if (type.equals("Short")) {
-                val = resultSet.getShort(pos);
-            } else if (type.equals("Byte")) {
-                val = resultSet.getByte(pos);
-            } else if (type.equals("Blob")) {
-                val = resultSet.getBlob(pos);
-            } else if (type.equals("Clob")) {
-                val = resultSet.getClob(pos);
-            } else if (type.equals("NClob")) {
-                val = resultSet.getNClob(pos);
-            } else if (type.equals("BigDecimal")) {
-                val = resultSet.getBigDecimal(pos);
-            } else if (type.equals("URL")) {
-                val = resultSet.getURL(pos);
-            } else if (type.equals("Bytes")) {
-                val = resultSet.getBytes(pos);
-            } else if (type.equals("BinaryStream")) {
-                val = resultSet.getBinaryStream(pos);
-            } else if (type.equals("CharacterStream")) {
-                val = resultSet.getCharacterStream(pos);
-            } else if (type.equals("NCharacterStream")) {
-                val = resultSet.getNCharacterStream(pos);
-            } else if (type.equals("AsciiStream")) {
-                val = resultSet.getAsciiStream(pos);
-            } else if (type.equals("Ref")) {
-                val = resultSet.getRef(pos);
-            } else if (type.equals("RowId")) {
-                val = resultSet.getRowId(pos);
-            } else if (type.equals("SQLXML")) {
-                val = resultSet.getSQLXML(pos);
-            } else if (type.equals("Array")) {
-                val = resultSet.getArray(pos);
-            }
-            if (resultSet.wasNull()) {
-                val = null;
-            }
+        return columnDataTypes == null ? resultSet.getObject(i + 1) : columnDataTypes[i].get(resultSet, i + 1);
+    }
+
+    /**
+     * Checkpoint info of {@link JdbcItemReader} when {@link #keyColumns} is specified.
+     *
+     * @since 2.1.3
+     */
+    public static final class KeyCheckpoint implements Serializable {
+        private static final long serialVersionUID = -3093451612432787015L;
+
+        /**
+         * The number of rows read, including rows before {@link JdbcItemReader#start}.
+         */
+        final int rowNumber;
+
+        /**
+         * Values of {@link JdbcItemReader#keyColumns} in the last read row.
+         */
+        final Serializable[] keys;
+
+        KeyCheckpoint(final int rowNumber, final Serializable[] keys) {
+            this.rowNumber = rowNumber;
+            this.keys = keys;
+        }
+
+        @Override
+        public String toString() {
+            return "KeyCheckpoint{rowNumber=" + rowNumber + ", keys=" + Arrays.toString(keys) + '}';
         }
-        return val;
     }
 }
@@ -102,16 +102,7 @@ public abstract class JdbcItemReaderWriterBase extends JsonItemReaderWriterBase
         if (dataSourceLookup != null) {
             dataSource = InitialContext.doLookup(dataSourceLookup);
         } else {
-            dbProperties = new Properties();
-            if (properties != null) {
-                dbProperties.putAll(properties);
-            }
-            if (user != null) {
-                dbProperties.put("user", user.trim());
-            }
-            if (password != null) {
-                dbProperties.put("password", password.trim());
-            }
+            dbProperties = getDbProperties(properties, user, password);
         }
         if (beanType != List.class && beanType != Map.class) {
             initJsonFactoryAndObjectMapper();
@@ -119,6 +110,20 @@ public abstract class JdbcItemReaderWriterBase extends JsonItemReaderWriterBase
     }
 
     protected Connection getConnection() throws Exception {
+        return getConnection(dataSource, url, dbProperties);
+    }
+
+    /**
+     * Gets a connection from the {@code DataSource} if it is not null, or from {@code java.sql.DriverManager}.
+     *
+     * @param dataSource   the {@code DataSource} looked up with {@link #dataSourceLookup}, may be null
+     * @param url          JDBC connection url, used if {@code dataSource} is null
+     * @param dbProperties JDBC connection properties, used if {@code dataSource} is null
+     * @return a new connection
+     * @throws Exception if failed to get the connection
+     */
+    static Connection getConnection(final DataSource dataSource, final String url, final Properties dbProperties)
+            throws Exception {
         if (dataSource != null) {
             return dataSource.getConnection();
         } else {
@@ -126,6 +131,29 @@ public abstract class JdbcItemReaderWriterBase extends JsonItemReaderWriterBase
         }
     }
 
+    /**
+     * Builds the properties of a JDBC connection from the {@link #properties}, {@link #user} and {@link #password}
+     * batch properties.
+     *
+     * @param properties additional properties for the JDBC connection, may be null
+     * @param user       user name for the JDBC connection, may be null
+     * @param password   password for the JDBC connection, may be null
+     * @return the JDBC connection properties
+     */
+    static Properties getDbProperties(final Map<String, String> properties, final String user, final String password) {
+        final Properties dbProperties = new Properties();
+        if (properties != null) {
+            dbProperties.putAll(properties);
+        }
+        if (user != null) {
+            dbProperties.put("user", user.trim());
+        }
+        if (password != null) {
+            dbProperties.put("password", password.trim());
+        }
+        return dbProperties;
+    }
+
     protected static void close(final Connection connection, final Statement preparedStatement) {
         if (preparedStatement != null) {
             try {
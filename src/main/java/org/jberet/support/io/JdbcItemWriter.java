@@ -10,24 +10,12 @@
 
 package org.jberet.support.io;
 
-import java.io.InputStream;
-import java.io.Reader;
 import java.io.Serializable;
-import java.math.BigDecimal;
-import java.net.URI;
-import java.net.URL;
-import java.sql.Array;
 import java.sql.BatchUpdateException;
-import java.sql.Blob;
-import java.sql.Clob;
 import java.sql.Connection;
-import java.sql.NClob;
-import java.sql.Ref;
-import java.sql.RowId;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.SQLXML;
-import java.sql.Time;
-import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -97,26 +85,173 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
     @BatchProperty
     protected String[] parameterTypes;
 
+    /**
+     * Whether to obtain the JDBC connection and prepare {@link #sql} only once in {@link #open(Serializable)}, and
+     * reuse them to write all chunks of the current step. Optional property, and defaults to {@code false}, i.e.,
+     * a new connection and {@code PreparedStatement} are created for each chunk and closed after the chunk is written.
+     * <p>
+     * If {@link #dataSourceLookup} is not specified, the connection is in manual commit mode, and each chunk is
+     * committed or rolled back at the chunk boundary. If writing a chunk fails, the connection and
+     * {@code PreparedStatement} are discarded, and re-created when writing the next chunk, so that a broken
+     * connection does not affect subsequent chunks.
+     * <p>
+     * If {@link #dataSourceLookup} is specified, this property is ignored, and a connection is obtained for each
+     * chunk. A connection from a container-managed {@code DataSource} is enlisted in the JTA transaction of the chunk
+     * it is obtained in, and must not be used after that transaction completes.
+     */
+    @Inject
+    @BatchProperty
+    protected boolean reuseConnection;
+
+    /**
+     * Whether to bind sql parameters with their SQL types obtained from {@code java.sql.ParameterMetaData}, if
+     * {@link #parameterTypes} is not specified. Optional property, and defaults to {@code false}. When set to
+     * {@code true}, the SQL types are retrieved only once for the step, and each parameter is bound with
+     * {@link java.sql.PreparedStatement#setObject(int, Object, int)}, or
+     * {@link java.sql.PreparedStatement#setNull(int, int)} for null values, which some JDBC drivers require for
+     * null parameters. If the JDBC driver does not support {@code ParameterMetaData}, this property is ignored.
+     */
+    @Inject
+    @BatchProperty
+    protected boolean useParameterMetaData;
+
+    /**
+     * The maximum number of rows to insert with one multi-row insert statement. Optional property, and defaults to
+     * 0, i.e., each data item is inserted with {@link #sql} added to a JDBC batch. If greater than 1, the
+     * {@code VALUES} row of {@link #sql} is repeated up to {@code rowsPerStatement} times, and each chunk is written
+     * with as few multi-row insert statements as possible, which is much faster with JDBC drivers that send batched
+     * statements to the database server one by one. For example, if {@link #sql} is
+     * <p>
+     * INSERT INTO PERSON(NAME, ADDRESS, AGE) VALUES(?, ?, ?)
+     * <p>
+     * and {@code rowsPerStatement} is 3, the following statement is used to insert 3 data items:
+     * <p>
+     * INSERT INTO PERSON(NAME, ADDRESS, AGE) VALUES (?, ?, ?), (?, ?, ?), (?, ?, ?)
+     * <p>
+     * The target database must support multi-row {@code VALUES} syntax.
+     *
+     * @see #maxParametersPerStatement
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected int rowsPerStatement;
+
+    /**
+     * The maximum number of sql parameters in one multi-row insert statement, e.g., 2100 for SQL Server, or 65535
+     * for PostgreSQL. Optional property, and defaults to 0 (no limit). If specified, {@link #rowsPerStatement} is
+     * reduced so that each multi-row insert statement contains no more than {@code maxParametersPerStatement}
+     * parameters.
+     *
+     * @see #rowsPerStatement
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected int maxParametersPerStatement;
+
+    /**
+     * Fully-qualified name of a class that implements {@link JdbcBulkLoader}, to write each chunk with a
+     * driver-specific bulk-load API, e.g., {@link PostgresCopyBulkLoader}. Optional property, and defaults to null.
+     * If specified, the target table and columns are taken from {@link #sql}, which is not executed, and
+     * {@link #rowsPerStatement} is ignored. Columns whose values in {@link #sql} are not sql parameters are not
+     * loaded.
+     *
+     * @see JdbcBulkLoader
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected Class bulkLoader;
+
+    protected Connection connection;
+
+    /**
+     * {@link #parameterTypes} resolved in {@link #open(Serializable)}, or null if {@link #parameterTypes} is not set.
+     */
+    private JdbcDataType[] parameterDataTypes;
+
+    /**
+     * The custom bean type that {@link #parameterBinder} is compiled for. Initialized to {@link #beanType}, and
+     * changed if incoming data items are of a different type.
+     */
+    private Class<?> boundType;
+
+    /**
+     * Binder compiled for {@link #boundType}, or null if {@link #boundType} cannot be bound directly.
+     */
+    private JdbcParameterBinder parameterBinder;
+
+    /**
+     * Whether {@code java.sql.ParameterMetaData} of {@link #sql} has been retrieved.
+     */
+    private boolean parameterMetaDataResolved;
+
+    /**
+     * The number of parameters in {@link #sql} from {@code java.sql.ParameterMetaData}, or -1 if not available.
+     */
+    private int parameterCount = -1;
+
+    /**
+     * SQL types of parameters in {@link #sql} from {@code java.sql.ParameterMetaData}, or null if
+     * {@link #useParameterMetaData} is false, or not available.
+     */
+    private int[] parameterSqlTypes;
+
+    /**
+     * The number of sql parameters in each row of a multi-row insert statement.
+     */
+    private int rowParameterCount;
+
+    /**
+     * The {@link JdbcBulkLoader} instance, or null if {@link #bulkLoader} is not specified.
+     */
+    private JdbcBulkLoader bulkLoaderInstance;
+
+    /**
+     * The target table of {@link #bulkLoaderInstance}.
+     */
+    private String bulkTable;
+
+    /**
+     * The target columns of {@link #bulkLoaderInstance}.
+     */
+    private String[] bulkColumns;
+
     @Override
     public void writeItems(final List<Object> items) throws Exception {
-        Connection connection = null;
         try {
-            connection = getConnection();
-            if (dataSource == null) {
-                connection.setAutoCommit(false);
+            if (connection == null) {
+                openConnection();
             }
-            preparedStatement = connection.prepareStatement(sql);
-            for (final Object item : items) {
-                mapParameters(item);
-                preparedStatement.addBatch();
+            if (bulkLoaderInstance != null) {
+                final List<Object[]> rows = new ArrayList<Object[]>(items.size());
+                for (final Object item : items) {
+                    rows.add(parameterValues(item));
+                }
+                bulkLoaderInstance.load(connection, bulkTable, bulkColumns, rows);
+            } else if (rowsPerStatement > 1) {
+                writeMultiRows(items);
+            } else {
+                for (final Object item : items) {
+                    bindItem(preparedStatement, 0, item);
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
             }
-            preparedStatement.executeBatch();
             if (dataSource == null) {
                 connection.commit();
             }
         } catch (Exception e) {
             if (dataSource == null && connection != null) {
-                connection.rollback();
+                try {
+                    connection.rollback();
+                } catch (final SQLException rollbackException) {
+                    SupportLogger.LOGGER.tracef(rollbackException, "Failed to roll back connection");
+                }
+            }
+            if (reuseConnection) {
+                closeConnection();
             }
             if(e instanceof SQLException) {
                 final SQLException sqlException = (SQLException) e;
@@ -134,7 +269,9 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
             }
             throw e;
         } finally {
-            JdbcItemReaderWriterBase.close(connection, preparedStatement);
+            if (!reuseConnection) {
+                closeConnection();
+            }
         }
     }
 
@@ -145,6 +282,218 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
         if (parameterNames == null && beanType != java.util.List.class) {
             parameterNames = determineParameterNames(sql);
         }
+        parameterDataTypes = JdbcDataType.resolve(parameterTypes, "parameterTypes");
+        if (beanType != null && beanType != java.util.List.class && beanType != Map.class) {
+            compileParameterBinder(beanType);
+        }
+        if (bulkLoader != null) {
+            if (!JdbcBulkLoader.class.isAssignableFrom(bulkLoader)) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, bulkLoader.getName(), "bulkLoader");
+            }
+            bulkLoaderInstance = (JdbcBulkLoader) bulkLoader.getDeclaredConstructor().newInstance();
+            bulkTable = determineTable(sql);
+            bulkColumns = determineParameterNames(sql);
+        } else if (rowsPerStatement > 1) {
+            rowParameterCount = countParameters(valuesRow(sql));
+            if (maxParametersPerStatement > 0 && rowParameterCount > 0) {
+                rowsPerStatement = Math.min(rowsPerStatement,
+                        Math.max(1, maxParametersPerStatement / rowParameterCount));
+            }
+        }
+        if (reuseConnection && dataSource != null) {
+            //a container-managed connection is bound to the transaction of the chunk it is obtained in
+            SupportLogger.LOGGER.tracef("Ignoring reuseConnection with dataSourceLookup %s%n", dataSourceLookup);
+            reuseConnection = false;
+        }
+        if (reuseConnection) {
+            openConnection();
+        }
+    }
+
+    /**
+     * Obtains a JDBC connection and prepares {@link #sql} with it.
+     *
+     * @throws Exception if failed to get connection or prepare statement
+     */
+    protected void openConnection() throws Exception {
+        connection = getConnection();
+        try {
+            if (dataSource == null) {
+                connection.setAutoCommit(false);
+            }
+            if (bulkLoaderInstance == null) {
+                preparedStatement = connection.prepareStatement(
+                        rowsPerStatement > 1 ? multiRowInsert(sql, rowsPerStatement) : sql);
+                if (!parameterMetaDataResolved && (beanType == java.util.List.class || useParameterMetaData)) {
+                    resolveParameterMetaData();
+                }
+            }
+        } catch (final Exception e) {
+            closeConnection();
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the number of parameters, and if {@link #useParameterMetaData} is true, the SQL types of parameters
+     * in {@link #sql}. Since some JDBC drivers make a round-trip to the database server or parse the sql to obtain
+     * {@code java.sql.ParameterMetaData}, this is done only once for the step. If {@link #preparedStatement} is a
+     * multi-row insert statement, the parameter count and SQL types are those of one row.
+     */
+    private void resolveParameterMetaData() {
+        parameterMetaDataResolved = true;
+        if (preparedStatement == null) {
+            //bulk loader: the row size is the number of parameters in sql
+            parameterCount = bulkColumns.length;
+            return;
+        }
+        try {
+            final ParameterMetaData metaData = preparedStatement.getParameterMetaData();
+            parameterCount = metaData.getParameterCount() / Math.max(rowsPerStatement, 1);
+            if (useParameterMetaData && parameterTypes == null) {
+                final int[] sqlTypes = new int[parameterCount];
+                for (int i = 0; i < parameterCount; ++i) {
+                    sqlTypes[i] = metaData.getParameterType(i + 1);
+                }
+                parameterSqlTypes = sqlTypes;
+            }
+        } catch (final Exception e) {
+            SupportLogger.LOGGER.tracef(e, "Failed to get ParameterMetaData of %s", sql);
+        }
+    }
+
+    /**
+     * Closes the current {@code PreparedStatement} and JDBC connection, if any.
+     */
+    protected void closeConnection() {
+        JdbcItemReaderWriterBase.close(connection, preparedStatement);
+        connection = null;
+        preparedStatement = null;
+    }
+
+    /**
+     * Writes the data items with multi-row insert statements of {@link #rowsPerStatement} rows, which are added to a
+     * JDBC batch, and the remaining data items with a multi-row insert statement of fewer rows.
+     *
+     * @param items the data items to write
+     * @throws Exception if failed to bind parameters or execute statements
+     */
+    private void writeMultiRows(final List<Object> items) throws Exception {
+        final int size = items.size();
+        final int fullSize = size - size % rowsPerStatement;
+        int i = 0;
+        if (fullSize > 0) {
+            while (i < fullSize) {
+                for (int row = 0; row < rowsPerStatement; ++row) {
+                    bindItem(preparedStatement, row * rowParameterCount, items.get(i++));
+                }
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+        if (i < size) {
+            final PreparedStatement remainderStatement =
+                    connection.prepareStatement(multiRowInsert(sql, size - i));
+            try {
+                for (int row = 0; i < size; ++row) {
+                    bindItem(remainderStatement, row * rowParameterCount, items.get(i++));
+                }
+                remainderStatement.executeUpdate();
+            } finally {
+                JdbcItemReaderWriterBase.close(null, remainderStatement);
+            }
+        }
+    }
+
+    /**
+     * Builds a multi-row insert statement by repeating the {@code VALUES} row of {@code sql}.
+     *
+     * @param sql  the single-row insert statement
+     * @param rows the number of rows
+     * @return the multi-row insert statement
+     */
+    static String multiRowInsert(final String sql, final int rows) {
+        final int[] range = valuesRowRange(sql);
+        final String row = sql.substring(range[0], range[1] + 1);
+        final StringBuilder sb = new StringBuilder(sql.length() + (row.length() + 2) * (rows - 1));
+        sb.append(sql, 0, range[0]);
+        for (int i = 0; i < rows; ++i) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(row);
+        }
+        return sb.append(sql, range[1] + 1, sql.length()).toString();
+    }
+
+    /**
+     * Gets the {@code VALUES} row of an insert statement, excluding the enclosing parentheses.
+     *
+     * @param sql the insert statement
+     * @return the content of the {@code VALUES} row
+     */
+    private static String valuesRow(final String sql) {
+        final int[] range = valuesRowRange(sql);
+        return sql.substring(range[0] + 1, range[1]);
+    }
+
+    /**
+     * Finds the positions of the left and right parentheses enclosing the {@code VALUES} row of an insert statement.
+     * The right parenthesis is the one matching the left parenthesis, so that any clause after the {@code VALUES}
+     * row is preserved.
+     */
+    private static int[] valuesRowRange(final String sql) {
+        final String sqlLowerCase = sql.toLowerCase();
+        final int insertPos = sqlLowerCase.indexOf("insert");
+        final int columnsEndPos = sqlLowerCase.indexOf(')', sqlLowerCase.indexOf('(', insertPos + 7) + 1);
+        final int valuesPos = sqlLowerCase.indexOf("values", columnsEndPos + 1);
+        final int leftParenthesisPos = valuesPos < 0 ? -1 : sqlLowerCase.indexOf('(', valuesPos + 1);
+        int depth = 0;
+        boolean quoted = false;
+        for (int i = Math.max(leftParenthesisPos, 0); leftParenthesisPos >= 0 && i < sql.length(); ++i) {
+            final char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                depth++;
+            } else if (!quoted && c == ')' && --depth == 0) {
+                return new int[]{leftParenthesisPos, i};
+            }
+        }
+        throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, sql, "sql");
+    }
+
+    /**
+     * Counts the sql parameter markers, excluding those in quoted literals.
+     */
+    private static int countParameters(final String sql) {
+        int count = 0;
+        boolean quoted = false;
+        for (int i = 0; i < sql.length(); ++i) {
+            final char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the target table of an insert statement.
+     *
+     * @param sql the insert statement
+     * @return the target table, as specified in {@code sql}
+     */
+    static String determineTable(final String sql) {
+        final String sqlLowerCase = sql.toLowerCase();
+        final int intoPos = sqlLowerCase.indexOf("into", sqlLowerCase.indexOf("insert") + 6);
+        final int leftParenthesisPos = sqlLowerCase.indexOf('(', intoPos + 4);
+        if (intoPos < 0 || leftParenthesisPos < 0) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, sql, "sql");
+        }
+        return sql.substring(intoPos + 4, leftParenthesisPos).trim();
     }
 
     static String[] determineParameterNames(final String sql) {
@@ -180,7 +529,7 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
 
     @Override
     public void close() throws Exception {
-
+        closeConnection();
     }
 
     @Override
@@ -188,7 +537,45 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
         return null;
     }
 
-    private void mapParameters(final Object item) throws Exception {
+    private void compileParameterBinder(final Class<?> type) throws Exception {
+        //a bulk loader formats dates itself, instead of receiving epoch milliseconds
+        parameterBinder = JdbcParameterBinder.compile(objectMapper, type, parameterNames, parameterDataTypes,
+                bulkLoader != null);
+        boundType = type;
+    }
+
+    /**
+     * Sets the parameters of a data item on the {@code PreparedStatement}.
+     *
+     * @param statement the {@code PreparedStatement} to set parameters on
+     * @param offset    the number of parameters before the first parameter of this item
+     * @param item      the data item
+     * @throws Exception if failed to set parameters
+     */
+    private void bindItem(final PreparedStatement statement, final int offset, final Object item) throws Exception {
+        if (!(item instanceof List) && !(item instanceof Map)) {
+            if (item.getClass() != boundType) {
+                compileParameterBinder(item.getClass());
+            }
+            if (parameterBinder != null) {
+                parameterBinder.bind(statement, offset, item, parameterSqlTypes);
+                return;
+            }
+        }
+        final Object[] values = parameterValues(item);
+        for (int i = 0; i < values.length; ++i) {
+            setParameter(statement, offset, i, values[i]);
+        }
+    }
+
+    /**
+     * Gets the sql parameter values of a data item.
+     *
+     * @param item the data item
+     * @return the parameter values, in the same order as sql parameters
+     * @throws Exception if failed to get parameter values
+     */
+    private Object[] parameterValues(final Object item) throws Exception {
         if (item instanceof List) {
             final List itemAsList = (List) item;
             final int itemSize = itemAsList.size();
@@ -199,217 +586,43 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
             //the item list may contain more elements than the number of sql parameters
             //in the insert sql statement. So first count the number of sql parameters,
             // if supported by the jdbc driver.
-            int parameterCount;
-            try {
-                parameterCount = preparedStatement.getParameterMetaData().getParameterCount();
-            } catch (final Exception e) {
-                parameterCount = itemSize;
+            if (!parameterMetaDataResolved) {
+                resolveParameterMetaData();
             }
-
-            for (int i = 0; i < parameterCount; ++i) {
-                setParameter(i, itemAsList.get(i));
-            }
-        } else {
-            final Map itemAsMap;
-            if (item instanceof Map) {
-                itemAsMap = (Map) item;
-            } else {
-                itemAsMap = objectMapper.convertValue(item, Map.class);
+            final int count = parameterCount >= 0 ? parameterCount :
+                    rowsPerStatement > 1 ? rowParameterCount : itemSize;
+            return itemAsList.subList(0, count).toArray();
+        }
+        if (!(item instanceof Map)) {
+            if (item.getClass() != boundType) {
+                compileParameterBinder(item.getClass());
             }
-            for (int i = 0; i < parameterNames.length; ++i) {
-                setParameter(i, itemAsMap.get(parameterNames[i]));
+            if (parameterBinder != null) {
+                return parameterBinder.read(item);
             }
         }
+        final Map itemAsMap;
+        if (item instanceof Map) {
+            itemAsMap = (Map) item;
+        } else {
+            itemAsMap = objectMapper.convertValue(item, Map.class);
+        }
+        final Object[] values = new Object[parameterNames.length];
+        for (int i = 0; i < parameterNames.length; ++i) {
+            values[i] = itemAsMap.get(parameterNames[i]);
+        }
+        return values;
     }
 
-    private void setParameter(final int i, final Object val) throws Exception {
-        final int pos = i + 1;
-        if (parameterTypes == null) {
-            preparedStatement.setObject(i + 1, val);
-            return;
-        }
-        final String type = parameterTypes[i];
-        if (type.equals("String")) {
-            preparedStatement.setString(pos, val == null ? null : val.toString());
-        } else if (type.equals("Date")) {
-            if (val == null) {
-                preparedStatement.setDate(pos, null);
-            } else {
-                final java.sql.Date sqlDate;
-                if (val instanceof java.sql.Date) {
-                    sqlDate = (java.sql.Date) val;
-                } else if (val instanceof java.util.Date) {
-                    sqlDate = new java.sql.Date(((java.util.Date) val).getTime());
-                } else if (val instanceof Long) {
-                    sqlDate = new java.sql.Date((Long) val);
-                } else {
-                    sqlDate = new java.sql.Date(Long.parseLong(val.toString()));
-                }
-                preparedStatement.setDate(pos, sqlDate);
-            }
-        } else if (type.equals("Timestamp")) {
-            if (val == null) {
-                preparedStatement.setTimestamp(pos, null);
-            } else {
-                final Timestamp sqlTimestamp;
-                if (val instanceof Timestamp) {
-                    sqlTimestamp = (Timestamp) val;
-                } else if (val instanceof java.util.Date) {
-                    sqlTimestamp = new Timestamp(((java.util.Date) val).getTime());
-                } else if (val instanceof Long) {
-                    sqlTimestamp = new Timestamp((Long) val);
-                } else {
-                    sqlTimestamp = new Timestamp(Long.parseLong(val.toString()));
-                }
-                preparedStatement.setTimestamp(pos, sqlTimestamp);
-            }
-        } else if (type.equals("Time")) {
-            if (val == null) {
-                preparedStatement.setTime(pos, null);
-            } else {
-                final Time sqlTime;
-                if (val instanceof Time) {
-                    sqlTime = (Time) val;
-                } else if (val instanceof java.util.Date) {
-                    sqlTime = new Time(((java.util.Date) val).getTime());
-                } else if (val instanceof Long) {
-                    sqlTime = new Time((Long) val);
-                } else {
-                    sqlTime = new Time(Long.parseLong(val.toString()));
-                }
-                preparedStatement.setTime(pos, sqlTime);
-            }
-        } else if (type.equals("Object") || type.equals("null")) {
-            preparedStatement.setObject(pos, val);
-        } else if (type.equals("NString")) {
-            preparedStatement.setNString(pos, val == null ? null : val.toString());
-        } else if (type.equals("Boolean")) {
-            preparedStatement.setBoolean(pos, (val instanceof Boolean ? (Boolean) val :
-                    val != null && Boolean.parseBoolean(val.toString())));
-        } else if (type.equals("Int")) {
-            preparedStatement.setInt(pos, (val instanceof Integer ? (Integer) val :
-                    val == null ? 0 : Integer.parseInt(val.toString())));
-        } else if (type.equals("Long")) {
-            preparedStatement.setLong(pos, (val instanceof Long ? (Long) val :
-                    val == null ? 0 : Long.parseLong(val.toString())));
-        } else if (type.equals("Double")) {
-            preparedStatement.setDouble(pos, (val instanceof Double ? (Double) val :
-                    val == null ? 0 : Double.parseDouble(val.toString())));
-        } else if (type.equals("Float")) {
-            preparedStatement.setFloat(pos, (val instanceof Float ? (Float) val :
-                    val == null ? 0 : Float.parseFloat(val.toString())));
-        } else if (type.equals("Short")) {
-            preparedStatement.setShort(pos, (val instanceof Short ? (Short) val :
-                    val == null ? 0 : Short.parseShort(val.toString())));
-        } else if (type.equals("Byte")) {
-            preparedStatement.setByte(pos, (val instanceof Byte ? (Byte) val :
-                    val == null ? 0 : Byte.parseByte(val.toString())));
-        } else if (type.equals("Blob")) {
-            if (val == null) {
-                preparedStatement.setBlob(pos, (Blob) null);
-            } else if (val instanceof Blob) {
-                preparedStatement.setBlob(pos, (Blob) val);
-            } else if (val instanceof InputStream) {
-                preparedStatement.setBlob(pos, (InputStream) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Blob | InputStream", val.getClass().getName(), val);
-            }
-        } else if (type.equals("Clob")) {
-            if (val == null) {
-                preparedStatement.setClob(pos, (Clob) null);
-            } else if (val instanceof Clob) {
-                preparedStatement.setClob(pos, (Clob) val);
-            } else if (val instanceof Reader) {
-                preparedStatement.setClob(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Clob | Reader", val.getClass().getName(), val);
-            }
-        } else if (type.equals("NClob")) {
-            if (val == null) {
-                preparedStatement.setNClob(pos, (NClob) null);
-            } else if (val instanceof NClob) {
-                preparedStatement.setNClob(pos, (NClob) val);
-            } else if (val instanceof Reader) {
-                preparedStatement.setNClob(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("NClob | Reader", val.getClass().getName(), val);
-            }
-        } else if (type.equals("BigDecimal")) {
-            preparedStatement.setBigDecimal(pos, (val instanceof BigDecimal ? (BigDecimal) val :
-                    val == null ? null : new BigDecimal(val.toString())));
-        } else if (type.equals("URL")) {
-            preparedStatement.setURL(pos, (val instanceof URL ? (URL) val :
-                    val == null ? null : (new URI(val.toString())).toURL()));
-        } else if (type.equals("Bytes")) {
-            preparedStatement.setBytes(pos, (val instanceof byte[] ? (byte[]) val :
-                    val == null ? null : val.toString().getBytes()));
-        } else if (type.equals("BinaryStream")) {
-            if (val == null) {
-                preparedStatement.setBinaryStream(pos, null);
-            } else if (val instanceof InputStream) {
-                preparedStatement.setBinaryStream(pos, (InputStream) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
-            }
-        } else if (type.equals("CharacterStream")) {
-            if (val == null) {
-                preparedStatement.setCharacterStream(pos, null);
-            } else if (val instanceof Reader) {
-                preparedStatement.setCharacterStream(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
-            }
-        } else if (type.equals("NCharacterStream")) {
-            if (val == null) {
-                preparedStatement.setNCharacterStream(pos, null);
-            } else if (val instanceof Reader) {
-                preparedStatement.setNCharacterStream(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
-            }
-        } else if (type.equals("AsciiStream")) {
-            if (val == null) {
-                preparedStatement.setAsciiStream(pos, null);
-            } else if (val instanceof InputStream) {
-                preparedStatement.setAsciiStream(pos, (InputStream) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
-            }
-        } else if (type.equals("Ref")) {
-            if (val == null) {
-                preparedStatement.setRef(pos, null);
-            } else if (val instanceof Ref) {
-                preparedStatement.setRef(pos, (Ref) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Ref", val.getClass().getName(), val);
-            }
-        } else if (type.equals("RowId")) {
-            if (val == null) {
-                preparedStatement.setRowId(pos, null);
-            } else if (val instanceof RowId) {
-                preparedStatement.setRowId(pos, (RowId) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.RowId", val.getClass().getName(), val);
-            }
-        } else if (type.equals("SQLXML")) {
-            if (val == null) {
-                preparedStatement.setSQLXML(pos, null);
-            } else if (val instanceof SQLXML) {
-                preparedStatement.setSQLXML(pos, (SQLXML) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.SQLXML", val.getClass().getName(), val);
-            }
-        } else if (type.equals("Array")) {
-            if (val == null) {
-                preparedStatement.setArray(pos, null);
-            } else if (val instanceof Array) {
-                preparedStatement.setArray(pos, (Array) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Array", val.getClass().getName(), val);
-            }
+    private void setParameter(final PreparedStatement statement, final int offset, final int i, final Object val)
+            throws Exception {
+        final int pos = offset + i + 1;
+        if (parameterDataTypes != null) {
+            parameterDataTypes[i].set(statement, pos, val);
+        } else if (parameterSqlTypes != null && i < parameterSqlTypes.length) {
+            JdbcDataType.setObject(statement, pos, val, parameterSqlTypes[i]);
         } else {
-            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(
-                    null, Arrays.toString(parameterTypes), "parameterTypes");
+            statement.setObject(pos, val);
         }
     }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.UnwrappingBeanPropertyWriter;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+/**
+ * Binds the properties of a custom bean type directly to {@code PreparedStatement} parameters, without first
+ * converting each bean to a {@code java.util.Map}. It is compiled once from {@link JdbcItemWriter#beanType},
+ * {@link JdbcItemWriter#parameterNames} and {@link JdbcItemWriter#parameterTypes}, and reuses the bean property
+ * accessors that Jackson would use when serializing the bean, so that property naming (e.g., via annotations)
+ * stays the same as in {@code objectMapper.convertValue(item, Map.class)}.
+ * <p>
+ * Property values whose java type is not directly usable by the configured {@code PreparedStatement} setter, or
+ * that are customized with a serializer or format annotation, are converted individually with
+ * {@code ObjectMapper}, to produce the same parameter values as the {@code Map}-based conversion.
+ *
+ * @see JdbcItemWriter
+ * @since 2.1.3
+ */
+final class JdbcParameterBinder {
+    private final PropertyReader[] readers;
+    private final JdbcDataType[] types;
+
+    private JdbcParameterBinder(final PropertyReader[] readers, final JdbcDataType[] types) {
+        this.readers = readers;
+        this.types = types;
+    }
+
+    /**
+     * Compiles a binder for the bean type.
+     *
+     * @param objectMapper   the {@code ObjectMapper} configured for the writer
+     * @param beanType       the custom bean type of incoming data items
+     * @param parameterNames names of bean properties, in the same order as sql parameters
+     * @param types          resolved parameter types, or null to use {@code setObject} for all parameters
+     * @return a binder for the bean type, or null if the bean type is serialized by a custom or non-standard
+     * serializer, in which case the caller should fall back to {@code Map}-based conversion
+     * @throws Exception if failed to introspect the bean type
+     */
+    static JdbcParameterBinder compile(final ObjectMapper objectMapper,
+                                       final Class<?> beanType,
+                                       final String[] parameterNames,
+                                       final JdbcDataType[] types) throws Exception {
+        return compile(objectMapper, beanType, parameterNames, types, false);
+    }
+
+    /**
+     * Compiles a binder for the bean type.
+     *
+     * @param objectMapper   the {@code ObjectMapper} configured for the writer
+     * @param beanType       the custom bean type of incoming data items
+     * @param parameterNames names of bean properties, in the same order as sql parameters
+     * @param types          resolved parameter types, or null to use {@code setObject} for all parameters
+     * @param keepDates      whether {@code java.util.Date} property values are kept as is, instead of converted to
+     *                       epoch milliseconds, e.g., for a {@link JdbcBulkLoader} that formats them as text
+     * @return a binder for the bean type, or null if the bean type is serialized by a custom or non-standard
+     * serializer, in which case the caller should fall back to {@code Map}-based conversion
+     * @throws Exception if failed to introspect the bean type
+     */
+    static JdbcParameterBinder compile(final ObjectMapper objectMapper,
+                                       final Class<?> beanType,
+                                       final String[] parameterNames,
+                                       final JdbcDataType[] types,
+                                       final boolean keepDates) throws Exception {
+        final JsonSerializer<Object> serializer =
+                objectMapper.getSerializerProviderInstance().findValueSerializer(beanType);
+        if (!(serializer instanceof BeanSerializer)) {
+            return null;
+        }
+        final SerializationConfig config = objectMapper.getSerializationConfig();
+        final BeanDescription beanDescription = config.introspect(config.constructType(beanType));
+        if (beanDescription.findAnyGetter() != null ||
+                config.getAnnotationIntrospector().findFilterId(beanDescription.getClassInfo()) != null) {
+            return null;
+        }
+
+        final Map<String, BeanPropertyWriter> properties = new HashMap<String, BeanPropertyWriter>();
+        for (final Iterator<PropertyWriter> it = serializer.properties(); it.hasNext(); ) {
+            final PropertyWriter p = it.next();
+            if (!(p instanceof BeanPropertyWriter) || p instanceof UnwrappingBeanPropertyWriter) {
+                return null;
+            }
+            properties.put(p.getName(), (BeanPropertyWriter) p);
+        }
+
+        final boolean datesAsTimestamps = config.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        final PropertyReader[] readers = new PropertyReader[parameterNames.length];
+        for (int i = 0; i < parameterNames.length; ++i) {
+            final BeanPropertyWriter property = properties.get(parameterNames[i]);
+            if (property != null) {
+                final JdbcDataType type = types == null ? JdbcDataType.OBJECT : types[i];
+                readers[i] = new PropertyReader(property, objectMapper,
+                        conversionOf(property, type, datesAsTimestamps, keepDates));
+            }
+        }
+        return new JdbcParameterBinder(readers, types);
+    }
+
+    /**
+     * Binds the bean properties to the parameters of the {@code PreparedStatement}.
+     *
+     * @param preparedStatement the {@code PreparedStatement} to set parameters on
+     * @param offset the number of parameters before the first parameter of this item, e.g., in a multi-row insert
+     *               statement
+     * @param item the data item of the bean type
+     * @param sqlTypes SQL types of parameters, used only if no parameter types were given when compiling this binder.
+     *                 May be null.
+     * @throws Exception if failed to read bean property or set parameter
+     */
+    void bind(final PreparedStatement preparedStatement, final int offset, final Object item, final int[] sqlTypes)
+            throws Exception {
+        for (int i = 0; i < readers.length; ++i) {
+            final Object val = readers[i] == null ? null : readers[i].read(item);
+            final int pos = offset + i + 1;
+            if (types != null) {
+                types[i].set(preparedStatement, pos, val);
+            } else if (sqlTypes != null && i < sqlTypes.length) {
+                JdbcDataType.setObject(preparedStatement, pos, val, sqlTypes[i]);
+            } else {
+                preparedStatement.setObject(pos, val);
+            }
+        }
+    }
+
+    /**
+     * Reads the bean properties into an array of parameter values, without binding them.
+     *
+     * @param item the data item of the bean type
+     * @return the parameter values, in the same order as sql parameters
+     * @throws Exception if failed to read bean property
+     */
+    Object[] read(final Object item) throws Exception {
+        final Object[] values = new Object[readers.length];
+        for (int i = 0; i < readers.length; ++i) {
+            values[i] = readers[i] == null ? null : readers[i].read(item);
+        }
+        return values;
+    }
+
+    private static int conversionOf(final BeanPropertyWriter property,
+                                    final JdbcDataType type,
+                                    final boolean datesAsTimestamps,
+                                    final boolean keepDates) {
+        final JsonSerializer<Object> propertySerializer = property.getSerializer();
+        if ((propertySerializer != null && !ClassUtil.isJacksonStdImpl(propertySerializer)) ||
+                property.getAnnotation(JsonFormat.class) != null) {
+            return PropertyReader.CONVERT;
+        }
+        Class<?> rawType = property.getType().getRawClass();
+        if (rawType.isPrimitive()) {
+            rawType = ClassUtil.wrapperType(rawType);
+        }
+        if (rawType == String.class || rawType == Boolean.class || rawType == Integer.class ||
+                rawType == Long.class || rawType == Double.class || rawType == Float.class ||
+                rawType == Short.class || rawType == Byte.class) {
+            return PropertyReader.DIRECT;
+        }
+        if (rawType == BigDecimal.class && type == JdbcDataType.BIG_DECIMAL) {
+            return PropertyReader.DIRECT;
+        }
+        if (java.util.Date.class.isAssignableFrom(rawType) && (datesAsTimestamps || keepDates)) {
+            return keepDates || type == JdbcDataType.DATE || type == JdbcDataType.TIMESTAMP ||
+                    type == JdbcDataType.TIME ?
+                    PropertyReader.DIRECT : PropertyReader.DATE_TO_MILLIS;
+        }
+        return PropertyReader.CONVERT;
+    }
+
+    private static final class PropertyReader {
+        /**
+         * The property value is used as is.
+         */
+        static final int DIRECT = 0;
+
+        /**
+         * The {@code java.util.Date} property value is converted to epoch milliseconds.
+         */
+        static final int DATE_TO_MILLIS = 1;
+
+        /**
+         * The property value is converted with {@code ObjectMapper}.
+         */
+        static final int CONVERT = 2;
+
+        private final BeanPropertyWriter property;
+        private final ObjectMapper objectMapper;
+        private final int conversion;
+
+        private PropertyReader(final BeanPropertyWriter property, final ObjectMapper objectMapper, final int conversion) {
+            this.property = property;
+            this.objectMapper = objectMapper;
+            this.conversion = conversion;
+        }
+
+        Object read(final Object bean) throws Exception {
+            final Object val = property.get(bean);
+            if (val == null || conversion == DIRECT) {
+                return val;
+            }
+            if (conversion == DATE_TO_MILLIS) {
+                return ((java.util.Date) val).getTime();
+            }
+            return objectMapper.convertValue(val, Object.class);
+        }
+    }
+}
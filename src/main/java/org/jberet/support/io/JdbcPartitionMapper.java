@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.naming.InitialContext;
+import javax.sql.DataSource;
+
+import org.jberet.support._private.SupportLogger;
+import org.jberet.support._private.SupportMessages;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.partition.PartitionMapper;
+import jakarta.batch.api.partition.PartitionPlan;
+import jakarta.batch.api.partition.PartitionPlanImpl;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.partition.PartitionMapper} that splits the rows of a query into
+ * ranges of a numeric or date key column, so that each partition of a {@link JdbcItemReader} step scans only its
+ * own slice of the table, instead of executing the full query and skipping rows with {@code start} and {@code end}.
+ * <p>
+ * Each partition plan contains the following partition properties, to be referenced in the reader configuration
+ * in job xml:
+ * <ul>
+ * <li>partitionColumn: same as {@link #partitionColumn}
+ * <li>partitionColumnType: the {@link JdbcItemReader#partitionColumnType} to bind range bounds with
+ * <li>partitionStart: the inclusive lower bound of the range, or empty for the first partition
+ * <li>partitionEnd: the exclusive upper bound of the range, or empty for the last partition
+ * </ul>
+ * For example:
+ * <pre>
+ * &lt;chunk&gt;
+ *     &lt;reader ref="jdbcItemReader"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="sql" value="SELECT * FROM STOCK_TRADE"/&gt;
+ *             &lt;property name="partitionColumn" value="#{partitionPlan['partitionColumn']}"/&gt;
+ *             &lt;property name="partitionColumnType" value="#{partitionPlan['partitionColumnType']}"/&gt;
+ *             &lt;property name="partitionStart" value="#{partitionPlan['partitionStart']}"/&gt;
+ *             &lt;property name="partitionEnd" value="#{partitionPlan['partitionEnd']}"/&gt;
+ *             ...
+ *         &lt;/properties&gt;
+ *     &lt;/reader&gt;
+ *     ...
+ * &lt;/chunk&gt;
+ * &lt;partition&gt;
+ *     &lt;mapper ref="jdbcPartitionMapper"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="sql" value="SELECT * FROM STOCK_TRADE"/&gt;
+ *             &lt;property name="partitionColumn" value="TRADEDATE"/&gt;
+ *             &lt;property name="partitionCount" value="4"/&gt;
+ *             ...
+ *         &lt;/properties&gt;
+ *     &lt;/mapper&gt;
+ * &lt;/partition&gt;
+ * </pre>
+ *
+ * @see JdbcItemReader
+ * @since 2.1.3
+ */
+@Named
+@Dependent
+public class JdbcPartitionMapper implements PartitionMapper {
+    /**
+     * Splits the key range between MIN and MAX of {@link #partitionColumn} into ranges of equal width.
+     */
+    public static final String STRATEGY_RANGE = "range";
+
+    /**
+     * Splits the rows into ranges of equal row count, by querying the key values of {@link #partitionColumn} at
+     * evenly spaced row offsets.
+     */
+    public static final String STRATEGY_HISTOGRAM = "histogram";
+
+    /**
+     * The query of the {@link JdbcItemReader} to partition. It should be the same as the {@code sql} property
+     * of the reader.
+     */
+    @Inject
+    @BatchProperty
+    protected String sql;
+
+    /**
+     * Column label in the select list of {@link #sql} used to split rows into ranges. Required property. For
+     * {@link #STRATEGY_RANGE}, it must be of a numeric, date or timestamp SQL type. Rows whose key value is null
+     * are read by the first partition.
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionColumn;
+
+    /**
+     * Number of partitions. Optional property, and defaults to the number of available processors. Fewer
+     * partitions are created if there are not enough distinct key values.
+     */
+    @Inject
+    @BatchProperty
+    protected int partitionCount;
+
+    /**
+     * Number of threads to run partitions. Optional property, and defaults to the number of partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    /**
+     * How to find the range bounds of partitions. Optional property, and valid values are:
+     * <ul>
+     * <li>{@value #STRATEGY_RANGE} (default): queries MIN and MAX of {@link #partitionColumn}, and splits the key
+     * range into ranges of equal width. It is cheap, and suitable for evenly distributed keys such as sequence
+     * generated ids.
+     * <li>{@value #STRATEGY_HISTOGRAM}: counts the rows, and queries the value of {@link #partitionColumn} at the
+     * first row of each partition with the standard {@code OFFSET ... FETCH} clause, so that each partition reads
+     * about the same number of rows. It is suitable for skewed keys, and also supports key columns of other
+     * comparable SQL types, such as character strings. It issues one query per partition, which is cheap if
+     * {@link #partitionColumn} is indexed, and requires a database that supports {@code OFFSET ... FETCH}, such as
+     * PostgreSQL, Oracle 12c, SQL Server 2012, DB2 or H2.
+     * </ul>
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionStrategy;
+
+    /**
+     * JNDI lookup name of the {@code javax.sql.DataSource}. Optional property, and defaults to null. If specified,
+     * it will be used to look up the target {@code DataSource}, and other database connection batch properties for
+     * this mapper class will be ignored.
+     */
+    @Inject
+    @BatchProperty
+    protected String dataSourceLookup;
+
+    /**
+     * JDBC connection url
+     */
+    @Inject
+    @BatchProperty
+    protected String url;
+
+    /**
+     * User name for the JDBC connection
+     */
+    @Inject
+    @BatchProperty
+    protected String user;
+
+    /**
+     * Password for the JDBC connection
+     */
+    @Inject
+    @BatchProperty
+    protected String password;
+
+    /**
+     * Additional properties for the JDBC connection
+     */
+    @Inject
+    @BatchProperty
+    protected Map<String, String> properties;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        if (sql == null || (sql = sql.trim()).length() == 0) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, sql, "sql");
+        }
+        if (partitionColumn == null || (partitionColumn = partitionColumn.trim()).length() == 0) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, partitionColumn, "partitionColumn");
+        }
+        if (partitionCount <= 0) {
+            partitionCount = Runtime.getRuntime().availableProcessors();
+        }
+        final boolean histogram;
+        if (partitionStrategy == null || partitionStrategy.trim().isEmpty() ||
+                STRATEGY_RANGE.equals(partitionStrategy.trim())) {
+            histogram = false;
+        } else if (STRATEGY_HISTOGRAM.equals(partitionStrategy.trim())) {
+            histogram = true;
+        } else {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, partitionStrategy, "partitionStrategy");
+        }
+
+        final List<String> bounds = new ArrayList<String>();
+        final JdbcDataType type;
+        Connection connection = null;
+        try {
+            connection = getConnection();
+            type = histogram ? histogramBounds(connection, bounds) : rangeBounds(connection, bounds);
+        } finally {
+            JdbcItemReaderWriterBase.close(connection, null);
+        }
+
+        final Properties[] partitionProperties = new Properties[bounds.size() + 1];
+        for (int i = 0; i < partitionProperties.length; ++i) {
+            final Properties p = new Properties();
+            p.setProperty("partitionColumn", partitionColumn);
+            p.setProperty("partitionColumnType", type.getTypeName());
+            p.setProperty("partitionStart", i == 0 ? "" : bounds.get(i - 1));
+            p.setProperty("partitionEnd", i == bounds.size() ? "" : bounds.get(i));
+            partitionProperties[i] = p;
+            SupportLogger.LOGGER.tracef("Partition %s of %s: %s", i, partitionProperties.length, p);
+        }
+
+        final PartitionPlanImpl plan = new PartitionPlanImpl();
+        plan.setPartitions(partitionProperties.length);
+        plan.setThreads(threads > 0 ? threads : partitionProperties.length);
+        plan.setPartitionProperties(partitionProperties);
+        return plan;
+    }
+
+    /**
+     * Finds the bounds between partitions of equal key range width, from MIN and MAX of {@link #partitionColumn}.
+     *
+     * @param connection the JDBC connection
+     * @param bounds     the list to add the bounds to, in ascending order
+     * @return the data type to bind the bounds with
+     * @throws Exception if failed to query the key range
+     */
+    private JdbcDataType rangeBounds(final Connection connection, final List<String> bounds) throws Exception {
+        final String rangeSql = "SELECT MIN(" + partitionColumn + "), MAX(" + partitionColumn + ") FROM (" +
+                JdbcItemReader.stripOrderBy(sql) + ") JBERET_RANGE";
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(rangeSql);
+            final ResultSet rs = statement.executeQuery();
+            rs.next();
+            final JdbcDataType type = typeOf(rs.getMetaData().getColumnType(1));
+            if (type == null || type == JdbcDataType.STRING) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, partitionColumn, "partitionColumn");
+            }
+            final Object min = rs.getObject(1);
+            final Object max = rs.getObject(2);
+            if (min == null || max == null) {
+                //no rows, or all keys are null: a single partition reads all rows
+                return type;
+            }
+
+            String last = null;
+            for (int i = 1; i < partitionCount; ++i) {
+                final String bound;
+                if (type == JdbcDataType.DOUBLE) {
+                    final double lo = ((Number) min).doubleValue();
+                    final double hi = ((Number) max).doubleValue();
+                    bound = String.valueOf(lo + (hi - lo) * i / partitionCount);
+                } else if (type == JdbcDataType.BIG_DECIMAL) {
+                    final BigDecimal lo = (BigDecimal) min;
+                    final BigDecimal hi = (BigDecimal) max;
+                    bound = lo.add(hi.subtract(lo).multiply(BigDecimal.valueOf(i))
+                            .divide(BigDecimal.valueOf(partitionCount),
+                                    Math.max(lo.scale(), hi.scale()), RoundingMode.FLOOR)).toPlainString();
+                } else {
+                    //integral numbers, and dates as epoch milliseconds
+                    final long lo = toLong(min);
+                    final long hi = toLong(max);
+                    bound = BigDecimal.valueOf(lo).add(BigDecimal.valueOf(hi).subtract(BigDecimal.valueOf(lo))
+                            .add(BigDecimal.ONE).multiply(BigDecimal.valueOf(i))
+                            .divide(BigDecimal.valueOf(partitionCount), 0, RoundingMode.FLOOR)).toPlainString();
+                }
+                if (!bound.equals(last) && !bound.equals(format(min, type))) {
+                    bounds.add(bound);
+                    last = bound;
+                }
+            }
+            return type;
+        } finally {
+            JdbcItemReaderWriterBase.close(null, statement);
+        }
+    }
+
+    /**
+     * Finds the bounds between partitions of equal row count. The number of rows with non-null key is counted first,
+     * then each bound is the key value at the row offset of the first row of a partition, queried with the standard
+     * {@code OFFSET ... FETCH} clause, so that only one key value is transferred per partition. With an index on
+     * {@link #partitionColumn}, each query is answered from the index, without sorting all rows.
+     *
+     * @param connection the JDBC connection
+     * @param bounds     the list to add the bounds to, in ascending order
+     * @return the data type to bind the bounds with
+     * @throws Exception if failed to query the key values
+     */
+    private JdbcDataType histogramBounds(final Connection connection, final List<String> bounds) throws Exception {
+        final String from = " FROM (" + JdbcItemReader.stripOrderBy(sql) + ") JBERET_RANGE WHERE " +
+                partitionColumn + " IS NOT NULL";
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement("SELECT COUNT(" + partitionColumn + "), MIN(" +
+                    partitionColumn + ")" + from);
+            final ResultSet rs = statement.executeQuery();
+            rs.next();
+            final long count = rs.getLong(1);
+            JdbcDataType type = typeOf(rs.getMetaData().getColumnType(2));
+            if (type == null) {
+                type = JdbcDataType.STRING;
+            }
+            if (count == 0) {
+                return type;
+            }
+            final String first = format(rs.getObject(2), type);
+            statement.close();
+
+            statement = connection.prepareStatement("SELECT " + partitionColumn + from + " ORDER BY " +
+                    partitionColumn + " OFFSET ? ROWS FETCH FIRST 1 ROWS ONLY");
+            String last = first;
+            for (int i = 1; i < partitionCount; ++i) {
+                //0-based row number of the first row of partition i
+                final long target = count * i / partitionCount;
+                statement.setLong(1, target);
+                final ResultSet row = statement.executeQuery();
+                if (!row.next()) {
+                    //rows deleted since they were counted
+                    break;
+                }
+                final String bound = format(row.getObject(1), type);
+                row.close();
+                if (!bound.equals(last)) {
+                    bounds.add(bound);
+                    last = bound;
+                }
+            }
+            return type;
+        } finally {
+            JdbcItemReaderWriterBase.close(null, statement);
+        }
+    }
+
+    private Connection getConnection() throws Exception {
+        if (dataSourceLookup != null) {
+            final DataSource dataSource = InitialContext.doLookup(dataSourceLookup);
+            return JdbcItemReaderWriterBase.getConnection(dataSource, null, null);
+        }
+        if (url == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "url");
+        }
+        return JdbcItemReaderWriterBase.getConnection(null, url,
+                JdbcItemReaderWriterBase.getDbProperties(properties, user, password));
+    }
+
+    /**
+     * Gets the data type to bind range bounds of the given SQL type.
+     *
+     * @param sqlType the SQL type as defined in {@code java.sql.Types}
+     * @return the data type, {@link JdbcDataType#STRING} for character types, or null for other types
+     */
+    private static JdbcDataType typeOf(final int sqlType) {
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return JdbcDataType.LONG;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return JdbcDataType.BIG_DECIMAL;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return JdbcDataType.DOUBLE;
+            case Types.DATE:
+                return JdbcDataType.DATE;
+            case Types.TIMESTAMP:
+                return JdbcDataType.TIMESTAMP;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return JdbcDataType.STRING;
+            default:
+                return null;
+        }
+    }
+
+    private static long toLong(final Object val) {
+        return val instanceof java.util.Date ? ((java.util.Date) val).getTime() : ((Number) val).longValue();
+    }
+
+    private static String format(final Object val, final JdbcDataType type) {
+        if (type == JdbcDataType.LONG || type == JdbcDataType.DATE || type == JdbcDataType.TIMESTAMP) {
+            return String.valueOf(toLong(val));
+        }
+        if (type == JdbcDataType.BIG_DECIMAL) {
+            return ((BigDecimal) val).toPlainString();
+        }
+        if (type == JdbcDataType.DOUBLE) {
+            return String.valueOf(((Number) val).doubleValue());
+        }
+        return val.toString();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.NullValueProvider;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+/**
+ * Maps the current row of a {@code ResultSet} directly to a new instance of a custom bean type, without first
+ * collecting column values into a {@code java.util.Map} and converting it with
+ * {@code objectMapper.convertValue(map, beanType)}. It is compiled once from {@link JdbcItemReader#beanType},
+ * {@link JdbcItemReader#columnMapping} and {@link JdbcItemReader#columnTypes}, and reuses the bean property
+ * mutators that Jackson would use when deserializing the bean, so that property naming (e.g., via annotations)
+ * stays the same as in the {@code Map}-based conversion.
+ * <p>
+ * Column values that are not directly assignable to the bean property are converted individually with
+ * {@code ObjectMapper}, to produce the same property values as the {@code Map}-based conversion.
+ *
+ * @see JdbcItemReader
+ * @see JdbcParameterBinder
+ * @since 2.1.3
+ */
+final class JdbcRowMapper {
+    private final ValueInstantiator instantiator;
+    private final DefaultDeserializationContext context;
+    private final PropertyWriter[] writers;
+    private final JdbcDataType[] types;
+
+    private JdbcRowMapper(final ValueInstantiator instantiator,
+                          final DefaultDeserializationContext context,
+                          final PropertyWriter[] writers,
+                          final JdbcDataType[] types) {
+        this.instantiator = instantiator;
+        this.context = context;
+        this.writers = writers;
+        this.types = types;
+    }
+
+    /**
+     * Compiles a row mapper for the bean type.
+     *
+     * @param objectMapper  the {@code ObjectMapper} configured for the reader
+     * @param beanType      the custom bean type that each row should be mapped to
+     * @param columnMapping names of bean properties, in the same order as columns in the {@code ResultSet}
+     * @param types         resolved column types, or null to use {@code getObject} for all columns
+     * @return a row mapper for the bean type, or null if the bean type or any of its properties mapped from columns
+     * requires custom deserialization, or if any column does not map to a bean property, in which case the caller
+     * should fall back to {@code Map}-based conversion
+     * @throws Exception if failed to introspect the bean type
+     */
+    static JdbcRowMapper compile(final ObjectMapper objectMapper,
+                                 final Class<?> beanType,
+                                 final String[] columnMapping,
+                                 final JdbcDataType[] types) throws Exception {
+        final DeserializationConfig config = objectMapper.getDeserializationConfig();
+        if (config.isEnabled(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)) {
+            return null;
+        }
+        final DefaultDeserializationContext context = ((DefaultDeserializationContext)
+                objectMapper.getDeserializationContext()).createInstance(config, null, objectMapper.getInjectableValues());
+        final JavaType beanJavaType = config.constructType(beanType);
+        final JsonDeserializer<Object> deserializer = context.findRootValueDeserializer(beanJavaType);
+        if (deserializer == null || deserializer.getClass() != BeanDeserializer.class) {
+            return null;
+        }
+        final BeanDeserializer beanDeserializer = (BeanDeserializer) deserializer;
+        final ValueInstantiator instantiator = beanDeserializer.getValueInstantiator();
+        if (!instantiator.canCreateUsingDefault() || instantiator.canCreateFromObjectWith() ||
+                beanDeserializer.getObjectIdReader() != null) {
+            return null;
+        }
+        final BeanDescription beanDescription = config.introspect(beanJavaType);
+        final Map<Object, ?> injectables = beanDescription.findInjectables();
+        if (beanDescription.findAnySetterAccessor() != null || (injectables != null && !injectables.isEmpty())) {
+            return null;
+        }
+
+        final PropertyWriter[] writers = new PropertyWriter[columnMapping.length];
+        for (int i = 0; i < columnMapping.length; ++i) {
+            final SettableBeanProperty property = beanDeserializer.findProperty(columnMapping[i]);
+            if (property == null || property.hasValueTypeDeserializer() ||
+                    property.getAnnotation(JsonDeserialize.class) != null ||
+                    property.getAnnotation(JsonFormat.class) != null) {
+                return null;
+            }
+            writers[i] = new PropertyWriter(property, objectMapper, context);
+        }
+        return new JdbcRowMapper(instantiator, context, writers, types);
+    }
+
+    /**
+     * Maps the current row of the {@code ResultSet} to a new bean instance.
+     *
+     * @param resultSet the {@code ResultSet} positioned on a row
+     * @return the new bean instance
+     * @throws Exception if failed to read column value or set bean property
+     */
+    Object map(final ResultSet resultSet) throws Exception {
+        final Object bean = instantiator.createUsingDefault(context);
+        for (int i = 0; i < writers.length; ++i) {
+            final Object val = types == null ? resultSet.getObject(i + 1) : types[i].get(resultSet, i + 1);
+            writers[i].write(bean, val);
+        }
+        return bean;
+    }
+
+    private static final class PropertyWriter {
+        private final SettableBeanProperty property;
+        private final ObjectMapper objectMapper;
+        private final DefaultDeserializationContext context;
+        private final NullValueProvider nullValueProvider;
+
+        /**
+         * The property type whose values are used as is, or null if property values are always converted
+         * with {@code ObjectMapper}.
+         */
+        private final Class<?> directType;
+
+        private PropertyWriter(final SettableBeanProperty property,
+                               final ObjectMapper objectMapper,
+                               final DefaultDeserializationContext context) {
+            this.property = property;
+            this.objectMapper = objectMapper;
+            this.context = context;
+            this.nullValueProvider = property.getNullValueProvider();
+
+            Class<?> rawType = property.getType().getRawClass();
+            if (rawType.isPrimitive()) {
+                rawType = ClassUtil.wrapperType(rawType);
+            }
+            if (rawType == String.class || rawType == Boolean.class || rawType == Integer.class ||
+                    rawType == Long.class || rawType == Double.class || rawType == Float.class ||
+                    rawType == Short.class || rawType == Byte.class || rawType == BigDecimal.class ||
+                    rawType == BigInteger.class || rawType == java.util.Date.class) {
+                directType = rawType;
+            } else {
+                directType = null;
+            }
+        }
+
+        void write(final Object bean, final Object val) throws Exception {
+            if (val == null) {
+                if (nullValueProvider == null) {
+                    if (!property.getType().isPrimitive()) {
+                        property.set(bean, null);
+                    }
+                } else if (!NullsConstantProvider.isSkipper(nullValueProvider)) {
+                    property.set(bean, nullValueProvider.getNullValue(context));
+                }
+            } else if (directType != null && directType.isInstance(val)) {
+                //java.sql.Date and Timestamp are deserialized to plain java.util.Date
+                property.set(bean, directType == java.util.Date.class && val.getClass() != java.util.Date.class ?
+                        new java.util.Date(((java.util.Date) val).getTime()) : val);
+            } else {
+                property.set(bean, objectMapper.convertValue(val, property.getType()));
+            }
+        }
+    }
+}
@@ -10,15 +10,28 @@
 
 package org.jberet.support.io;
 
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.Map;
 
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.io.InputDecorator;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import jakarta.batch.api.BatchProperty;
 import jakarta.batch.api.chunk.ItemReader;
@@ -32,6 +45,16 @@ import jakarta.inject.Named;
  * user-provided bean type that represents individual data item in the source Json resource. The data item may also
  * be bound to {@code java.util.Map} or {@code com.fasterxml.jackson.databind.JsonNode} for applications that do not
  * need application bean type.
+ * <p>
+ * When reading from an uncompressed local file, whose data items are the elements of a top-level array or a sequence
+ * of top-level values, the checkpoint also contains the byte offset right after the last read item, so that a
+ * restarted job execution seeks directly to it, instead of re-parsing all previously read items.
+ * <p>
+ * A local file in JSON Lines format (see {@link #jsonLines}) can also be read in parallel by a partitioned step,
+ * with {@link JsonPartitionMapper} splitting it into line-aligned byte ranges.
+ * <p>
+ * Data items nested in an envelope document, e.g., {@code {"meta": {...}, "data": [...]}}, can be read by
+ * specifying the path to their array with {@link #recordPath}.
  *
  * @see     JsonItemWriter
  * @see     JsonItemReaderWriterBase
@@ -40,6 +63,12 @@ import jakarta.inject.Named;
 @Named
 @Dependent
 public class JsonItemReader extends JsonItemReaderWriterBase implements ItemReader {
+    /**
+     * The context of an {@link OffsetCheckpoint} when the items are elements of a top-level array, rather than a
+     * sequence of top-level values.
+     */
+    static final String IN_ARRAY = "[";
+
     /**
      * The bean type that represents individual data item in the source Json {@link #resource}. Required property, and
      * valid values are:
@@ -119,23 +148,218 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
     @BatchProperty
     protected Class inputDecorator;
 
+    /**
+     * Whether the {@link #resource} is in JSON Lines (newline-delimited JSON) format, where each line holds one data
+     * item as a top-level JSON object. Optional property, and defaults to false. Blank lines are skipped.
+     * Only a JSON Lines resource can be read by byte range with {@link #partitionStart} and {@link #partitionEnd}.
+     *
+     * @see JsonItemWriter#jsonLines
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected boolean jsonLines;
+
+    /**
+     * The byte offset in the local JSON Lines file resource of the first line to read. Optional property, and if not
+     * specified, reading starts from the beginning of the file. It is typically set from partition properties
+     * generated by {@link JsonPartitionMapper}, so that each partition binds only the items of its own byte range
+     * of a single large file. When reading a byte range, {@link #start} and {@link #end} are relative to the range.
+     *
+     * @see JsonPartitionMapper
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionStart;
+
+    /**
+     * The byte offset in the local JSON Lines file resource right after the last line to read. Optional property,
+     * and if not specified, reading continues till the end of the file.
+     *
+     * @see #partitionStart
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionEnd;
+
+    /**
+     * A JSON Pointer to the array that contains the data items, when they are nested in an envelope document, e.g.,
+     * {@code /data} for {@code {"meta": {...}, "data": [...]}}, or {@code /response/results/0/items}. Optional
+     * property, and defaults to null, i.e., each first-level Json object in the resource is a data item.
+     * <p>
+     * When specified, the reader streams down to the array along the path, and skips over sibling subtrees without
+     * inspecting their content. Only Json objects in the array are read as data items. If the path does not exist in
+     * the resource, no data item is read. This property cannot be used with {@link #jsonLines}.
+     *
+     * @see "com.fasterxml.jackson.core.JsonPointer"
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String recordPath;
+
     protected JsonParser jsonParser;
+
+    /**
+     * Reader for {@link #beanType}, created from {@link #objectMapper} after it is fully configured, so that the
+     * root deserializer is resolved only once.
+     */
+    private ObjectReader objectReader;
+
+    /**
+     * The compiled {@link #recordPath}, or null if not specified.
+     */
+    private JsonPointer recordPointer;
+
+    /**
+     * Whether the parser has been moved to the array at {@link #recordPointer}.
+     */
+    private boolean recordsFound;
+
+    /**
+     * Whether all data items in the array at {@link #recordPointer} have been read, or the array does not exist.
+     */
+    private boolean recordsEnded;
     private JsonToken token;
     protected int rowNumber;
 
+    /**
+     * The parsed value of {@link #partitionEnd}, or -1 if not specified.
+     */
+    private long partitionEndPosition = -1;
+
+    /**
+     * The channel of the local file resource, if byte offsets are tracked for checkpoints, or null if the resource is
+     * not an uncompressed local file, or {@link #inputDecorator} is specified.
+     */
+    private FileChannel fileChannel;
+
+    /**
+     * The file offset corresponding to byte offset 0 reported by {@link #jsonParser}.
+     */
+    private long offsetBase;
+
+    /**
+     * The checkpoint this reader was restarted from, which is returned by {@link #checkpointInfo()} until another
+     * item is read.
+     */
+    private OffsetCheckpoint restartCheckpoint;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         if (end == 0) {
             end = Integer.MAX_VALUE;
         }
-        if (checkpoint != null) {
-            start = (Integer) checkpoint;
+        final OffsetCheckpoint offsetCheckpoint = checkpoint instanceof OffsetCheckpoint ?
+                (OffsetCheckpoint) checkpoint : null;
+        if (offsetCheckpoint != null) {
+            //the row number in OffsetCheckpoint is exact: the last read item is not read again
+            start = offsetCheckpoint.rowNumber + 1;
+            if (offsetCheckpoint.rowNumber > end) {
+                throw SupportMessages.MESSAGES.invalidStartPosition(offsetCheckpoint.rowNumber, start, end);
+            }
+        } else {
+            if (checkpoint != null) {
+                start = (Integer) checkpoint;
+            }
+            if (start > end) {
+                throw SupportMessages.MESSAGES.invalidStartPosition((Integer) checkpoint, start, end);
+            }
         }
-        if (start > end) {
-            throw SupportMessages.MESSAGES.invalidStartPosition((Integer) checkpoint, start, end);
+        if (recordPath != null && !recordPath.isEmpty()) {
+            if (jsonLines) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, recordPath, "recordPath");
+            }
+            try {
+                recordPointer = JsonPointer.compile(recordPath);
+            } catch (final IllegalArgumentException e) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(e, recordPath, "recordPath");
+            }
         }
         initJsonFactoryAndObjectMapper();
-        jsonParser = configureJsonParser(this, inputDecorator, deserializationProblemHandlers, jsonParserFeatures);
+        final long partitionStartPosition = parsePosition(partitionStart, "partitionStart", jsonLines);
+        partitionEndPosition = parsePosition(partitionEnd, "partitionEnd", jsonLines);
+        final InputStream inputStream = openLocalFile(offsetCheckpoint, partitionStartPosition);
+        if (inputStream == null && (partitionStartPosition >= 0 || partitionEndPosition >= 0)) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+        }
+        if (inputStream != null && offsetCheckpoint != null) {
+            rowNumber = offsetCheckpoint.rowNumber;
+            restartCheckpoint = offsetCheckpoint;
+        }
+        //otherwise, items before the checkpoint, if any, are skipped by counting them from the beginning
+        jsonParser = configureJsonParser(this, inputStream, inputDecorator, deserializationProblemHandlers,
+                jsonParserFeatures);
+        if (beanType != null) {
+            objectReader = objectMapper.readerFor(beanType);
+        }
+    }
+
+    /**
+     * Opens {@link #fileChannel} over the local file resource, positioned at the beginning of the file or of the
+     * partition, or at the byte offset of the checkpoint to restart from. When restarting within a top-level array,
+     * the separator after the offset is skipped, and the returned stream starts with {@code [}, so that the parser
+     * resumes in array-element context.
+     *
+     * @param offsetCheckpoint       the checkpoint to restart from, or null
+     * @param partitionStartPosition the byte offset of the partition, or -1
+     * @return the input stream to parse, or null if byte offsets cannot be tracked for the resource
+     * @throws IOException if failed to read the resource
+     */
+    private InputStream openLocalFile(final OffsetCheckpoint offsetCheckpoint, final long partitionStartPosition)
+            throws IOException {
+        final Path localFile = inputDecorator != null || isCompressed(resource, compression) ?
+                null : getLocalFile(resource);
+        if (localFile == null) {
+            return null;
+        }
+        fileChannel = FileChannel.open(localFile);
+        try {
+            if (offsetCheckpoint == null) {
+                offsetBase = Math.max(partitionStartPosition, 0);
+                fileChannel.position(offsetBase);
+                return Channels.newInputStream(fileChannel);
+            }
+            long position = offsetCheckpoint.position;
+            final ByteBuffer buf = ByteBuffer.allocate(512);
+            buf.limit(1);
+            if (position <= 0 || fileChannel.read(buf, position - 1) != 1 || buf.get(0) != '}') {
+                throw SupportMessages.MESSAGES.invalidCheckpoint(offsetCheckpoint);
+            }
+            if (!IN_ARRAY.equals(offsetCheckpoint.context)) {
+                offsetBase = position;
+                fileChannel.position(position);
+                return Channels.newInputStream(fileChannel);
+            }
+            boolean separated = false;
+            scan:
+            while (true) {
+                buf.clear();
+                if (fileChannel.read(buf, position) <= 0) {
+                    break;
+                }
+                buf.flip();
+                while (buf.hasRemaining()) {
+                    final byte b = buf.get();
+                    if (b == ',' && !separated) {
+                        separated = true;
+                    } else if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                        break scan;
+                    }
+                    position++;
+                }
+            }
+            offsetBase = position - 1;
+            fileChannel.position(position);
+            return new SequenceInputStream(new ByteArrayInputStream(new byte[]{'['}),
+                    Channels.newInputStream(fileChannel));
+        } catch (final IOException | RuntimeException e) {
+            fileChannel.close();
+            fileChannel = null;
+            throw e;
+        }
     }
 
     @Override
@@ -143,6 +367,9 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
         if (rowNumber >= end) {
             return null;
         }
+        if (recordPointer != null) {
+            return readItemAtPath();
+        }
         int nestedObjectLevel = 0;
         do {
             token = jsonParser.nextToken();
@@ -151,29 +378,149 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
             } else if (token == JsonToken.START_OBJECT) {
                 nestedObjectLevel++;
                 if (nestedObjectLevel == 1) {
+                    if (partitionEndPosition >= 0 &&
+                            offsetBase + jsonParser.getTokenLocation().getByteOffset() >= partitionEndPosition) {
+                        return null;
+                    }
                     rowNumber++;
+                    if (rowNumber >= start) {
+                        break;
+                    }
+                    //skip the whole item before start, instead of counting its nested objects
+                    jsonParser.skipChildren();
+                    nestedObjectLevel--;
                 } else if (nestedObjectLevel < 1) {
                     throw SupportMessages.MESSAGES.unexpectedJsonContent(jsonParser.getCurrentLocation());
                 }
-                if (rowNumber >= start) {
-                    break;
-                }
             } else if (token == JsonToken.END_OBJECT) {
                 nestedObjectLevel--;
             }
         } while (true);
-        final Object readValue = objectMapper.readValue(jsonParser, beanType);
+        return bindItem();
+    }
+
+    /**
+     * Reads the next data item from the array at {@link #recordPointer}, skipping non-object elements and items
+     * before {@link #start}.
+     *
+     * @return the data item, or null if there is no more data item
+     * @throws Exception if failed to read or bind the data item
+     */
+    private Object readItemAtPath() throws Exception {
+        if (!recordsFound) {
+            recordsFound = true;
+            recordsEnded = !findRecords();
+        }
+        while (!recordsEnded) {
+            token = jsonParser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                recordsEnded = true;
+            } else if (token == JsonToken.START_OBJECT && ++rowNumber >= start) {
+                return bindItem();
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Streams down to the array at {@link #recordPointer}, skipping over all sibling subtrees along the path.
+     *
+     * @return true if the parser is positioned at the start of the array, false if the path does not exist
+     * @throws IOException if failed to read the resource
+     */
+    private boolean findRecords() throws IOException {
+        JsonPointer pointer = recordPointer;
+        JsonToken t = jsonParser.nextToken();
+        while (t != null && !pointer.matches()) {
+            if (t == JsonToken.START_OBJECT) {
+                final String property = pointer.getMatchingProperty();
+                t = jsonParser.nextToken();
+                while (t == JsonToken.FIELD_NAME && !property.equals(jsonParser.getCurrentName())) {
+                    jsonParser.nextToken();
+                    jsonParser.skipChildren();
+                    t = jsonParser.nextToken();
+                }
+                if (t != JsonToken.FIELD_NAME) {
+                    return false;
+                }
+            } else if (t == JsonToken.START_ARRAY && pointer.getMatchingIndex() >= 0) {
+                for (int i = pointer.getMatchingIndex(); i > 0; --i) {
+                    t = jsonParser.nextToken();
+                    if (t == null || t == JsonToken.END_ARRAY) {
+                        return false;
+                    }
+                    jsonParser.skipChildren();
+                }
+            } else {
+                return false;
+            }
+            t = jsonParser.nextToken();
+            if (t == JsonToken.END_ARRAY) {
+                return false;
+            }
+            pointer = pointer.tail();
+        }
+        if (t == null) {
+            return false;
+        }
+        if (t != JsonToken.START_ARRAY) {
+            throw SupportMessages.MESSAGES.unexpectedJsonContent(jsonParser.getTokenLocation());
+        }
+        return true;
+    }
+
+    /**
+     * Binds the Json object at the current token of {@link #jsonParser} to {@link #beanType}.
+     *
+     * @return the data item
+     * @throws Exception if failed to bind or validate the data item
+     */
+    private Object bindItem() throws Exception {
+        final Object readValue = objectReader != null ? objectReader.readValue(jsonParser) :
+                objectMapper.readValue(jsonParser, beanType);
         if (!skipBeanValidation) {
             ItemReaderWriterBase.validate(readValue);
         }
         return readValue;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns an {@link OffsetCheckpoint} when reading from a local file, right after an item has been read from a
+     * top-level array or sequence of values, otherwise the number of items read as {@code Integer}.
+     */
     @Override
     public Serializable checkpointInfo() throws Exception {
+        if (fileChannel != null && jsonParser.getCurrentToken() == JsonToken.END_OBJECT) {
+            final JsonStreamContext context = jsonParser.getParsingContext();
+            final long byteOffset = jsonParser.getCurrentLocation().getByteOffset();
+            //byte offset is not available for UTF-16 and UTF-32 encoded files
+            if (byteOffset > 0 && (context.inRoot() || context.inArray() && context.getParent().inRoot())) {
+                restartCheckpoint = null;
+                return new OffsetCheckpoint(rowNumber, offsetBase + byteOffset,
+                        context.inArray() ? IN_ARRAY : null);
+            }
+        }
+        if (restartCheckpoint != null && restartCheckpoint.rowNumber == rowNumber) {
+            return restartCheckpoint;
+        }
         return rowNumber;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns false if {@code inputDecorator} or {@code deserializationProblemHandlers} is
+     * specified, since they are set on the {@code JsonFactory} and {@code ObjectMapper} of this reader.
+     */
+    @Override
+    protected boolean isJsonFactoryShareable() {
+        return inputDecorator == null && deserializationProblemHandlers == null;
+    }
+
     @Override
     public void close() throws Exception {
         if (jsonParser != null) {
@@ -184,9 +531,36 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
             jsonParser.close();
             jsonParser = null;
         }
+        if (fileChannel != null) {
+            fileChannel.close();
+            fileChannel = null;
+        }
+    }
+
+    protected static JsonParser configureJsonParser(final JsonItemReaderWriterBase batchReaderArtifact,
+                                                    final Class<?> inputDecorator,
+                                                    final String deserializationProblemHandlers,
+                                                    final Map<String, String> jsonParserFeatures) throws Exception {
+        return configureJsonParser(batchReaderArtifact, null, inputDecorator, deserializationProblemHandlers,
+                jsonParserFeatures);
     }
 
+    /**
+     * Creates and configures a parser over an input stream, or over the resource of the reader artifact.
+     *
+     * @param batchReaderArtifact            the reader artifact
+     * @param inputStream                    the input stream to parse, or null to open the resource of
+     *                                       {@code batchReaderArtifact}
+     * @param inputDecorator                 the input decorator class, or null
+     * @param deserializationProblemHandlers the deserialization problem handler classes, or null
+     * @param jsonParserFeatures             the parser features, or null
+     * @return the configured parser
+     * @throws Exception if failed to create or configure the parser
+     *
+     * @since 2.1.3
+     */
     protected static JsonParser configureJsonParser(final JsonItemReaderWriterBase batchReaderArtifact,
+                                                    final InputStream inputStream,
                                                     final Class<?> inputDecorator,
                                                     final String deserializationProblemHandlers,
                                                     final Map<String, String> jsonParserFeatures) throws Exception {
@@ -196,7 +570,8 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
                     (InputDecorator) inputDecorator.getDeclaredConstructor().newInstance());
         }
 
-        jsonParser = batchReaderArtifact.jsonFactory.createParser(getInputStream(batchReaderArtifact.resource, false));
+        jsonParser = batchReaderArtifact.jsonFactory.createParser(inputStream != null ? inputStream :
+                getInputStream(batchReaderArtifact.resource, false, batchReaderArtifact.compression));
 
         if (deserializationProblemHandlers != null) {
             MappingJsonFactoryObjectFactory.configureDeserializationProblemHandlers(
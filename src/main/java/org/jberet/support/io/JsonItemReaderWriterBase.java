@@ -10,6 +10,10 @@
 
 package org.jberet.support.io;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.naming.InitialContext;
 
 import com.fasterxml.jackson.core.JsonFactory;
@@ -22,6 +26,20 @@ import jakarta.inject.Inject;
 /**
  * Base class for {@link org.jberet.support.io.JsonItemReader} and {@link org.jberet.support.io.JsonItemWriter}.
  * It also holds Json-related common batch properties for customizing Json processing.
+ * <p>
+ * Configuring a {@code JsonFactory} and its {@code ObjectMapper}, and warming up their serializer and deserializer
+ * caches, is costly relative to processing a small partition. So unless {@link #jsonFactoryLookup} is specified, or
+ * {@link #isJsonFactoryShareable()} returns false, the configured instances are cached process-wide per concrete
+ * artifact class, keyed by the Json properties that configure them, and shared by all artifacts of the same class
+ * and configuration, e.g., across partitions, steps and job executions. Shared instances are fully configured before
+ * they are published, and must not be modified afterwards.
+ * <p>
+ * Readers that bind items from a parser create an {@code ObjectReader} for their bean type when opened, and writers
+ * that serialize items to a generator create an {@code ObjectWriter}, so that the mapper configuration is resolved
+ * once rather than for each item. Excel and JDBC artifacts do not, since they convert between items and maps with
+ * {@code ObjectMapper.convertValue}, which has no {@code ObjectReader} or {@code ObjectWriter} counterpart. Instead,
+ * {@link JdbcItemReader} and {@link JdbcItemWriter} bind columns and parameters through accessors compiled once for
+ * the bean type, and only fall back to {@code convertValue} for types that cannot be compiled.
  *
  * @see     JsonItemReader
  * @see     JsonItemWriter
@@ -155,6 +173,19 @@ public abstract class JsonItemReaderWriterBase extends ItemReaderWriterBase {
     protected JsonFactory jsonFactory;
     protected ObjectMapper objectMapper;
 
+    /**
+     * Cache of shared {@code JsonFactory} per artifact class, keyed by {@link #jsonFactoryCacheKey()}. A
+     * {@code ClassValue} is used so that cached instances, which may reference application classes such as custom
+     * serializers, do not outlive the artifact class.
+     */
+    private static final ClassValue<ConcurrentMap<List<String>, JsonFactory>> sharedJsonFactories =
+            new ClassValue<ConcurrentMap<List<String>, JsonFactory>>() {
+                @Override
+                protected ConcurrentMap<List<String>, JsonFactory> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<List<String>, JsonFactory>();
+                }
+            };
+
     /**
      * Registers any {@code com.fasterxml.jackson.databind.module.SimpleModule} to the {@link #objectMapper}. Any number
      * of custom serializers or deserializers can be added to the module.
@@ -183,12 +214,60 @@ public abstract class JsonItemReaderWriterBase extends ItemReaderWriterBase {
     }
 
     /**
-     * Initializes {@link #jsonFactory} and {@link #objectMapper} fields, which may be instantiated or obtained from
-     * other part of the application. This method also configures the {@link #jsonFactory}, {@link #objectMapper},
+     * Initializes {@link #jsonFactory} and {@link #objectMapper} fields, which may be instantiated, obtained from
+     * other part of the application, or shared with other artifacts. This method also configures the {@link #jsonFactory}, {@link #objectMapper},
      * {@link #serializationFeatures}, {@link #deserializationFeatures}, {@link #customDeserializers}, and
      * {@link #customSerializers} properly based on the current batch artifact properties.
      */
     protected void initJsonFactoryAndObjectMapper() throws Exception {
+        if (jsonFactoryLookup != null || !isJsonFactoryShareable()) {
+            initUnsharedJsonFactoryAndObjectMapper();
+            return;
+        }
+        final ConcurrentMap<List<String>, JsonFactory> cache = sharedJsonFactories.get(getClass());
+        final List<String> key = jsonFactoryCacheKey();
+        JsonFactory shared = cache.get(key);
+        if (shared == null) {
+            //concurrent artifacts may configure their own instances, but only the first one is published
+            initUnsharedJsonFactoryAndObjectMapper();
+            shared = cache.putIfAbsent(key, jsonFactory);
+            if (shared == null) {
+                return;
+            }
+        }
+        jsonFactory = shared;
+        objectMapper = (ObjectMapper) shared.getCodec();
+    }
+
+    /**
+     * Determines whether {@link #jsonFactory} and {@link #objectMapper} of this artifact may be shared with other
+     * artifacts of the same class and Json configuration. Subclasses that modify them per artifact, e.g., by setting
+     * input or output decorators or adding deserialization problem handlers, or that configure them from properties
+     * other than those in {@link #jsonFactoryCacheKey()}, should return false for such configuration.
+     *
+     * @return true if the configured instances may be shared; this implementation always returns true
+     * @since 2.1.3
+     */
+    protected boolean isJsonFactoryShareable() {
+        return true;
+    }
+
+    /**
+     * Gets the key identifying the configuration of shared {@link #jsonFactory} and {@link #objectMapper} among
+     * artifacts of the same class.
+     *
+     * @return the list of Json properties that configure the instances
+     * @since 2.1.3
+     */
+    protected List<String> jsonFactoryCacheKey() {
+        return Arrays.asList(jsonFactoryFeatures, mapperFeatures, deserializationFeatures, serializationFeatures,
+                customSerializers, customDeserializers, customDataTypeModules);
+    }
+
+    /**
+     * Creates and configures new instances of {@link #jsonFactory} and {@link #objectMapper} for this artifact.
+     */
+    private void initUnsharedJsonFactoryAndObjectMapper() throws Exception {
         initJsonFactory();
         objectMapper = (ObjectMapper) jsonFactory.getCodec();
         if (jsonFactoryFeatures != null) {
@@ -10,6 +10,7 @@
 
 package org.jberet.support.io;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.List;
@@ -22,6 +23,7 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.PrettyPrinter;
 import com.fasterxml.jackson.core.io.OutputDecorator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import jakarta.batch.api.BatchProperty;
 import jakarta.batch.api.chunk.ItemWriter;
@@ -31,7 +33,14 @@ import jakarta.inject.Named;
 
 /**
  * An implementation of {@code jakarta.batch.api.chunk.ItemWriter} that writes a list of same-typed objects to Json resource.
- * Each object is written as part of the root Json array.
+ * Each object is written as part of the root Json array, or as a line of its own in JSON Lines format if
+ * {@link #jsonLines} is enabled.
+ * <p>
+ * When writing to an uncompressed local file without {@link #outputDecorator}, the checkpoint contains the size of the
+ * file after the last written chunk. When the job execution is restarted with the default {@code append}
+ * {@link #writeMode}, the file is truncated to that size, discarding any items written after the last checkpoint,
+ * and the generator is reopened inside the existing root array, so that writing continues as if the job execution
+ * had not been interrupted.
  *
  * @see JsonItemReader
  * @see JsonItemReaderWriterBase
@@ -97,39 +106,145 @@ public class JsonItemWriter extends JsonItemReaderWriterBase implements ItemWrit
     @BatchProperty
     protected Class outputDecorator;
 
+    /**
+     * Whether to write in JSON Lines (newline-delimited JSON) format, where each item is written as a compact
+     * top-level JSON value on a line of its own, instead of as an element of the root array. Optional property, and
+     * defaults to false. When enabled, {@link #prettyPrinter} is ignored. A JSON Lines resource can be read in
+     * parallel by partitions with {@link JsonPartitionMapper}.
+     *
+     * @see JsonItemReader#jsonLines
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected boolean jsonLines;
+
     protected JsonGenerator jsonGenerator;
 
+    /**
+     * The number of items written, including those written by previous job executions when restarting from an
+     * {@link OffsetCheckpoint}.
+     */
+    private int rowNumber;
+
+    /**
+     * The output stream {@link #jsonGenerator} writes to, to which slices of items encoded in parallel are written.
+     */
+    private OutputStream output;
+
+    /**
+     * Writer for items, created from {@link #objectMapper} after it is fully configured.
+     */
+    private ObjectWriter objectWriter;
+
+    private final ParallelChunkEncoder.SliceEncoder sliceEncoder = new ParallelChunkEncoder.SliceEncoder() {
+        @Override
+        public void encode(final List<Object> items,
+                           final int from,
+                           final int to,
+                           final ParallelChunkEncoder.SliceBuffer buffer) throws Exception {
+            final JsonGenerator generator = configureJsonGenerator(jsonFactory, buffer, null, jsonGeneratorFeatures);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            initJsonGenerator(generator);
+            if (!jsonLines) {
+                //restore the state of jsonGenerator after the first item of the chunk
+                generator.writeStartArray();
+                generator.writeNull();
+            }
+            generator.flush();
+            buffer.begin();
+            for (int i = from; i < to; ++i) {
+                writeItem(generator, items.get(i));
+            }
+            generator.close();
+        }
+    };
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
-        SupportLogger.LOGGER.tracef("Open JsonItemWriter with checkpoint %s, which is ignored for JsonItemWriter.%n", checkpoint);
+        SupportLogger.LOGGER.tracef("Open JsonItemWriter with checkpoint %s%n", checkpoint);
         initJsonFactoryAndObjectMapper();
+        objectWriter = objectMapper.writer();
 
-        jsonGenerator = configureJsonGenerator(jsonFactory, getOutputStream(writeMode), outputDecorator, jsonGeneratorFeatures);
-        SupportLogger.LOGGER.openingResource(resource, this.getClass());
-
-        if (prettyPrinter == null) {
-            jsonGenerator.useDefaultPrettyPrinter();
+        //a null checkpoint from earlier versions is handled as before
+        final OffsetCheckpoint offsetCheckpoint = checkpoint instanceof OffsetCheckpoint && isAppendMode(writeMode) &&
+                outputDecorator == null ? (OffsetCheckpoint) checkpoint : null;
+        final OutputStream outputStream;
+        if (offsetCheckpoint != null) {
+            outputStream = bufferOutput(getOutputStreamForRestart(offsetCheckpoint.position));
+            rowNumber = offsetCheckpoint.rowNumber;
+            //replay the beginning of the output, which is already in the file, to restore the generator state
+            chunkOutput.setDiscarding(true);
         } else {
-            jsonGenerator.setPrettyPrinter((PrettyPrinter) prettyPrinter.getDeclaredConstructor().newInstance());
+            outputStream = bufferOutput(getOutputStream(writeMode));
         }
+        output = outputStream;
+        jsonGenerator = configureJsonGenerator(jsonFactory, outputStream, outputDecorator, jsonGeneratorFeatures);
+        SupportLogger.LOGGER.openingResource(resource, this.getClass());
 
-        //write { regardless of the value of skipWritingHeader, since any existing content already ends with }
-        jsonGenerator.writeStartArray();
+        initJsonGenerator(jsonGenerator);
+        if (!jsonLines) {
+            //write { regardless of the value of skipWritingHeader, since any existing content already ends with }
+            jsonGenerator.writeStartArray();
+            if (offsetCheckpoint != null && rowNumber > 0) {
+                //stands for the items already written, so that the next item is preceded by a separator
+                jsonGenerator.writeNull();
+            }
+        }
+        if (offsetCheckpoint != null) {
+            jsonGenerator.flush();
+            chunkOutput.setDiscarding(false);
+        }
+        if (outputDecorator == null) {
+            openChunkEncoder(sliceEncoder);
+        }
     }
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
-        for (final Object o : items) {
-            jsonGenerator.writeObject(o);
+        rowNumber += items.size();
+        if (chunkEncoder != null && items.size() > 1) {
+            //the first item is written by jsonGenerator, so that the remaining items always follow a separator
+            writeItem(jsonGenerator, items.get(0));
+            jsonGenerator.flush();
+            chunkEncoder.encode(items, 1, output);
+        } else {
+            for (final Object o : items) {
+                writeItem(jsonGenerator, o);
+            }
         }
         jsonGenerator.flush();
+        if (chunkOutput != null) {
+            chunkOutput.endChunk();
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns an {@link OffsetCheckpoint} when writing to an uncompressed local file without {@code outputDecorator},
+     * otherwise null. The offset of decorated output cannot be mapped to the number of items written.
+     */
     @Override
     public Serializable checkpointInfo() throws Exception {
+        if (chunkOutput != null && outputDecorator == null) {
+            jsonGenerator.flush();
+            return new OffsetCheckpoint(rowNumber, chunkOutput.checkpoint());
+        }
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns false if {@code outputDecorator} is specified, since it is set on the
+     * {@code JsonFactory} of this writer.
+     */
+    @Override
+    protected boolean isJsonFactoryShareable() {
+        return outputDecorator == null;
+    }
+
     @Override
     public void close() throws Exception {
         if (jsonGenerator != null) {
@@ -137,6 +252,26 @@ public class JsonItemWriter extends JsonItemReaderWriterBase implements ItemWrit
             jsonGenerator.close();
             jsonGenerator = null;
         }
+        output = null;
+        closeChunkOutput();
+    }
+
+    private void initJsonGenerator(final JsonGenerator generator) throws Exception {
+        if (jsonLines) {
+            //each item is followed by a line break, instead of the default space between root-level values
+            generator.setRootValueSeparator(null);
+        } else if (prettyPrinter == null) {
+            generator.useDefaultPrettyPrinter();
+        } else {
+            generator.setPrettyPrinter((PrettyPrinter) prettyPrinter.getDeclaredConstructor().newInstance());
+        }
+    }
+
+    private void writeItem(final JsonGenerator generator, final Object item) throws IOException {
+        objectWriter.writeValue(generator, item);
+        if (jsonLines) {
+            generator.writeRaw('\n');
+        }
     }
 
     protected static JsonGenerator configureJsonGenerator(final JsonFactory jsonFactory,
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jberet.support._private.SupportMessages;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.partition.PartitionMapper;
+import jakarta.batch.api.partition.PartitionPlan;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.partition.PartitionMapper} that splits a local JSON Lines file into
+ * byte ranges of about equal size, aligned on line boundaries, so that each partition of a {@link JsonItemReader}
+ * step with {@code jsonLines} enabled binds only the records of its own range of the file, and a single large file
+ * is read by multiple threads.
+ * <p>
+ * Since a JSON Lines record never contains a raw line break, boundaries are found by seeking near the target offsets,
+ * and scanning for the next line break, without reading the whole file.
+ * <p>
+ * Each partition plan contains the same partition properties as {@link CsvPartitionMapper}, to be referenced in the
+ * reader configuration in job xml:
+ * <ul>
+ * <li>partitionStart: the byte offset of the first record of the range, or empty for the first partition
+ * <li>partitionEnd: the byte offset right after the last record of the range, or empty for the last partition
+ * </ul>
+ * For example:
+ * <pre>
+ * &lt;chunk&gt;
+ *     &lt;reader ref="jsonItemReader"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="resource" value="/data/movies.jsonl"/&gt;
+ *             &lt;property name="jsonLines" value="true"/&gt;
+ *             &lt;property name="partitionStart" value="#{partitionPlan['partitionStart']}"/&gt;
+ *             &lt;property name="partitionEnd" value="#{partitionPlan['partitionEnd']}"/&gt;
+ *             ...
+ *         &lt;/properties&gt;
+ *     &lt;/reader&gt;
+ *     ...
+ * &lt;/chunk&gt;
+ * &lt;partition&gt;
+ *     &lt;mapper ref="jsonPartitionMapper"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="resource" value="/data/movies.jsonl"/&gt;
+ *             &lt;property name="partitionCount" value="4"/&gt;
+ *         &lt;/properties&gt;
+ *     &lt;/mapper&gt;
+ * &lt;/partition&gt;
+ * </pre>
+ *
+ * @see JsonItemReader
+ * @see CsvPartitionMapper
+ * @since 2.1.3
+ */
+@Named
+@Dependent
+public class JsonPartitionMapper implements PartitionMapper {
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The local JSON Lines file to partition, as a file path or {@code file:} URL. It should be the same as the
+     * {@code resource} property of the reader. Required property. A compressed {@code .gz} file cannot be
+     * partitioned, since its records cannot be located by byte offset.
+     */
+    @Inject
+    @BatchProperty
+    protected String resource;
+
+    /**
+     * Number of partitions. Optional property, and defaults to the number of available processors. Fewer
+     * partitions are created if the file does not contain enough records.
+     */
+    @Inject
+    @BatchProperty
+    protected int partitionCount;
+
+    /**
+     * Number of threads to run partitions. Optional property, and defaults to the number of partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        final Path localFile = ItemReaderWriterBase.getLocalFile(resource);
+        if (localFile == null || ItemReaderWriterBase.isCompressed(resource, null)) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+        }
+        if (partitionCount <= 0) {
+            partitionCount = Runtime.getRuntime().availableProcessors();
+        }
+
+        final List<Long> bounds;
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(localFile);
+            bounds = lineBoundaries(channel, partitionCount);
+        } catch (final IOException e) {
+            throw SupportMessages.MESSAGES.failToOpenStream(e, resource);
+        } finally {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+        return CsvPartitionMapper.partitionPlan(bounds, threads);
+    }
+
+    /**
+     * Finds the line boundaries between partitions of about equal byte size. Each boundary is the first offset
+     * at or after {@code size * i / partitionCount} that follows a line feed.
+     *
+     * @param channel        the file channel to read
+     * @param partitionCount the number of partitions
+     * @return the boundaries in ascending order, excluding 0 and the file size
+     * @throws IOException if failed to read the file
+     */
+    static List<Long> lineBoundaries(final FileChannel channel, final int partitionCount) throws IOException {
+        final List<Long> bounds = new ArrayList<Long>();
+        final long size = channel.size();
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long last = 0;
+        for (int i = 1; i < partitionCount; ++i) {
+            //the line feed may be the byte right before the target offset
+            long offset = Math.max(size * i / partitionCount - 1, last);
+            long boundary = -1;
+            while (boundary < 0 && offset < size) {
+                buffer.clear();
+                final int n = channel.read(buffer, offset);
+                if (n <= 0) {
+                    break;
+                }
+                for (int j = 0; j < n; ++j) {
+                    if (buffer.get(j) == '\n') {
+                        boundary = offset + j + 1;
+                        break;
+                    }
+                }
+                offset += n;
+            }
+            if (boundary < 0 || boundary >= size) {
+                break;
+            }
+            if (boundary > last) {
+                bounds.add(boundary);
+                last = boundary;
+            }
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.Serializable;
+
+/**
+ * Checkpoint info of readers and writers of a local file, which contains the byte offset in the file to resume from,
+ * so that a restarted job execution seeks directly to it, instead of reading or rewriting the file from the beginning.
+ * <p>
+ * For readers, the position is the byte offset right after the last read item, and the row number is the number of
+ * items read, including items before the {@code start} position. For writers, the position is the size of the file
+ * after the last written item, and the row number is the number of items written.
+ *
+ * @see CsvItemReader
+ * @see CsvItemWriter
+ * @see JsonItemReader
+ * @see JsonItemWriter
+ * @see XmlItemReader
+ * @see XmlItemWriter
+ * @see BinaryJsonItemReader
+ * @see BinaryJsonItemWriter
+ * @since 2.1.3
+ */
+public final class OffsetCheckpoint implements Serializable {
+    private static final long serialVersionUID = 2893546037245841762L;
+
+    /**
+     * The number of items read or written.
+     */
+    final int rowNumber;
+
+    /**
+     * The byte offset in the file to resume from.
+     */
+    final long position;
+
+    /**
+     * The state of the reader needed to resume parsing at {@link #position}, or null if none. It is
+     * {@value JsonItemReader#IN_ARRAY} for {@code JsonItemReader} reading the elements of a top-level array, and the
+     * start tags of the elements enclosing the last read item below the root element for {@code XmlItemReader}
+     * reading {@code recordElement}.
+     */
+    final String context;
+
+    OffsetCheckpoint(final int rowNumber, final long position) {
+        this(rowNumber, position, null);
+    }
+
+    OffsetCheckpoint(final int rowNumber, final long position, final String context) {
+        this.rowNumber = rowNumber;
+        this.position = position;
+        this.context = context;
+    }
+
+    @Override
+    public String toString() {
+        return "OffsetCheckpoint{rowNumber=" + rowNumber + ", position=" + position +
+                (context == null ? "" : ", context=" + context) + '}';
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * A {@code java.io.Reader} over a local file that can map the offset of a recently read character back to its byte
+ * offset in the file. It is used by {@link XmlItemReader}, whose parser only reports character offsets, to
+ * checkpoint the byte offset of the last read record, and on restart to seek directly to it.
+ * <p>
+ * The file is decoded in blocks, and the characters of the last few blocks are retained along with
+ * the byte offset of each block, so that character offsets within the parser's read-ahead buffer can be mapped.
+ * Optionally, some prefix characters, which are not mapped to any byte offset, are returned before the content of
+ * the file, e.g., to restore the parser context when resuming from the middle of a document. Likewise, the content
+ * of the file can be limited to a byte range, followed by some suffix characters, e.g., to close the elements opened
+ * by the prefix.
+ * <p>
+ * Only charsets supported by {@link PositionTrackingReader#supports(Charset)} can be read, since the byte length of
+ * each character is computed from the character itself.
+ *
+ * @see XmlItemReader
+ * @since 2.1.3
+ */
+final class OffsetMappingReader extends Reader {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int HISTORY = 8;
+
+    private final FileChannel channel;
+    private final CharsetDecoder decoder;
+    private final boolean singleByte;
+
+    /**
+     * The file offset where the content of the file ends, or -1 to read till the end of the file.
+     */
+    private final long limit;
+
+    /**
+     * Characters to return after the content of the file, or null.
+     */
+    private final String suffix;
+
+    /**
+     * The offset of the first suffix character, or -1 if the suffix has not been returned yet.
+     */
+    private long suffixStart = -1;
+
+    /**
+     * Bytes read from {@link #channel}, in read mode: bytes between position and limit are not yet decoded.
+     */
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * The retained blocks, in a ring indexed by block number modulo {@link #HISTORY}.
+     */
+    private final Block[] blocks = new Block[HISTORY];
+
+    /**
+     * The number of blocks decoded so far, including the prefix block if any. The last one is the current block.
+     */
+    private int blockCount;
+
+    /**
+     * Index in the current block of the next character to return.
+     */
+    private int pos;
+
+    /**
+     * File offset of the first byte in {@link #bytes} array.
+     */
+    private long bytesOffset;
+
+    private boolean eof;
+
+    /**
+     * Whether all bytes of the file have been decoded and the decoder has been flushed.
+     */
+    private boolean done;
+
+    /**
+     * Creates a reader that returns the prefix characters, if any, followed by the content of the file starting at
+     * a byte offset. If the offset is 0, and there is no prefix, a UTF-8 byte order mark is skipped.
+     *
+     * @param channel  the file channel to read from
+     * @param charset  the charset of the file, which must be supported according to
+     *                 {@link PositionTrackingReader#supports(Charset)}
+     * @param prefix   characters to return before the content of the file, or null
+     * @param position the file offset to start reading from
+     * @throws IOException if failed to read from the file
+     */
+    OffsetMappingReader(final FileChannel channel, final Charset charset, final String prefix, final long position)
+            throws IOException {
+        this(channel, charset, prefix, position, -1, null);
+    }
+
+    /**
+     * Creates a reader that returns the prefix characters, if any, followed by the content of the file between two
+     * byte offsets, followed by the suffix characters, if any.
+     *
+     * @param channel  the file channel to read from
+     * @param charset  the charset of the file, which must be supported according to
+     *                 {@link PositionTrackingReader#supports(Charset)}
+     * @param prefix   characters to return before the content of the file, or null
+     * @param position the file offset to start reading from
+     * @param limit    the file offset to stop reading at, or -1 to read till the end of the file
+     * @param suffix   characters to return after the content of the file, or null
+     * @throws IOException if failed to read from the file
+     */
+    OffsetMappingReader(final FileChannel channel, final Charset charset, final String prefix, final long position,
+                        final long limit, final String suffix) throws IOException {
+        this.channel = channel;
+        this.limit = limit;
+        this.suffix = suffix;
+        this.singleByte = !charset.name().equals("UTF-8");
+        //single-byte charsets always decode one byte into one character, so replacing unmappable bytes is safe
+        final CodingErrorAction action = singleByte ? CodingErrorAction.REPLACE : CodingErrorAction.REPORT;
+        this.decoder = charset.newDecoder().onMalformedInput(action).onUnmappableCharacter(action);
+        channel.position(position);
+        bytesOffset = position;
+        bytes.flip();
+        if (prefix != null && !prefix.isEmpty()) {
+            final Block block = nextBlock(prefix.length());
+            prefix.getChars(0, prefix.length(), block.chars, 0);
+            block.length = prefix.length();
+            block.byteStart = -1;
+            blockCount++;
+        } else if (position == 0) {
+            fill();
+            if (bytes.remaining() >= 3 && (bytes.get(0) & 0xFF) == 0xEF &&
+                    (bytes.get(1) & 0xFF) == 0xBB && (bytes.get(2) & 0xFF) == 0xBF) {
+                bytes.position(3);
+            }
+        }
+    }
+
+    /**
+     * Maps the offset of a character returned by this reader to the byte offset in the file right before that
+     * character.
+     *
+     * @param charOffset the number of characters before the character, counted from the first returned character
+     * @return the byte offset in the file, or -1 if the character is no longer retained, has not been read yet, or
+     * is one of the prefix or suffix characters
+     */
+    long getByteOffset(final long charOffset) {
+        if (charOffset == suffixStart) {
+            return limit;
+        }
+        final Block block = findBlock(charOffset);
+        if (block == null) {
+            return -1;
+        }
+        final int index = (int) (charOffset - block.charStart);
+        if (block.byteStart < 0) {
+            //right after the prefix, when no block has been decoded from the file yet
+            return index == block.length && block.charStart == 0 ? bytesOffset + bytes.position() : -1;
+        }
+        if (singleByte) {
+            return block.byteStart + index;
+        }
+        long offset = block.byteStart;
+        final char[] chars = block.chars;
+        for (int i = 0; i < index; ++i) {
+            final char c = chars[i];
+            offset += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+        }
+        return offset;
+    }
+
+    /**
+     * Gets a character returned by this reader.
+     *
+     * @param charOffset the number of characters before the character, counted from the first returned character
+     * @return the character, or -1 if it is no longer retained, or has not been read yet
+     */
+    int charAt(final long charOffset) {
+        final Block block = findBlock(charOffset);
+        if (block == null) {
+            return -1;
+        }
+        final int index = (int) (charOffset - block.charStart);
+        return index < block.length ? block.chars[index] : -1;
+    }
+
+    /**
+     * Gets the characters returned by this reader between two offsets.
+     *
+     * @param from the offset of the first character
+     * @param to   the offset after the last character
+     * @return the characters, or null if any of them is no longer retained, or has not been read yet
+     */
+    String getChars(final long from, final long to) {
+        final StringBuilder sb = new StringBuilder((int) Math.max(to - from, 0));
+        for (long i = from; i < to; ++i) {
+            final int c = charAt(i);
+            if (c < 0) {
+                return null;
+            }
+            sb.append((char) c);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        Block block = blockCount == 0 ? null : blocks[(blockCount - 1) % HISTORY];
+        while (block == null || pos >= block.length) {
+            block = decodeNext();
+            if (block == null) {
+                return -1;
+            }
+        }
+        final int n = Math.min(len, block.length - pos);
+        System.arraycopy(block.chars, pos, cbuf, off, n);
+        pos += n;
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Finds the retained block containing a character, or ending right before it if it is the next character to
+     * be decoded. The oldest slot of the ring is not searched, since it is overwritten while decoding.
+     */
+    private Block findBlock(final long charOffset) {
+        for (int i = blockCount - 1; i >= 0 && i > blockCount - HISTORY; --i) {
+            final Block block = blocks[i % HISTORY];
+            if (charOffset >= block.charStart) {
+                return charOffset <= block.charStart + block.length ? block : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Decodes the next block of characters, and makes it the current block.
+     *
+     * @return the decoded block, or null if the end of file is reached and there is nothing more to decode
+     * @throws IOException if failed to read from or decode the file
+     */
+    private Block decodeNext() throws IOException {
+        while (!done) {
+            final long byteStart = bytesOffset + bytes.position();
+            final Block block = nextBlock(BUFFER_SIZE);
+            final CharBuffer chars = CharBuffer.wrap(block.chars);
+            final CoderResult result = decoder.decode(bytes, chars, eof);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (eof && result.isUnderflow()) {
+                decoder.flush(chars);
+                done = true;
+            }
+            if (chars.position() > 0) {
+                block.length = chars.position();
+                block.byteStart = byteStart;
+                blockCount++;
+                pos = 0;
+                return block;
+            }
+            if (!eof) {
+                fill();
+            }
+        }
+        if (suffix != null && suffixStart < 0) {
+            final Block block = nextBlock(suffix.length());
+            suffix.getChars(0, suffix.length(), block.chars, 0);
+            block.length = suffix.length();
+            block.byteStart = -1;
+            suffixStart = block.charStart;
+            blockCount++;
+            pos = 0;
+            return block;
+        }
+        return null;
+    }
+
+    /**
+     * Prepares the next slot of the ring to hold a block, reusing its array if large enough.
+     */
+    private Block nextBlock(final int capacity) {
+        final int index = blockCount % HISTORY;
+        Block block = blocks[index];
+        if (block == null || block.chars.length < capacity) {
+            block = new Block(new char[Math.max(capacity, BUFFER_SIZE)]);
+            blocks[index] = block;
+        }
+        if (blockCount == 0) {
+            block.charStart = 0;
+        } else {
+            final Block last = blocks[(blockCount - 1) % HISTORY];
+            block.charStart = last.charStart + last.length;
+        }
+        block.length = 0;
+        return block;
+    }
+
+    private void fill() throws IOException {
+        final int consumed = bytes.position();
+        bytes.compact();
+        bytesOffset += consumed;
+        boolean atLimit = false;
+        if (limit >= 0) {
+            final long remaining = limit - bytesOffset - bytes.position();
+            atLimit = remaining <= 0;
+            if (remaining < bytes.remaining()) {
+                bytes.limit(bytes.position() + (int) Math.max(remaining, 0));
+            }
+        }
+        if (atLimit || channel.read(bytes) < 0) {
+            eof = true;
+        }
+        bytes.flip();
+    }
+
+    private static final class Block {
+        final char[] chars;
+        int length;
+        long charStart;
+
+        /**
+         * File offset of the first byte decoded into this block, or -1 for the prefix and suffix blocks.
+         */
+        long byteStart;
+
+        Block(final char[] chars) {
+            this.chars = chars;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Encodes the items of a chunk in parallel for text file writers. The items are split into contiguous slices, each
+ * encoded into its own byte buffer on the shared {@link WorkerPool}, except the last slice, which is encoded on the
+ * calling thread. The encoded slices are then written to the output in the original order.
+ * <p>
+ * Each writer provides a {@link SliceEncoder} that creates its own encoder or generator in the same state as the
+ * writer's, so that the concatenated slices are identical to the output of encoding the items one at a time. A writer
+ * creates its encoder when opened, and closes it when closed, so that the pool is released.
+ *
+ * @see ItemReaderWriterBase#encodingParallelism
+ * @since 2.1.3
+ */
+final class ParallelChunkEncoder implements Closeable {
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private final int parallelism;
+    private final SliceEncoder encoder;
+    private ExecutorService executor;
+
+    /**
+     * Creates an encoder, acquiring the shared {@link WorkerPool}.
+     *
+     * @param parallelism the maximum number of slices
+     * @param encoder     the encoder of slices
+     */
+    ParallelChunkEncoder(final int parallelism, final SliceEncoder encoder) {
+        this.parallelism = parallelism;
+        this.encoder = encoder;
+        executor = WorkerPool.acquire();
+    }
+
+    /**
+     * Encodes a slice of the items of a chunk.
+     */
+    interface SliceEncoder {
+        /**
+         * Encodes the items from index {@code from} (inclusive) to {@code to} (exclusive) into a buffer. Any output
+         * written to restore the encoder state before the first item is excluded by calling
+         * {@link SliceBuffer#begin()} right before encoding the first item, and any output written after the last
+         * item, e.g., when closing the encoder, is excluded by calling {@link SliceBuffer#end()} right after it.
+         *
+         * @param items  the items of the chunk
+         * @param from   the index of the first item of the slice
+         * @param to     the index after the last item of the slice
+         * @param buffer the buffer to encode into
+         * @throws Exception if failed to encode the items
+         */
+        void encode(List<Object> items, int from, int to, SliceBuffer buffer) throws Exception;
+    }
+
+    /**
+     * The buffer holding an encoded slice.
+     */
+    static final class SliceBuffer extends ByteArrayOutputStream {
+        private int begin;
+        private int end = -1;
+
+        SliceBuffer() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        /**
+         * Marks the beginning of the encoded slice at the current size of this buffer.
+         */
+        void begin() {
+            begin = count;
+        }
+
+        /**
+         * Marks the end of the encoded slice at the current size of this buffer.
+         */
+        void end() {
+            end = count;
+        }
+
+        private void writeSliceTo(final OutputStream out) throws IOException {
+            out.write(buf, begin, (end < 0 ? count : end) - begin);
+        }
+    }
+
+    /**
+     * Encodes the items of a chunk from index {@code from} in up to {@code parallelism} slices, and writes them to
+     * the output in order.
+     *
+     * @param items the items of the chunk
+     * @param from  the index of the first item to encode
+     * @param out   the output to write the encoded slices to, after any output of the writer's own encoder or
+     *              generator has been flushed to it
+     * @throws Exception if failed to encode the items or write the output
+     */
+    void encode(final List<Object> items, final int from, final OutputStream out) throws Exception {
+        final int size = items.size() - from;
+        if (size <= 0) {
+            return;
+        }
+        final int slices = Math.min(parallelism, size);
+        final List<Future<SliceBuffer>> futures = new ArrayList<Future<SliceBuffer>>(slices - 1);
+        try {
+            int start = from;
+            for (int i = 1; i < slices; ++i) {
+                final int sliceFrom = start;
+                final int sliceTo = from + (int) ((long) size * i / slices);
+                futures.add(executor.submit(new Callable<SliceBuffer>() {
+                    @Override
+                    public SliceBuffer call() throws Exception {
+                        return encodeSlice(items, sliceFrom, sliceTo, encoder);
+                    }
+                }));
+                start = sliceTo;
+            }
+            final SliceBuffer last = encodeSlice(items, start, items.size(), encoder);
+            for (final Future<SliceBuffer> f : futures) {
+                take(f).writeSliceTo(out);
+            }
+            last.writeSliceTo(out);
+        } finally {
+            for (final Future<SliceBuffer> f : futures) {
+                f.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Releases the shared {@link WorkerPool}. Chunks are no longer encoded once this encoder is closed.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor = null;
+            WorkerPool.release();
+        }
+    }
+
+    private static SliceBuffer encodeSlice(final List<Object> items,
+                                           final int from,
+                                           final int to,
+                                           final SliceEncoder encoder) throws Exception {
+        final SliceBuffer buffer = new SliceBuffer();
+        encoder.encode(items, from, to, buffer);
+        return buffer;
+    }
+
+    private static SliceBuffer take(final Future<SliceBuffer> future) throws Exception {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * An {@code OutputStream} compressing its output in gzip format in parallel, in the same way as pigz: the output is
+ * split into blocks of {@link #BLOCK_SIZE} bytes, which are deflated concurrently by the shared {@link WorkerPool},
+ * each block using the last 32 KiB of the previous block as its preset
+ * dictionary and ending on a byte boundary with a sync flush. The compressed blocks are written in order by the
+ * writer thread, which also computes the CRC-32 of the uncompressed output, forming a single gzip member readable by
+ * any gzip decoder.
+ * <p>
+ * {@link #flush()} does nothing, since flushing a partial block would degrade the compression. The compressed
+ * output is complete only after this stream is closed, which also ends its deflaters and releases the pool.
+ *
+ * @see ItemReaderWriterBase#compression
+ * @since 2.1.3
+ */
+final class ParallelGzipOutputStream extends OutputStream {
+    static final int BLOCK_SIZE = 128 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final int MAX_PENDING_BLOCKS = 2 * WorkerPool.THREADS;
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+    private static final Queue<byte[]> blockPool = new ConcurrentLinkedQueue<byte[]>();
+
+    private final OutputStream out;
+    private final ExecutorService executor;
+
+    /**
+     * Deflaters not in use by any block being compressed, which are ended when this stream is closed.
+     */
+    private final ArrayDeque<Deflater> deflaters = new ArrayDeque<Deflater>();
+    private boolean deflatersEnded;
+    private final CRC32 crc = new CRC32();
+    private final ArrayDeque<Future<byte[]>> pending = new ArrayDeque<Future<byte[]>>();
+    private byte[] block;
+    private int count;
+    private byte[] dictionary;
+    private long size;
+    private boolean closed;
+
+    /**
+     * Creates a {@code ParallelGzipOutputStream}, and writes the gzip header to the underlying stream.
+     *
+     * @param out the underlying output stream
+     * @throws IOException if failed to write the gzip header
+     */
+    ParallelGzipOutputStream(final OutputStream out) throws IOException {
+        this.out = out;
+        out.write(HEADER);
+        block = newBlock();
+        executor = WorkerPool.acquire();
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (count == BLOCK_SIZE) {
+            submit(false);
+        }
+        block[count++] = (byte) b;
+        crc.update(b);
+        size++;
+    }
+
+    @Override
+    public void write(final byte[] b, int off, int len) throws IOException {
+        crc.update(b, off, len);
+        size += len;
+        while (len > 0) {
+            if (count == BLOCK_SIZE) {
+                submit(false);
+            }
+            final int n = Math.min(len, BLOCK_SIZE - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Does nothing. The output is compressed in full blocks, and written to the underlying stream as they are
+     * compressed, and when this stream is closed.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Compresses the last block, writes all compressed blocks and the gzip trailer, and closes the underlying
+     * stream. The deflaters of this stream are ended, and the shared pool is released.
+     *
+     * @throws IOException if failed to compress or write the output
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            submit(true);
+            while (!pending.isEmpty()) {
+                out.write(take());
+            }
+            final int crcValue = (int) crc.getValue();
+            final int isize = (int) size;
+            out.write(new byte[]{
+                    (byte) crcValue, (byte) (crcValue >> 8), (byte) (crcValue >> 16), (byte) (crcValue >> 24),
+                    (byte) isize, (byte) (isize >> 8), (byte) (isize >> 16), (byte) (isize >> 24)});
+        } finally {
+            for (final Future<byte[]> f : pending) {
+                f.cancel(false);
+            }
+            pending.clear();
+            synchronized (deflaters) {
+                deflatersEnded = true;
+                for (final Deflater deflater : deflaters) {
+                    deflater.end();
+                }
+                deflaters.clear();
+            }
+            WorkerPool.release();
+            out.close();
+        }
+    }
+
+    /**
+     * Submits the current block for compression, first writing the oldest compressed block if too many blocks are
+     * pending.
+     *
+     * @param last whether the block is the last one of the stream
+     * @throws IOException if failed to compress or write a block
+     */
+    private void submit(final boolean last) throws IOException {
+        if (pending.size() >= MAX_PENDING_BLOCKS) {
+            out.write(take());
+        }
+        final byte[] input = block;
+        final int length = count;
+        final byte[] dict = dictionary;
+        if (!last) {
+            // copied before submitting, since the block is returned to the pool once compressed
+            dictionary = Arrays.copyOfRange(input, length - DICTIONARY_SIZE, length);
+        }
+        pending.add(executor.submit(new Callable<byte[]>() {
+            @Override
+            public byte[] call() {
+                return deflate(input, length, dict, last);
+            }
+        }));
+        if (!last) {
+            block = newBlock();
+            count = 0;
+        }
+    }
+
+    private byte[] take() throws IOException {
+        try {
+            return pending.poll().get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (final ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static byte[] newBlock() {
+        final byte[] b = blockPool.poll();
+        return b != null ? b : new byte[BLOCK_SIZE];
+    }
+
+    /**
+     * Deflates a block into raw deflate data ending on a byte boundary, or ending the deflate stream if it is the last
+     * block, and returns the block to the pool.
+     */
+    private byte[] deflate(final byte[] input, final int length, final byte[] dictionary, final boolean last) {
+        Deflater deflater;
+        synchronized (deflaters) {
+            deflater = deflaters.poll();
+        }
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        } else {
+            deflater.reset();
+        }
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(input, 0, length);
+            byte[] output = new byte[length + (length >> 3) + 64];
+            int pos = 0;
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    if (pos == output.length) {
+                        output = Arrays.copyOf(output, output.length * 2);
+                    }
+                    pos += deflater.deflate(output, pos, output.length - pos);
+                }
+            } else {
+                do {
+                    if (pos == output.length) {
+                        output = Arrays.copyOf(output, output.length * 2);
+                    }
+                    pos += deflater.deflate(output, pos, output.length - pos, Deflater.SYNC_FLUSH);
+                } while (pos == output.length);
+            }
+            return Arrays.copyOf(output, pos);
+        } finally {
+            blockPool.offer(input);
+            recycle(deflater);
+        }
+    }
+
+    /**
+     * Returns a deflater for the next block, or ends it if this stream is closed, e.g., when a block is still being
+     * compressed after a failure.
+     */
+    private void recycle(final Deflater deflater) {
+        synchronized (deflaters) {
+            if (!deflatersEnded) {
+                deflaters.add(deflater);
+                return;
+            }
+        }
+        deflater.end();
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPInputStream;
+
+import org.jberet.support._private.SupportLogger;
+
+/**
+ * An {@code InputStream} decompressing a gzip stream on a separate daemon thread, so that reading and
+ * decompressing the resource overlaps with parsing the decompressed data on the reader thread. The decompressed
+ * data is passed to the reader thread in blocks of {@link #BLOCK_SIZE} bytes through a bounded queue, and the blocks
+ * are recycled after they have been read. Concatenated gzip members are decompressed as one stream.
+ *
+ * @see ItemReaderWriterBase#compression
+ * @since 2.1.3
+ */
+final class PipelinedGzipInputStream extends InputStream {
+    static final int BLOCK_SIZE = 256 * 1024;
+    private static final int QUEUED_BLOCKS = 4;
+
+    /**
+     * The block marking the end of the decompressed data.
+     */
+    private static final Block EOF = new Block(new byte[0], -1, null);
+
+    private final InputStream source;
+    private final BlockingQueue<Block> filled = new ArrayBlockingQueue<Block>(QUEUED_BLOCKS);
+    private final BlockingQueue<byte[]> free = new ArrayBlockingQueue<byte[]>(QUEUED_BLOCKS + 2);
+    private final Thread decompressor;
+
+    private Block current;
+    private int pos;
+    private volatile boolean closed;
+
+    /**
+     * Creates a {@code PipelinedGzipInputStream}, reading the gzip header on the current thread, and starts the
+     * decompressing thread.
+     *
+     * @param source   the gzip input stream
+     * @param resource the resource name, used in the thread name
+     * @throws IOException if failed to read the gzip header, or it is not a gzip stream
+     */
+    PipelinedGzipInputStream(final InputStream source, final String resource) throws IOException {
+        this.source = source;
+        final GZIPInputStream gzipInputStream = new GZIPInputStream(source, 64 * 1024);
+        decompressor = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                decompress(gzipInputStream);
+            }
+        }, "jberet-gunzip " + resource);
+        decompressor.setDaemon(true);
+        decompressor.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureData()) {
+            return -1;
+        }
+        return current.data[pos++] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureData()) {
+            return -1;
+        }
+        final int n = Math.min(len, current.length - pos);
+        System.arraycopy(current.data, pos, b, off, n);
+        pos += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return current == null || current == EOF ? 0 : current.length - pos;
+    }
+
+    /**
+     * Stops the decompressing thread and closes the source stream.
+     *
+     * @throws IOException if failed to close the source stream
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        decompressor.interrupt();
+        // closing the source unblocks the decompressing thread if it is waiting for input
+        source.close();
+    }
+
+    /**
+     * Takes the next block from the decompressing thread if the current one has been read.
+     *
+     * @return false if the end of the decompressed data has been reached
+     * @throws IOException if the decompressing thread failed, or the current thread is interrupted
+     */
+    private boolean ensureData() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        while (current == null || pos >= current.length) {
+            if (current == EOF) {
+                return false;
+            }
+            if (current != null) {
+                free.offer(current.data);
+            }
+            try {
+                current = filled.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            pos = 0;
+            if (current.error != null) {
+                final IOException error = current.error;
+                current = EOF;
+                throw error;
+            }
+        }
+        return true;
+    }
+
+    private void decompress(final GZIPInputStream gzipInputStream) {
+        try {
+            int n;
+            do {
+                byte[] data = free.poll();
+                if (data == null) {
+                    data = new byte[BLOCK_SIZE];
+                }
+                int length = 0;
+                while (length < BLOCK_SIZE && (n = gzipInputStream.read(data, length, BLOCK_SIZE - length)) > 0) {
+                    length += n;
+                }
+                if (length > 0) {
+                    filled.put(new Block(data, length, null));
+                }
+                n = length < BLOCK_SIZE ? -1 : 0;
+            } while (n == 0);
+            filled.put(EOF);
+        } catch (final InterruptedException e) {
+            SupportLogger.LOGGER.tracef("Stopped decompressing %s%n", decompressor.getName());
+        } catch (final IOException | RuntimeException e) {
+            if (closed) {
+                SupportLogger.LOGGER.tracef(e, "Stopped decompressing %s%n", decompressor.getName());
+            } else {
+                final IOException error = e instanceof IOException ? (IOException) e : new IOException(e);
+                try {
+                    filled.put(new Block(null, 0, error));
+                } catch (final InterruptedException ie) {
+                    SupportLogger.LOGGER.tracef(ie, "Stopped decompressing %s%n", decompressor.getName());
+                }
+            }
+        } finally {
+            try {
+                gzipInputStream.close();
+            } catch (final IOException e) {
+                SupportLogger.LOGGER.tracef(e, "Failed to close %s%n", decompressor.getName());
+            }
+        }
+    }
+
+    private static final class Block {
+        final byte[] data;
+        final int length;
+        final IOException error;
+
+        Block(final byte[] data, final int length, final IOException error) {
+            this.data = data;
+            this.length = length;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * A {@code java.io.Reader} over a local file that keeps track of the byte offset of line boundaries, and can
+ * be repositioned to a byte offset. It is used by {@link CsvItemReader} to checkpoint the byte offset of the
+ * last read record, and on restart to seek directly to it, instead of re-parsing all previously read records.
+ * <p>
+ * Each {@code read} call returns characters of at most one line, including its line terminator, so that a
+ * {@code java.io.BufferedReader} reading lines from this reader never buffers characters beyond the line it
+ * returned last. Therefore, when a CSV record has been read, {@link #getPosition()} is the byte offset right after
+ * that record.
+ * <p>
+ * Only charsets in which line terminators are always encoded as single ASCII bytes, and no multi-byte sequence
+ * contains those bytes, are supported. See {@link #supports(Charset)}.
+ *
+ * @see CsvItemReader
+ * @since 2.1.3
+ */
+final class PositionTrackingReader extends Reader {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final CharsetDecoder decoder;
+
+    /**
+     * Bytes read from {@link #channel}, in read mode: bytes between position and limit are not yet decoded.
+     */
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * Decoded characters of the current line, in read mode: characters between position and limit are not
+     * yet returned.
+     */
+    private final CharBuffer chars;
+
+    /**
+     * File offset of the first byte in {@link #bytes} array.
+     */
+    private long bytesOffset;
+
+    /**
+     * Index in {@link #bytes} array from which to search for the next line terminator.
+     */
+    private int scanFrom;
+
+    /**
+     * File offset right after the last line whose characters have been decoded.
+     */
+    private long position;
+
+    private boolean eof;
+
+    /**
+     * Creates a reader positioned at the beginning of the file, after the UTF-8 byte order mark if present.
+     *
+     * @param channel the file channel to read from
+     * @param charset the charset of the file, which must be supported according to {@link #supports(Charset)}
+     * @throws IOException if failed to read from the file
+     */
+    PositionTrackingReader(final FileChannel channel, final Charset charset) throws IOException {
+        this.channel = channel;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chars = CharBuffer.allocate((int) Math.ceil(BUFFER_SIZE * decoder.maxCharsPerByte()) + 1);
+        seek(0);
+        fill();
+        if (bytes.remaining() >= 3 && (bytes.get(0) & 0xFF) == 0xEF &&
+                (bytes.get(1) & 0xFF) == 0xBB && (bytes.get(2) & 0xFF) == 0xBF) {
+            bytes.position(3);
+            scanFrom = 3;
+            position = 3;
+        }
+    }
+
+    /**
+     * Checks if a charset can be read by this class.
+     *
+     * @param charset the charset to check
+     * @return true if the charset is UTF-8, US-ASCII, ISO-8859-*, or windows-125*
+     */
+    static boolean supports(final Charset charset) {
+        final String name = charset.name();
+        return name.equals("UTF-8") || name.equals("US-ASCII") ||
+                name.startsWith("ISO-8859-") || name.startsWith("windows-125");
+    }
+
+    /**
+     * Gets the file offset right after the last line whose characters have been read.
+     *
+     * @return the file offset
+     */
+    long getPosition() {
+        return position;
+    }
+
+    /**
+     * Repositions this reader to a file offset, discarding any buffered bytes and characters.
+     *
+     * @param offset the file offset, which should be at a line boundary
+     * @throws IOException if failed to reposition the file channel
+     */
+    void seek(final long offset) throws IOException {
+        channel.position(offset);
+        bytes.clear().flip();
+        chars.clear().flip();
+        decoder.reset();
+        bytesOffset = offset;
+        position = offset;
+        scanFrom = 0;
+        eof = false;
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (!chars.hasRemaining()) {
+            if (!decodeNext()) {
+                return -1;
+            }
+        }
+        final int n = Math.min(len, chars.remaining());
+        chars.get(cbuf, off, n);
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Decodes the next line, or the next part of a line longer than the byte buffer, into {@link #chars}.
+     *
+     * @return false if the end of file is reached and there is nothing more to decode
+     * @throws IOException if failed to read from the file
+     */
+    private boolean decodeNext() throws IOException {
+        chars.clear();
+        try {
+            while (true) {
+                final int end = findLineEnd();
+                if (end >= 0) {
+                    decode(end, true);
+                    position = bytesOffset + end;
+                    return true;
+                }
+                if (eof) {
+                    if (!bytes.hasRemaining()) {
+                        return false;
+                    }
+                    final int limit = bytes.limit();
+                    decode(limit, true);
+                    position = bytesOffset + limit;
+                    return true;
+                }
+                if (bytes.position() == 0 && bytes.limit() == bytes.capacity()) {
+                    //a line longer than the buffer: decode all but a trailing '\r', which may be followed by '\n'
+                    final int limit = bytes.limit();
+                    decode(bytes.get(limit - 1) == '\r' ? limit - 1 : limit, false);
+                    if (chars.position() > 0) {
+                        return true;
+                    }
+                }
+                fill();
+            }
+        } finally {
+            chars.flip();
+        }
+    }
+
+    /**
+     * Finds the end of the next line terminator in the byte buffer.
+     *
+     * @return the index right after the line terminator, or -1 if not found in the buffered bytes
+     */
+    private int findLineEnd() {
+        final int limit = bytes.limit();
+        for (int i = scanFrom; i < limit; ++i) {
+            final byte b = bytes.get(i);
+            if (b == '\n') {
+                return i + 1;
+            }
+            if (b == '\r') {
+                if (i + 1 < limit) {
+                    return bytes.get(i + 1) == '\n' ? i + 2 : i + 1;
+                }
+                if (eof) {
+                    return i + 1;
+                }
+                scanFrom = i;
+                return -1;
+            }
+        }
+        scanFrom = limit;
+        return -1;
+    }
+
+    private void decode(final int end, final boolean endOfLine) {
+        final int limit = bytes.limit();
+        bytes.limit(end);
+        decoder.decode(bytes, chars, endOfLine);
+        if (endOfLine) {
+            decoder.flush(chars);
+            decoder.reset();
+        }
+        bytes.limit(limit);
+        if (scanFrom < bytes.position()) {
+            scanFrom = bytes.position();
+        }
+    }
+
+    private void fill() throws IOException {
+        final int consumed = bytes.position();
+        bytes.compact();
+        bytesOffset += consumed;
+        scanFrom -= consumed;
+        if (channel.read(bytes) < 0) {
+            eof = true;
+        }
+        bytes.flip();
+    }
+}
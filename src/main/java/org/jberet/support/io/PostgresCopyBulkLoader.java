@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * A {@link JdbcBulkLoader} that loads rows into a PostgreSQL table with {@code COPY ... FROM STDIN} in CSV format,
+ * through {@code org.postgresql.copy.CopyManager} of the PostgreSQL JDBC driver. The PostgreSQL JDBC driver is
+ * accessed reflectively, so it is only required at runtime. For example, in job xml:
+ * <p>
+ * &lt;property name="bulkLoader" value="org.jberet.support.io.PostgresCopyBulkLoader"/&gt;
+ * <p>
+ * Rows are formatted one at a time as the driver reads them, so the CSV content of a whole chunk is never held in
+ * memory. Null values are loaded as SQL NULL; {@code java.util.Date} values other than {@code java.sql.Date} and
+ * {@code java.sql.Time} as ISO 8601 timestamps with the offset of the default time zone, which is ignored by
+ * {@code timestamp} columns, the same as when binding them with {@code setTimestamp}; {@code byte[]} values in
+ * {@code bytea} hex format; and other values, including {@code java.time} values, with their {@code toString()}.
+ *
+ * @see JdbcItemWriter#bulkLoader
+ * @since 2.1.3
+ */
+public class PostgresCopyBulkLoader implements JdbcBulkLoader {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    @Override
+    public void load(final Connection connection, final String table, final String[] columns,
+                     final List<Object[]> rows) throws Exception {
+        final Class<?> pgConnectionClass =
+                Class.forName("org.postgresql.PGConnection", true, connection.getClass().getClassLoader());
+        final Object pgConnection = connection.unwrap(pgConnectionClass);
+        final Object copyManager = pgConnectionClass.getMethod("getCopyAPI").invoke(pgConnection);
+        copyManager.getClass().getMethod("copyIn", String.class, Reader.class)
+                .invoke(copyManager, copySql(table, columns), new CsvRowReader(rows));
+    }
+
+    /**
+     * Builds the {@code COPY} statement for the table and columns.
+     *
+     * @param table   the target table
+     * @param columns the target columns
+     * @return the {@code COPY} statement
+     */
+    static String copySql(final String table, final String[] columns) {
+        final StringBuilder sb = new StringBuilder("COPY ").append(table).append(" (");
+        for (int i = 0; i < columns.length; ++i) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(columns[i]);
+        }
+        return sb.append(") FROM STDIN WITH (FORMAT csv)").toString();
+    }
+
+    /**
+     * Formats a row as a CSV line accepted by PostgreSQL {@code COPY}. All non-null values are quoted, so that they
+     * are distinguished from unquoted empty values, which are loaded as SQL NULL.
+     *
+     * @param row the row to format
+     * @param sb  the buffer to append the CSV line to
+     */
+    static void appendCsv(final Object[] row, final StringBuilder sb) {
+        for (int i = 0; i < row.length; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            final Object val = row[i];
+            if (val == null) {
+                continue;
+            }
+            sb.append('"');
+            if (val instanceof byte[]) {
+                final byte[] bytes = (byte[]) val;
+                sb.append("\\x");
+                for (final byte b : bytes) {
+                    sb.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+                }
+            } else {
+                final String s;
+                if (val instanceof java.util.Date && !(val instanceof java.sql.Date) &&
+                        !(val instanceof java.sql.Time)) {
+                    s = formatTimestamp((java.util.Date) val);
+                } else {
+                    s = val.toString();
+                }
+                for (int j = 0; j < s.length(); ++j) {
+                    final char c = s.charAt(j);
+                    if (c == '"') {
+                        sb.append('"');
+                    }
+                    sb.append(c);
+                }
+            }
+            sb.append('"');
+        }
+        sb.append('\n');
+    }
+
+    /**
+     * Formats a date as an ISO 8601 timestamp with the offset of the default time zone, keeping the nanoseconds of
+     * {@code java.sql.Timestamp}.
+     *
+     * @param date the date to format
+     * @return the formatted timestamp, e.g., {@code 1998-01-02T09:30:00.5-05:00}
+     */
+    static String formatTimestamp(final java.util.Date date) {
+        final Instant instant = date instanceof Timestamp ?
+                ((Timestamp) date).toInstant() : date.toInstant();
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(instant.atZone(ZoneId.systemDefault()));
+    }
+
+    /**
+     * A {@code java.io.Reader} of the CSV content of rows, which formats each row only when the previous one has been
+     * read.
+     */
+    static final class CsvRowReader extends Reader {
+        private final List<Object[]> rows;
+        private final StringBuilder line = new StringBuilder();
+        private int nextRow;
+        private int linePosition;
+
+        CsvRowReader(final List<Object[]> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            int n = 0;
+            while (n < len) {
+                if (linePosition == line.length()) {
+                    if (nextRow == rows.size()) {
+                        break;
+                    }
+                    line.setLength(0);
+                    linePosition = 0;
+                    appendCsv(rows.get(nextRow++), line);
+                }
+                final int count = Math.min(len - n, line.length() - linePosition);
+                line.getChars(linePosition, linePosition + count, cbuf, off + n);
+                linePosition += count;
+                n += count;
+            }
+            return n == 0 ? -1 : n;
+        }
+
+        @Override
+        public void close() {
+            nextRow = rows.size();
+            linePosition = line.length();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of daemon threads, one per available processor, shared by readers and writers that compress or encode
+ * their data in parallel. The pool is created when it is first acquired, and shut down when the last reader or
+ * writer using it releases it, so that no thread outlives the job executions using them.
+ *
+ * @see ParallelGzipOutputStream
+ * @see ParallelChunkEncoder
+ * @since 2.1.3
+ */
+final class WorkerPool {
+    static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    private static ExecutorService executor;
+
+    /**
+     * The number of readers and writers that acquired the pool and have not released it yet.
+     */
+    private static int users;
+
+    private WorkerPool() {
+    }
+
+    /**
+     * Acquires the shared pool, creating it if needed. Each call must be followed by a call to {@link #release()}
+     * once the pool is no longer used.
+     *
+     * @return the shared pool
+     */
+    static synchronized ExecutorService acquire() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(final Runnable r) {
+                    final Thread thread = new Thread(r, "jberet-worker-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        users++;
+        return executor;
+    }
+
+    /**
+     * Releases the shared pool acquired with {@link #acquire()}, shutting it down if it is no longer used. Tasks
+     * already submitted are still run.
+     */
+    static synchronized void release() {
+        if (users > 0 && --users == 0) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+}
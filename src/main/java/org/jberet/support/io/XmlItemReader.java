@@ -10,12 +10,35 @@
 
 package org.jberet.support.io;
 
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 
+import org.codehaus.stax2.LocationInfo;
+import org.codehaus.stax2.XMLStreamReader2;
+import org.codehaus.stax2.ri.Stax2ReaderAdapter;
+import org.codehaus.stax2.util.StreamReader2Delegate;
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
 
+import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.ContentReference;
+import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.io.InputDecorator;
 import com.fasterxml.jackson.dataformat.xml.JacksonXmlModule;
 import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
@@ -30,6 +53,17 @@ import jakarta.inject.Named;
  * An implementation of {@code jakarta.batch.api.chunk.ItemReader} that reads a collection of data from XML resource.
  * Users of this class should provide a bean class that represents individual data item in the source XML, and the
  * {@link #readItem()} method reads one item at a time and binds it to the provided bean type.
+ * <p>
+ * When reading from an uncompressed local file in a supported charset (UTF-8, US-ASCII, ISO-8859-* or
+ * windows-125*), the checkpoint also contains the byte offset right after the end tag of the last read item, so that
+ * a restarted job execution reads the prolog and root start tag of the document, and then seeks directly to that
+ * offset, instead of re-parsing all previously read items.
+ * <p>
+ * By default, each child element of the root element is read as an item. Items nested deeper in the document can be
+ * targeted with {@link #recordElement}, in which case elements enclosing the items are walked with the underlying StAX
+ * reader, and only the item elements are bound with the {@code XmlMapper}. A local file whose items are a flat
+ * sequence of {@link #recordElement} elements can also be read in parallel by a partitioned step, with
+ * {@link XmlPartitionMapper} splitting it into byte ranges aligned on item boundaries.
  *
  * @see XmlItemWriter
  * @see XmlItemReaderWriterBase
@@ -89,29 +123,411 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
     @BatchProperty
     protected String xmlTextElementName;
 
+    /**
+     * The elements to read as items, instead of the child elements of the root element. Optional property, and
+     * defaults to null. The value is either a local name, e.g., {@code partner}, to read the elements with that name
+     * at any depth, or a {@code /}-separated path of local names starting with the root element, e.g.,
+     * {@code export/partners/partner}, to read only the elements at that path. Namespaces are not considered, and
+     * elements inside an item are not read as separate items.
+     * <p>
+     * Elements other than items are not bound: when a path is specified, any element that is not on the path, such as
+     * a large metadata section next to the items, is skipped by the StAX reader as a whole, and so are the items
+     * before {@link #start}. When restarting from an {@link OffsetCheckpoint}, the start tags of the elements
+     * enclosing the last read item are replayed after the prolog, before seeking to its byte offset.
+     *
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String recordElement;
+
+    /**
+     * The byte offset in the local file resource of the start tag of the first item to read. Optional property, and if
+     * not specified, the whole document is read. It is typically set from partition properties generated by
+     * {@link XmlPartitionMapper}, so that each partition binds only the items of its own byte range of a single large
+     * file. A byte range is parsed as the content of the root element, right after the prolog and root start tag of
+     * the document, and items are matched by the last local name of {@link #recordElement}, which is required. When
+     * reading a byte range, {@link #start} and {@link #end} are relative to the range.
+     *
+     * @see XmlPartitionMapper
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionStart;
+
+    /**
+     * The byte offset in the local file resource right after the end tag of the last item to read. It must be
+     * specified along with {@link #partitionStart}.
+     *
+     * @see #partitionStart
+     * @since 2.1.3
+     */
+    @Inject
+    @BatchProperty
+    protected String partitionEnd;
+
+    /**
+     * The value of the {@code encoding} pseudo-attribute in the XML declaration.
+     */
+    private static final Pattern ENCODING_PATTERN =
+            Pattern.compile("encoding\\s*=\\s*[\"']([A-Za-z][A-Za-z0-9._-]*)[\"']");
+
     private FromXmlParser fromXmlParser;
     private JsonToken token;
     private int rowNumber;
 
+    /**
+     * The reader over the local file resource that maps character offsets reported by the parser to byte offsets,
+     * or null if the resource is not an uncompressed local file in a supported charset, or {@link #inputDecorator}
+     * is specified.
+     */
+    private OffsetMappingReader offsetReader;
+
+    /**
+     * The checkpoint this reader was restarted from, which is returned by {@link #checkpointInfo()} until another
+     * item is read.
+     */
+    private OffsetCheckpoint restartCheckpoint;
+
+    /**
+     * The local names in {@link #recordElement}, or null if not specified.
+     */
+    private String[] recordNames;
+
+    /**
+     * Whether {@link #recordNames} is a path starting with the root element, rather than a single name to match at
+     * any depth.
+     */
+    private boolean recordPathFromRoot;
+
+    /**
+     * The StAX reader walking the elements enclosing the items, when {@link #recordElement} is specified.
+     */
+    private XMLStreamReader2 staxReader;
+
+    /**
+     * A view of {@link #staxReader} that the parser of each item reads from, and that ignores being closed, so that
+     * each parser can be closed after reading its item, leaving {@link #staxReader} open.
+     */
+    private XMLStreamReader2 itemStaxReader;
+
+    /**
+     * The local names of the elements enclosing the current event of {@link #staxReader}, starting with the root
+     * element.
+     */
+    private final List<String> elementNames = new ArrayList<String>();
+
+    /**
+     * The start tags of the elements in {@link #elementNames}, as read from the local file resource, or null for the
+     * root element, and for elements whose start tag is not available.
+     */
+    private final List<String> startTags = new ArrayList<String>();
+
+    /**
+     * Whether the current event of {@link #staxReader} is the end tag of the last read item.
+     */
+    private boolean recordEnded;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         if (end == 0) {
             end = Integer.MAX_VALUE;
         }
-        if (checkpoint != null) {
-            start = (Integer) checkpoint;
+        final OffsetCheckpoint offsetCheckpoint = checkpoint instanceof OffsetCheckpoint ?
+                (OffsetCheckpoint) checkpoint : null;
+        if (offsetCheckpoint != null) {
+            //the row number in OffsetCheckpoint is exact: the last read item is not read again
+            start = offsetCheckpoint.rowNumber + 1;
+            if (offsetCheckpoint.rowNumber > end) {
+                throw SupportMessages.MESSAGES.invalidStartPosition(offsetCheckpoint.rowNumber, start, end);
+            }
+        } else {
+            if (checkpoint != null) {
+                start = (Integer) checkpoint;
+            }
+            if (start > end) {
+                throw SupportMessages.MESSAGES.invalidStartPosition((Integer) checkpoint, start, end);
+            }
+        }
+        if (recordElement != null) {
+            final String path = recordElement.trim();
+            recordPathFromRoot = path.indexOf('/') >= 0;
+            recordNames = (path.startsWith("/") ? path.substring(1) : path).split("/", -1);
+            for (final String name : recordNames) {
+                if (name.isEmpty()) {
+                    throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, recordElement, "recordElement");
+                }
+            }
         }
-        if (start > end) {
-            throw SupportMessages.MESSAGES.invalidStartPosition((Integer) checkpoint, start, end);
+        final long partitionStartPosition = parsePosition(partitionStart, "partitionStart", recordNames != null);
+        final long partitionEndPosition = parsePosition(partitionEnd, "partitionEnd", recordNames != null);
+        if (partitionStartPosition < 0 && partitionEndPosition >= 0) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, partitionStart, "partitionStart");
+        } else if (partitionStartPosition >= 0 && partitionEndPosition < partitionStartPosition) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, partitionEnd, "partitionEnd");
+        } else if (partitionStartPosition >= 0) {
+            //items of a byte range are children of the root element replayed before it
+            recordNames = new String[]{recordNames[recordNames.length - 1]};
+            recordPathFromRoot = false;
         }
         super.initXmlFactory();
         if (inputDecorator != null) {
             xmlFactory.setInputDecorator((InputDecorator) inputDecorator.getDeclaredConstructor().newInstance());
         }
 
-        fromXmlParser = (FromXmlParser) xmlFactory.createParser(getInputStream(resource, false));
+        final Reader reader = openOffsetReader(offsetCheckpoint, partitionStartPosition, partitionEndPosition);
+        if (reader == null && partitionStartPosition >= 0) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+        }
+        if (reader != null) {
+            if (recordNames != null) {
+                final XMLStreamReader sr = xmlFactory.getXMLInputFactory().createXMLStreamReader(reader);
+                staxReader = Stax2ReaderAdapter.wrapIfNecessary(sr);
+            } else {
+                fromXmlParser = (FromXmlParser) xmlFactory.createParser(reader);
+            }
+            if (offsetCheckpoint != null) {
+                rowNumber = offsetCheckpoint.rowNumber;
+                restartCheckpoint = offsetCheckpoint;
+            }
+        } else {
+            //items before the checkpoint, if any, are skipped by counting them from the beginning
+            final InputStream inputStream = getInputStream(resource, false, compression);
+            if (recordNames != null) {
+                final XMLStreamReader sr = xmlFactory.getXMLInputFactory().createXMLStreamReader(decorate(inputStream));
+                staxReader = Stax2ReaderAdapter.wrapIfNecessary(sr);
+            } else {
+                fromXmlParser = (FromXmlParser) xmlFactory.createParser(inputStream);
+            }
+        }
         SupportLogger.LOGGER.openingResource(resource, this.getClass());
-        token = fromXmlParser.nextToken();
+        if (fromXmlParser != null) {
+            token = fromXmlParser.nextToken();
+        } else {
+            itemStaxReader = new UncloseableStreamReader(staxReader);
+        }
+    }
+
+    /**
+     * Decorates an input stream with the {@code InputDecorator} of {@link #xmlFactory}, if any, as the factory does
+     * for the parsers it creates.
+     *
+     * @param inputStream the input stream to decorate
+     * @return the decorated input stream, or the input stream itself if there is no {@code InputDecorator}
+     * @throws IOException if failed to decorate the input stream
+     */
+    private InputStream decorate(final InputStream inputStream) throws IOException {
+        final InputDecorator decorator = xmlFactory.getInputDecorator();
+        if (decorator == null) {
+            return inputStream;
+        }
+        final InputStream decorated = decorator.decorate(new IOContext(xmlFactory._getBufferRecycler(),
+                ContentReference.rawReference(inputStream), false), inputStream);
+        return decorated != null ? decorated : inputStream;
+    }
+
+    /**
+     * Opens {@link #offsetReader} over the local file resource, positioned at the beginning of the file, or if
+     * reading a byte range or restarting from an {@link OffsetCheckpoint}, at the byte offset of the range or
+     * checkpoint after replaying the prolog and root start tag. When reading a byte range, the end tag of the root
+     * element is appended right after the range.
+     *
+     * @param offsetCheckpoint       the checkpoint to restart from, or null
+     * @param partitionStartPosition the byte offset of the range, or -1
+     * @param partitionEndPosition   the byte offset after the range, or -1
+     * @return the opened reader, or null if byte offsets cannot be tracked for the resource
+     * @throws Exception if failed to open the resource, or the checkpoint or range does not match the resource
+     */
+    private Reader openOffsetReader(final OffsetCheckpoint offsetCheckpoint,
+                                    final long partitionStartPosition,
+                                    final long partitionEndPosition) throws Exception {
+        final Path localFile = inputDecorator != null || isCompressed(resource, compression) ?
+                null : getLocalFile(resource);
+        if (localFile == null) {
+            return null;
+        }
+        final FileChannel channel = FileChannel.open(localFile);
+        try {
+            final Charset cs = detectCharset(channel);
+            if (cs == null) {
+                channel.close();
+                return null;
+            }
+            if (offsetCheckpoint == null && partitionStartPosition < 0) {
+                offsetReader = new OffsetMappingReader(channel, cs, null, 0);
+            } else {
+                final long position;
+                final ByteBuffer b = ByteBuffer.allocate(1);
+                if (offsetCheckpoint != null) {
+                    position = offsetCheckpoint.position;
+                    if (position <= 0 || channel.read(b, position - 1) != 1 || b.get(0) != '>') {
+                        throw SupportMessages.MESSAGES.invalidCheckpoint(offsetCheckpoint);
+                    }
+                } else {
+                    position = partitionStartPosition;
+                    if (channel.read(b, position) != 1 || b.get(0) != '<') {
+                        throw SupportMessages.MESSAGES.invalidReaderWriterProperty(
+                                null, partitionStart, "partitionStart");
+                    }
+                }
+                final String prolog = readProlog(new OffsetMappingReader(channel, cs, null, 0));
+                if (prolog == null) {
+                    throw offsetCheckpoint != null ? SupportMessages.MESSAGES.invalidCheckpoint(offsetCheckpoint) :
+                            SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+                }
+                final String prefix = offsetCheckpoint == null || offsetCheckpoint.context == null ?
+                        prolog : prolog + offsetCheckpoint.context;
+                offsetReader = partitionEndPosition < 0 ? new OffsetMappingReader(channel, cs, prefix, position) :
+                        new OffsetMappingReader(channel, cs, prefix, position, partitionEndPosition,
+                                getRootEndTag(prolog));
+            }
+            return offsetReader;
+        } catch (final Exception e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Detects the charset of an XML file from its byte order mark or XML declaration.
+     *
+     * @param channel the file channel, whose position is not changed
+     * @return the charset of the file, or null if it is not supported by {@link OffsetMappingReader}
+     * @throws IOException if failed to read from the file
+     */
+    static Charset detectCharset(final FileChannel channel) throws IOException {
+        final ByteBuffer buf = ByteBuffer.allocate(256);
+        channel.read(buf, 0);
+        final byte[] head = buf.array();
+        final int length = buf.position();
+        int offset = 0;
+        if (length >= 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF) {
+            offset = 3;
+        } else if (length >= 2 && (head[0] == 0 || head[1] == 0 || (head[0] & 0xFE) == 0xFE)) {
+            //UTF-16 or UTF-32
+            return null;
+        }
+        final String declaration = new String(head, offset, length - offset, StandardCharsets.ISO_8859_1);
+        if (declaration.startsWith("<?xml")) {
+            final int declarationEnd = declaration.indexOf("?>");
+            final Matcher matcher = ENCODING_PATTERN.matcher(
+                    declarationEnd > 0 ? declaration.substring(0, declarationEnd) : declaration);
+            if (matcher.find()) {
+                final Charset cs;
+                try {
+                    cs = Charset.forName(matcher.group(1));
+                } catch (final IllegalArgumentException e) {
+                    return null;
+                }
+                return PositionTrackingReader.supports(cs) && (offset == 0 || cs == StandardCharsets.UTF_8) ?
+                        cs : null;
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Reads the beginning of an XML document up to and including the start tag of the root element, i.e., the
+     * XML declaration, comments, processing instructions and document type declaration before it.
+     *
+     * @param reader the reader positioned at the beginning of the document
+     * @return the characters read, or null if the root start tag is not found
+     * @throws IOException if failed to read
+     */
+    static String readProlog(final Reader reader) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = reader.read()) >= 0) {
+            sb.append((char) c);
+            if (c != '<') {
+                continue;
+            }
+            c = reader.read();
+            if (c < 0) {
+                return null;
+            }
+            sb.append((char) c);
+            if (c == '?') {
+                if (!readUntil(reader, sb, "?>")) {
+                    return null;
+                }
+            } else if (c == '!') {
+                c = reader.read();
+                if (c < 0) {
+                    return null;
+                }
+                sb.append((char) c);
+                if (!(c == '-' ? readUntil(reader, sb, "-->") : readMarkup(reader, sb))) {
+                    return null;
+                }
+            } else {
+                return readMarkup(reader, sb) ? sb.toString() : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the end tag of the root element, whose start tag ends a prolog read by {@link #readProlog(Reader)}.
+     *
+     * @param prolog the prolog
+     * @return the end tag of the root element
+     */
+    static String getRootEndTag(final String prolog) {
+        //the root start tag contains no other < character, even in attribute values
+        final int nameStart = prolog.lastIndexOf('<') + 1;
+        int nameEnd = nameStart;
+        while (nameEnd < prolog.length()) {
+            final char c = prolog.charAt(nameEnd);
+            if (c == '>' || c == '/' || Character.isWhitespace(c)) {
+                break;
+            }
+            nameEnd++;
+        }
+        return "</" + prolog.substring(nameStart, nameEnd) + '>';
+    }
+
+    /**
+     * Reads until the end of a string, which is also appended.
+     */
+    private static boolean readUntil(final Reader reader, final StringBuilder sb, final String end) throws IOException {
+        int c;
+        while ((c = reader.read()) >= 0) {
+            sb.append((char) c);
+            if (c == end.charAt(end.length() - 1) && sb.length() >= end.length() &&
+                    sb.lastIndexOf(end) == sb.length() - end.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads until the end of a start tag or declaration, which is the first {@code >} outside of quoted values and
+     * square brackets.
+     */
+    private static boolean readMarkup(final Reader reader, final StringBuilder sb) throws IOException {
+        int quote = 0;
+        int brackets = 0;
+        int c;
+        while ((c = reader.read()) >= 0) {
+            sb.append((char) c);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '[') {
+                brackets++;
+            } else if (c == ']') {
+                brackets--;
+            } else if (c == '>' && brackets <= 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -119,6 +535,9 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
         if (rowNumber >= end) {
             return null;
         }
+        if (staxReader != null) {
+            return readRecordElement();
+        }
         int nestedObjectLevel = 0;
         do {
             token = fromXmlParser.nextToken();
@@ -145,11 +564,155 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
         return readValue;
     }
 
+    /**
+     * Reads the next item matching {@link #recordElement}, walking the elements enclosing the items with
+     * {@link #staxReader}, and skipping any element that cannot contain an item.
+     *
+     * @return the item read, or null if there are no more items
+     * @throws Exception if failed to read or bind the item
+     */
+    private Object readRecordElement() throws Exception {
+        recordEnded = false;
+        while (staxReader.hasNext()) {
+            final int event = staxReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final String name = staxReader.getLocalName();
+                final int depth = elementNames.size();
+                if (recordPathFromRoot ? depth == recordNames.length - 1 && name.equals(recordNames[depth]) :
+                        name.equals(recordNames[0])) {
+                    rowNumber++;
+                    if (rowNumber >= start) {
+                        final FromXmlParser itemParser = (FromXmlParser) xmlFactory.createParser(itemStaxReader);
+                        final Object readValue;
+                        try {
+                            readValue = xmlMapper.readValue(itemParser, beanType);
+                        } finally {
+                            itemParser.close();
+                        }
+                        recordEnded = true;
+                        if (!skipBeanValidation) {
+                            ItemReaderWriterBase.validate(readValue);
+                        }
+                        return readValue;
+                    }
+                    staxReader.skipElement();
+                } else if (recordPathFromRoot &&
+                        (depth >= recordNames.length - 1 || !name.equals(recordNames[depth]))) {
+                    staxReader.skipElement();
+                } else {
+                    elementNames.add(name);
+                    startTags.add(depth == 0 ? null : getStartTag());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                final int last = elementNames.size() - 1;
+                elementNames.remove(last);
+                startTags.remove(last);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the start tag at the current event of {@link #staxReader} from the characters read.
+     *
+     * @return the start tag, or null if it cannot be determined
+     */
+    private String getStartTag() {
+        if (offsetReader == null) {
+            return null;
+        }
+        final LocationInfo location = staxReader.getLocationInfo();
+        final String tag = offsetReader.getChars(location.getStartingCharOffset(), location.getEndingCharOffset());
+        //a start tag contains no other < character, even in attribute values
+        return tag != null && tag.length() > 2 && tag.charAt(0) == '<' && tag.indexOf('<', 1) < 0 &&
+                tag.charAt(tag.length() - 1) == '>' && tag.charAt(tag.length() - 2) != '/' ? tag : null;
+    }
+
+    /**
+     * Gets the start tags of the elements enclosing the last read item below the root element.
+     *
+     * @return the start tags, an empty string if the item is a child of the root element, or null if any of the
+     * start tags is not available
+     */
+    private String getEnclosingStartTags() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 1; i < startTags.size(); ++i) {
+            final String tag = startTags.get(i);
+            if (tag == null) {
+                return null;
+            }
+            sb.append(tag);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns an {@link OffsetCheckpoint} when reading from a local file in a supported charset, right after an item
+     * has been read, otherwise the number of items read as {@code Integer}.
+     */
     @Override
     public Serializable checkpointInfo() throws Exception {
+        if (offsetReader != null && staxReader != null) {
+            if (recordEnded) {
+                final long position = getItemEndOffset(staxReader);
+                final String tags = getEnclosingStartTags();
+                if (position > 0 && tags != null) {
+                    restartCheckpoint = null;
+                    return new OffsetCheckpoint(rowNumber, position, tags.isEmpty() ? null : tags);
+                }
+            }
+        } else if (offsetReader != null && fromXmlParser.getCurrentToken() == JsonToken.END_OBJECT) {
+            final JsonStreamContext context = fromXmlParser.getParsingContext();
+            if (context.getParent() != null && context.getParent().inRoot()) {
+                final long position = getItemEndOffset((XMLStreamReader2) fromXmlParser.getStaxReader());
+                if (position > 0) {
+                    restartCheckpoint = null;
+                    return new OffsetCheckpoint(rowNumber, position);
+                }
+            }
+        }
+        if (restartCheckpoint != null && restartCheckpoint.rowNumber == rowNumber) {
+            return restartCheckpoint;
+        }
         return rowNumber;
     }
 
+    /**
+     * Gets the byte offset in the local file right after the end tag of the last read item, which is the current
+     * event of the StAX reader. The end tag is verified against the characters read, so that an unexpected
+     * location reported by the StAX reader falls back to an {@code Integer} checkpoint.
+     *
+     * @param staxReader the StAX reader positioned at the end tag of the last read item
+     * @return the byte offset, or -1 if it cannot be determined
+     * @throws Exception if failed to get the location
+     */
+    private long getItemEndOffset(final XMLStreamReader2 staxReader) throws Exception {
+        if (staxReader.getEventType() != XMLStreamConstants.END_ELEMENT) {
+            return -1;
+        }
+        final long charOffset = staxReader.getLocationInfo().getEndingCharOffset();
+        final String name = staxReader.getPrefixedName();
+        long i = charOffset - 1;
+        if (offsetReader.charAt(i) != '>') {
+            return -1;
+        }
+        int c;
+        do {
+            c = offsetReader.charAt(--i);
+        } while (c == ' ' || c == '\t' || c == '\n' || c == '\r');
+        for (int j = name.length() - 1; j >= 0; --j) {
+            if (offsetReader.charAt(i--) != name.charAt(j)) {
+                return -1;
+            }
+        }
+        if (offsetReader.charAt(i) != '/' || offsetReader.charAt(i - 1) != '<') {
+            return -1;
+        }
+        return offsetReader.getByteOffset(charOffset);
+    }
+
     @Override
     public void close() throws Exception {
         if (fromXmlParser != null) {
@@ -157,6 +720,16 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
             fromXmlParser.close();
             fromXmlParser = null;
         }
+        if (staxReader != null) {
+            SupportLogger.LOGGER.closingResource(resource, this.getClass());
+            staxReader.closeCompletely();
+            staxReader = null;
+            itemStaxReader = null;
+        }
+        if (offsetReader != null) {
+            offsetReader.close();
+            offsetReader = null;
+        }
     }
 
     @Override
@@ -166,4 +739,21 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
             xmlModule.setXMLTextElementName(xmlTextElementName);
         }
     }
+
+    /**
+     * A StAX reader delegating to another, except that closing it does not close the other.
+     */
+    private static final class UncloseableStreamReader extends StreamReader2Delegate {
+        private UncloseableStreamReader(final XMLStreamReader2 staxReader) {
+            super(staxReader);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void closeCompletely() {
+        }
+    }
 }
@@ -10,6 +10,7 @@
 
 package org.jberet.support.io;
 
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.List;
 
@@ -20,6 +21,7 @@ import org.jberet.support._private.SupportMessages;
 
 import com.fasterxml.jackson.core.PrettyPrinter;
 import com.fasterxml.jackson.core.io.OutputDecorator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.xml.JacksonXmlModule;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
@@ -35,6 +37,11 @@ import jakarta.inject.Named;
  * Each object is written as a sub-element of the target XML resource. The XML root element is specified with the
  * injected batch artifact properties {@link #rootElementName}, {@link #rootElementNamespaceURI}, and
  * {@link #rootElementPrefix}.
+ * <p>
+ * When writing to an uncompressed local file without {@link #outputDecorator}, the checkpoint contains the size of the
+ * file after the last written chunk. When the job execution is restarted with the default {@code append}
+ * {@link #writeMode}, the file is truncated to that size, discarding any items written after the last checkpoint,
+ * and the writer is reopened inside the existing root element.
  *
  * @see     XmlItemReader
  * @see     XmlItemReaderWriterBase
@@ -116,60 +123,120 @@ public class XmlItemWriter extends XmlItemReaderWriterBase implements ItemWriter
     protected ToXmlGenerator toXmlGenerator;
     private XMLStreamWriter staxWriter;
 
+    /**
+     * The number of items written, including those written by previous job executions when restarting from an
+     * {@link OffsetCheckpoint}.
+     */
+    private int rowNumber;
+
+    /**
+     * The output stream {@link #toXmlGenerator} writes to, to which slices of items encoded in parallel are written.
+     */
+    private OutputStream output;
+
+    /**
+     * Writer for items, created from {@link #xmlMapper} after it is fully configured.
+     */
+    private ObjectWriter objectWriter;
+
+    private final ParallelChunkEncoder.SliceEncoder sliceEncoder = new ParallelChunkEncoder.SliceEncoder() {
+        @Override
+        public void encode(final List<Object> items,
+                           final int from,
+                           final int to,
+                           final ParallelChunkEncoder.SliceBuffer buffer) throws Exception {
+            final ToXmlGenerator generator = xmlFactory.createGenerator(buffer);
+            initPrettyPrinter(generator);
+            //open the root element to restore the namespace context of toXmlGenerator
+            final XMLStreamWriter writer = generator.getStaxWriter();
+            writeRootStartElement(writer);
+            writer.writeCharacters("");
+            generator.flush();
+            buffer.begin();
+            for (int i = from; i < to; ++i) {
+                writer.writeCharacters(NEW_LINE);
+                objectWriter.writeValue(generator, items.get(i));
+            }
+            generator.flush();
+            buffer.end();
+            generator.close();
+        }
+    };
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
-        SupportLogger.LOGGER.tracef("Open XmlItemWriter with checkpoint %s, which is ignored for XmlItemWriter.%n", checkpoint);
+        SupportLogger.LOGGER.tracef("Open XmlItemWriter with checkpoint %s%n", checkpoint);
         super.initXmlFactory();
 
         if (outputDecorator != null) {
             xmlFactory.setOutputDecorator((OutputDecorator) outputDecorator.getDeclaredConstructor().newInstance());
         }
         xmlMapper.configure(SerializationFeature.WRAP_ROOT_VALUE, false);
+        objectWriter = xmlMapper.writer();
 
-        toXmlGenerator = xmlFactory.createGenerator(getOutputStream(writeMode));
-        SupportLogger.LOGGER.openingResource(resource, this.getClass());
-
-        if (prettyPrinter == null) {
-            toXmlGenerator.useDefaultPrettyPrinter();
+        //a null checkpoint from earlier versions is handled as before
+        final OffsetCheckpoint offsetCheckpoint = checkpoint instanceof OffsetCheckpoint && isAppendMode(writeMode) &&
+                outputDecorator == null ? (OffsetCheckpoint) checkpoint : null;
+        if (offsetCheckpoint != null) {
+            output = bufferOutput(getOutputStreamForRestart(offsetCheckpoint.position));
+            rowNumber = offsetCheckpoint.rowNumber;
+            //replay the beginning of the output, which is already in the file, to open the root element
+            chunkOutput.setDiscarding(true);
         } else {
-            toXmlGenerator.setPrettyPrinter((PrettyPrinter) prettyPrinter.getDeclaredConstructor().newInstance());
+            output = bufferOutput(getOutputStream(writeMode));
         }
+        toXmlGenerator = xmlFactory.createGenerator(output);
+        SupportLogger.LOGGER.openingResource(resource, this.getClass());
+
+        initPrettyPrinter(toXmlGenerator);
 
         staxWriter = toXmlGenerator.getStaxWriter();
         if (!this.skipWritingHeader) {
             staxWriter.writeStartDocument();
         }
         staxWriter.writeCharacters(NEW_LINE);
-        if (rootElementName == null || rootElementName.isEmpty()) {
-            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, rootElementName, "rootElementName");
+        writeRootStartElement(staxWriter);
+        //complete the root start tag, so that it is included in any checkpoint
+        staxWriter.writeCharacters("");
+        if (offsetCheckpoint != null) {
+            toXmlGenerator.flush();
+            chunkOutput.setDiscarding(false);
         }
-        if (rootElementPrefix == null || rootElementPrefix.isEmpty()) {
-            if (rootElementNamespaceURI == null || rootElementNamespaceURI.isEmpty()) {
-                staxWriter.writeStartElement(rootElementName);
-            } else {
-                staxWriter.writeStartElement(rootElementNamespaceURI, rootElementName);
-            }
-        } else {
-            if (rootElementNamespaceURI == null || rootElementNamespaceURI.isEmpty()) {
-                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, rootElementNamespaceURI, "rootElementNamespaceURI");
-            } else {
-                staxWriter.writeStartElement(rootElementPrefix, rootElementName, rootElementNamespaceURI);
-            }
+        if (outputDecorator == null) {
+            openChunkEncoder(sliceEncoder);
         }
     }
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
-        for (final Object o : items) {
-            staxWriter.writeCharacters(NEW_LINE);
-            toXmlGenerator.writeObject(o);
-
+        rowNumber += items.size();
+        if (chunkEncoder != null && items.size() > 1) {
+            toXmlGenerator.flush();
+            chunkEncoder.encode(items, 0, output);
+        } else {
+            for (final Object o : items) {
+                staxWriter.writeCharacters(NEW_LINE);
+                objectWriter.writeValue(toXmlGenerator, o);
+            }
         }
         toXmlGenerator.flush();
+        if (chunkOutput != null) {
+            chunkOutput.endChunk();
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns an {@link OffsetCheckpoint} when writing to an uncompressed local file without {@code outputDecorator},
+     * otherwise null. The offset of decorated output cannot be mapped to the number of items written.
+     */
     @Override
     public Serializable checkpointInfo() throws Exception {
+        if (chunkOutput != null && outputDecorator == null) {
+            toXmlGenerator.flush();
+            return new OffsetCheckpoint(rowNumber, chunkOutput.checkpoint());
+        }
         return null;
     }
 
@@ -182,6 +249,35 @@ public class XmlItemWriter extends XmlItemReaderWriterBase implements ItemWriter
             toXmlGenerator.close();
             toXmlGenerator = null;
         }
+        output = null;
+        closeChunkOutput();
+    }
+
+    private void initPrettyPrinter(final ToXmlGenerator generator) throws Exception {
+        if (prettyPrinter == null) {
+            generator.useDefaultPrettyPrinter();
+        } else {
+            generator.setPrettyPrinter((PrettyPrinter) prettyPrinter.getDeclaredConstructor().newInstance());
+        }
+    }
+
+    private void writeRootStartElement(final XMLStreamWriter writer) throws Exception {
+        if (rootElementName == null || rootElementName.isEmpty()) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, rootElementName, "rootElementName");
+        }
+        if (rootElementPrefix == null || rootElementPrefix.isEmpty()) {
+            if (rootElementNamespaceURI == null || rootElementNamespaceURI.isEmpty()) {
+                writer.writeStartElement(rootElementName);
+            } else {
+                writer.writeStartElement(rootElementNamespaceURI, rootElementName);
+            }
+        } else {
+            if (rootElementNamespaceURI == null || rootElementNamespaceURI.isEmpty()) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, rootElementNamespaceURI, "rootElementNamespaceURI");
+            } else {
+                writer.writeStartElement(rootElementPrefix, rootElementName, rootElementNamespaceURI);
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.jberet.support._private.SupportMessages;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.partition.PartitionMapper;
+import jakarta.batch.api.partition.PartitionPlan;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * An implementation of {@code jakarta.batch.api.partition.PartitionMapper} that splits a local XML file, whose items
+ * are a flat sequence of repeating record elements, into byte ranges of about equal size, aligned on item boundaries,
+ * so that each partition of a {@link XmlItemReader} step parses only its own range of the file, and a single large
+ * file is parsed by multiple threads.
+ * <p>
+ * Boundaries are found by seeking near the target offsets, and scanning for the next start tag of the record element,
+ * without parsing the file. The first range starts at the start tag of the first item, and the last range ends right
+ * after the end tag of the last item, so that each range contains only whole items, which the reader parses as the
+ * content of the root element. Therefore, the record element must not occur anywhere else in the file, including in
+ * comments and CDATA sections, and any namespace prefix used by the items must be declared on the root element.
+ * <p>
+ * Each partition plan contains the same partition properties as {@link CsvPartitionMapper}, to be referenced in the
+ * reader configuration in job xml:
+ * <ul>
+ * <li>partitionStart: the byte offset of the start tag of the first item of the range
+ * <li>partitionEnd: the byte offset right after the end tag of the last item of the range
+ * </ul>
+ * If the file contains no item, a single partition with empty properties is planned.
+ * For example:
+ * <pre>
+ * &lt;chunk&gt;
+ *     &lt;reader ref="xmlItemReader"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="resource" value="/data/partners.xml"/&gt;
+ *             &lt;property name="recordElement" value="export/partners/partner"/&gt;
+ *             &lt;property name="partitionStart" value="#{partitionPlan['partitionStart']}"/&gt;
+ *             &lt;property name="partitionEnd" value="#{partitionPlan['partitionEnd']}"/&gt;
+ *             ...
+ *         &lt;/properties&gt;
+ *     &lt;/reader&gt;
+ *     ...
+ * &lt;/chunk&gt;
+ * &lt;partition&gt;
+ *     &lt;mapper ref="xmlPartitionMapper"&gt;
+ *         &lt;properties&gt;
+ *             &lt;property name="resource" value="/data/partners.xml"/&gt;
+ *             &lt;property name="recordElement" value="export/partners/partner"/&gt;
+ *             &lt;property name="partitionCount" value="4"/&gt;
+ *         &lt;/properties&gt;
+ *     &lt;/mapper&gt;
+ * &lt;/partition&gt;
+ * </pre>
+ *
+ * @see XmlItemReader
+ * @see CsvPartitionMapper
+ * @since 2.1.3
+ */
+@Named
+@Dependent
+public class XmlPartitionMapper implements PartitionMapper {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The maximum number of bytes examined after the {@code <} of a tag to match its name, so that a tag near the end
+     * of the buffer is examined in the next read instead.
+     */
+    private static final int MAX_TAG_LENGTH = 256;
+
+    /**
+     * The local XML file to partition, as a file path or {@code file:} URL. It should be the same as the
+     * {@code resource} property of the reader. Required property. A compressed {@code .gz} file cannot be
+     * partitioned, since its items cannot be located by byte offset.
+     */
+    @Inject
+    @BatchProperty
+    protected String resource;
+
+    /**
+     * The record element, as a local name or a path ending with it. It should be the same as the
+     * {@code recordElement} property of the reader. Required property. Only the last local name is used to find
+     * the items.
+     *
+     * @see XmlItemReader#recordElement
+     */
+    @Inject
+    @BatchProperty
+    protected String recordElement;
+
+    /**
+     * Number of partitions. Optional property, and defaults to the number of available processors. Fewer
+     * partitions are created if the file does not contain enough items.
+     */
+    @Inject
+    @BatchProperty
+    protected int partitionCount;
+
+    /**
+     * Number of threads to run partitions. Optional property, and defaults to the number of partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        final Path localFile = ItemReaderWriterBase.getLocalFile(resource);
+        if (localFile == null || ItemReaderWriterBase.isCompressed(resource, null)) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+        }
+        final String path = recordElement == null ? "" : recordElement.trim();
+        final String name = path.substring(path.lastIndexOf('/') + 1);
+        if (name.isEmpty()) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, recordElement, "recordElement");
+        }
+        if (partitionCount <= 0) {
+            partitionCount = Runtime.getRuntime().availableProcessors();
+        }
+
+        final long first;
+        final long last;
+        final List<Long> bounds;
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(localFile);
+            final Charset cs = XmlItemReader.detectCharset(channel);
+            if (cs == null) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+            }
+            final byte[] nameBytes = name.getBytes(cs);
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            first = nextStartTag(channel, 0, nameBytes, buffer);
+            last = first < 0 ? -1 : lastEndTag(channel, nameBytes, buffer);
+            bounds = last <= first ? Collections.<Long>emptyList() :
+                    recordBoundaries(channel, first, last, partitionCount, nameBytes, buffer);
+        } catch (final IOException e) {
+            throw SupportMessages.MESSAGES.failToOpenStream(e, resource);
+        } finally {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+
+        final PartitionPlan plan = CsvPartitionMapper.partitionPlan(bounds, threads);
+        if (last > first) {
+            final Properties[] partitionProperties = plan.getPartitionProperties();
+            partitionProperties[0].setProperty("partitionStart", String.valueOf(first));
+            partitionProperties[partitionProperties.length - 1].setProperty("partitionEnd", String.valueOf(last));
+        }
+        return plan;
+    }
+
+    /**
+     * Finds the item boundaries between partitions of about equal byte size. Each boundary is the offset of the first
+     * start tag of the record element at or after {@code first + (last - first) * i / partitionCount}.
+     *
+     * @param channel        the file channel to read
+     * @param first          the offset of the start tag of the first item
+     * @param last           the offset right after the end tag of the last item
+     * @param partitionCount the number of partitions
+     * @param name           the local name of the record element
+     * @param buffer         the buffer to read into
+     * @return the boundaries in ascending order, excluding {@code first} and {@code last}
+     * @throws IOException if failed to read the file
+     */
+    static List<Long> recordBoundaries(final FileChannel channel,
+                                       final long first,
+                                       final long last,
+                                       final int partitionCount,
+                                       final byte[] name,
+                                       final ByteBuffer buffer) throws IOException {
+        final List<Long> bounds = new ArrayList<Long>();
+        long previous = first;
+        for (int i = 1; i < partitionCount; ++i) {
+            final long target = first + (last - first) * i / partitionCount;
+            final long boundary = nextStartTag(channel, Math.max(target, previous + 1), name, buffer);
+            if (boundary < 0 || boundary >= last) {
+                break;
+            }
+            if (boundary > previous) {
+                bounds.add(boundary);
+                previous = boundary;
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Finds the first start tag of the record element at or after an offset.
+     *
+     * @param channel the file channel to read
+     * @param from    the offset to start scanning from
+     * @param name    the local name of the record element
+     * @param buffer  the buffer to read into
+     * @return the offset of the {@code <} of the start tag, or -1 if not found
+     * @throws IOException if failed to read the file
+     */
+    static long nextStartTag(final FileChannel channel, long from, final byte[] name, final ByteBuffer buffer)
+            throws IOException {
+        final long size = channel.size();
+        while (from < size) {
+            buffer.clear();
+            final int n = channel.read(buffer, from);
+            if (n <= 0) {
+                break;
+            }
+            final int scanEnd = from + n >= size ? n : Math.max(n - MAX_TAG_LENGTH, 1);
+            for (int i = 0; i < scanEnd; ++i) {
+                if (buffer.get(i) == '<' && nameEnd(buffer, i + 1, n, name) >= 0) {
+                    return from + i;
+                }
+            }
+            from += scanEnd;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the last end tag of the record element, scanning backwards from the end of the file.
+     *
+     * @param channel the file channel to read
+     * @param name    the local name of the record element
+     * @param buffer  the buffer to read into
+     * @return the offset right after the {@code >} of the end tag, or -1 if not found
+     * @throws IOException if failed to read the file
+     */
+    static long lastEndTag(final FileChannel channel, final byte[] name, final ByteBuffer buffer)
+            throws IOException {
+        long end = channel.size();
+        while (end > 0) {
+            final long from = Math.max(end - buffer.capacity(), 0);
+            buffer.clear();
+            buffer.limit((int) (end - from));
+            while (buffer.hasRemaining() && channel.read(buffer, from + buffer.position()) > 0) {
+                //read the whole range
+            }
+            final int n = buffer.position();
+            for (int i = n - 2; i >= 0; --i) {
+                if (buffer.get(i) == '<' && buffer.get(i + 1) == '/') {
+                    int j = nameEnd(buffer, i + 2, n, name);
+                    if (j >= 0) {
+                        while (j < n && isWhitespace(buffer.get(j))) {
+                            j++;
+                        }
+                        if (j < n && buffer.get(j) == '>') {
+                            return from + j + 1;
+                        }
+                    }
+                }
+            }
+            if (from == 0) {
+                break;
+            }
+            //a tag crossing the beginning of this range is examined whole in the next range
+            end = from + MAX_TAG_LENGTH;
+        }
+        return -1;
+    }
+
+    /**
+     * Matches the qualified name of a tag, starting at an index of the buffer, against the local name of the record
+     * element, ignoring any namespace prefix.
+     *
+     * @param buffer the buffer
+     * @param start  the index of the first byte of the qualified name
+     * @param limit  the index after the last byte available in the buffer
+     * @param name   the local name of the record element
+     * @return the index of the byte right after the qualified name, or -1 if it does not match
+     */
+    private static int nameEnd(final ByteBuffer buffer, final int start, final int limit, final byte[] name) {
+        int localStart = start;
+        int i = start;
+        while (i < limit) {
+            final byte b = buffer.get(i);
+            if (b == '>' || b == '/' || isWhitespace(b)) {
+                break;
+            }
+            if (b == ':') {
+                localStart = i + 1;
+            }
+            i++;
+        }
+        if (i >= limit || i - localStart != name.length) {
+            return -1;
+        }
+        for (int j = 0; j < name.length; ++j) {
+            if (buffer.get(localStart + j) != name[j]) {
+                return -1;
+            }
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import jakarta.batch.api.chunk.ItemReader;
+import jakarta.batch.api.chunk.ItemWriter;
+
+/**
+ * JMH benchmark measuring the number of items per second encoded and decoded through a local file, in the format of
+ * the {@code format} parameter: {@code json} for {@link JsonItemWriter} and {@link JsonItemReader} in JSON Lines
+ * format, and {@code smile} or {@code cbor} for {@link BinaryJsonItemWriter} and {@link BinaryJsonItemReader}. Items
+ * are maps with numbers, strings and a nested list, as passed between steps of a job, and are written in chunks of
+ * 100 items, calling {@code checkpointInfo()} after every chunk as the batch runtime does. The size of the file in
+ * each format is printed at the end of the trial.
+ * <p>
+ * To run this benchmark from test classpath:
+ * <p>
+ * <pre>
+ * java -cp ... org.jberet.support.io.BinaryJsonBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryJsonBenchmark {
+    private static final int items = 20000;
+    private static final int chunkSize = 100;
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    private File file;
+    private final List<List<Object>> chunks = new ArrayList<List<Object>>();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        file = File.createTempFile("BinaryJsonBenchmark", "." + format);
+        List<Object> chunk = null;
+        for (int i = 0; i < items; ++i) {
+            if (i % chunkSize == 0) {
+                chunk = new ArrayList<Object>(chunkSize);
+                chunks.add(chunk);
+            }
+            final Map<String, Object> item = new LinkedHashMap<String, Object>();
+            item.put("id", i);
+            item.put("symbol", "SYM" + i % 500);
+            item.put("price", 100 + i % 1000 / 100.0);
+            item.put("volume", 10000L + i % 50000);
+            item.put("description", "caf\u00e9 trade " + i + " of the day");
+            final List<Object> tags = new ArrayList<Object>();
+            tags.add("t" + i % 7);
+            tags.add(i % 2 == 0);
+            tags.add(i % 13);
+            item.put("tags", tags);
+            chunk.add(item);
+        }
+        write();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%s: %d bytes%n", format, file.length());
+        file.delete();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(items)
+    public Object write() throws Exception {
+        final ItemWriter writer = newWriter();
+        writer.open(null);
+        Object checkpoint = null;
+        for (final List<Object> chunk : chunks) {
+            writer.writeItems(chunk);
+            checkpoint = writer.checkpointInfo();
+        }
+        writer.close();
+        return checkpoint;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(items)
+    public int read() throws Exception {
+        final ItemReader reader = newReader();
+        reader.open(null);
+        int count = 0;
+        while (reader.readItem() != null) {
+            count++;
+        }
+        reader.close();
+        return count;
+    }
+
+    private ItemWriter newWriter() {
+        if (format.equals("json")) {
+            final JsonItemWriter writer = new JsonItemWriter();
+            writer.resource = file.getPath();
+            writer.writeMode = CsvProperties.OVERWRITE;
+            writer.jsonLines = true;
+            return writer;
+        }
+        final BinaryJsonItemWriter writer = new BinaryJsonItemWriter();
+        writer.resource = file.getPath();
+        writer.writeMode = CsvProperties.OVERWRITE;
+        writer.dataFormat = format;
+        return writer;
+    }
+
+    private ItemReader newReader() {
+        if (format.equals("json")) {
+            final JsonItemReader reader = new JsonItemReader();
+            reader.resource = file.getPath();
+            reader.beanType = Map.class;
+            reader.jsonLines = true;
+            return reader;
+        }
+        final BinaryJsonItemReader reader = new BinaryJsonItemReader();
+        reader.resource = file.getPath();
+        reader.beanType = Map.class;
+        reader.dataFormat = format;
+        return reader;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BinaryJsonBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import jakarta.batch.api.partition.PartitionPlan;
+
+public class BinaryJsonItemReaderWriterTest {
+    /**
+     * Writes items in Smile and CBOR formats, appending to the file in a second job execution, and verifies that
+     * reading the file returns the same items, and that it is smaller than the same items in Json.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void readWrite() throws Exception {
+        final File json = new File(CsvItemReaderWriterTest.tmpdir, "BinaryJsonItemReaderWriterTest.json");
+        Files.deleteIfExists(json.toPath());
+        final JsonItemWriter jsonWriter = new JsonItemWriter();
+        jsonWriter.resource = json.getPath();
+        jsonWriter.jsonLines = true;
+        jsonWriter.open(null);
+        jsonWriter.writeItems(newItems(1, 200));
+        jsonWriter.close();
+
+        for (final String dataFormat : new String[]{"smile", "cbor"}) {
+            final File file = new File(CsvItemReaderWriterTest.tmpdir, "BinaryJsonItemReaderWriterTest." + dataFormat);
+            Files.deleteIfExists(file.toPath());
+            write(file, dataFormat, newItems(1, 150));
+            write(file, dataFormat, newItems(151, 200));
+            assertTrue(file.length() < json.length());
+
+            final BinaryJsonItemReader reader = newReader(file, dataFormat);
+            assertEquals(newItems(1, 200), read(reader));
+        }
+    }
+
+    /**
+     * Verifies that a restarted {@link BinaryJsonItemWriter} truncates the file to the last checkpoint, and that
+     * items encoded in parallel produce the same output as items encoded one at a time.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void writerRestart() throws Exception {
+        final File expected = new File(CsvItemReaderWriterTest.tmpdir, "BinaryJsonItemWriterRestartExpected.smile");
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "BinaryJsonItemWriterRestart.smile");
+        Files.deleteIfExists(expected.toPath());
+        Files.deleteIfExists(file.toPath());
+        write(expected, null, newItems(1, 20));
+
+        BinaryJsonItemWriter writer = newWriter(file, null);
+        writer.encodingParallelism = 4;
+        writer.open(null);
+        writer.writeItems(newItems(1, 10));
+        final Serializable checkpoint = writer.checkpointInfo();
+        assertTrue(checkpoint.toString(), checkpoint instanceof OffsetCheckpoint);
+        //items written in a chunk that fails to commit
+        writer.writeItems(newItems(100, 102));
+        writer.close();
+
+        writer = newWriter(file, null);
+        writer.encodingParallelism = 4;
+        writer.open(checkpoint);
+        writer.writeItems(newItems(11, 20));
+        writer.close();
+        assertArrayEquals(Files.readAllBytes(expected.toPath()), Files.readAllBytes(file.toPath()));
+    }
+
+    /**
+     * Verifies that a reader restarted from an offset checkpoint resumes right after the last read item, and that a
+     * reader of a compressed file restarted from the number of read items skips them.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void readerRestart() throws Exception {
+        for (final String name : new String[]{"BinaryJsonReaderRestart.cbor", "BinaryJsonReaderRestart.cbor.gz"}) {
+            final File file = new File(CsvItemReaderWriterTest.tmpdir, name);
+            Files.deleteIfExists(file.toPath());
+            write(file, "cbor", newItems(1, 100));
+
+            BinaryJsonItemReader reader = newReader(file, "cbor");
+            reader.open(null);
+            for (int i = 1; i <= 40; i++) {
+                assertEquals(i, ((Map<?, ?>) reader.readItem()).get("id"));
+            }
+            final Serializable checkpoint = reader.checkpointInfo();
+            reader.close();
+            assertEquals(name.endsWith(".gz"), checkpoint instanceof Integer);
+
+            reader = newReader(file, "cbor");
+            assertEquals(newItems(41, 100), read(reader, checkpoint));
+        }
+    }
+
+    /**
+     * Splits a file into frame-aligned byte ranges with {@link BinaryJsonPartitionMapper}, and verifies that reading
+     * all ranges returns the same items, in the same order, as reading the whole file.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void partitions() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "BinaryJsonPartitionMapperTest.smile");
+        Files.deleteIfExists(file.toPath());
+        write(file, null, newItems(1, 500));
+
+        for (final int partitionCount : new int[]{2, 4, 7}) {
+            final BinaryJsonPartitionMapper mapper = new BinaryJsonPartitionMapper();
+            mapper.resource = file.getPath();
+            mapper.partitionCount = partitionCount;
+            final PartitionPlan plan = mapper.mapPartitions();
+            assertEquals(partitionCount, plan.getPartitions());
+
+            final List<Object> actual = new ArrayList<Object>();
+            for (final Properties p : plan.getPartitionProperties()) {
+                final BinaryJsonItemReader reader = newReader(file, null);
+                reader.partitionStart = p.getProperty("partitionStart");
+                reader.partitionEnd = p.getProperty("partitionEnd");
+                final List<Object> items = read(reader);
+                assertTrue(items.size() > 0);
+                actual.addAll(items);
+            }
+            assertEquals(newItems(1, 500), actual);
+        }
+    }
+
+    private static void write(final File file, final String dataFormat, final List<Object> items)
+            throws Exception {
+        final BinaryJsonItemWriter writer = newWriter(file, dataFormat);
+        writer.open(null);
+        try {
+            writer.writeItems(items);
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static BinaryJsonItemWriter newWriter(final File file, final String dataFormat) {
+        final BinaryJsonItemWriter writer = new BinaryJsonItemWriter();
+        writer.resource = file.getPath();
+        writer.dataFormat = dataFormat;
+        return writer;
+    }
+
+    private static BinaryJsonItemReader newReader(final File file, final String dataFormat) {
+        final BinaryJsonItemReader reader = new BinaryJsonItemReader();
+        reader.resource = file.getPath();
+        reader.dataFormat = dataFormat;
+        reader.beanType = Map.class;
+        return reader;
+    }
+
+    private static List<Object> read(final BinaryJsonItemReader reader) throws Exception {
+        return read(reader, null);
+    }
+
+    private static List<Object> read(final BinaryJsonItemReader reader, final Serializable checkpoint)
+            throws Exception {
+        reader.open(checkpoint);
+        final List<Object> items = new ArrayList<Object>();
+        try {
+            Object item;
+            while ((item = reader.readItem()) != null) {
+                items.add(item);
+            }
+            assertNull(reader.readItem());
+        } finally {
+            reader.close();
+        }
+        return items;
+    }
+
+    private static List<Object> newItems(final int from, final int to) {
+        final List<Object> items = new ArrayList<Object>();
+        for (int i = from; i <= to; i++) {
+            final Map<String, Object> item = new LinkedHashMap<String, Object>();
+            item.put("id", i);
+            item.put("name", "caf\u00e9 " + i);
+            final List<Object> tags = new ArrayList<Object>();
+            tags.add("t" + i);
+            tags.add(i % 2 == 0);
+            item.put("tags", tags);
+            items.add(item);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.supercsv.comment.CommentStartsWith;
+import org.supercsv.io.ITokenizer;
+import org.supercsv.io.Tokenizer;
+import org.supercsv.prefs.CsvPreference;
+
+public class ByteCsvTokenizerTest {
+    private static final String content = "﻿a,b,c\r\n" +
+            "1, two ,\"three\"\n" +
+            "\"\",,\" quoted, \"\"with\"\" delimiter \"\r\n" +
+            "\n" +
+            "#comment,\"a\"\n" +
+            "  \"multi\r\nline\" , x\"y\"z ,café\r" +
+            "\" \" ,\"\" ,end\n" +
+            "last,row,\"without terminator\"";
+
+    /**
+     * Verifies that {@link ByteCsvTokenizer} produces the same columns and line numbers as Super CSV
+     * {@code Tokenizer} with various CSV preferences.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void sameColumnsAsSuperCsv() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "ByteCsvTokenizerTest.csv");
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+        verifyColumns(file, CsvPreference.STANDARD_PREFERENCE);
+        verifyColumns(file, new CsvPreference.Builder('"', ',', "\n").surroundingSpacesNeedQuotes(true).build());
+        verifyColumns(file, new CsvPreference.Builder('"', ',', "\n").ignoreEmptyLines(false).build());
+        verifyColumns(file, new CsvPreference.Builder('"', ',', "\n").skipComments(new CommentStartsWith("#")).build());
+    }
+
+    /**
+     * Verifies that rows spanning the boundary of the tokenizer window, including a row longer than the window,
+     * are tokenized correctly.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void rowsAcrossWindows() throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        while (sb.length() < 3 * 1024 * 1024) {
+            sb.append(content, 1, content.length()).append("\r\n");
+            if (sb.length() > 1024 * 1024 && sb.length() < 1536 * 1024) {
+                sb.append("long,\"");
+                for (int i = 0; i < 200000; ++i) {
+                    sb.append("line ").append(i).append(",\"\"\r\n");
+                }
+                sb.append("\"\n");
+            }
+        }
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "ByteCsvTokenizerTest-large.csv");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+        verifyColumns(file, CsvPreference.STANDARD_PREFERENCE);
+        file.delete();
+    }
+
+    /**
+     * Verifies that {@link CsvItemReader} reads the same beans with {@value CsvItemReader#ENGINE_BYTES} engine
+     * as with the default engine, including cell processors.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void bytesEngine() throws Exception {
+        final String resource = Thread.currentThread().getContextClassLoader()
+                .getResource(CsvItemReaderWriterTest.personResource).toString();
+        final List<Object> expected = read(resource, null);
+        final List<Object> actual = read(resource, CsvItemReader.ENGINE_BYTES);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    private static void verifyColumns(final File file, final CsvPreference preference) throws Exception {
+        final ITokenizer expected = new Tokenizer(new InputStreamReader(
+                ItemReaderWriterBase.getInputStream(file.getPath(), true), StandardCharsets.UTF_8), preference);
+        final ITokenizer actual = new ByteCsvTokenizer(FileChannel.open(file.toPath()), StandardCharsets.UTF_8,
+                preference);
+        final List<String> expectedColumns = new ArrayList<String>();
+        final List<String> actualColumns = new ArrayList<String>();
+        boolean more;
+        do {
+            more = expected.readColumns(expectedColumns);
+            assertEquals(more, actual.readColumns(actualColumns));
+            assertEquals(expectedColumns, actualColumns);
+            assertEquals(expected.getLineNumber(), actual.getLineNumber());
+        } while (more);
+        expected.close();
+        actual.close();
+    }
+
+    private static List<Object> read(final String resource, final String engine) throws Exception {
+        final CsvItemReader reader = new CsvItemReader();
+        reader.resource = resource;
+        reader.engine = engine;
+        reader.beanType = Person.class;
+        reader.quoteChar = "|";
+        reader.nameMapping = CsvItemReaderWriterTest.nameMapping.split(", ");
+        reader.cellProcessors = CsvItemReaderWriterTest.cellProcessors;
+        reader.commentMatcher = "starts with '#'";
+        reader.open(null);
+        final List<Object> items = new ArrayList<Object>();
+        try {
+            Object item;
+            while ((item = reader.readItem()) != null) {
+                items.add(item);
+            }
+        } finally {
+            reader.close();
+        }
+        return items;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.util.CsvContext;
+
+/**
+ * JMH benchmark measuring the time per cell of executing a cell processor chain parsed from the
+ * {@code cellProcessors} property value in the {@code chain} parameter, with the Super CSV processors
+ * ({@code compiled = false}), or with the fused processors in {@link FusedCellProcessors} ({@code compiled = true}).
+ * The cell values are the same kind of values as in {@code IBM_unadjusted.txt}, with every 16th value null for
+ * {@code Optional} chains.
+ * To run this benchmark from test classpath:
+ * <p>
+ * <pre>
+ * java -cp ... org.jberet.support.io.CellProcessorBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CellProcessorBenchmark {
+    private static final int cells = 1024;
+
+    @Param({"ParseDate('MM/dd/yyyy')", "NotNull, ParseDate('MM/dd/yyyy')", "Optional, ParseLong", "NotNull, ParseInt",
+            "ParseDouble"})
+    public String chain;
+
+    @Param({"false", "true"})
+    public boolean compiled;
+
+    private CellProcessor cellProcessor;
+    private final String[] values = new String[cells];
+    private final CsvContext context = new CsvContext(1, 1, 1);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cellProcessor = CellProcessorConfig.parseCellProcessors(chain, compiled)[0];
+        for (int i = 0; i < cells; ++i) {
+            if (chain.contains("ParseDate")) {
+                values[i] = String.format("%02d/%02d/1998", i / 100 % 12 + 1, i / 4 % 28 + 1);
+            } else if (chain.contains("ParseDouble")) {
+                values[i] = String.valueOf(100 + i % 1000 / 100.0);
+            } else {
+                values[i] = String.valueOf(10000 + i * 37);
+            }
+            if (chain.startsWith("Optional") && i % 16 == 0) {
+                values[i] = null;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(cells)
+    public void execute(final Blackhole blackhole) {
+        for (final String value : values) {
+            blackhole.consume(cellProcessor.execute(value, context));
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CellProcessorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -10,7 +10,11 @@
 
 package org.jberet.support.io;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.Date;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -20,6 +24,9 @@ import org.supercsv.cellprocessor.ParseLong;
 import org.supercsv.cellprocessor.constraint.NotNull;
 import org.supercsv.cellprocessor.constraint.StrMinMax;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.util.CsvContext;
+
+import jakarta.batch.runtime.context.JobContext;
 
 public class CellProcessorConfigTest {
 
@@ -46,10 +53,95 @@ public class CellProcessorConfigTest {
         Assert.assertEquals(7, cellProcessors.length);
         Assert.assertEquals(null, cellProcessors[0]);
         Assert.assertEquals(Optional.class, cellProcessors[1].getClass());
-        Assert.assertEquals(ParseLong.class, cellProcessors[2].getClass());
-        Assert.assertEquals(NotNull.class, cellProcessors[3].getClass());
-        Assert.assertEquals(ParseDate.class, cellProcessors[4].getClass());
+        Assert.assertEquals(FusedCellProcessors.ParseLong.class, cellProcessors[2].getClass());
+        Assert.assertEquals(FusedCellProcessors.ParseInt.class, cellProcessors[3].getClass());
+        Assert.assertEquals(FusedCellProcessors.ParseDate.class, cellProcessors[4].getClass());
         Assert.assertEquals(StrMinMax.class, cellProcessors[5].getClass());
         Assert.assertEquals(Optional.class, cellProcessors[6].getClass());
     }
+
+    /**
+     * Verifies that the fused processors produce the same values and exceptions as the Super CSV processors they
+     * replace.
+     */
+    @Test
+    public void testFusedCellProcessors() throws Exception {
+        final String val = "ParseLong;"
+                + "Optional, ParseLong;"
+                + "NotNull, ParseInt;"
+                + "Optional, ParseDouble;"
+                + "Trim, ParseLong;"
+                + "ParseDate('MM/dd/yyyy');"
+                + "Optional, ParseDate('dd/MM/yyyy', false);"
+                + "NotNull, ParseDate('yyyyMMdd HH:mm:ss.SSS')";
+        final Object[] values = {null, "12", "-5", "x", "", "12.5", 3L, 3, 3.0, new Date(0),
+                "01/02/1998", "1/2/1998", " 01/02/1998", "01/02/1998 trailing", "02/30/1998", "13/01/1998",
+                "01/02/0098", "19980102 09:30:15.250", "19980102 24:30:15.250", "1998010 09:30:15.250"};
+        final CellProcessor[] compiled = CellProcessorConfig.parseCellProcessors(val);
+        final CellProcessor[] superCsv = CellProcessorConfig.parseCellProcessors(val, false);
+        Assert.assertEquals(ParseLong.class, superCsv[0].getClass());
+        Assert.assertEquals(NotNull.class, superCsv[2].getClass());
+        Assert.assertEquals(ParseDate.class, superCsv[5].getClass());
+        for (int i = 0; i < compiled.length; i++) {
+            for (int n = 0; n < 2; n++) {  //repeat to parse memoized dates
+                for (final Object value : values) {
+                    final CsvContext context = new CsvContext(1, 1, i + 1);
+                    Assert.assertEquals(String.format("%s with %s", val.split(";")[i], value),
+                            execute(superCsv[i], value, context), execute(compiled[i], value, context));
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifies that the cell processors are cached for each job execution, and only if all of them are stateless.
+     */
+    @Test
+    public void testCachedCellProcessors() throws Exception {
+        final String val = "ParseLong; Optional, ParseDate('MM/dd/yyyy'); Equals('a')";
+        final CellProcessorConfig.ParsedCellProcessors parsed1 =
+                CellProcessorConfig.parseCellProcessors(newJobContext(1001), val);
+        final CellProcessorConfig.ParsedCellProcessors parsed2 =
+                CellProcessorConfig.parseCellProcessors(newJobContext(1001), val);
+        Assert.assertTrue(parsed1.stateless);
+        Assert.assertTrue(parsed2.stateless);
+        Assert.assertNotSame(parsed1.processors, parsed2.processors);
+        for (int i = 0; i < parsed1.processors.length; i++) {
+            Assert.assertSame(parsed1.processors[i], parsed2.processors[i]);
+        }
+        Assert.assertNotSame(parsed1.processors[0],
+                CellProcessorConfig.parseCellProcessors(newJobContext(1002), val).processors[0]);
+        Assert.assertNotSame(parsed1.processors[0], CellProcessorConfig.parseCellProcessors(null, val).processors[0]);
+
+        final String uniqueVal = "ParseLong; Unique";
+        final CellProcessorConfig.ParsedCellProcessors unique =
+                CellProcessorConfig.parseCellProcessors(newJobContext(1001), uniqueVal);
+        Assert.assertFalse(unique.stateless);
+        Assert.assertNotSame(unique.processors[1],
+                CellProcessorConfig.parseCellProcessors(newJobContext(1001), uniqueVal).processors[1]);
+    }
+
+    /**
+     * Creates a {@code JobContext} of a job execution, as seen by an artifact in one of its partitions.
+     */
+    private static JobContext newJobContext(final long executionId) {
+        return (JobContext) Proxy.newProxyInstance(JobContext.class.getClassLoader(), new Class<?>[]{JobContext.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                        if (method.getName().equals("getExecutionId")) {
+                            return executionId;
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static Object execute(final CellProcessor cellProcessor, final Object value, final CsvContext context) {
+        try {
+            return cellProcessor.execute(value, context);
+        } catch (final RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark measuring the number of items per second written by {@link CsvItemWriter} to a local file, in
+ * chunks of {@code chunkSize} items, calling {@code checkpointInfo()} after every chunk as the batch runtime does,
+ * with the output policy in the {@code policy} parameter:
+ * <ul>
+ * <li>{@code unbuffered}: the output is written to the {@code FileOutputStream} whenever the writer flushes it
+ * after every chunk, without {@link ChunkOutputStream};</li>
+ * <li>{@code everyChunk}: the default policy, writing the buffered output to the file after every chunk;</li>
+ * <li>{@code every10Chunks}: {@code flushInterval} 10;</li>
+ * <li>{@code force}: {@code forceOnCheckpoint} true.</li>
+ * </ul>
+ * To run this benchmark from test classpath:
+ * <p>
+ * <pre>
+ * java -cp ... org.jberet.support.io.ChunkOutputBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkOutputBenchmark {
+    private static final int items = 20000;
+
+    @Param({"10", "100", "1000"})
+    public int chunkSize;
+
+    @Param({"unbuffered", "everyChunk", "every10Chunks", "force"})
+    public String policy;
+
+    private File file;
+    private final List<List<Object>> chunks = new ArrayList<List<Object>>();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        file = File.createTempFile("ChunkOutputBenchmark", ".csv");
+        List<Object> chunk = null;
+        for (int i = 0; i < items; ++i) {
+            if (i % chunkSize == 0) {
+                chunk = new ArrayList<Object>(chunkSize);
+                chunks.add(chunk);
+            }
+            final String open = String.valueOf(100 + i % 1000 / 100.0);
+            chunk.add(Arrays.asList(String.format("%02d/%02d/1998", i / 3000 % 12 + 1, i / 100 % 28 + 1),
+                    String.format("%02d:%02d", i / 60 % 24, i % 60), open, open, open, open,
+                    String.valueOf(10000 + i % 50000)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(items)
+    public Object write() throws Exception {
+        final CsvItemWriter writer = policy.equals("unbuffered") ? new CsvItemWriter() {
+            @Override
+            OutputStream bufferOutput(final OutputStream outputStream) {
+                return outputStream;
+            }
+        } : new CsvItemWriter();
+        writer.resource = file.getPath();
+        writer.writeMode = CsvProperties.OVERWRITE;
+        writer.beanType = List.class;
+        writer.header = ExcelWriterTest.ibmStockTradeHeader.split(",");
+        writer.flushInterval = policy.equals("every10Chunks") ? 10 : 0;
+        writer.forceOnCheckpoint = policy.equals("force");
+        writer.open(null);
+        Object checkpoint = null;
+        for (final List<Object> chunk : chunks) {
+            writer.writeItems(chunk);
+            checkpoint = writer.checkpointInfo();
+        }
+        writer.close();
+        return checkpoint;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ChunkOutputBenchmark.class.getSimpleName()).build()).run();
+    }
+}
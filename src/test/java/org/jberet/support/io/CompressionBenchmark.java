@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark measuring the time to compress and decompress 16 MiB of CSV data in memory:
+ * <ul>
+ * <li>{@code compress}: with {@code java.util.zip.GZIPOutputStream} ({@code parallel = false}), or with
+ * {@link ParallelGzipOutputStream} ({@code parallel = true});</li>
+ * <li>{@code decompressAndDecode}: decoding the decompressed data into characters and counting lines, as a
+ * stand-in for parsing, with {@code java.util.zip.GZIPInputStream} on the same thread ({@code parallel = false}),
+ * or with {@link PipelinedGzipInputStream} ({@code parallel = true}).</li>
+ * </ul>
+ * To run this benchmark from test classpath:
+ * <p>
+ * <pre>
+ * java -cp ... org.jberet.support.io.CompressionBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+    private static final int size = 16 * 1024 * 1024;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private byte[] data;
+    private byte[] compressed;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final StringBuilder sb = new StringBuilder(size + 100);
+        for (int i = 0; sb.length() < size; ++i) {
+            final String open = String.valueOf(100 + i % 1000 / 100.0);
+            sb.append(String.format("%02d/%02d/1998,%02d:%02d,", i / 3000 % 12 + 1, i / 100 % 28 + 1, i / 60 % 24, i % 60))
+                    .append(open).append(',').append(open).append(',').append(open).append(',').append(open)
+                    .append(',').append(10000 + i * 7919 % 50000).append("\r\n");
+        }
+        data = sb.toString().getBytes(StandardCharsets.US_ASCII);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(size / 4);
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        compressed = out.toByteArray();
+    }
+
+    @Benchmark
+    public int compress() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(size / 4);
+        final OutputStream gzip = parallel ? new ParallelGzipOutputStream(out) : new GZIPOutputStream(out, 8192);
+        for (int off = 0; off < data.length; off += 8192) {
+            gzip.write(data, off, Math.min(8192, data.length - off));
+        }
+        gzip.close();
+        return out.size();
+    }
+
+    @Benchmark
+    public int decompressAndDecode() throws Exception {
+        final InputStream in = new ByteArrayInputStream(compressed);
+        final InputStream gzip = parallel ? new PipelinedGzipInputStream(in, "benchmark") : new GZIPInputStream(in);
+        int lines = 0;
+        try (Reader reader = new InputStreamReader(gzip, StandardCharsets.UTF_8)) {
+            final char[] buf = new char[8192];
+            int n;
+            while ((n = reader.read(buf)) > 0) {
+                for (int i = 0; i < n; ++i) {
+                    if (buf[i] == '\n') {
+                        lines++;
+                    }
+                }
+            }
+        }
+        return lines;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CompressionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.MethodCache;
+
+/**
+ * JMH benchmark comparing how {@link FastForwardCsvBeanReader} populates a bean with 30 properties from the
+ * columns of a CSV row:
+ * <ul>
+ * <li>{@link #reflection(Blackhole)}: copying the columns, instantiating the bean and invoking each setter with
+ * reflection and {@code MethodCache}, as the reader did before {@link CsvBeanPopulator} was introduced;</li>
+ * <li>{@link #populator(Blackhole)}: populating the bean with {@link CsvBeanPopulator};</li>
+ * <li>{@link #read(Blackhole)}: parsing and populating all rows with {@link FastForwardCsvBeanReader}.</li>
+ * </ul>
+ * Each benchmark operation processes 1000 rows.
+ * To run this benchmark from test classpath:
+ * <p>
+ * <pre>
+ * java -cp ... org.jberet.support.io.CsvBeanReaderBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvBeanReaderBenchmark {
+    private static final int rows = 1000;
+    private static final int columns = 30;
+
+    private final String[] nameMapping = new String[columns];
+    private final List<List<String>> rowColumns = new ArrayList<List<String>>();
+    private String csv;
+    private CsvBeanPopulator populator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < columns; ++i) {
+            nameMapping[i] = String.format("c%02d", i);
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (int r = 0; r < rows; ++r) {
+            final List<String> values = new ArrayList<String>(columns);
+            for (int i = 0; i < columns; ++i) {
+                values.add("value" + r + "_" + i);
+            }
+            rowColumns.add(values);
+            sb.append(String.join(",", values)).append('\n');
+        }
+        csv = sb.toString();
+        populator = CsvBeanPopulator.compile(Bean30.class, nameMapping);
+    }
+
+    @Benchmark
+    public void reflection(final Blackhole blackhole) throws Exception {
+        final MethodCache cache = new MethodCache();
+        final List<Object> processedColumns = new ArrayList<Object>();
+        for (final List<String> values : rowColumns) {
+            processedColumns.clear();
+            processedColumns.addAll(values);
+            final Bean30 bean = Bean30.class.getDeclaredConstructor().newInstance();
+            for (int i = 0; i < nameMapping.length; i++) {
+                final Object fieldValue = processedColumns.get(i);
+                if (nameMapping[i] == null || fieldValue == null) {
+                    continue;
+                }
+                final Method setMethod = cache.getSetMethod(bean, nameMapping[i], fieldValue.getClass());
+                setMethod.invoke(bean, fieldValue);
+            }
+            blackhole.consume(bean);
+        }
+    }
+
+    @Benchmark
+    public void populator(final Blackhole blackhole) {
+        for (final List<String> values : rowColumns) {
+            blackhole.consume(populator.populate(values));
+        }
+    }
+
+    @Benchmark
+    public void read(final Blackhole blackhole) throws Exception {
+        final FastForwardCsvBeanReader reader =
+                new FastForwardCsvBeanReader(new StringReader(csv), CsvPreference.STANDARD_PREFERENCE, 0, 0);
+        Bean30 bean;
+        while ((bean = reader.read(Bean30.class, nameMapping)) != null) {
+            blackhole.consume(bean);
+        }
+        reader.close();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CsvBeanReaderBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    public static class Bean30 {
+        private String c00;
+        private String c01;
+        private String c02;
+        private String c03;
+        private String c04;
+        private String c05;
+        private String c06;
+        private String c07;
+        private String c08;
+        private String c09;
+        private String c10;
+        private String c11;
+        private String c12;
+        private String c13;
+        private String c14;
+        private String c15;
+        private String c16;
+        private String c17;
+        private String c18;
+        private String c19;
+        private String c20;
+        private String c21;
+        private String c22;
+        private String c23;
+        private String c24;
+        private String c25;
+        private String c26;
+        private String c27;
+        private String c28;
+        private String c29;
+
+        public String getC00() {
+            return c00;
+        }
+
+        public void setC00(final String c00) {
+            this.c00 = c00;
+        }
+
+        public String getC01() {
+            return c01;
+        }
+
+        public void setC01(final String c01) {
+            this.c01 = c01;
+        }
+
+        public String getC02() {
+            return c02;
+        }
+
+        public void setC02(final String c02) {
+            this.c02 = c02;
+        }
+
+        public String getC03() {
+            return c03;
+        }
+
+        public void setC03(final String c03) {
+            this.c03 = c03;
+        }
+
+        public String getC04() {
+            return c04;
+        }
+
+        public void setC04(final String c04) {
+            this.c04 = c04;
+        }
+
+        public String getC05() {
+            return c05;
+        }
+
+        public void setC05(final String c05) {
+            this.c05 = c05;
+        }
+
+        public String getC06() {
+            return c06;
+        }
+
+        public void setC06(final String c06) {
+            this.c06 = c06;
+        }
+
+        public String getC07() {
+            return c07;
+        }
+
+        public void setC07(final String c07) {
+            this.c07 = c07;
+        }
+
+        public String getC08() {
+            return c08;
+        }
+
+        public void setC08(final String c08) {
+            this.c08 = c08;
+        }
+
+        public String getC09() {
+            return c09;
+        }
+
+        public void setC09(final String c09) {
+            this.c09 = c09;
+        }
+
+        public String getC10() {
+            return c10;
+        }
+
+        public void setC10(final String c10) {
+            this.c10 = c10;
+        }
+
+        public String getC11() {
+            return c11;
+        }
+
+        public void setC11(final String c11) {
+            this.c11 = c11;
+        }
+
+        public String getC12() {
+            return c12;
+        }
+
+        public void setC12(final String c12) {
+            this.c12 = c12;
+        }
+
+        public String getC13() {
+            return c13;
+        }
+
+        public void setC13(final String c13) {
+            this.c13 = c13;
+        }
+
+        public String getC14() {
+            return c14;
+        }
+
+        public void setC14(final String c14) {
+            this.c14 = c14;
+        }
+
+        public String getC15() {
+            return c15;
+        }
+
+        public void setC15(final String c15) {
+            this.c15 = c15;
+        }
+
+        public String getC16() {
+            return c16;
+        }
+
+        public void setC16(final String c16) {
+            this.c16 = c16;
+        }
+
+        public String getC17() {
+            return c17;
+        }
+
+        public void setC17(final String c17) {
+            this.c17 = c17;
+        }
+
+        public String getC18() {
+            return c18;
+        }
+
+        public void setC18(final String c18) {
+            this.c18 = c18;
+        }
+
+        public String getC19() {
+            return c19;
+        }
+
+        public void setC19(final String c19) {
+            this.c19 = c19;
+        }
+
+        public String getC20() {
+            return c20;
+        }
+
+        public void setC20(final String c20) {
+            this.c20 = c20;
+        }
+
+        public String getC21() {
+            return c21;
+        }
+
+        public void setC21(final String c21) {
+            this.c21 = c21;
+        }
+
+        public String getC22() {
+            return c22;
+        }
+
+        public void setC22(final String c22) {
+            this.c22 = c22;
+        }
+
+        public String getC23() {
+            return c23;
+        }
+
+        public void setC23(final String c23) {
+            this.c23 = c23;
+        }
+
+        public String getC24() {
+            return c24;
+        }
+
+        public void setC24(final String c24) {
+            this.c24 = c24;
+        }
+
+        public String getC25() {
+            return c25;
+        }
+
+        public void setC25(final String c25) {
+            this.c25 = c25;
+        }
+
+        public String getC26() {
+            return c26;
+        }
+
+        public void setC26(final String c26) {
+            this.c26 = c26;
+        }
+
+        public String getC27() {
+            return c27;
+        }
+
+        public void setC27(final String c27) {
+            this.c27 = c27;
+        }
+
+        public String getC28() {
+            return c28;
+        }
+
+        public void setC28(final String c28) {
+            this.c28 = c28;
+        }
+
+        public String getC29() {
+            return c29;
+        }
+
+        public void setC29(final String c29) {
+            this.c29 = c29;
+        }
+    }
+}
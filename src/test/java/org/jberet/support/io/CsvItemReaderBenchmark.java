@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark comparing {@link CsvItemReader} engines, reading a local file of 100,000 IBM stock trade rows,
+ * in the same format as {@code IBM_unadjusted.txt}:
+ * <ul>
+ * <li>{@link #list(Blackhole)}: reading each row as a {@code java.util.List} of strings;</li>
+ * <li>{@link #bean(Blackhole)}: reading each row as a {@link StockTrade} bean with cell processors;</li>
+ * <li>{@link #projectedMap(Blackhole)}: reading each row of another file with 10,000 rows of 180 columns as a
+ * {@code java.util.Map} of 12 columns, with all other columns left blank in {@code nameMapping}.</li>
+ * </ul>
+ * Each benchmark operation reads the whole file with the engine specified by the {@code engine} parameter.
+ * Run with {@code -prof gc} to compare the allocation per operation.
+ * To run this benchmark from test classpath:
+ * <p>
+ * <pre>
+ * java -cp ... org.jberet.support.io.CsvItemReaderBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvItemReaderBenchmark {
+    private static final int rows = 100000;
+    private static final int wideRows = 10000;
+    private static final int wideColumns = 180;
+    private static final int usedColumns = 12;
+
+    @Param({CsvItemReader.ENGINE_SUPERCSV, CsvItemReader.ENGINE_BYTES})
+    public String engine;
+
+    private File file;
+    private File wideFile;
+    private String[] wideNameMapping;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        file = File.createTempFile("CsvItemReaderBenchmark", ".csv");
+        final PrintWriter writer = new PrintWriter(file, "UTF-8");
+        for (int i = 0; i < rows; ++i) {
+            final double open = 100 + i % 1000 / 100.0;
+            writer.printf("%02d/%02d/1998,%02d:%02d,%s,%s,%s,%s,%d%n", i / 3000 % 12 + 1, i / 100 % 28 + 1,
+                    i / 60 % 24, i % 60, open, open + 0.5, open - 0.5, open + 0.1, 10000 + i % 50000);
+        }
+        writer.close();
+
+        wideFile = File.createTempFile("CsvItemReaderBenchmark-wide", ".csv");
+        wideNameMapping = new String[wideColumns];
+        for (int i = 0; i < wideColumns; i += wideColumns / usedColumns) {
+            wideNameMapping[i] = "c" + i;
+        }
+        final PrintWriter wideWriter = new PrintWriter(wideFile, "UTF-8");
+        for (int r = 0; r < wideRows; ++r) {
+            for (int i = 0; i < wideColumns; ++i) {
+                wideWriter.print(i == 0 ? "" : ",");
+                wideWriter.print(i % 10 == 0 ? "\"quoted, value " + r + "\"" : "value" + r + "_" + i);
+            }
+            wideWriter.println();
+        }
+        wideWriter.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+        wideFile.delete();
+    }
+
+    @Benchmark
+    public void list(final Blackhole blackhole) throws Exception {
+        read(List.class, null, blackhole);
+    }
+
+    @Benchmark
+    public void bean(final Blackhole blackhole) throws Exception {
+        read(StockTrade.class, "ParseDate('MM/dd/yyyy'); null; ParseDouble; ParseDouble; ParseDouble; ParseDouble; ParseDouble",
+                blackhole);
+    }
+
+    @Benchmark
+    public void projectedMap(final Blackhole blackhole) throws Exception {
+        final CsvItemReader reader = new CsvItemReader();
+        reader.resource = wideFile.getPath();
+        reader.engine = engine;
+        reader.headerless = true;
+        reader.beanType = Map.class;
+        reader.nameMapping = wideNameMapping.clone();
+        reader.open(null);
+        Object item;
+        while ((item = reader.readItem()) != null) {
+            blackhole.consume(item);
+        }
+        reader.close();
+    }
+
+    private void read(final Class<?> beanType, final String cellProcessors, final Blackhole blackhole)
+            throws Exception {
+        final CsvItemReader reader = new CsvItemReader();
+        reader.resource = file.getPath();
+        reader.engine = engine;
+        reader.headerless = true;
+        reader.skipBeanValidation = true;
+        reader.beanType = beanType;
+        reader.nameMapping = ExcelWriterTest.ibmStockTradeNameMapping.split(",");
+        reader.cellProcessors = cellProcessors;
+        reader.open(null);
+        Object item;
+        while ((item = reader.readItem()) != null) {
+            blackhole.consume(item);
+        }
+        reader.close();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CsvItemReaderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
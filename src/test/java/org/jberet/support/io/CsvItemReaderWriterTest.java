@@ -14,24 +14,32 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
 import java.util.Scanner;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.support.io.ReaderWriterTestSupport.WriterFactory;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import jakarta.batch.operations.BatchRuntimeException;
 import jakarta.batch.operations.JobOperator;
 import jakarta.batch.runtime.BatchRuntime;
 import jakarta.batch.runtime.BatchStatus;
 
 public class CsvItemReaderWriterTest {
     static final String jobName = "org.jberet.support.io.CsvReaderTest";
+    static final String checkpointJobName = "org.jberet.support.io.CsvReaderCheckpointTest";
     static final String personResource = "fake-person.csv";
     static final String personPipeResource = "fake-person-pipe.txt";
     static final String personTabResource = "fake-person-tab.txt";
@@ -181,6 +189,236 @@ public class CsvItemReaderWriterTest {
         Assert.assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
     }
 
+    /**
+     * Verifies that a restarted job execution reading from a local headerless CSV file resumes right after the
+     * last checkpoint, which contains the byte offset of the last read record.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testCheckpointRestart() throws Exception {
+        final String resource = Thread.currentThread().getContextClassLoader()
+                .getResource(ExcelWriterTest.ibmStockTradeCsv).toString();
+        final File writeResourceFile = new File(tmpdir, "testCheckpointRestart.out");
+        final Properties params = createParams(CsvProperties.RESOURCE_KEY, resource);
+        params.setProperty("start", "1");
+        params.setProperty("end", "15");
+        params.setProperty("failOnTimes", "09:41");
+        params.setProperty("writeResource", writeResourceFile.getPath());
+
+        //this job execution will fail, since the item processor is configured to fail on 09:41
+        final long jobExecutionId = jobOperator.start(checkpointJobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        validate(writeResourceFile, "09:30, 09:31, 09:32, 09:33, 09:34, 09:35, 09:36, 09:37, 09:38, 09:39",
+                "09:40, 09:41");
+
+        //the restart job execution should read from the item right after the checkpoint, and items that
+        //have already been committed should not be read again.
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnTimes", "");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+        validate(writeResourceFile, "09:40, 09:41, 09:42, 09:43, 09:44",
+                "09:30, 09:31, 09:32, 09:33, 09:34, 09:35, 09:36, 09:37, 09:38, 09:39, 09:45");
+    }
+
+    /**
+     * Verifies that {@link CsvItemWriter} restarted from its checkpoint in the default {@code append} write mode
+     * truncates the output file to the size at the checkpoint, discarding rows written after the checkpoint, and
+     * continues writing without header, and that in {@code overwrite} write mode it rewrites the file.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testWriterRestartTruncates() throws Exception {
+        final File file = new File(tmpdir, "testWriterRestartTruncates.csv");
+        for (final String writeMode : new String[]{null, CsvProperties.OVERWRITE}) {
+            Files.deleteIfExists(file.toPath());
+            CsvItemWriter writer = newListWriter(file);
+            writer.writeMode = writeMode;
+            writer.open(null);
+            writer.writeItems(Arrays.<Object>asList(Arrays.asList("1", "a"), Arrays.asList("2", "b")));
+            final Serializable checkpoint = writer.checkpointInfo();
+            //rows written in a chunk that fails to commit
+            writer.writeItems(Arrays.<Object>asList(Arrays.asList("3", "uncommitted")));
+            writer.close();
+
+            writer = newListWriter(file);
+            writer.writeMode = writeMode;
+            writer.open(checkpoint);
+            writer.writeItems(Arrays.<Object>asList(Arrays.asList("3", "c")));
+            writer.close();
+            Assert.assertEquals(writeMode == null ? "id,name\r\n1,a\r\n2,b\r\n3,c\r\n" : "id,name\r\n3,c\r\n",
+                    new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Verifies that {@link CsvItemWriter} encoding items in parallel produces the same output, including the header,
+     * as encoding them one at a time.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testParallelEncoding() throws Exception {
+        final WriterFactory<CsvItemWriter> writers = new WriterFactory<CsvItemWriter>() {
+            @Override
+            public CsvItemWriter newWriter(final File file) {
+                final CsvItemWriter writer = new CsvItemWriter();
+                writer.resource = file.getPath();
+                writer.beanType = Map.class;
+                writer.header = new String[]{"id", "name"};
+                return writer;
+            }
+        };
+        ReaderWriterTestSupport.assertParallelEncoding(writers, new File(tmpdir, "testParallelEncodingExpected.csv"),
+                new File(tmpdir, "testParallelEncoding.csv"));
+    }
+
+    /**
+     * Verifies that {@link CsvItemWriter} with {@code flushInterval} writes its output to the file every
+     * {@code flushInterval} chunks, at every checkpoint with {@code forceOnCheckpoint}, and when closed.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testFlushInterval() throws Exception {
+        final File file = new File(tmpdir, "testFlushInterval.csv");
+        CsvItemWriter writer = newListWriter(file);
+        writer.flushInterval = 2;
+        writer.open(null);
+        writer.writeItems(Arrays.<Object>asList(Arrays.asList("1", "a")));
+        OffsetCheckpoint checkpoint = (OffsetCheckpoint) writer.checkpointInfo();
+        Assert.assertEquals(0, file.length());
+        writer.writeItems(Arrays.<Object>asList(Arrays.asList("2", "b")));
+        checkpoint = (OffsetCheckpoint) writer.checkpointInfo();
+        Assert.assertEquals(checkpoint.position, file.length());
+        writer.writeItems(Arrays.<Object>asList(Arrays.asList("3", "c")));
+        writer.close();
+        Assert.assertEquals("id,name\r\n1,a\r\n2,b\r\n3,c\r\n",
+                new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+
+        writer = newListWriter(file);
+        writer.flushInterval = 2;
+        writer.forceOnCheckpoint = true;
+        writer.open(null);
+        writer.writeItems(Arrays.<Object>asList(Arrays.asList("1", "a")));
+        checkpoint = (OffsetCheckpoint) writer.checkpointInfo();
+        Assert.assertEquals(checkpoint.position, file.length());
+        writer.close();
+    }
+
+    /**
+     * Verifies that a {@code .gz} resource is compressed by the writer in several blocks, appended to as a new gzip
+     * member, and decompressed by the reader.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testGzip() throws Exception {
+        final File file = new File(tmpdir, "testGzip.csv.gz");
+        final int rows = 100000;
+        final StringBuilder expected = new StringBuilder("id,name\r\n");
+        CsvItemWriter writer = newListWriter(file);
+        writer.open(null);
+        for (int i = 0; i < rows; i += 1000) {
+            final List<Object> chunk = new java.util.ArrayList<Object>();
+            for (int j = i; j < i + 1000; j++) {
+                chunk.add(Arrays.asList(String.valueOf(j), "name" + j % 97));
+                expected.append(j).append(",name").append(j % 97).append("\r\n");
+            }
+            writer.writeItems(chunk);
+            Assert.assertTrue(writer.checkpointInfo() instanceof Integer);
+        }
+        writer.close();
+        Assert.assertTrue(file.length() < expected.length() / 2);
+        try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+            Assert.assertEquals(expected.toString(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        writer = newListWriter(file);
+        writer.writeMode = CsvProperties.APPEND;
+        writer.open(null);
+        writer.writeItems(Arrays.<Object>asList(Arrays.asList(String.valueOf(rows), "last")));
+        writer.close();
+
+        final CsvItemReader reader = new CsvItemReader();
+        reader.resource = file.getPath();
+        reader.beanType = List.class;
+        reader.open(null);
+        try {
+            for (int i = 0; i < rows; i++) {
+                final List<?> item = (List<?>) reader.readItem();
+                Assert.assertEquals(String.valueOf(i), item.get(0));
+            }
+            // the newline written when appending makes an empty line, which is skipped
+            Assert.assertEquals(Arrays.asList(String.valueOf(rows), "last"), reader.readItem());
+            Assert.assertNull(reader.readItem());
+        } finally {
+            reader.close();
+        }
+
+        final CsvItemReader bytesReader = new CsvItemReader();
+        bytesReader.resource = file.getPath();
+        bytesReader.beanType = List.class;
+        bytesReader.engine = CsvItemReader.ENGINE_BYTES;
+        try {
+            bytesReader.open(null);
+            Assert.fail("Expecting exception for the bytes engine with a compressed resource");
+        } catch (final BatchRuntimeException e) {
+            System.out.printf("Got expected exception: %s%n", e);
+        }
+    }
+
+    private static CsvItemWriter newListWriter(final File file) {
+        final CsvItemWriter writer = new CsvItemWriter();
+        writer.resource = file.getPath();
+        writer.beanType = List.class;
+        writer.writeMode = CsvProperties.OVERWRITE;
+        writer.header = new String[]{"id", "name"};
+        return writer;
+    }
+
+    /**
+     * Verifies that columns left blank in {@code nameMapping} are not included in the read map, and their cell
+     * processors, which would fail on these columns, are not invoked, with both CSV engines.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testIgnoredColumns() throws Exception {
+        final String resource = Thread.currentThread().getContextClassLoader().getResource(personResource).toString();
+        for (final String engine : new String[]{CsvItemReader.ENGINE_SUPERCSV, CsvItemReader.ENGINE_BYTES}) {
+            final CsvItemReader reader = new CsvItemReader();
+            reader.resource = resource;
+            reader.engine = engine;
+            reader.beanType = java.util.Map.class;
+            reader.quoteChar = "|";
+            reader.commentMatcher = "starts with '#'";
+            reader.end = 3;
+            reader.nameMapping = nameMapping.replaceAll("(gender|title|streetAddress|city|birthday|latitude)", "")
+                    .split(",\\s*");
+            reader.cellProcessors = cellProcessors.replace("Token('male', 'M'), Token('female', 'F');", "ParseInt;")
+                    .replace("Optional, ParseDate('MM/dd/yyyy');", "ParseInt;");
+            reader.open(null);
+            try {
+                final java.util.Map<?, ?> first = (java.util.Map<?, ?>) reader.readItem();
+                Assert.assertEquals(engine, 31, first.size());
+                Assert.assertFalse(engine, first.containsKey("gender") || first.containsKey("birthday"));
+                Assert.assertEquals(engine, "Martin", first.get("givenName"));
+                Assert.assertNotNull(engine, reader.readItem());
+                Assert.assertNotNull(engine, reader.readItem());
+                Assert.assertNull(engine, reader.readItem());
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
     @Test @Ignore("restore it if needed")
     public void testStringsToInts() throws Exception {
         final String[] ss = {"1", "2", "3", "4"};
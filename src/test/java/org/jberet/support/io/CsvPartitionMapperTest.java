@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import jakarta.batch.api.partition.PartitionPlan;
+
+public class CsvPartitionMapperTest {
+    /**
+     * Splits a CSV file containing quoted line breaks, mixed line terminators and empty lines into byte ranges
+     * with {@link CsvPartitionMapper}, and verifies that reading all ranges with {@link CsvItemReader} returns the
+     * same records, in the same order, as reading the whole file.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void partitions() throws Exception {
+        final StringBuilder sb = new StringBuilder("\ufeffid,name,comment\r\n");
+        for (int i = 0; i < 500; ++i) {
+            sb.append(i).append(",name").append(i).append(',');
+            switch (i % 5) {
+                case 0:
+                    sb.append("\"multi\nline, with \"\"quotes\"\"\r\nand more\"\n");
+                    break;
+                case 1:
+                    sb.append("caf\u00e9\r\n");
+                    break;
+                case 2:
+                    sb.append("\"\n\"\n\n");
+                    break;
+                default:
+                    sb.append("plain\n");
+            }
+        }
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "CsvPartitionMapperTest.csv");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        final List<Object> expected = read(file, null, null);
+        assertEquals(500, expected.size());
+
+        for (final int partitionCount : new int[]{2, 4, 7}) {
+            final CsvPartitionMapper mapper = new CsvPartitionMapper();
+            mapper.resource = file.getPath();
+            mapper.partitionCount = partitionCount;
+            final PartitionPlan plan = mapper.mapPartitions();
+            assertEquals(partitionCount, plan.getPartitions());
+
+            final List<Object> actual = new ArrayList<Object>();
+            for (final Properties p : plan.getPartitionProperties()) {
+                final List<Object> items = read(file, p.getProperty("partitionStart"), p.getProperty("partitionEnd"));
+                assertTrue(items.size() > 0);
+                actual.addAll(items);
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    /**
+     * Splits a CSV file without quoted line breaks with {@link CsvPartitionMapper#quotedLineBreaks} set to false, so
+     * that boundaries are found by seeking near each target offset, and verifies that reading all ranges returns the
+     * same records as reading the whole file.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void partitionsBySeeking() throws Exception {
+        final StringBuilder sb = new StringBuilder("id,name,comment\n");
+        for (int i = 0; i < 500; ++i) {
+            sb.append(i).append(",\"name, ").append(i).append("\",")
+                    .append(i % 3 == 0 ? "\"\"\"q\"\"\"\r\n" : "plain\n");
+        }
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "CsvPartitionMapperTestSeek.csv");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        final List<Object> expected = read(file, null, null);
+        assertEquals(500, expected.size());
+        for (final int partitionCount : new int[]{2, 4, 7}) {
+            final CsvPartitionMapper mapper = new CsvPartitionMapper();
+            mapper.resource = file.getPath();
+            mapper.partitionCount = partitionCount;
+            mapper.quotedLineBreaks = false;
+            final PartitionPlan plan = mapper.mapPartitions();
+            assertEquals(partitionCount, plan.getPartitions());
+
+            final List<Object> actual = new ArrayList<Object>();
+            for (final Properties p : plan.getPartitionProperties()) {
+                actual.addAll(read(file, p.getProperty("partitionStart"), p.getProperty("partitionEnd")));
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    /**
+     * Verifies that a quote escaped with {@link CsvPartitionMapper#escapeChar} does not change the quote state, so
+     * that line breaks in the rest of the quoted cell are not chosen as boundaries.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void escapedQuotes() throws Exception {
+        //2 records: the first one has an escaped quote and a line break in its quoted cell
+        final String records = "1,\"x\\\"\nb\"\n2,y\n";
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; ++i) {
+            sb.append(records);
+        }
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "CsvPartitionMapperTestEscape.csv");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        final FileChannel channel = FileChannel.open(file.toPath());
+        try {
+            for (int partitionCount = 2; partitionCount < 12; ++partitionCount) {
+                final List<Long> bounds =
+                        CsvPartitionMapper.recordBoundaries(channel, partitionCount, (byte) '"', '\\', true);
+                assertEquals(partitionCount - 1, bounds.size());
+                for (final long bound : bounds) {
+                    final long offset = bound % records.length();
+                    assertTrue(String.valueOf(bound), offset == 0 || offset == records.indexOf("2,y"));
+                }
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static List<Object> read(final File file, final String partitionStart, final String partitionEnd)
+            throws Exception {
+        final CsvItemReader reader = new CsvItemReader();
+        reader.resource = file.toURI().toString();
+        reader.beanType = List.class;
+        reader.charset = "UTF-8";
+        reader.partitionStart = partitionStart;
+        reader.partitionEnd = partitionEnd;
+        reader.open(null);
+        final List<Object> items = new ArrayList<Object>();
+        try {
+            Object item;
+            while ((item = reader.readItem()) != null) {
+                items.add(item);
+            }
+        } finally {
+            reader.close();
+        }
+        return items;
+    }
+}
@@ -57,6 +57,21 @@ public final class CsvReadersPerformanceTest {
         testReadWrite0(superCsvjobName, params);
     }
 
+    @Test
+    public void bytesCsvBeanTypeFull() throws Exception {
+        final Properties params = bytesEngineParams();
+        params.setProperty("beanType", StockTrade.class.getName());
+        params.setProperty("nameMapping", ExcelWriterTest.ibmStockTradeNameMapping);
+        testReadWrite0(superCsvjobName, params);
+    }
+
+    @Test
+    public void bytesCsvListTypeFull() throws Exception {
+        final Properties params = bytesEngineParams();
+        params.setProperty("beanType", java.util.List.class.getName());
+        testReadWrite0(superCsvjobName, params);
+    }
+
     ///////////////////////////////////////////////////////
 
     @Test
@@ -101,6 +116,18 @@ public final class CsvReadersPerformanceTest {
 
     ///////////////////////////////////////////////////////
 
+    /**
+     * The bytes engine reads local files only, so the resource is specified as the file URL of the classpath
+     * resource.
+     */
+    private static Properties bytesEngineParams() {
+        final Properties params = new Properties();
+        params.setProperty("engine", CsvItemReader.ENGINE_BYTES);
+        params.setProperty("resource", Thread.currentThread().getContextClassLoader()
+                .getResource("IBM_unadjusted.txt").toString());
+        return params;
+    }
+
     private void testReadWrite0(final String jobName, final Properties params) throws Exception {
         final long startTime = System.currentTimeMillis();
         final long jobExecutionId = jobOperator.start(jobName, params);
@@ -11,10 +11,12 @@
 package org.jberet.support.io;
 
 import java.io.File;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.support.io.ReaderWriterTestSupport.WriterFactory;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -39,6 +41,30 @@ public class JacksonCsvItemReaderWriterTest extends CsvItemReaderWriterTest {
     private String skipFirstDataRow;
     private String nullValue;
 
+    /**
+     * Verifies that {@link JacksonCsvItemWriter} encoding items in parallel produces the same output, including the
+     * header written with the first item, as encoding them one at a time.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testJacksonCsvParallelEncoding() throws Exception {
+        final WriterFactory<JacksonCsvItemWriter> writers = new WriterFactory<JacksonCsvItemWriter>() {
+            @Override
+            public JacksonCsvItemWriter newWriter(final File file) {
+                final JacksonCsvItemWriter writer = new JacksonCsvItemWriter();
+                writer.resource = file.getPath();
+                writer.beanType = Map.class;
+                writer.columns = "id, name";
+                writer.useHeader = true;
+                return writer;
+            }
+        };
+        ReaderWriterTestSupport.assertParallelEncoding(writers,
+                new File(tmpdir, "testJacksonCsvParallelEncodingExpected.csv"),
+                new File(tmpdir, "testJacksonCsvParallelEncoding.csv"));
+    }
+
     @Test
     public void testBeanType() throws Exception {
         //override the default quote char ", which is used in feetInches cell
@@ -124,6 +150,40 @@ public class JacksonCsvItemReaderWriterTest extends CsvItemReaderWriterTest {
     public void testStringsToInts() throws Exception {
     }
 
+    @Override
+    public void testIgnoredColumns() throws Exception {
+    }
+
+    /**
+     * Verifies that only columns listed in {@code includeColumns} are included in the read map.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testIncludeColumns() throws Exception {
+        final JacksonCsvItemReader reader = new JacksonCsvItemReader();
+        reader.resource = personResource;
+        reader.beanType = java.util.Map.class;
+        reader.useHeader = true;
+        reader.quoteChar = "|";
+        reader.end = 3;
+        reader.includeColumns = "number, givenName, surname";
+        reader.open(null);
+        try {
+            final java.util.Map<?, ?> first = (java.util.Map<?, ?>) reader.readItem();
+            Assert.assertEquals(3, first.size());
+            Assert.assertEquals("1", first.get("number"));
+            Assert.assertEquals("Martin", first.get("givenName"));
+            Assert.assertEquals("Mejia", first.get("surname"));
+            final java.util.Map<?, ?> second = (java.util.Map<?, ?>) reader.readItem();
+            Assert.assertEquals("Debbie", second.get("givenName"));
+            Assert.assertNotNull(reader.readItem());
+            Assert.assertNull(reader.readItem());
+        } finally {
+            reader.close();
+        }
+    }
+
     //test will print out the path of output file from CsvItemWriter, which can then be verified.
     //e.g., CSV resource to read:
     //fake-person.csv,
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark comparing how {@link JdbcItemReader} maps {@code ResultSet} rows to a custom bean:
+ * <ul>
+ * <li>{@link #mapConversion(Blackhole)}: collecting column values into a {@code java.util.Map}, and converting it
+ * with {@code ObjectMapper}, as the reader did before {@link JdbcRowMapper} was introduced;</li>
+ * <li>{@link #compiledRowMapper(Blackhole)}: mapping rows with {@link JdbcRowMapper}.</li>
+ * </ul>
+ * Each benchmark operation reads all rows of an H2 in-memory database table.
+ * To run this benchmark from test classpath:
+ * <p>
+ * <pre>
+ * java -cp ... org.jberet.support.io.JdbcItemReaderBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcItemReaderBenchmark {
+    private static final int rows = 1000;
+    private static final String[] columnMapping = ExcelWriterTest.ibmStockTradeHeader.split(",");
+    private static final JdbcDataType[] columnTypes =
+            JdbcDataType.resolve(JdbcReaderWriterTest.columnTypes.split(", "), "columnTypes");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Connection connection;
+    private PreparedStatement preparedStatement;
+    private ResultSet resultSet;
+    private JdbcRowMapper rowMapper;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:JdbcItemReaderBenchmark");
+        connection.createStatement().execute(JdbcReaderWriterTest.createTable);
+        final PreparedStatement insert = connection.prepareStatement(JdbcReaderWriterTest.writerInsertSql);
+        for (int i = 0; i < rows; ++i) {
+            insert.setTimestamp(1, new java.sql.Timestamp(886400000000L));
+            insert.setString(2, String.valueOf(i));
+            for (int j = 3; j <= 7; ++j) {
+                insert.setDouble(j, 100 + i + j / 10.0);
+            }
+            insert.executeUpdate();
+        }
+        insert.close();
+
+        preparedStatement = connection.prepareStatement(JdbcReaderWriterTest.readerQuery,
+                ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        resultSet = preparedStatement.executeQuery();
+        rowMapper = JdbcRowMapper.compile(objectMapper, StockTrade.class, columnMapping, columnTypes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        JdbcItemReaderWriterBase.close(connection, preparedStatement);
+    }
+
+    @Benchmark
+    public void mapConversion(final Blackhole blackhole) throws Exception {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            final Map<String, Object> resultMap = new HashMap<String, Object>();
+            for (int i = 0; i < columnMapping.length; ++i) {
+                resultMap.put(columnMapping[i], columnTypes[i].get(resultSet, i + 1));
+            }
+            blackhole.consume(objectMapper.convertValue(resultMap, StockTrade.class));
+        }
+    }
+
+    @Benchmark
+    public void compiledRowMapper(final Blackhole blackhole) throws Exception {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(rowMapper.map(resultSet));
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JdbcItemReaderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.joda.JodaModule;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class JdbcItemReaderTest {
+    private static final String[] columnMapping = ExcelWriterTest.ibmStockTradeHeader.split(",");
+
+    /**
+     * Column types that read the nullable {@code VOLUMN} column with {@code java.sql.ResultSet#getInt(int)}.
+     */
+    private static final String intVolumeColumnTypes = "Date, String, Double, Double, Double, Double, Int";
+    private static Connection connection;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:JdbcItemReaderTest");
+        final Statement statement = connection.createStatement();
+        statement.execute(JdbcReaderWriterTest.createTable);
+        statement.execute("insert into STOCK_TRADE values " +
+                "('1998-01-02 00:00:00', '09:30', 104.5, 104.5, 104.375, 104.375, 67040), " +
+                "('1998-01-02 00:00:00', '09:31', 104.375, 104.5, 104.375, 104.375, null)");
+        statement.close();
+    }
+
+    @AfterClass
+    public static void afterClass() throws Exception {
+        JdbcItemReaderWriterBase.close(connection, null);
+    }
+
+    /**
+     * Verifies that {@link JdbcRowMapper} maps rows to the same beans as converting a {@code java.util.Map} of
+     * column values with {@code ObjectMapper}, both for directly assignable property types, and for property types
+     * that require conversion by a custom data type module.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void rowMapper() throws Exception {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JodaModule());
+        verifyRowMapper(objectMapper, StockTrade.class, null);
+        verifyRowMapper(objectMapper, StockTradeWithJoda.class, null);
+        verifyRowMapper(objectMapper, StockTrade.class, JdbcReaderWriterTest.columnTypes.split(", "));
+        verifyRowMapper(objectMapper, StockTrade.class, intVolumeColumnTypes.split(", "));
+    }
+
+    /**
+     * Verifies that a SQL NULL column read with a typed getter yields the default value of the getter, as with
+     * calling {@code java.sql.ResultSet#getInt(int)} directly, when reading rows as {@code java.util.List},
+     * {@code java.util.Map} and bean.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void nullColumnTypedGetter() throws Exception {
+        final List<?> list = (List<?>) readNullVolumeRow(List.class);
+        assertEquals(Integer.valueOf(0), list.get(columnMapping.length - 1));
+
+        final Map<?, ?> map = (Map<?, ?>) readNullVolumeRow(Map.class);
+        assertEquals(Integer.valueOf(0), map.get("Volume"));
+
+        final StockTrade stockTrade = (StockTrade) readNullVolumeRow(StockTrade.class);
+        assertEquals(0, stockTrade.getVolume(), 0);
+    }
+
+    @Test
+    public void rowMapperCustomDeserializer() throws Exception {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new SimpleModule().addDeserializer(StockTrade.class,
+                new StdDeserializer<StockTrade>(StockTrade.class) {
+                    @Override
+                    public StockTrade deserialize(final JsonParser p, final DeserializationContext ctxt) {
+                        return new StockTrade();
+                    }
+                }));
+        assertNull(JdbcRowMapper.compile(objectMapper, StockTrade.class, columnMapping, null));
+    }
+
+    @Test
+    public void rowMapperUnknownColumn() throws Exception {
+        assertNull(JdbcRowMapper.compile(new ObjectMapper(), StockTrade.class,
+                new String[]{"Date", "noSuchProperty"}, null));
+    }
+
+    /**
+     * Verifies that the seek query orders rows by the key columns in the outer query only, after removing the
+     * ORDER BY clause of the original query, and that an ORDER BY clause followed by a row limit is kept.
+     */
+    @Test
+    public void seekQueryOrderBy() {
+        final String[] keyColumns = {"TRADEDATE", " TRADETIME"};
+        assertEquals("SELECT * FROM (select * from STOCK_TRADE) JBERET_SEEK WHERE " +
+                        "(TRADEDATE > ?) OR (TRADEDATE = ? AND TRADETIME > ?) ORDER BY TRADEDATE, TRADETIME",
+                JdbcItemReader.seekQuery(JdbcItemReader.stripOrderBy(
+                        "select * from STOCK_TRADE order  by TRADEDATE, TRADETIME"), keyColumns));
+
+        assertEquals("select * from STOCK_TRADE", JdbcItemReader.stripOrderBy("select * from STOCK_TRADE"));
+        assertEquals("select ORDER_ID, 'order by' from (select * from T order by ORDER_ID) T",
+                JdbcItemReader.stripOrderBy(
+                        "select ORDER_ID, 'order by' from (select * from T order by ORDER_ID) T ORDER BY ORDER_ID"));
+        final String limited = "select * from STOCK_TRADE order by TRADEDATE fetch first 10 rows only";
+        assertEquals(limited, JdbcItemReader.stripOrderBy(limited));
+    }
+
+    /**
+     * Reads the second row of {@link JdbcReaderWriterTest#readerQuery}, whose {@code VOLUMN} column is SQL NULL,
+     * with {@link JdbcItemReader} and {@link #intVolumeColumnTypes}.
+     */
+    private static Object readNullVolumeRow(final Class<?> beanType) throws Exception {
+        final JdbcItemReader reader = new JdbcItemReader();
+        reader.url = "jdbc:h2:mem:JdbcItemReaderTest";
+        reader.sql = JdbcReaderWriterTest.readerQuery + " order by TRADETIME";
+        reader.beanType = beanType;
+        reader.columnMapping = columnMapping;
+        reader.columnTypes = intVolumeColumnTypes.split(", ");
+        reader.open(null);
+        try {
+            assertNotNull(reader.readItem());
+            final Object item = reader.readItem();
+            assertNotNull(item);
+            return item;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void verifyRowMapper(final ObjectMapper objectMapper,
+                                        final Class<?> beanType,
+                                        final String[] columnTypes) throws Exception {
+        final JdbcRowMapper rowMapper = JdbcRowMapper.compile(objectMapper, beanType, columnMapping,
+                JdbcDataType.resolve(columnTypes, "columnTypes"));
+        assertNotNull(rowMapper);
+
+        final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement.executeQuery(JdbcReaderWriterTest.readerQuery + " order by TRADETIME");
+        int rows = 0;
+        while (resultSet.next()) {
+            final Map<String, Object> resultMap = new HashMap<String, Object>();
+            for (int i = 0; i < columnMapping.length; ++i) {
+                resultMap.put(columnMapping[i], getColumnValue(resultSet, columnTypes, i + 1));
+            }
+            final Object expected = objectMapper.convertValue(resultMap, beanType);
+            final Object actual = rowMapper.map(resultSet);
+            assertEquals(expected, actual);
+            assertEquals(expected.toString(), actual.toString());
+            rows++;
+        }
+        statement.close();
+        assertEquals(2, rows);
+    }
+
+    /**
+     * Gets the column value with the {@code java.sql.ResultSet} getter method for the column type name, as
+     * {@link JdbcItemReader} did before column types were resolved to {@link JdbcDataType}.
+     */
+    private static Object getColumnValue(final ResultSet resultSet, final String[] columnTypes, final int pos)
+            throws Exception {
+        if (columnTypes == null) {
+            return resultSet.getObject(pos);
+        }
+        final String type = columnTypes[pos - 1];
+        if (type.equals("String")) {
+            return resultSet.getString(pos);
+        } else if (type.equals("Date")) {
+            return resultSet.getDate(pos);
+        } else if (type.equals("Int")) {
+            return resultSet.getInt(pos);
+        } else if (type.equals("Double")) {
+            return resultSet.getDouble(pos);
+        }
+        throw new IllegalArgumentException(type);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark comparing how {@link JdbcItemWriter} binds a custom bean to {@code PreparedStatement} parameters:
+ * <ul>
+ * <li>{@link #mapConversion()}: converting the bean to {@code java.util.Map} with {@code ObjectMapper}, and
+ * looking up the setter by comparing each configured type name, as the writer did before
+ * {@link JdbcParameterBinder} was introduced;</li>
+ * <li>{@link #compiledBinder()}: binding bean properties with {@link JdbcParameterBinder}.</li>
+ * </ul>
+ * Parameters are set on an H2 in-memory database {@code PreparedStatement}, which is never executed.
+ * To run this benchmark from test classpath:
+ * <p>
+ * <pre>
+ * java -cp ... org.jberet.support.io.JdbcItemWriterBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcItemWriterBenchmark {
+    private static final String[] parameterNames = ExcelWriterTest.ibmStockTradeHeader.split(",");
+    private static final String[] parameterTypes = JdbcReaderWriterTest.parameterTypes.split(", ");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Connection connection;
+    private PreparedStatement preparedStatement;
+    private JdbcParameterBinder binder;
+    private StockTrade item;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:JdbcItemWriterBenchmark");
+        connection.createStatement().execute(JdbcReaderWriterTest.createTable);
+        preparedStatement = connection.prepareStatement(JdbcReaderWriterTest.writerInsertSql);
+        binder = JdbcParameterBinder.compile(objectMapper, StockTrade.class, parameterNames,
+                JdbcDataType.resolve(parameterTypes, "parameterTypes"));
+
+        item = new StockTrade();
+        item.date = new Date();
+        item.time = "09:30";
+        item.open = 101.34;
+        item.high = 101.84;
+        item.low = 100.84;
+        item.close = 101.44;
+        item.volume = 67040;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        JdbcItemReaderWriterBase.close(connection, preparedStatement);
+    }
+
+    @Benchmark
+    public PreparedStatement mapConversion() throws Exception {
+        final Map<?, ?> itemAsMap = objectMapper.convertValue(item, Map.class);
+        for (int i = 0; i < parameterNames.length; ++i) {
+            JdbcDataType.of(parameterTypes[i]).set(preparedStatement, i + 1, itemAsMap.get(parameterNames[i]));
+        }
+        return preparedStatement;
+    }
+
+    @Benchmark
+    public PreparedStatement compiledBinder() throws Exception {
+        binder.bind(preparedStatement, 0, item, null);
+        return preparedStatement;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JdbcItemWriterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
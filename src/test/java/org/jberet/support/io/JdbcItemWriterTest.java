@@ -12,7 +12,29 @@ package org.jberet.support.io;
 
 import static org.jberet.support.io.JdbcItemWriter.determineParameterNames;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import org.junit.Test;
 
 import jakarta.batch.operations.BatchRuntimeException;
@@ -35,4 +57,115 @@ public class JdbcItemWriterTest {
                 "values ('USDJPY', parsedatetime('yyyyMMdd HHmmss', ?), ?, ?, ?, ?, ?)";
         determineParameterNames(sql);
     }
+
+    @Test
+    public void parameterBinder() throws Exception {
+        final String[] parameterNames = {"Date", "Time", "Open", "Volume", "noSuchProperty"};
+        final JdbcDataType[] parameterTypes = JdbcDataType.resolve(
+                new String[]{"Date", "String", "Double", "Double", "String"}, "parameterTypes");
+        final JdbcParameterBinder binder =
+                JdbcParameterBinder.compile(new ObjectMapper(), StockTrade.class, parameterNames, parameterTypes);
+
+        final StockTrade item = new StockTrade();
+        item.date = new Date(1000000000000L);
+        item.time = "09:30";
+        item.open = 101.5;
+        item.volume = 67040;
+
+        final Map<String, Object> parameters = new HashMap<String, Object>();
+        binder.bind(recordingPreparedStatement(parameters), 0, item, null);
+
+        assertEquals(new java.sql.Date(item.date.getTime()), parameters.get("setDate 1"));
+        assertEquals("09:30", parameters.get("setString 2"));
+        assertEquals(101.5, parameters.get("setDouble 3"));
+        assertEquals(67040.0, parameters.get("setDouble 4"));
+        assertNull(parameters.get("setString 5"));
+        assertEquals(5, parameters.size());
+    }
+
+    /**
+     * Verifies that date properties are read as epoch milliseconds, the same as {@code ObjectMapper} converts them,
+     * unless dates are kept as is for a {@link JdbcBulkLoader}.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void parameterBinderKeepDates() throws Exception {
+        final StockTrade item = new StockTrade();
+        item.date = new Date(1000000000000L);
+        final String[] parameterNames = {"Date"};
+        assertEquals(1000000000000L, JdbcParameterBinder.compile(
+                new ObjectMapper(), StockTrade.class, parameterNames, null).read(item)[0]);
+        assertEquals(item.date, JdbcParameterBinder.compile(
+                new ObjectMapper(), StockTrade.class, parameterNames, null, true).read(item)[0]);
+    }
+
+    @Test
+    public void parameterBinderCustomSerializer() throws Exception {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new SimpleModule().addSerializer(StockTrade.class, new StdSerializer<StockTrade>(StockTrade.class) {
+            @Override
+            public void serialize(final StockTrade value, final JsonGenerator gen, final SerializerProvider provider)
+                    throws IOException {
+                gen.writeString(value.toString());
+            }
+        }));
+        assertNull(JdbcParameterBinder.compile(objectMapper, StockTrade.class, new String[]{"Date"}, null));
+    }
+
+    @Test
+    public void multiRowInsert() throws Exception {
+        final String sql = "INSERT INTO forex (symbol, ts, bid_open) " +
+                "values ('USDJPY,(', parsedatetime('yyyyMMdd HHmmss', ?), ?) ON CONFLICT DO NOTHING";
+        assertEquals("INSERT INTO forex (symbol, ts, bid_open) " +
+                        "values ('USDJPY,(', parsedatetime('yyyyMMdd HHmmss', ?), ?), " +
+                        "('USDJPY,(', parsedatetime('yyyyMMdd HHmmss', ?), ?) ON CONFLICT DO NOTHING",
+                JdbcItemWriter.multiRowInsert(sql, 2));
+        assertEquals(sql, JdbcItemWriter.multiRowInsert(sql, 1));
+        assertEquals("forex", JdbcItemWriter.determineTable(sql));
+    }
+
+    /**
+     * Verifies the CSV content that {@link PostgresCopyBulkLoader} streams to {@code COPY}, with quoted values,
+     * SQL NULL, {@code bytea} hex values and ISO 8601 timestamps, read in small buffers that split rows.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void postgresCopyCsv() throws Exception {
+        final List<Object[]> rows = new ArrayList<Object[]>();
+        rows.add(new Object[]{"a \"b\", c", null, 1.5, ""});
+        rows.add(new Object[]{new byte[]{0x1F, (byte) 0xA0}, java.sql.Date.valueOf("1970-01-02"), 2, true});
+        final Timestamp timestamp = Timestamp.valueOf("1998-01-02 09:30:00.5");
+        final String offset = ZoneId.systemDefault().getRules().getOffset(timestamp.toInstant()).getId();
+        rows.add(new Object[]{timestamp, new Date(timestamp.getTime()), LocalDate.of(1998, 1, 2)});
+
+        final Reader reader = new PostgresCopyBulkLoader.CsvRowReader(rows);
+        final StringBuilder csv = new StringBuilder();
+        final char[] buf = new char[7];
+        int n;
+        while ((n = reader.read(buf, 0, buf.length)) > 0) {
+            csv.append(buf, 0, n);
+        }
+        assertEquals(-1, reader.read(buf, 0, buf.length));
+        assertEquals("\"a \"\"b\"\", c\",,\"1.5\",\"\"\n" +
+                "\"\\x1fa0\",\"1970-01-02\",\"2\",\"true\"\n" +
+                "\"1998-01-02T09:30:00.5" + offset + "\",\"1998-01-02T09:30:00.5" + offset + "\",\"1998-01-02\"\n",
+                csv.toString());
+        assertEquals("COPY forex (ts, bid_open) FROM STDIN WITH (FORMAT csv)",
+                PostgresCopyBulkLoader.copySql("forex", new String[]{"ts", "bid_open"}));
+    }
+
+    static PreparedStatement recordingPreparedStatement(final Map<String, Object> parameters) {
+        return (PreparedStatement) Proxy.newProxyInstance(JdbcItemWriterTest.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                        if (method.getName().startsWith("set") && args != null && args.length == 2) {
+                            parameters.put(method.getName() + " " + args[0], args[1]);
+                        }
+                        return null;
+                    }
+                });
+    }
 }
@@ -16,6 +16,7 @@ import java.io.File;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
@@ -29,6 +30,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import jakarta.batch.api.partition.PartitionPlan;
 import jakarta.batch.operations.JobOperator;
 import jakarta.batch.runtime.BatchRuntime;
 import jakarta.batch.runtime.BatchStatus;
@@ -39,6 +41,7 @@ public class JdbcReaderWriterTest {
     static final String writerTestJobName = "org.jberet.support.io.JdbcWriterTest";
     static final String readerTestJobName = "org.jberet.support.io.JdbcReaderTest";
     static final String readerCheckpointTestJobName = "org.jberet.support.io.JdbcReaderCheckpointTest";
+    static final String readerPartitionTestJobName = "org.jberet.support.io.JdbcReaderPartitionTest";
 
     static final File dbDir = new File(CsvItemReaderWriterTest.tmpdir, "JdbcReaderWriterTest");
     static final String url = "jdbc:h2:" + dbDir.getPath();
@@ -72,6 +75,11 @@ public class JdbcReaderWriterTest {
     static final String resultSetProperties =
     "fetchSize=1000, resultSetConcurrency=CONCUR_UPDATABLE, fetchDirection=FETCH_REVERSE, resultSetType=TYPE_SCROLL_SENSITIVE, resultSetHoldability=HOLD_CURSORS_OVER_COMMIT";
 
+    /**
+     * Additional job parameters for configuring {@code jdbcItemWriter} in {@link #testWrite0}.
+     */
+    private final Properties writerParams = new Properties();
+
     @BeforeClass
     public static void beforeClass() throws Exception {
         initTable();
@@ -233,8 +241,114 @@ public class JdbcReaderWriterTest {
                 "09:31, 10810,  09:32, 09:33,  09:34, 4800", null);
     }
 
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteJdbcListTypeAllRows()}, except that {@code jdbcItemWriter} is
+     * configured with {@code reuseConnection}, so all chunks are written with the same connection and
+     * {@code PreparedStatement}.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteJdbcReuseConnection() throws Exception {
+        writerParams.setProperty("reuseConnection", "true");
+        testWrite0(writerTestJobName, List.class, List.class, ExcelWriterTest.ibmStockTradeHeader,
+                "0", "200",
+                writerInsertSql, ExcelWriterTest.ibmStockTradeHeader, parameterTypes);
+        assertEquals(200, countRows());
+
+        testRead0(readerTestJobName, List.class, List.class, "readIBMStockTradeCsvWriteJdbcReuseConnection.out",
+                null, null,
+                null, ExcelWriterTest.ibmStockTradeHeader,
+                readerQuery, null, parameterTypes, null,
+                "09:31, 10810,  09:32, 09:33,  09:34, 4800", null);
+    }
+
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteJdbcListTypeAllRows()}, except that {@code parameterTypes} is not
+     * specified for {@code jdbcItemWriter}, which instead binds parameters with their SQL types from
+     * {@code ParameterMetaData} ({@code useParameterMetaData}).
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteJdbcUseParameterMetaData() throws Exception {
+        writerParams.setProperty("useParameterMetaData", "true");
+        testWrite0(writerTestJobName, List.class, List.class, ExcelWriterTest.ibmStockTradeHeader,
+                "0", "200",
+                writerInsertSql, ExcelWriterTest.ibmStockTradeHeader, null);
+        assertEquals(200, countRows());
+
+        testRead0(readerTestJobName, List.class, List.class, "readIBMStockTradeCsvWriteJdbcUseParameterMetaData.out",
+                null, null,
+                null, ExcelWriterTest.ibmStockTradeHeader,
+                readerQuery, null, parameterTypes, null,
+                "09:31, 10810,  09:32, 09:33,  09:34, 4800", null);
+    }
+
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteJdbcBeanType()}, except that {@code jdbcItemWriter} inserts multiple
+     * rows with each insert statement ({@code rowsPerStatement}), limited by {@code maxParametersPerStatement} to 6
+     * rows. Each chunk of 100 items is written with a batch of 16 statements of 6 rows, and a statement of 4 rows.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteJdbcMultiRow() throws Exception {
+        writerParams.setProperty("rowsPerStatement", "50");
+        writerParams.setProperty("maxParametersPerStatement", "42");
+        testWrite0(writerTestJobName, StockTrade.class, StockTrade.class, ExcelWriterTest.ibmStockTradeHeader,
+                "0", "200",
+                writerInsertSql, ExcelWriterTest.ibmStockTradeHeader, parameterTypes);
+        assertEquals(200, countRows());
+
+        testRead0(readerTestJobName, StockTrade.class, StockTrade.class, "readIBMStockTradeCsvWriteJdbcMultiRow.out",
+                null, null,
+                ExcelWriterTest.ibmStockTradeNameMapping, ExcelWriterTest.ibmStockTradeHeader,
+                readerQuery, ExcelWriterTest.ibmStockTradeHeader, parameterTypes, null,
+                "09:31, 10810,  09:32, 09:33,  09:34, 4800", null);
+    }
+
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteJdbcListTypeAllRows()}, except that {@code jdbcItemWriter} writes
+     * each chunk with a {@link JdbcBulkLoader} ({@link InsertBulkLoader}).
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteJdbcBulkLoader() throws Exception {
+        writerParams.setProperty("bulkLoader", InsertBulkLoader.class.getName());
+        InsertBulkLoader.chunks = 0;
+        testWrite0(writerTestJobName, List.class, List.class, ExcelWriterTest.ibmStockTradeHeader,
+                "0", "200",
+                writerInsertSql, ExcelWriterTest.ibmStockTradeHeader, null);
+        assertEquals(200, countRows());
+        assertEquals(2, InsertBulkLoader.chunks);
+
+        testRead0(readerTestJobName, List.class, List.class, "readIBMStockTradeCsvWriteJdbcBulkLoader.out",
+                null, null,
+                null, ExcelWriterTest.ibmStockTradeHeader,
+                readerQuery, null, parameterTypes, null,
+                "09:31, 10810,  09:32, 09:33,  09:34, 4800", null);
+    }
+
     @Test
     public void jdbcItemReaderCheckpointTest() throws Exception {
+        testCheckpoint0(readerQuery, null);
+    }
+
+    /**
+     * Same as {@link #jdbcItemReaderCheckpointTest()}, except that {@code keyColumns} is specified for
+     * {@code jdbcItemReader}, so the restart job execution seeks to the row after the checkpoint with a
+     * key predicate, instead of skipping rows.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void jdbcItemReaderKeyCheckpointTest() throws Exception {
+        testCheckpoint0(readerQuery + " order by TRADEDATE, TRADETIME", "TRADEDATE, TRADETIME");
+    }
+
+    private void testCheckpoint0(final String sql, final String keyColumns) throws Exception {
         //first populate the table
         testWrite0(writerTestJobName, List.class, List.class, ExcelWriterTest.ibmStockTradeHeader,
                 "0", "19",
@@ -248,7 +362,10 @@ public class JdbcReaderWriterTest {
         params.setProperty("url", url);
         params.setProperty("user", dbUser == null ? "" : dbUser);
         params.setProperty("password", dbPassword == null ? "" : dbPassword);
-        params.setProperty("sql", readerQuery);
+        params.setProperty("sql", sql);
+        if (keyColumns != null) {
+            params.setProperty("keyColumns", keyColumns);
+        }
         params.setProperty("start", "0");
         params.setProperty("end", "14");
         params.setProperty("failOnTimes", "09:41");
@@ -280,6 +397,76 @@ public class JdbcReaderWriterTest {
         CsvItemReaderWriterTest.validate(writeResourceFile, expect, forbid);
     }
 
+    @Test
+    public void jdbcPartitionMapperRange() throws Exception {
+        testPartition0("OPEN", JdbcPartitionMapper.STRATEGY_RANGE, "Double");
+    }
+
+    @Test
+    public void jdbcPartitionMapperHistogram() throws Exception {
+        testPartition0("TRADETIME", JdbcPartitionMapper.STRATEGY_HISTOGRAM, "String");
+    }
+
+    /**
+     * Splits the rows of {@link #readerQuery} into 4 partitions with {@code jdbcPartitionMapper}, and copies them
+     * into another table with a partitioned step. The primary key of the target table verifies that no row is read
+     * by more than one partition, and the row count verifies that no row is missed.
+     *
+     * @param partitionColumn   the column to split rows with
+     * @param partitionStrategy the strategy of {@code jdbcPartitionMapper}
+     * @param expectedType      the expected {@code partitionColumnType} for each partition
+     * @throws Exception upon errors
+     */
+    private void testPartition0(final String partitionColumn, final String partitionStrategy,
+                                final String expectedType) throws Exception {
+        testWrite0(writerTestJobName, List.class, List.class, ExcelWriterTest.ibmStockTradeHeader,
+                "0", "200",
+                writerInsertSql, ExcelWriterTest.ibmStockTradeHeader, parameterTypes);
+        final String copyTable = "STOCK_TRADE_PARTITION";
+        final Connection connection = getConnection();
+        final Statement statement = connection.createStatement();
+        try {
+            statement.execute("drop table if exists " + copyTable);
+            statement.execute(createTable.replace("STOCK_TRADE", copyTable));
+        } finally {
+            JdbcItemReaderWriterBase.close(connection, statement);
+        }
+
+        final JdbcPartitionMapper mapper = new JdbcPartitionMapper();
+        mapper.sql = readerQuery;
+        mapper.url = url;
+        mapper.partitionColumn = partitionColumn;
+        mapper.partitionCount = 4;
+        mapper.partitionStrategy = partitionStrategy;
+        final PartitionPlan plan = mapper.mapPartitions();
+        assertEquals(4, plan.getPartitions());
+        final Properties[] partitionProperties = plan.getPartitionProperties();
+        assertEquals("", partitionProperties[0].getProperty("partitionStart"));
+        assertEquals("", partitionProperties[3].getProperty("partitionEnd"));
+        for (int i = 0; i < partitionProperties.length; ++i) {
+            assertEquals(expectedType, partitionProperties[i].getProperty("partitionColumnType"));
+            if (i > 0) {
+                assertEquals(partitionProperties[i - 1].getProperty("partitionEnd"),
+                        partitionProperties[i].getProperty("partitionStart"));
+            }
+        }
+
+        final Properties params = new Properties();
+        params.setProperty("url", url);
+        params.setProperty("user", dbUser == null ? "" : dbUser);
+        params.setProperty("password", dbPassword == null ? "" : dbPassword);
+        params.setProperty("sql", readerQuery);
+        params.setProperty("writerSql", writerInsertSql.replace("STOCK_TRADE", copyTable));
+        params.setProperty("partitionColumn", partitionColumn);
+        params.setProperty("partitionCount", "4");
+        params.setProperty("partitionStrategy", partitionStrategy);
+        final long jobExecutionId = jobOperator.start(readerPartitionTestJobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+        assertEquals(200, countRows(copyTable));
+    }
+
     void testWrite0(final String jobName, final Class<?> readerBeanType, final Class<?> writerBeanType, final String csvNameMapping,
                     final String start, final String end,
                     final String sql, final String parameterNames, final String parameterTypes) throws Exception {
@@ -316,6 +503,7 @@ public class JdbcReaderWriterTest {
         if (parameterTypes != null) {
             params.setProperty("parameterTypes", parameterTypes);
         }
+        params.putAll(writerParams);
 
         final long jobExecutionId = jobOperator.start(jobName, params);
         final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
@@ -411,6 +599,54 @@ public class JdbcReaderWriterTest {
         JdbcItemReaderWriterBase.close(connection, preparedStatement);
     }
 
+    static int countRows() throws Exception {
+        return countRows("STOCK_TRADE");
+    }
+
+    static int countRows(final String table) throws Exception {
+        final Connection connection = getConnection();
+        final Statement statement = connection.createStatement();
+        try {
+            final ResultSet resultSet = statement.executeQuery("select count(*) from " + table);
+            resultSet.next();
+            return resultSet.getInt(1);
+        } finally {
+            JdbcItemReaderWriterBase.close(connection, statement);
+        }
+    }
+
+    /**
+     * A {@link JdbcBulkLoader} that inserts all rows of a chunk with one multi-row insert statement built from the
+     * table and columns passed to it.
+     */
+    public static final class InsertBulkLoader implements JdbcBulkLoader {
+        static int chunks;
+
+        @Override
+        public void load(final Connection connection, final String table, final String[] columns,
+                         final List<Object[]> rows) throws Exception {
+            final StringBuilder sb = new StringBuilder("insert into ").append(table).append(" (")
+                    .append(String.join(", ", columns)).append(") values (");
+            for (int i = 0; i < columns.length; ++i) {
+                sb.append(i == 0 ? "?" : ", ?");
+            }
+            final PreparedStatement statement = connection.prepareStatement(
+                    JdbcItemWriter.multiRowInsert(sb.append(')').toString(), rows.size()));
+            try {
+                int pos = 1;
+                for (final Object[] row : rows) {
+                    for (final Object val : row) {
+                        statement.setObject(pos++, val);
+                    }
+                }
+                statement.executeUpdate();
+                chunks++;
+            } finally {
+                statement.close();
+            }
+        }
+    }
+
     static Connection getConnection() throws Exception {
         return dbUser == null ? DriverManager.getConnection(url) :
                 DriverManager.getConnection(url, dbUser, dbPassword);
@@ -16,13 +16,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.io.Serializable;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.support.io.ReaderWriterTestSupport.WriterFactory;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -184,6 +189,190 @@ public final class JsonItemReaderTest {
         this.deserializationProblemHandlers=null;
     }
 
+    /**
+     * Verifies that a reader restarted from an offset checkpoint resumes right after the last read item, for items
+     * in a top-level array, and in a sequence of top-level values.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testOffsetCheckpoint() throws Exception {
+        testOffsetCheckpoint0("testOffsetCheckpointArray.json", "[\n", ",\n", "\n]\n");
+        testOffsetCheckpoint0("testOffsetCheckpointSequence.json", "", "\n", "\n");
+    }
+
+    private void testOffsetCheckpoint0(final String fileName, final String begin, final String separator,
+                                       final String end) throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, fileName);
+        final StringBuilder sb = new StringBuilder(begin);
+        for (int i = 1; i <= 100; i++) {
+            if (i > 1) {
+                sb.append(separator);
+            }
+            sb.append("{\"id\": ").append(i).append(", \"name\": \"caf\u00e9 ").append(i)
+                    .append("\", \"tags\": [{\"n\": 1}, {\"n\": 2}]}");
+        }
+        sb.append(end);
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        JsonItemReader reader = ReaderWriterTestSupport.newJsonMapReader(file);
+        reader.open(null);
+        for (int i = 1; i <= 40; i++) {
+            Assert.assertEquals(i, ((Map<?, ?>) reader.readItem()).get("id"));
+        }
+        final Serializable checkpoint = reader.checkpointInfo();
+        reader.close();
+        Assert.assertTrue(checkpoint.toString(), checkpoint instanceof OffsetCheckpoint);
+
+        reader = ReaderWriterTestSupport.newJsonMapReader(file);
+        reader.open(checkpoint);
+        Assert.assertSame(checkpoint, reader.checkpointInfo());
+        for (int i = 41; i <= 100; i++) {
+            final Map<?, ?> item = (Map<?, ?>) reader.readItem();
+            Assert.assertEquals(i, item.get("id"));
+            Assert.assertEquals("caf\u00e9 " + i, item.get("name"));
+        }
+        Assert.assertNull(reader.readItem());
+        reader.close();
+    }
+
+    /**
+     * Reads data items nested in envelope documents with {@code recordPath}, and verifies that sibling subtrees,
+     * including ones containing Json objects, are skipped.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testRecordPath() throws Exception {
+        final StringBuilder sb = new StringBuilder("{\"meta\": {\"items\": [{\"id\": -1}], \"count\": 10},\n");
+        sb.append(" \"data\": [");
+        for (int i = 1; i <= 10; i++) {
+            sb.append(i > 1 ? ", " : "").append("{\"id\": ").append(i).append(", \"nested\": {\"id\": 0}}");
+        }
+        sb.append(", 11, [12]],\n \"tail\": {\"id\": -2}}");
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "testRecordPath.json");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        JsonItemReader reader = ReaderWriterTestSupport.newJsonMapReader(file);
+        reader.recordPath = "/data";
+        reader.start = 3;
+        reader.end = 8;
+        reader.open(null);
+        for (int i = 3; i <= 8; i++) {
+            Assert.assertEquals(i, ((Map<?, ?>) reader.readItem()).get("id"));
+        }
+        Assert.assertNull(reader.readItem());
+        Assert.assertEquals(8, reader.checkpointInfo());
+        reader.close();
+
+        reader = ReaderWriterTestSupport.newJsonMapReader(file);
+        reader.recordPath = "/data";
+        reader.open(8);
+        Assert.assertEquals(9, ((Map<?, ?>) reader.readItem()).get("id"));
+        Assert.assertEquals(10, ((Map<?, ?>) reader.readItem()).get("id"));
+        Assert.assertNull(reader.readItem());
+        reader.close();
+
+        Files.write(file.toPath(), ("{\"results\": [{\"items\": [{\"id\": -1}]}, {\"skipped\": [{}, {}], " +
+                "\"items\": [{\"id\": 1}, {\"id\": 2}]}]}").getBytes(StandardCharsets.UTF_8));
+        reader = ReaderWriterTestSupport.newJsonMapReader(file);
+        reader.recordPath = "/results/1/items";
+        reader.open(null);
+        Assert.assertEquals(1, ((Map<?, ?>) reader.readItem()).get("id"));
+        Assert.assertEquals(2, ((Map<?, ?>) reader.readItem()).get("id"));
+        Assert.assertNull(reader.readItem());
+        reader.close();
+
+        reader = ReaderWriterTestSupport.newJsonMapReader(file);
+        reader.recordPath = "/results/2/items";
+        reader.open(null);
+        Assert.assertNull(reader.readItem());
+        reader.close();
+    }
+
+    /**
+     * Verifies that readers with the same Json configuration share the same {@code JsonFactory} and
+     * {@code ObjectMapper}, and that readers with different configuration, or with an input decorator, do not.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testSharedJsonFactory() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "testSharedJsonFactory.json");
+        Files.write(file.toPath(), "[{\"id\": 1}]".getBytes(StandardCharsets.UTF_8));
+
+        final JsonItemReader reader1 = ReaderWriterTestSupport.newJsonMapReader(file);
+        reader1.deserializationFeatures = "USE_BIG_INTEGER_FOR_INTS=true";
+        reader1.open(null);
+        final JsonItemReader reader2 = ReaderWriterTestSupport.newJsonMapReader(file);
+        reader2.deserializationFeatures = "USE_BIG_INTEGER_FOR_INTS=true";
+        reader2.open(null);
+        final JsonItemReader reader3 = ReaderWriterTestSupport.newJsonMapReader(file);
+        reader3.open(null);
+        final JsonItemReader reader4 = ReaderWriterTestSupport.newJsonMapReader(file);
+        reader4.deserializationFeatures = "USE_BIG_INTEGER_FOR_INTS=true";
+        reader4.inputDecorator = NoopInputDecorator.class;
+        reader4.open(null);
+
+        Assert.assertSame(reader1.jsonFactory, reader2.jsonFactory);
+        Assert.assertSame(reader1.objectMapper, reader2.objectMapper);
+        Assert.assertNotSame(reader1.objectMapper, reader3.objectMapper);
+        Assert.assertNotSame(reader1.jsonFactory, reader4.jsonFactory);
+        Assert.assertNotSame(reader1.objectMapper, reader4.objectMapper);
+
+        Assert.assertEquals(BigInteger.ONE, ((Map<?, ?>) reader2.readItem()).get("id"));
+        Assert.assertEquals(1, ((Map<?, ?>) reader3.readItem()).get("id"));
+        reader1.close();
+        reader2.close();
+        reader3.close();
+        reader4.close();
+    }
+
+    /**
+     * Verifies that a restarted {@link JsonItemWriter} truncates the file to the last checkpoint, and continues writing
+     * inside the existing root, producing the same output as an uninterrupted job execution.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testWriterRestart() throws Exception {
+        ReaderWriterTestSupport.assertWriterRestart(ReaderWriterTestSupport.JSON_WRITERS,
+                new File(CsvItemReaderWriterTest.tmpdir, "testWriterRestartExpected.json"),
+                new File(CsvItemReaderWriterTest.tmpdir, "testWriterRestart.json"));
+    }
+
+    /**
+     * Verifies that a restarted {@link JsonItemWriter} with an output decorator appends to the file instead of truncating
+     * it.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testDecoratedWriterRestart() throws Exception {
+        final WriterFactory<JsonItemWriter> writers = new WriterFactory<JsonItemWriter>() {
+            @Override
+            public JsonItemWriter newWriter(final File file) {
+                final JsonItemWriter writer = ReaderWriterTestSupport.JSON_WRITERS.newWriter(file);
+                writer.outputDecorator = JsonItemReaderTest.NoopOutputDecorator.class;
+                return writer;
+            }
+        };
+        ReaderWriterTestSupport.assertDecoratedWriterRestart(writers,
+                new File(CsvItemReaderWriterTest.tmpdir, "testDecoratedWriterRestart.json"));
+    }
+
+    /**
+     * Verifies that items encoded in parallel produce the same output as items encoded one at a time.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testParallelEncoding() throws Exception {
+        ReaderWriterTestSupport.assertParallelEncoding(ReaderWriterTestSupport.JSON_WRITERS,
+                new File(CsvItemReaderWriterTest.tmpdir, "testParallelEncodingExpected.json"),
+                new File(CsvItemReaderWriterTest.tmpdir, "testParallelEncoding.json"));
+    }
+
     private void testReadWrite0(final String resource, final String writeResource,
                                 final String start, final String end, final Class<?> beanType,
                                 final String expect, final String forbid, final BatchStatus jobStatus) throws Exception {
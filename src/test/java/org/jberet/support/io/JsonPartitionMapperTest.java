@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import jakarta.batch.api.partition.PartitionPlan;
+
+public class JsonPartitionMapperTest {
+    /**
+     * Writes a JSON Lines file with {@link JsonItemWriter}, appending to it in a second write to introduce an empty
+     * line, splits it into byte ranges with {@link JsonPartitionMapper}, and verifies that reading all ranges with
+     * {@link JsonItemReader} returns the same items, in the same order, as reading the whole file.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void partitions() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "JsonPartitionMapperTest.jsonl");
+        Files.deleteIfExists(file.toPath());
+        write(file, 0, 300);
+        write(file, 300, 500);
+        final List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertTrue(lines.size() >= 500);
+        assertEquals("{\"id\":0,\"name\":\"caf\u00e9 0\",\"tags\":[\"t0\",{\"nested\":true}]}", lines.get(0));
+
+        final List<Object> expected = read(file, null, null);
+        assertEquals(500, expected.size());
+
+        for (final int partitionCount : new int[]{2, 4, 7}) {
+            final JsonPartitionMapper mapper = new JsonPartitionMapper();
+            mapper.resource = file.getPath();
+            mapper.partitionCount = partitionCount;
+            final PartitionPlan plan = mapper.mapPartitions();
+            assertEquals(partitionCount, plan.getPartitions());
+
+            final List<Object> actual = new ArrayList<Object>();
+            for (final Properties p : plan.getPartitionProperties()) {
+                final List<Object> items = read(file, p.getProperty("partitionStart"), p.getProperty("partitionEnd"));
+                assertTrue(items.size() > 0);
+                actual.addAll(items);
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static void write(final File file, final int from, final int to) throws Exception {
+        final JsonItemWriter writer = new JsonItemWriter();
+        writer.resource = file.getPath();
+        writer.jsonLines = true;
+        writer.open(null);
+        try {
+            final List<Object> items = new ArrayList<Object>();
+            for (int i = from; i < to; ++i) {
+                final Map<String, Object> item = new LinkedHashMap<String, Object>();
+                item.put("id", i);
+                item.put("name", "caf\u00e9 " + i);
+                final Map<String, Object> nested = new LinkedHashMap<String, Object>();
+                nested.put("nested", i % 2 == 0);
+                final List<Object> tags = new ArrayList<Object>();
+                tags.add("t" + i);
+                tags.add(nested);
+                item.put("tags", tags);
+                items.add(item);
+            }
+            writer.writeItems(items);
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static List<Object> read(final File file, final String partitionStart, final String partitionEnd)
+            throws Exception {
+        final JsonItemReader reader = ReaderWriterTestSupport.newJsonMapReader(file);
+        reader.jsonLines = true;
+        reader.partitionStart = partitionStart;
+        reader.partitionEnd = partitionEnd;
+        reader.open(null);
+        final List<Object> items = new ArrayList<Object>();
+        try {
+            Object item;
+            while ((item = reader.readItem()) != null) {
+                items.add(item);
+            }
+        } finally {
+            reader.close();
+        }
+        return items;
+    }
+}
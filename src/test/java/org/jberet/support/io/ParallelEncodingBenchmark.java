@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import jakarta.batch.api.chunk.ItemWriter;
+
+/**
+ * JMH benchmark measuring the number of items per second written by the text file writers to a local file, in
+ * chunks of {@code chunkSize} items, with {@code encodingParallelism} in the {@code encodingParallelism} parameter,
+ * where 0 encodes the items one at a time on the benchmark thread. The {@code format} parameter selects the writer:
+ * {@code json} for {@link JsonItemWriter}, {@code xml} for {@link XmlItemWriter}, {@code csv} for
+ * {@link CsvItemWriter}, and {@code jacksonCsv} for {@link JacksonCsvItemWriter}. Each item is a map of 20 columns,
+ * so that encoding, rather than writing the output, dominates.
+ * <p>
+ * To run this benchmark from test classpath:
+ * <p>
+ * <pre>
+ * java -cp ... org.jberet.support.io.ParallelEncodingBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelEncodingBenchmark {
+    private static final int items = 20000;
+    private static final int columns = 20;
+
+    @Param({"100", "1000"})
+    public int chunkSize;
+
+    @Param({"0", "2", "4"})
+    public int encodingParallelism;
+
+    @Param({"json", "xml", "csv", "jacksonCsv"})
+    public String format;
+
+    private File file;
+    private String[] header;
+    private final List<List<Object>> chunks = new ArrayList<List<Object>>();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        file = File.createTempFile("ParallelEncodingBenchmark", "." + format);
+        header = new String[columns];
+        for (int c = 0; c < columns; ++c) {
+            header[c] = "column" + c;
+        }
+        List<Object> chunk = null;
+        for (int i = 0; i < items; ++i) {
+            if (i % chunkSize == 0) {
+                chunk = new ArrayList<Object>(chunkSize);
+                chunks.add(chunk);
+            }
+            final Map<String, Object> item = new LinkedHashMap<String, Object>();
+            for (int c = 0; c < columns; ++c) {
+                item.put(header[c], c % 2 == 0 ? String.valueOf(i * 31L + c) : "caf\u00e9 \"" + i + "\", " + c);
+            }
+            chunk.add(item);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(items)
+    public void write() throws Exception {
+        final ItemWriter writer = newWriter();
+        writer.open(null);
+        for (final List<Object> chunk : chunks) {
+            writer.writeItems(chunk);
+            writer.checkpointInfo();
+        }
+        writer.close();
+    }
+
+    private ItemWriter newWriter() {
+        if (format.equals("json")) {
+            final JsonItemWriter writer = new JsonItemWriter();
+            writer.resource = file.getPath();
+            writer.writeMode = CsvProperties.OVERWRITE;
+            writer.encodingParallelism = encodingParallelism;
+            return writer;
+        }
+        if (format.equals("xml")) {
+            final XmlItemWriter writer = new XmlItemWriter();
+            writer.resource = file.getPath();
+            writer.writeMode = CsvProperties.OVERWRITE;
+            writer.rootElementName = "items";
+            writer.encodingParallelism = encodingParallelism;
+            return writer;
+        }
+        if (format.equals("csv")) {
+            final CsvItemWriter writer = new CsvItemWriter();
+            writer.resource = file.getPath();
+            writer.writeMode = CsvProperties.OVERWRITE;
+            writer.beanType = Map.class;
+            writer.header = header;
+            writer.encodingParallelism = encodingParallelism;
+            return writer;
+        }
+        final JacksonCsvItemWriter writer = new JacksonCsvItemWriter();
+        writer.resource = file.getPath();
+        writer.writeMode = CsvProperties.OVERWRITE;
+        writer.beanType = Map.class;
+        writer.columns = String.join(",", header);
+        writer.useHeader = true;
+        writer.encodingParallelism = encodingParallelism;
+        return writer;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ParallelEncodingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
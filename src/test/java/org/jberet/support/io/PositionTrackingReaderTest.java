@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class PositionTrackingReaderTest {
+    @Test
+    public void positionAndSeek() throws Exception {
+        final String[] lines = {"a,b\r\n", "caf\u00e9,\u20ac\n", "\r", "x,y\r\n", "last"};
+        final StringBuilder sb = new StringBuilder("\ufeff");
+        for (final String line : lines) {
+            sb.append(line);
+        }
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "PositionTrackingReaderTest.csv");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        final List<Long> positions = new ArrayList<Long>();
+        final PositionTrackingReader reader =
+                new PositionTrackingReader(FileChannel.open(file.toPath()), StandardCharsets.UTF_8);
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        long expectedPosition = 3;
+        for (final String line : lines) {
+            assertEquals(line.trim(), bufferedReader.readLine());
+            expectedPosition += line.getBytes(StandardCharsets.UTF_8).length;
+            assertEquals(expectedPosition, reader.getPosition());
+            positions.add(reader.getPosition());
+        }
+        assertNull(bufferedReader.readLine());
+
+        reader.seek(positions.get(2));
+        bufferedReader = new BufferedReader(reader);
+        assertEquals("x,y", bufferedReader.readLine());
+        assertEquals(positions.get(3).longValue(), reader.getPosition());
+        bufferedReader.close();
+    }
+}
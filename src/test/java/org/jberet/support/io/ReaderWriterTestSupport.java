@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.batch.api.chunk.ItemWriter;
+
+/**
+ * Fixtures shared by the tests of readers and writers of local files.
+ */
+final class ReaderWriterTestSupport {
+    /**
+     * Creates a new writer of a file, configured the same way each time, so that a test can restart it.
+     *
+     * @param <W> the type of the writer
+     */
+    interface WriterFactory<W extends ItemReaderWriterBase & ItemWriter> {
+        W newWriter(File file);
+    }
+
+    static final WriterFactory<JsonItemWriter> JSON_WRITERS = new WriterFactory<JsonItemWriter>() {
+        @Override
+        public JsonItemWriter newWriter(final File file) {
+            final JsonItemWriter writer = new JsonItemWriter();
+            writer.resource = file.getPath();
+            return writer;
+        }
+    };
+
+    static final WriterFactory<XmlItemWriter> XML_WRITERS = new WriterFactory<XmlItemWriter>() {
+        @Override
+        public XmlItemWriter newWriter(final File file) {
+            final XmlItemWriter writer = new XmlItemWriter();
+            writer.resource = file.getPath();
+            writer.rootElementName = "items";
+            return writer;
+        }
+    };
+
+    private ReaderWriterTestSupport() {
+    }
+
+    static JsonItemReader newJsonMapReader(final File file) {
+        final JsonItemReader reader = new JsonItemReader();
+        reader.resource = file.getPath();
+        reader.beanType = Map.class;
+        return reader;
+    }
+
+    static XmlItemReader newXmlMapReader(final File file) {
+        final XmlItemReader reader = new XmlItemReader();
+        reader.resource = file.getPath();
+        reader.beanType = Map.class;
+        return reader;
+    }
+
+    static List<Object> newItems(final int from, final int to) {
+        final List<Object> items = new ArrayList<Object>();
+        for (int i = from; i <= to; i++) {
+            final Map<String, Object> item = new LinkedHashMap<String, Object>();
+            item.put("id", i);
+            item.put("name", "caf\u00e9 " + i);
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * Verifies that a writer restarted from its last checkpoint truncates the file to it, and continues writing
+     * inside the existing root, producing the same output as an uninterrupted job execution.
+     *
+     * @param factory  creates the writers
+     * @param expected the file to write without interruption
+     * @param file     the file to write with a restart
+     * @param <W>      the type of the writers
+     * @throws Exception upon errors
+     */
+    static <W extends ItemReaderWriterBase & ItemWriter> void assertWriterRestart(final WriterFactory<W> factory,
+                                                                                    final File expected,
+                                                                                    final File file)
+            throws Exception {
+        Files.deleteIfExists(expected.toPath());
+        Files.deleteIfExists(file.toPath());
+
+        W writer = factory.newWriter(expected);
+        writer.open(null);
+        writer.writeItems(newItems(1, 3));
+        writer.writeItems(newItems(4, 6));
+        writer.close();
+
+        writer = factory.newWriter(file);
+        writer.open(null);
+        writer.writeItems(newItems(1, 3));
+        final Serializable checkpoint = writer.checkpointInfo();
+        assertTrue(String.valueOf(checkpoint), checkpoint instanceof OffsetCheckpoint);
+        //items written in a chunk that fails to commit
+        writer.writeItems(newItems(100, 102));
+        writer.close();
+
+        writer = factory.newWriter(file);
+        writer.open(checkpoint);
+        writer.writeItems(newItems(4, 6));
+        writer.close();
+        assertEquals(new String(Files.readAllBytes(expected.toPath()), StandardCharsets.UTF_8),
+                new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Verifies that a writer encoding the items of each chunk in parallel produces the same output as encoding them
+     * one at a time, including any header, and chunks whose last slice has a single item, or that have a single item.
+     *
+     * @param factory  creates the writers
+     * @param expected the file to write one item at a time
+     * @param file     the file to write in parallel
+     * @param <W>      the type of the writers
+     * @throws Exception upon errors
+     */
+    static <W extends ItemReaderWriterBase & ItemWriter> void assertParallelEncoding(final WriterFactory<W> factory,
+                                                                                       final File expected,
+                                                                                       final File file)
+            throws Exception {
+        Files.deleteIfExists(expected.toPath());
+        Files.deleteIfExists(file.toPath());
+        writeChunks(factory.newWriter(expected));
+        final W writer = factory.newWriter(file);
+        writer.encodingParallelism = 4;
+        writeChunks(writer);
+        assertEquals(new String(Files.readAllBytes(expected.toPath()), StandardCharsets.UTF_8),
+                new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    private static void writeChunks(final ItemWriter writer) throws Exception {
+        writer.open(null);
+        writer.writeItems(newItems(1, 10));
+        writer.writeItems(newItems(11, 11));
+        writer.writeItems(newItems(12, 14));
+        writer.writeItems(newItems(15, 19));
+        writer.close();
+    }
+
+    /**
+     * Verifies that a writer with an output decorator, whose offsets cannot be mapped to items, returns no
+     * checkpoint, and that restarting it, even from an offset checkpoint saved by an earlier configuration, appends
+     * to the file instead of truncating it.
+     *
+     * @param factory creates the writers, with an output decorator
+     * @param file    the file to write
+     * @param <W>     the type of the writers
+     * @throws Exception upon errors
+     */
+    static <W extends ItemReaderWriterBase & ItemWriter> void assertDecoratedWriterRestart(
+            final WriterFactory<W> factory, final File file) throws Exception {
+        Files.deleteIfExists(file.toPath());
+
+        W writer = factory.newWriter(file);
+        writer.open(null);
+        writer.writeItems(newItems(1, 3));
+        assertNull(writer.checkpointInfo());
+        writer.close();
+        final byte[] written = Files.readAllBytes(file.toPath());
+
+        writer = factory.newWriter(file);
+        writer.open(new OffsetCheckpoint(1, 10));
+        writer.writeItems(newItems(4, 6));
+        writer.close();
+        final byte[] restarted = Files.readAllBytes(file.toPath());
+        assertTrue(restarted.length > written.length);
+        assertArrayEquals(written, Arrays.copyOf(restarted, written.length));
+    }
+}
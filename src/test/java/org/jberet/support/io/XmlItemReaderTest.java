@@ -11,10 +11,15 @@
 package org.jberet.support.io;
 
 import java.io.File;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.support.io.ReaderWriterTestSupport.WriterFactory;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -82,6 +87,140 @@ public final class XmlItemReaderTest {
         testReadWrite0(osmXml, writeResource, null, null, OsmNode.class, null, null);
     }
 
+    /**
+     * Verifies that a reader restarted from an offset checkpoint resumes right after the end tag of the last read
+     * item, after the prolog and root start tag are replayed.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testOffsetCheckpoint() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "testOffsetCheckpoint.xml");
+        final StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<!-- items > 1000 -->\n<items note=\"a > b\">\n");
+        for (int i = 1; i <= 2000; i++) {
+            sb.append("  <item><id>").append(i).append("</id><name>caf\u00e9 ").append(i).append("</name></item >\n");
+        }
+        sb.append("</items>\n");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        XmlItemReader reader = ReaderWriterTestSupport.newXmlMapReader(file);
+        reader.open(null);
+        for (int i = 1; i <= 1500; i++) {
+            Assert.assertEquals(String.valueOf(i), ((Map<?, ?>) reader.readItem()).get("id"));
+        }
+        final Serializable checkpoint = reader.checkpointInfo();
+        reader.close();
+        Assert.assertTrue(checkpoint.toString(), checkpoint instanceof OffsetCheckpoint);
+
+        reader = ReaderWriterTestSupport.newXmlMapReader(file);
+        reader.open(checkpoint);
+        Assert.assertSame(checkpoint, reader.checkpointInfo());
+        for (int i = 1501; i <= 2000; i++) {
+            final Map<?, ?> item = (Map<?, ?>) reader.readItem();
+            Assert.assertEquals(String.valueOf(i), item.get("id"));
+            Assert.assertEquals("caf\u00e9 " + i, item.get("name"));
+        }
+        Assert.assertNull(reader.readItem());
+        reader.close();
+    }
+
+    /**
+     * Verifies that {@link XmlItemReader#recordElement} reads items nested below the root element, either by path or
+     * by name, and that a reader restarted from an offset checkpoint replays the start tags enclosing the items.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testRecordElement() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "testRecordElement.xml");
+        final StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<export>\n")
+                .append("  <meta><partner><id>0</id></partner><notes>a &lt; b</notes></meta>\n")
+                .append("  <partners region=\"eu\">\n");
+        for (int i = 1; i <= 300; i++) {
+            sb.append("    <partner><id>").append(i).append("</id><name>caf\u00e9 ").append(i)
+                    .append("</name></partner>\n");
+        }
+        sb.append("  </partners>\n  <meta><partner><id>301</id></partner></meta>\n</export>\n");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        XmlItemReader reader = ReaderWriterTestSupport.newXmlMapReader(file);
+        reader.recordElement = "partner";
+        reader.open(null);
+        for (int i = 0; i <= 301; i++) {
+            Assert.assertEquals(String.valueOf(i), ((Map<?, ?>) reader.readItem()).get("id"));
+        }
+        Assert.assertNull(reader.readItem());
+        reader.close();
+
+        reader = ReaderWriterTestSupport.newXmlMapReader(file);
+        reader.recordElement = "export/partners/partner";
+        reader.start = 3;
+        reader.open(null);
+        for (int i = 3; i <= 150; i++) {
+            Assert.assertEquals(String.valueOf(i), ((Map<?, ?>) reader.readItem()).get("id"));
+        }
+        final Serializable checkpoint = reader.checkpointInfo();
+        reader.close();
+        Assert.assertTrue(checkpoint.toString(), checkpoint instanceof OffsetCheckpoint);
+
+        reader = ReaderWriterTestSupport.newXmlMapReader(file);
+        reader.recordElement = "export/partners/partner";
+        reader.open(checkpoint);
+        for (int i = 151; i <= 300; i++) {
+            final Map<?, ?> item = (Map<?, ?>) reader.readItem();
+            Assert.assertEquals(String.valueOf(i), item.get("id"));
+            Assert.assertEquals("caf\u00e9 " + i, item.get("name"));
+        }
+        Assert.assertNull(reader.readItem());
+        reader.close();
+    }
+
+    /**
+     * Verifies that a restarted {@link XmlItemWriter} truncates the file to the last checkpoint, and continues writing
+     * inside the existing root, producing the same output as an uninterrupted job execution.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testWriterRestart() throws Exception {
+        ReaderWriterTestSupport.assertWriterRestart(ReaderWriterTestSupport.XML_WRITERS,
+                new File(CsvItemReaderWriterTest.tmpdir, "testWriterRestartExpected.xml"),
+                new File(CsvItemReaderWriterTest.tmpdir, "testWriterRestart.xml"));
+    }
+
+    /**
+     * Verifies that a restarted {@link XmlItemWriter} with an output decorator appends to the file instead of truncating
+     * it.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testDecoratedWriterRestart() throws Exception {
+        final WriterFactory<XmlItemWriter> writers = new WriterFactory<XmlItemWriter>() {
+            @Override
+            public XmlItemWriter newWriter(final File file) {
+                final XmlItemWriter writer = ReaderWriterTestSupport.XML_WRITERS.newWriter(file);
+                writer.outputDecorator = JsonItemReaderTest.NoopOutputDecorator.class;
+                return writer;
+            }
+        };
+        ReaderWriterTestSupport.assertDecoratedWriterRestart(writers,
+                new File(CsvItemReaderWriterTest.tmpdir, "testDecoratedWriterRestart.xml"));
+    }
+
+    /**
+     * Verifies that items encoded in parallel produce the same output as items encoded one at a time.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void testParallelEncoding() throws Exception {
+        ReaderWriterTestSupport.assertParallelEncoding(ReaderWriterTestSupport.XML_WRITERS,
+                new File(CsvItemReaderWriterTest.tmpdir, "testParallelEncodingExpected.xml"),
+                new File(CsvItemReaderWriterTest.tmpdir, "testParallelEncoding.xml"));
+    }
+
     private void testReadWrite0(final String resource, final String writeResource,
                                 final String start, final String end, final Class<?> beanType,
                                 final String expect, final String forbid) throws Exception {
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import jakarta.batch.api.partition.PartitionPlan;
+
+public class XmlPartitionMapperTest {
+    private static final String RECORD_ELEMENT = "export/partners/partner";
+
+    /**
+     * Splits an XML file, whose items are nested below the root element and followed by other elements, into byte
+     * ranges with {@link XmlPartitionMapper}, and verifies that reading all ranges with {@link XmlItemReader} returns
+     * the same items, in the same order, as reading the whole file.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void partitions() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "XmlPartitionMapperTest.xml");
+        write(file, 500);
+
+        final List<Object> expected = read(file, null, null);
+        assertEquals(500, expected.size());
+
+        for (final int partitionCount : new int[]{2, 4, 7}) {
+            final PartitionPlan plan = map(file, partitionCount);
+            assertEquals(partitionCount, plan.getPartitions());
+
+            final List<Object> actual = new ArrayList<Object>();
+            for (final Properties p : plan.getPartitionProperties()) {
+                final List<Object> items = read(file, p.getProperty("partitionStart"), p.getProperty("partitionEnd"));
+                assertTrue(items.size() > 0);
+                actual.addAll(items);
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    /**
+     * Verifies that a reader of a byte range restarted from an offset checkpoint resumes right after the last read
+     * item, and stops at the end of the range.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void restartPartition() throws Exception {
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "XmlPartitionMapperTest-restart.xml");
+        write(file, 500);
+        final Properties p = map(file, 3).getPartitionProperties()[1];
+
+        final List<Object> expected = read(file, p.getProperty("partitionStart"), p.getProperty("partitionEnd"));
+        XmlItemReader reader = newReader(file, p.getProperty("partitionStart"), p.getProperty("partitionEnd"));
+        reader.open(null);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(expected.get(i), reader.readItem());
+        }
+        final Serializable checkpoint = reader.checkpointInfo();
+        reader.close();
+        assertTrue(checkpoint.toString(), checkpoint instanceof OffsetCheckpoint);
+
+        reader = newReader(file, p.getProperty("partitionStart"), p.getProperty("partitionEnd"));
+        reader.open(checkpoint);
+        for (int i = 10; i < expected.size(); i++) {
+            assertEquals(expected.get(i), reader.readItem());
+        }
+        assertNull(reader.readItem());
+        reader.close();
+    }
+
+    private static void write(final File file, final int count) throws Exception {
+        final StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<export xmlns:x=\"urn:x\" version=\"1\">\n  <partners region=\"eu\">\n");
+        for (int i = 1; i <= count; i++) {
+            if (i % 2 == 0) {
+                sb.append("    <x:partner><id>").append(i).append("</id><name>caf\u00e9 ").append(i)
+                        .append("</name></x:partner>\n");
+            } else {
+                sb.append("    <partner ><id>").append(i).append("</id><name>a &lt; ").append(i)
+                        .append("</name></partner >\n");
+            }
+            if (i % 50 == 0) {
+                sb.append("    <!-- ").append(i).append(" -->\n");
+            }
+        }
+        sb.append("  </partners>\n  <summary><count>").append(count).append("</count></summary>\n</export>\n");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PartitionPlan map(final File file, final int partitionCount) throws Exception {
+        final XmlPartitionMapper mapper = new XmlPartitionMapper();
+        mapper.resource = file.getPath();
+        mapper.recordElement = RECORD_ELEMENT;
+        mapper.partitionCount = partitionCount;
+        return mapper.mapPartitions();
+    }
+
+    private static XmlItemReader newReader(final File file, final String partitionStart, final String partitionEnd) {
+        final XmlItemReader reader = ReaderWriterTestSupport.newXmlMapReader(file);
+        reader.recordElement = RECORD_ELEMENT;
+        reader.partitionStart = partitionStart;
+        reader.partitionEnd = partitionEnd;
+        return reader;
+    }
+
+    private static List<Object> read(final File file, final String partitionStart, final String partitionEnd)
+            throws Exception {
+        final XmlItemReader reader = newReader(file, partitionStart, partitionEnd);
+        reader.open(null);
+        final List<Object> items = new ArrayList<Object>();
+        try {
+            Object item;
+            while ((item = reader.readItem()) != null) {
+                items.add(item);
+            }
+        } finally {
+            reader.close();
+        }
+        return items;
+    }
+}